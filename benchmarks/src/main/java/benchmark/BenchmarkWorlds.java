@@ -0,0 +1,55 @@
+package benchmark;
+
+import java.io.File;
+import java.io.IOException;
+import model.world.MansionGenerator;
+
+/**
+ * Writes generated world files of a requested size for the benchmarks.
+ *
+ * The worlds are square grids of rooms with one item per room, where every room touches
+ * up to four neighbors.
+ */
+final class BenchmarkWorlds {
+  private static final long SEED = 42L;
+
+  private BenchmarkWorlds() {
+    // Static utility class
+  }
+
+  /**
+   * Maps the size names used as benchmark parameters to numbers of spaces.
+   *
+   * @param size "small", "medium" or "huge"
+   * @return the number of spaces
+   * @throws IllegalArgumentException if the size is unknown
+   */
+  static int spaceCount(String size) {
+    switch (size) {
+      case "small":
+        return 20;
+      case "medium":
+        return 400;
+      case "huge":
+        return 20_000;
+      default:
+        throw new IllegalArgumentException("Unknown world size: " + size);
+    }
+  }
+
+  /**
+   * Writes a grid world with the given number of spaces to a temporary file, which is
+   * deleted when the JVM exits.
+   *
+   * @param spaces the number of spaces
+   * @return the world file
+   * @throws IOException if the file cannot be written
+   */
+  static File write(int spaces) throws IOException {
+    File file = File.createTempFile("benchmark-world-" + spaces + "-", ".txt");
+    file.deleteOnExit();
+    int columns = (int) Math.ceil(Math.sqrt(spaces));
+    new MansionGenerator(spaces, columns, 1.0, 1.0, SEED).write(file);
+    return file;
+  }
+}
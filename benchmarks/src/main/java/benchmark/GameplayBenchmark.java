@@ -0,0 +1,129 @@
+package benchmark;
+
+import facade.GameFacadeImpl;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import model.pet.Pet;
+import model.player.ComputerPlayer;
+import model.player.Player;
+import model.player.RandomGenerator;
+import model.space.Space;
+import model.target.TargetCharacter;
+import model.world.WorldFactory;
+import model.world.WorldImpl;
+import model.world.WorldTemplate;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the operations played on every turn of a game: the visibility check before an
+ * attack, looking around, the pet's depth-first wandering and a computer player's turn.
+ *
+ * Every iteration starts from a fresh world with four computer players spread over it,
+ * so that items picked up during one iteration are back in place for the next.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GameplayBenchmark {
+  private static final int PLAYERS = 4;
+
+  @Param({"small", "medium"})
+  private String size;
+
+  private WorldTemplate template;
+  private WorldImpl world;
+  private GameFacadeImpl facade;
+  private List<Space> spaces;
+  private List<Player> players;
+  private TargetCharacter target;
+  private Pet pet;
+  private ComputerPlayer computer;
+  private int spaceIndex;
+
+  /**
+   * Loads the world of the requested size once.
+   *
+   * @throws IOException if the world file cannot be written or read
+   */
+  @Setup(Level.Trial)
+  public void loadWorld() throws IOException {
+    template = WorldTemplate.of(
+        new WorldFactory().createWorld(BenchmarkWorlds.write(BenchmarkWorlds.spaceCount(size))));
+  }
+
+  /**
+   * Starts a fresh game with the computer players in place.
+   */
+  @Setup(Level.Iteration)
+  public void newGame() {
+    world = template.newWorld();
+    facade = new GameFacadeImpl(world);
+    spaces = world.getSpaces();
+    int spaceCount = spaces.size();
+    for (int i = 0; i < PLAYERS; i++) {
+      world.addPlayer(new ComputerPlayer("Computer " + i, i * spaceCount / PLAYERS, -1,
+          RandomGenerator.withSeed(i)));
+    }
+    players = world.getPlayers();
+    target = world.getTargetCharacter();
+    pet = world.getPet();
+    computer = (ComputerPlayer) players.get(0);
+    spaceIndex = 0;
+  }
+
+  /**
+   * Checks whether a player in the next space would be seen.
+   *
+   * @return whether the player can be seen
+   */
+  @Benchmark
+  public boolean playerCanBeeSeen() {
+    spaceIndex = (spaceIndex + 1) % spaces.size();
+    return facade.playerCanBeeSeen(spaceIndex);
+  }
+
+  /**
+   * Describes the surroundings of a player.
+   *
+   * @return the description
+   */
+  @Benchmark
+  public String lookAround() {
+    return computer.lookAround(spaces, players, target, pet);
+  }
+
+  /**
+   * Moves the pet one step along its depth-first walk.
+   *
+   * @return the new space of the pet
+   */
+  @Benchmark
+  public int moveFollowingDfs() {
+    return pet.moveFollowingDfs(spaces);
+  }
+
+  /**
+   * Plays a computer player's turn that is not an attack.
+   *
+   * @return the description of the turn
+   */
+  @Benchmark
+  public String takeTurn() {
+    return computer.takeTurn(spaces, players, target, pet, false);
+  }
+}
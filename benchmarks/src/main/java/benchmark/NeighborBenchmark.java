@@ -0,0 +1,82 @@
+package benchmark;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import model.space.AdjacencyGraph;
+import model.space.Space;
+import model.world.AdjacencyBuilder;
+import model.world.WorldFactory;
+import model.world.WorldImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the neighbor computation of a world, comparing the edge sweep with the
+ * pairwise reference.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class NeighborBenchmark {
+
+  @Param({"small", "medium", "huge"})
+  private String size;
+
+  private WorldImpl world;
+  private List<Space> spaces;
+
+  /**
+   * Loads the world of the requested size.
+   *
+   * @throws IOException if the world file cannot be written or read
+   */
+  @Setup
+  public void setUp() throws IOException {
+    world = new WorldFactory().createWorld(BenchmarkWorlds.write(BenchmarkWorlds.spaceCount(size)));
+    spaces = world.getSpaces();
+  }
+
+  /**
+   * Recomputes the neighbors of the world and hands them to its spaces.
+   *
+   * @return the neighbor graph
+   */
+  @Benchmark
+  public AdjacencyGraph findNeighbors() {
+    world.findNeighbors();
+    return world.getAdjacency();
+  }
+
+  /**
+   * Computes the neighbor graph with the edge sweep only.
+   *
+   * @return the neighbor graph
+   */
+  @Benchmark
+  public AdjacencyGraph sweep() {
+    return AdjacencyBuilder.build(spaces);
+  }
+
+  /**
+   * Computes the neighbor graph by comparing every pair of spaces.
+   *
+   * @return the neighbor graph
+   */
+  @Benchmark
+  public AdjacencyGraph pairwise() {
+    return AdjacencyBuilder.buildPairwise(spaces);
+  }
+}
@@ -0,0 +1,83 @@
+package benchmark;
+
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import model.player.ComputerPlayer;
+import model.player.RandomGenerator;
+import model.world.WorldFactory;
+import model.world.WorldImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import view.WorldPanel;
+
+/**
+ * Measures painting the world panel, with its map, target and players, into an offscreen
+ * image, so that it runs without a display.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+public class RenderBenchmark {
+  private static final int WIDTH = 1000;
+  private static final int HEIGHT = 800;
+
+  @Param({"small", "medium"})
+  private String size;
+
+  private WorldPanel panel;
+  private BufferedImage canvas;
+  private Graphics2D graphics;
+
+  /**
+   * Loads the world, places a few players and lays out the panel.
+   *
+   * @throws IOException if the world or its map cannot be created
+   */
+  @Setup
+  public void setUp() throws IOException {
+    WorldImpl world = new WorldFactory()
+        .createWorld(BenchmarkWorlds.write(BenchmarkWorlds.spaceCount(size)));
+    for (int i = 0; i < 4; i++) {
+      world.addPlayer(new ComputerPlayer("Computer " + i, i, -1, RandomGenerator.withSeed(i)));
+    }
+    panel = new WorldPanel(world);
+    panel.setWorldImage(world.createWorldMap());
+    panel.setSize(WIDTH, HEIGHT);
+    canvas = new BufferedImage(WIDTH, HEIGHT, BufferedImage.TYPE_INT_RGB);
+    graphics = canvas.createGraphics();
+  }
+
+  /**
+   * Releases the graphics of the offscreen image.
+   */
+  @TearDown
+  public void tearDown() {
+    graphics.dispose();
+  }
+
+  /**
+   * Paints the whole panel once.
+   *
+   * @return the image painted into
+   */
+  @Benchmark
+  public BufferedImage paintComponent() {
+    panel.paint(graphics);
+    return canvas;
+  }
+}
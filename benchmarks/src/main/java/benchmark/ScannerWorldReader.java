@@ -0,0 +1,164 @@
+package benchmark;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Scanner;
+import model.item.Item;
+import model.item.ItemImpl;
+import model.pet.Pet;
+import model.pet.PetImpl;
+import model.space.Space;
+import model.space.SpaceImpl;
+import model.target.TargetCharacter;
+import model.target.TargetCharacterImpl;
+import model.world.WorldImpl;
+
+/**
+ * A reference copy of the Scanner-based world file parser that WorldFactory used before
+ * it read through WorldFileTokenizer. It is kept only so that the benchmarks can measure
+ * the streaming tokenizer against it: every integer is read with
+ * {@code Integer.parseInt(scanner.next())} and every name with {@code scanner.nextLine()},
+ * with the same validation as the old factory.
+ */
+final class ScannerWorldReader {
+  private String worldName;
+  private int rows;
+  private int columns;
+  private final List<Space> spaces;
+  private TargetCharacter targetCharacter;
+  private int totalSpaces;
+  private int totalItems;
+  private Pet pet;
+
+  private ScannerWorldReader() {
+    this.spaces = new ArrayList<>();
+  }
+
+  /**
+   * Reads a world file with a Scanner and creates the world, like the old factory.
+   *
+   * @param file the world specification file
+   * @return the loaded world
+   * @throws IOException if the file cannot be read
+   * @throws IllegalArgumentException if the content is invalid
+   */
+  static WorldImpl createWorld(File file) throws IOException {
+    ScannerWorldReader reader = new ScannerWorldReader();
+    try (Reader input = Files.newBufferedReader(file.toPath())) {
+      reader.readValues(input);
+    }
+    return new WorldImpl(reader.worldName, reader.rows, reader.columns, reader.spaces,
+        reader.targetCharacter, reader.totalSpaces, reader.totalItems, reader.pet);
+  }
+
+  private void readValues(Readable readable) {
+    Scanner scanner = new Scanner(readable);
+    try {
+      readWorld(scanner);
+      createTargetCharacter(scanner);
+      createPet(scanner);
+      createSpaces(scanner);
+      createItems(scanner);
+    } catch (IllegalArgumentException e) {
+      throw new IllegalArgumentException("Error reading values from file: " + e.getMessage());
+    } finally {
+      scanner.close();
+    }
+  }
+
+  private void readWorld(Scanner scanner) {
+    int rowsRead = Integer.parseInt(scanner.next());
+    int columnsRead = Integer.parseInt(scanner.next());
+    String worldNameRead = scanner.nextLine().trim();
+    if (rowsRead <= 0 || columnsRead <= 0) {
+      throw new IllegalArgumentException("Rows and columns must be positive integers.");
+    }
+    if (worldNameRead.isEmpty()) {
+      throw new IllegalArgumentException("World name cannot be empty.");
+    }
+    rows = rowsRead;
+    columns = columnsRead;
+    worldName = worldNameRead;
+  }
+
+  private void createTargetCharacter(Scanner scanner) {
+    int health = Integer.parseInt(scanner.next());
+    String targetName = scanner.nextLine().trim();
+    if (health <= 0) {
+      throw new IllegalArgumentException("Health must be a positive integer.");
+    }
+    if (targetName.isEmpty()) {
+      throw new IllegalArgumentException("Target character name cannot be empty.");
+    }
+    targetCharacter = new TargetCharacterImpl(targetName, health);
+  }
+
+  private void createPet(Scanner scanner) {
+    String petName = scanner.nextLine().trim();
+    if (petName.isEmpty()) {
+      throw new IllegalArgumentException("Pet name cannot be empty.");
+    }
+    pet = new PetImpl(petName, 0);
+  }
+
+  private void createSpaces(Scanner scanner) {
+    int totalSpacesRead = Integer.parseInt(scanner.next());
+    if (totalSpacesRead <= 0) {
+      throw new IllegalArgumentException("Total spaces must be a positive integer.");
+    }
+    totalSpaces = totalSpacesRead;
+    for (int i = 0; i < totalSpaces; i++) {
+      spaces.add(createSpace(i, scanner));
+    }
+  }
+
+  private Space createSpace(int index, Scanner scanner) {
+    int upperLeftRow = Integer.parseInt(scanner.next());
+    int upperLeftCol = Integer.parseInt(scanner.next());
+    int lowerRightRow = Integer.parseInt(scanner.next());
+    int lowerRightCol = Integer.parseInt(scanner.next());
+    String spaceName = scanner.nextLine().trim();
+    if (upperLeftRow < 0 || upperLeftCol < 0
+        || lowerRightRow < upperLeftRow || lowerRightCol < upperLeftCol) {
+      throw new IllegalArgumentException("Invalid coordinates for space " + index + ".");
+    }
+    if (spaceName.isEmpty()) {
+      throw new IllegalArgumentException("Space name cannot be empty.");
+    }
+    return new SpaceImpl(index, spaceName, upperLeftRow, upperLeftCol, lowerRightRow,
+        lowerRightCol, new ArrayList<Item>(), new ArrayList<Integer>());
+  }
+
+  private void createItems(Scanner scanner) {
+    int totalItemsRead = Integer.parseInt(scanner.next());
+    if (totalItemsRead < 0) {
+      throw new IllegalArgumentException("Total items cannot be negative.");
+    }
+    totalItems = totalItemsRead;
+    for (int i = 0; i < totalItems; i++) {
+      Item item = createItem(scanner);
+      spaces.get(item.getSpaceIndex()).addItem(item);
+    }
+  }
+
+  private Item createItem(Scanner scanner) {
+    int spaceIndex = Integer.parseInt(scanner.next());
+    int damage = Integer.parseInt(scanner.next());
+    String itemName = scanner.nextLine().trim();
+    if (spaceIndex < 0 || spaceIndex >= totalSpaces) {
+      throw new IllegalArgumentException("Space index must be valid (0 to "
+          + (totalSpaces - 1) + ").");
+    }
+    if (damage < 0) {
+      throw new IllegalArgumentException("Damage cannot be negative.");
+    }
+    if (itemName.isEmpty()) {
+      throw new IllegalArgumentException("Item name cannot be empty.");
+    }
+    return new ItemImpl(itemName, damage, spaceIndex);
+  }
+}
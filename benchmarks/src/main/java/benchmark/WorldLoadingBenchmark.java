@@ -0,0 +1,84 @@
+package benchmark;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import model.world.WorldFactory;
+import model.world.WorldImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures loading a world from its text specification, with the streaming tokenizer and
+ * with the Scanner-based parser it replaced, and from its compiled form.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class WorldLoadingBenchmark {
+
+  @Param({"small", "medium", "huge"})
+  private String size;
+
+  private File worldFile;
+  private File compiledFile;
+
+  /**
+   * Writes the world file of the requested size and its compiled form.
+   *
+   * @throws IOException if a file cannot be written
+   */
+  @Setup
+  public void setUp() throws IOException {
+    worldFile = BenchmarkWorlds.write(BenchmarkWorlds.spaceCount(size));
+    compiledFile = File.createTempFile("benchmark-world-", ".kdlw");
+    compiledFile.deleteOnExit();
+    new WorldFactory().compileWorld(worldFile, compiledFile);
+  }
+
+  /**
+   * Parses the text specification and computes the neighbors.
+   *
+   * @return the loaded world
+   * @throws IOException if the file cannot be read
+   */
+  @Benchmark
+  public WorldImpl createWorld() throws IOException {
+    return new WorldFactory().createWorld(worldFile);
+  }
+
+  /**
+   * Parses the text specification with the old Scanner-based parser and computes the
+   * neighbors, as a baseline for {@link #createWorld()}.
+   *
+   * @return the loaded world
+   * @throws IOException if the file cannot be read
+   */
+  @Benchmark
+  public WorldImpl createWorldWithScanner() throws IOException {
+    return ScannerWorldReader.createWorld(worldFile);
+  }
+
+  /**
+   * Loads the compiled form, which skips parsing and neighbor computation.
+   *
+   * @return the loaded world
+   * @throws IOException if the file cannot be read
+   */
+  @Benchmark
+  public WorldImpl createWorldFromCompiled() throws IOException {
+    return new WorldFactory().createWorldFromCompiled(compiledFile);
+  }
+}
@@ -17,4 +17,14 @@ public class Constants {
    * The directory where images and other files can be saved.
    */
   public static final String SAVE_PATH = "res/";
-}
\ No newline at end of file
+
+  /** 
+   * The name of the image file the world map is exported to, in the save directory.
+   */
+  public static final String MAP_FILE_NAME = "gameWorldMap.png";
+
+  /** 
+   * The extension appended to a world file name to name its compiled form.
+   */
+  public static final String COMPILED_WORLD_EXTENSION = ".kdlw";
+}
@@ -0,0 +1,108 @@
+package control;
+
+import control.commands.AddComputerPlayerCommand;
+import control.commands.AddHumanPlayerCommand;
+import control.commands.AttackCommand;
+import control.commands.CommandFactory;
+import control.commands.DisplayPlayerInfoCommand;
+import control.commands.DisplaySpaceInfoCommand;
+import control.commands.HelpCommand;
+import control.commands.LookAroundCommand;
+import control.commands.MoveCommand;
+import control.commands.MovePetCommand;
+import control.commands.PickUpItemCommand;
+import facade.GameFacade;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Splits the text commands of the game into their words, and holds the commands shared by
+ * every front end that reads them: the console game and the game server.
+ */
+public final class CommandParser {
+  /** The position of the space name in the arguments of the commands that take one. */
+  private static final Map<String, Integer> SPACE_ARGUMENTS = Map.of(
+      "add-human", 1, "add-computer", 1, "move", 0, "space", 0, "move-pet", 0);
+
+  private CommandParser() {
+    // Static utility class
+  }
+
+  /**
+   * Parses a command string into an array of strings, splitting on spaces and
+   * preserving quoted strings.
+   *
+   * @param input The input string to parse
+   * @return An array of strings representing the parsed command
+   */
+  public static String[] parse(String input) {
+    List<String> parts = new ArrayList<>();
+    StringBuilder currentPart = new StringBuilder();
+    boolean inQuotes = false;
+    for (char c : input.toCharArray()) {
+      if (c == '"') {
+        inQuotes = !inQuotes;
+      } else if (c == ' ' && !inQuotes) {
+        if (currentPart.length() > 0) {
+          parts.add(currentPart.toString());
+          currentPart = new StringBuilder();
+        }
+      } else {
+        currentPart.append(c);
+      }
+    }
+    if (currentPart.length() > 0) {
+      parts.add(currentPart.toString());
+    }
+    return parts.toArray(new String[0]);
+  }
+
+  /**
+   * Creates the commands available while the game is being set up, by name.
+   *
+   * @return a new map of the setup commands, which the caller may extend
+   */
+  public static Map<String, CommandFactory> setupCommands() {
+    Map<String, CommandFactory> commands = new HashMap<>();
+    commands.put("add-human", new AddHumanPlayerCommand(null, null, 0));
+    commands.put("add-computer", new AddComputerPlayerCommand(null, null, 0));
+    commands.put("help", new HelpCommand(true));
+    return commands;
+  }
+
+  /**
+   * Creates the commands available while the game is played, by name.
+   *
+   * @return a new map of the gameplay commands, which the caller may extend
+   */
+  public static Map<String, CommandFactory> gameplayCommands() {
+    Map<String, CommandFactory> commands = new HashMap<>();
+    commands.put("move", new MoveCommand(null));
+    commands.put("pick", new PickUpItemCommand(null));
+    commands.put("look", new LookAroundCommand());
+    commands.put("space", new DisplaySpaceInfoCommand(null));
+    commands.put("player-info", new DisplayPlayerInfoCommand(null));
+    commands.put("help", new HelpCommand(false));
+    commands.put("attack", new AttackCommand(null));
+    commands.put("move-pet", new MovePetCommand(null));
+    return commands;
+  }
+
+  /**
+   * Replaces an abbreviated space name in the arguments of a command with the full name of
+   * the space, so that "move din" moves to the Dining Room.
+   *
+   * @param command the command name
+   * @param args    the arguments of the command, updated in place
+   * @param facade  the game the space belongs to
+   * @throws IllegalArgumentException if the abbreviation matches several spaces
+   */
+  public static void resolveSpaceArgument(String command, String[] args, GameFacade facade) {
+    Integer position = SPACE_ARGUMENTS.get(command);
+    if (position != null && position < args.length) {
+      args[position] = facade.resolveSpaceName(args[position]);
+    }
+  }
+}
@@ -1,31 +1,22 @@
 package control;
 
+import constants.Constants;
 import control.commands.AddComputerPlayerCommand;
 import control.commands.AddHumanPlayerCommand;
 import control.commands.AttackCommand;
 import control.commands.CommandFactory;
 import control.commands.CreateWorldMapCommand;
-import control.commands.DisplayPlayerInfoCommand;
-import control.commands.DisplaySpaceInfoCommand;
 import control.commands.GameCommand;
-import control.commands.HelpCommand;
-import control.commands.LookAroundCommand;
 import control.commands.MoveCommand;
-import control.commands.MovePetCommand;
-import control.commands.PickUpItemCommand;
 import facade.GameFacade;
 import facade.GameFacadeImpl;
 import java.awt.Point;
 import java.awt.event.KeyEvent;
 import java.awt.event.MouseEvent;
-import java.awt.image.BufferedImage;
-import java.io.FileInputStream;
+import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.IOException;
-import java.io.InputStreamReader;
-import java.util.ArrayList;
 import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
 import java.util.Scanner;
 import java.util.function.Consumer;
@@ -34,6 +25,8 @@ import model.player.Player;
 import model.viewmodel.ViewModel;
 import model.world.World;
 import model.world.WorldFactory;
+import model.world.WorldImpl;
+import model.world.WorldTemplateCache;
 import view.ButtonListener;
 import view.GameView;
 import view.KeyboardListener;
@@ -55,6 +48,7 @@ public class WorldControllerImpl implements WorldController {
   private final Map<String, Consumer<MouseEvent>> mouseActions;
   private final Map<String, Runnable> buttonActions;
   private final boolean isGuiMode;
+  private final WorldTemplateCache worldCache;
   private boolean isGameSetup;
   private boolean isGameQuit;
   private int maxTurns;
@@ -90,6 +84,7 @@ public class WorldControllerImpl implements WorldController {
     this.isGameQuit = false;
     this.currentWorldFile = worldFile;
     this.isPetMoveMode = false;
+    this.worldCache = new WorldTemplateCache();
 
     this.facade = null;
     this.viewModel = null;
@@ -119,20 +114,11 @@ public class WorldControllerImpl implements WorldController {
    */
   private void initializeCommands() {
     // Setup commands
-    setupCommands.put("add-human", new AddHumanPlayerCommand(null, null, 0));
-    setupCommands.put("add-computer", new AddComputerPlayerCommand(null, null, 0));
+    setupCommands.putAll(CommandParser.setupCommands());
     setupCommands.put("map", new CreateWorldMapCommand());
-    setupCommands.put("help", new HelpCommand(true));
 
     // Gameplay commands
-    gameplayCommands.put("move", new MoveCommand(null));
-    gameplayCommands.put("pick", new PickUpItemCommand(null));
-    gameplayCommands.put("look", new LookAroundCommand());
-    gameplayCommands.put("space", new DisplaySpaceInfoCommand(null));
-    gameplayCommands.put("player-info", new DisplayPlayerInfoCommand(null));
-    gameplayCommands.put("help", new HelpCommand(false));
-    gameplayCommands.put("attack", new AttackCommand(null));
-    gameplayCommands.put("move-pet", new MovePetCommand(null));
+    gameplayCommands.putAll(CommandParser.gameplayCommands());
   }
 
   /**
@@ -225,26 +211,38 @@ public class WorldControllerImpl implements WorldController {
    * @param maxTurns The maximum number of turns for the game
    */
   private void initializeGame(String filePath, int maxTurns) {
+    initializeGame(filePath, maxTurns, false);
+  }
+
+  /**
+   * Initializes the game with the given world file and maximum number of turns.
+   * A world file that was loaded before and has not changed since is not loaded again:
+   * the new game starts from its cached template.
+   * 
+   * @param filePath    The path to the world file
+   * @param maxTurns    The maximum number of turns for the game
+   * @param useCompiled Whether to load the world from its compiled form when it is not
+   *                    cached
+   */
+  private void initializeGame(String filePath, int maxTurns, boolean useCompiled) {
     try {
       // Reset game state
       isGameSetup = false;
       isGameQuit = false;
 
-      WorldFactory worldFactory = new WorldFactory();
-
-      // Create new world from selected file
-      World newWorld = worldFactory
-          .createWorld(new InputStreamReader(new FileInputStream(filePath)));
+      // Create new world from the cached template of the selected file
+      World newWorld = worldCache.newWorld(new File(filePath), useCompiled
+          ? worldFile -> loadCompiledWorld(worldFile.getPath())
+          : worldFile -> new WorldFactory().createWorld(worldFile));
 
       // Initialize game components
       this.facade = new GameFacadeImpl(newWorld);
       facade.setMaxTurns(maxTurns);
-      BufferedImage worldImage = facade.createWorldMap();
 
       if (isGuiMode) {
+        // The view draws the map in tiles from the spaces, so no image of it is created.
         this.viewModel = (ViewModel) newWorld;
         this.view.setViewModel(viewModel);
-        view.setWorldImage(worldImage);
         view.refreshWorld();
         // add mouse listener
         view.addMouseListener(new MouseActionListener(mouseActions));
@@ -260,6 +258,35 @@ public class WorldControllerImpl implements WorldController {
     }
   }
 
+  /**
+   * Loads a world from the compiled form of a world file. The world file is compiled
+   * first when it has no compiled form yet, or when it changed since it was compiled.
+   * 
+   * @param filePath The path to the world file
+   * @return the loaded world
+   * @throws IOException if the world file cannot be read
+   */
+  private WorldImpl loadCompiledWorld(String filePath) throws IOException {
+    WorldFactory worldFactory = new WorldFactory();
+    File worldFile = new File(filePath);
+    File compiledFile = new File(filePath + Constants.COMPILED_WORLD_EXTENSION);
+    if (compiledFile.isFile() && compiledFile.lastModified() >= worldFile.lastModified()) {
+      try {
+        return worldFactory.createWorldFromCompiled(compiledFile);
+      } catch (IOException e) {
+        // Outdated or damaged compiled file, compile it again below.
+      }
+    }
+    try {
+      return worldFactory.compileWorld(worldFile, compiledFile);
+    } catch (FileNotFoundException e) {
+      throw e;
+    } catch (IOException e) {
+      // The compiled file cannot be written, play from the world file directly.
+      return worldFactory.createWorld(worldFile);
+    }
+  }
+
   /**
    * Configures the listeners for the game view.
    */
@@ -311,7 +338,7 @@ public class WorldControllerImpl implements WorldController {
 
   @Override
   public void handleNewGameCurrentWorld() {
-    initializeGame(currentWorldFile, maxTurns);
+    initializeGame(currentWorldFile, maxTurns, true);
     view.showSetupScreen();
   }
 
@@ -394,7 +421,8 @@ public class WorldControllerImpl implements WorldController {
     // First check if a player was clicked
     Player clickedPlayer = view.getPlayerAtPoint(clickPoint);
     if (clickedPlayer != null) {
-      String playerInfo = clickedPlayer.getDescription(viewModel.getSpaceCopies());
+      String playerInfo = clickedPlayer.getDescription(
+          viewModel.getSnapshot().getSpaces());
       view.updateGameInfo(playerInfo);
       return;
     }
@@ -487,6 +515,7 @@ public class WorldControllerImpl implements WorldController {
         }
       } else if (setupCommands.containsKey(command)) {
         try {
+          resolveSpaceArgument(command, args);
           GameCommand gameCommand = setupCommands.get(command).create(args);
           String result = gameCommand.execute(facade);
           output.append(result).append("\n");
@@ -534,6 +563,7 @@ public class WorldControllerImpl implements WorldController {
 
         if (gameplayCommands.containsKey(command)) {
           try {
+            resolveSpaceArgument(command, args);
             GameCommand gameCommand = gameplayCommands.get(command).create(args);
             String result = gameCommand.execute(facade);
             output.append(result).append("\n");
@@ -555,6 +585,18 @@ public class WorldControllerImpl implements WorldController {
     output.append("Game over!\n");
   }
 
+  /**
+   * Replaces an abbreviated space name in the arguments of a text command with the full
+   * name of the space, so that "move din" moves to the Dining Room.
+   * 
+   * @param command The command name
+   * @param args    The arguments of the command, updated in place
+   * @throws IllegalArgumentException If the abbreviation matches several spaces
+   */
+  private void resolveSpaceArgument(String command, String[] args) {
+    CommandParser.resolveSpaceArgument(command, args, facade);
+  }
+
   /**
    * Reads the next command from the input stream.
    * 
@@ -575,25 +617,7 @@ public class WorldControllerImpl implements WorldController {
    * @return An array of strings representing the parsed command
    */
   private String[] parseCommand(String input) {
-    List<String> parts = new ArrayList<>();
-    StringBuilder currentPart = new StringBuilder();
-    boolean inQuotes = false;
-    for (char c : input.toCharArray()) {
-      if (c == '"') {
-        inQuotes = !inQuotes;
-      } else if (c == ' ' && !inQuotes) {
-        if (currentPart.length() > 0) {
-          parts.add(currentPart.toString());
-          currentPart = new StringBuilder();
-        }
-      } else {
-        currentPart.append(c);
-      }
-    }
-    if (currentPart.length() > 0) {
-      parts.add(currentPart.toString());
-    }
-    return parts.toArray(new String[0]);
+    return CommandParser.parse(input);
   }
 
   @Override
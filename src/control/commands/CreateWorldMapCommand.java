@@ -2,17 +2,31 @@ package control.commands;
 
 import facade.GameFacade;
 import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
 
 /**
- * A command to create the world map.
+ * A command to create the world map and export it to an image file. The file is written
+ * on the exporter thread, and only when the map changed since it was last written; the
+ * command waits for the write, since it is an explicit request of the user, so that a
+ * failure is reported like any other command result.
  */
 public class CreateWorldMapCommand implements GameCommand {
   @Override
   public String execute(GameFacade facade) {
     try {
-      facade.createWorldMap();
+      CompletableFuture<Boolean> export = facade.exportWorldMap(facade.createWorldMap());
+      if (export != null) {
+        export.get();
+      }
     } catch (IOException e) {
       return "Failed to create world map: " + e.getMessage();
+    } catch (ExecutionException e) {
+      Throwable cause = e.getCause() != null ? e.getCause() : e;
+      return "Failed to save world map: " + cause.getMessage();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return "Failed to save world map: interrupted.";
     }
     return "World map created successfully.";
   }
@@ -24,4 +38,4 @@ public class CreateWorldMapCommand implements GameCommand {
     }
     return new CreateWorldMapCommand();
   }
-}
\ No newline at end of file
+}
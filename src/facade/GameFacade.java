@@ -2,7 +2,10 @@ package facade;
 
 import java.awt.image.BufferedImage;
 import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+import model.event.GameEventSink;
 import model.player.Player;
+import model.player.TurnOutcome;
 
 /**
  * The GameFacade interface provides a simplified interface for interacting with the game model.
@@ -34,6 +37,19 @@ public interface GameFacade {
    */
   BufferedImage createWorldMap() throws IOException;
 
+  /**
+   * Writes an image of the world map to the map file in the save directory, on a
+   * background thread. The file is only encoded again when the image changed since it was
+   * last written.
+   *
+   * @param image the image of the world map, as returned by {@link #createWorldMap()}
+   * @return a future completing with true when the image was encoded, or false when the
+   *         file already held it, and completing exceptionally if the file cannot be
+   *         written
+   * @throws IllegalArgumentException if image is null
+   */
+  CompletableFuture<Boolean> exportWorldMap(BufferedImage image);
+
   /**
    * Adds a human player to the game.
    *
@@ -135,6 +151,15 @@ public interface GameFacade {
    * @return the result of the computer player's turn
    */
   String computerPlayerTakeTurn();
+
+  /**
+   * Plays the turn of the current computer player like {@link #computerPlayerTakeTurn()},
+   * but reports a structured outcome instead of a text description. Used to simulate
+   * games without any output.
+   * 
+   * @return the outcome of the turn
+   */
+  TurnOutcome computerPlayerPlayTurn();
   
   /**
    * Retrieves the number of players in the game.
@@ -214,4 +239,24 @@ public interface GameFacade {
    * @return the current player
    */
   Player getCurrentPlayer();
-}
\ No newline at end of file
+
+  /**
+   * Resolves a possibly abbreviated space name to the full name of the only space it
+   * starts, ignoring case. Exact space names are returned unchanged.
+   * 
+   * @param spaceName the full or abbreviated name of a space
+   * @return the full name of the space, or the given name if no space matches it
+   * @throws IllegalArgumentException if the abbreviation matches several spaces
+   */
+  String resolveSpaceName(String spaceName);
+
+  /**
+   * Sets the log that every state change of the game is appended to from now on, such as
+   * players joining, moving, picking up items and attacking, the target character and
+   * pet moving and the turn advancing. A {@link model.event.GameEventLog} can be replayed
+   * with {@link model.event.GameReplayer}.
+   *
+   * @param eventLog the log, or null to stop logging
+   */
+  void setEventLog(GameEventSink eventLog);
+}
@@ -1,15 +1,22 @@
 package facade;
 
+import constants.Constants;
 import java.awt.image.BufferedImage;
+import java.io.File;
 import java.io.IOException;
-import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import model.event.GameEvent;
+import model.event.GameEventSink;
 import model.item.Item;
 import model.player.ComputerPlayer;
 import model.player.HumanPlayer;
 import model.player.Player;
 import model.player.RandomGenerator;
+import model.player.TurnOutcome;
 import model.space.Space;
+import model.space.SpaceNameIndex;
 import model.target.TargetCharacter;
+import model.world.MapExporter;
 import model.world.World;
 
 /**
@@ -19,6 +26,8 @@ import model.world.World;
  */
 public class GameFacadeImpl implements GameFacade {
   private final World world;
+  private SpaceNameIndex spaceNames;
+  private GameEventSink eventLog;
 
   /**
    * Constructs a new GameFacadeImpl with the given World object.
@@ -31,6 +40,8 @@ public class GameFacadeImpl implements GameFacade {
       throw new IllegalArgumentException("World cannot be null");
     }
     this.world = world;
+    this.spaceNames = null;
+    this.eventLog = null;
   }
 
   @Override
@@ -50,16 +61,31 @@ public class GameFacadeImpl implements GameFacade {
     return world.createWorldMap();
   }
 
+  @Override
+  public CompletableFuture<Boolean> exportWorldMap(BufferedImage image) {
+    return MapExporter.getDefault().export(image,
+        new File(Constants.SAVE_PATH + Constants.MAP_FILE_NAME));
+  }
+
   @Override
   public void addHumanPlayer(String name, String startingSpace, int maxItems) {
     Player player = createPlayer(name, startingSpace, maxItems, true);
     world.addPlayer(player);
+    recordPlayerAdded(player, maxItems);
   }
 
   @Override
   public void addComputerPlayer(String name, String startingSpace, int maxItems) {
     Player player = createPlayer(name, startingSpace, maxItems, false);
     world.addPlayer(player);
+    recordPlayerAdded(player, maxItems);
+  }
+
+  private void recordPlayerAdded(Player player, int maxItems) {
+    if (eventLog != null) {
+      eventLog.append(GameEvent.playerAdded(player.getPlayerName(),
+          player.getCurrentSpaceIndex(), maxItems > 0 ? maxItems : -1, player.isComputer()));
+    }
   }
 
   private Player createPlayer(String name, String startingSpace, int maxItems, boolean isHuman) {
@@ -79,7 +105,7 @@ public class GameFacadeImpl implements GameFacade {
   }
 
   private boolean isNameTaken(String name) {
-    return world.getPlayers().stream().anyMatch(player -> player.getPlayerName().equals(name));
+    return world.getPlayerByName(name) != null;
   }
 
   @Override
@@ -88,6 +114,9 @@ public class GameFacadeImpl implements GameFacade {
     Space space = findSpaceByName(spaceName);
     if (validMove(space.getSpaceIndex())) {
       player.setCurrentSpaceIndex(space.getSpaceIndex());
+      if (eventLog != null) {
+        eventLog.append(GameEvent.moved(currentPlayerIndex(), space.getSpaceIndex()));
+      }
       moveTargetCharacter();
       petAutoMove();
       nextTurn();
@@ -113,6 +142,9 @@ public class GameFacadeImpl implements GameFacade {
     }
     if (player.addItem(itemToPickUp)) {
       currentSpace.removeItem(itemToPickUp);
+      if (eventLog != null) {
+        eventLog.append(GameEvent.pickedUp(currentPlayerIndex(), itemName));
+      }
       moveTargetCharacter();
       petAutoMove();
       nextTurn();
@@ -127,6 +159,9 @@ public class GameFacadeImpl implements GameFacade {
     Player player = world.getCurrentPlayer();
     String description = player.lookAround(world.getSpaces(), 
         world.getPlayers(), world.getTargetCharacter(), world.getPet());
+    if (eventLog != null) {
+      eventLog.append(GameEvent.lookedAround(currentPlayerIndex()));
+    }
     turnOver();
     return description;
   }
@@ -149,6 +184,9 @@ public class GameFacadeImpl implements GameFacade {
   @Override
   public void nextTurn() {
     world.nextTurn();
+    if (eventLog != null) {
+      eventLog.append(GameEvent.turnAdvanced(world.getCurrentTurn()));
+    }
   }
 
   @Override
@@ -164,13 +202,28 @@ public class GameFacadeImpl implements GameFacade {
    * @return the Space object if found, null otherwise
    */
   private Space findSpaceByName(String spaceName) {
-    for (int i = 0; i < world.getTotalSpace(); i++) {
-      Space space = world.getSpaceByIndex(i);
-      if (space.getSpaceName().equals(spaceName)) {
-        return space;
+    Space space = getSpaceNames().get(spaceName);
+    if (space == null) {
+      throw new IllegalArgumentException("Space not found: " + spaceName);
+    }
+    return space;
+  }
+
+  /**
+   * Gets the name index of the spaces, building it on first use. The spaces of a world
+   * never change, so the index is built only once.
+   * 
+   * @return the name index of the spaces
+   */
+  private SpaceNameIndex getSpaceNames() {
+    if (spaceNames == null) {
+      SpaceNameIndex index = new SpaceNameIndex();
+      for (int i = 0; i < world.getTotalSpace(); i++) {
+        index.add(world.getSpaceByIndex(i));
       }
+      spaceNames = index;
     }
-    throw new IllegalArgumentException("Space not found: " + spaceName);
+    return spaceNames;
   }
 
   /**
@@ -180,12 +233,7 @@ public class GameFacadeImpl implements GameFacade {
    * @return the Player object if found, null otherwise
    */
   private Player findPlayerByName(String playerName) {
-    for (Player player : world.getPlayers()) {
-      if (player.getPlayerName().equals(playerName)) {
-        return player;
-      }
-    }
-    return null;
+    return world.getPlayerByName(playerName);
   }
 
   @Override
@@ -208,12 +256,19 @@ public class GameFacadeImpl implements GameFacade {
 
   @Override
   public void moveTargetCharacter() {
-    world.getTargetCharacter().move(world.getSpaces().size());
+    TargetCharacter target = world.getTargetCharacter();
+    target.move(world.getSpaces().size());
+    if (eventLog != null) {
+      eventLog.append(GameEvent.targetMoved(target.getCurrentSpaceIndex()));
+    }
   }
   
   @Override
   public void petAutoMove() {
-    world.getPet().moveFollowingDfs(world.getSpaces());
+    int petSpace = world.getPet().moveFollowingDfs(world.getSpaces());
+    if (eventLog != null) {
+      eventLog.append(GameEvent.petStepped(petSpace));
+    }
   }
 
   /**
@@ -248,13 +303,33 @@ public class GameFacadeImpl implements GameFacade {
     ComputerPlayer computerPlayer = (ComputerPlayer) world.getCurrentPlayer();
     TargetCharacter target = world.getTargetCharacter();
     String result = computerPlayer.takeTurn(world.getSpaces(), world.getPlayers(), 
-        target, world.getPet(), 
-        (target.getCurrentSpaceIndex() == computerPlayer.getCurrentSpaceIndex() 
-        && !playerCanBeeSeen(computerPlayer.getCurrentSpaceIndex())));
+        target, world.getPet(), canAttackUnseen(computerPlayer));
+    recordComputerTurn(computerPlayer, computerPlayer.getLastTurnOutcome());
     result = murderSucceeded(result);
     return result;
   }
 
+  @Override
+  public TurnOutcome computerPlayerPlayTurn() {
+    ComputerPlayer computerPlayer = (ComputerPlayer) world.getCurrentPlayer();
+    TurnOutcome outcome = computerPlayer.playTurn(world.getSpaces(), world.getPlayers(),
+        world.getTargetCharacter(), world.getPet(), canAttackUnseen(computerPlayer));
+    recordComputerTurn(computerPlayer, outcome);
+    endTurn();
+    return outcome;
+  }
+
+  /**
+   * Checks if a player is in the same space as the target character and cannot be seen.
+   * 
+   * @param player the player
+   * @return true if the player can attack the target character, false otherwise
+   */
+  private boolean canAttackUnseen(Player player) {
+    return world.getTargetCharacter().getCurrentSpaceIndex() == player.getCurrentSpaceIndex()
+        && !playerCanBeeSeen(player.getCurrentSpaceIndex());
+  }
+
   @Override
   public int getPlayerCount() {
     return world.getPlayerCount();
@@ -282,40 +357,46 @@ public class GameFacadeImpl implements GameFacade {
       description = "Attack failed! Your attack is seen by another player.";
       return description;
     }
+    int healthBefore = target.getHealth();
     description =  player.attack(itemName, target);
+    if (eventLog != null) {
+      eventLog.append(GameEvent.attacked(currentPlayerIndex(), itemName,
+          healthBefore - target.getHealth()));
+    }
     description = murderSucceeded(description);
     return description;
   }
   
   private String murderSucceeded(String description) {
-    if (world.getTargetCharacter().getHealth() == 0) {
-      world.setWinner(world.getCurrentPlayer().getPlayerName());
+    if (endTurn()) {
       return description + "\nTarget character is defeated!";
-    } else {
-      moveTargetCharacter();
-      petAutoMove();
-      nextTurn();
-      return description;
     }
+    return description;
   }
 
-  @Override
-  public boolean playerCanBeeSeen(int spaceIndex) {
-    if (!isSpaceVisible(spaceIndex)) {
-      return false;
-    }
-    if (world.getSpaceByIndex(spaceIndex).playerCount(world.getPlayers()) > 1) {
+  /**
+   * Ends the turn of the current player. If the target character is defeated, the
+   * current player wins; otherwise the target character and the pet move and the next
+   * turn begins.
+   * 
+   * @return true if the target character is defeated, false otherwise
+   */
+  private boolean endTurn() {
+    if (world.getTargetCharacter().getHealth() == 0) {
+      world.setWinner(world.getCurrentPlayer().getPlayerName());
       return true;
     }
-    List<Integer> neighbors = world.getSpaceByIndex(spaceIndex).getNeighborIndices();
-    for (int neighbor : neighbors) {
-      if (world.getSpaceByIndex(neighbor).playerCount(world.getPlayers()) > 0) {
-        return true;
-      }
-    }
+    moveTargetCharacter();
+    petAutoMove();
+    nextTurn();
     return false;
   }
 
+  @Override
+  public boolean playerCanBeeSeen(int spaceIndex) {
+    return world.isPlayerSeen(spaceIndex);
+  }
+
   @Override
   public String limitedInfo() {
     return world.getCurrentPlayer().limitedInfo(world.getSpaces());
@@ -333,6 +414,9 @@ public class GameFacadeImpl implements GameFacade {
   public String movePet(String spaceName) {
     Space space = findSpaceByName(spaceName);
     world.getPet().setSpaceIndex(space.getSpaceIndex());
+    if (eventLog != null) {
+      eventLog.append(GameEvent.petMoved(currentPlayerIndex(), space.getSpaceIndex()));
+    }
     String description = String.format("%s moved pet to %s.", 
         world.getCurrentPlayer().getPlayerName(), space.getSpaceName());
     moveTargetCharacter();
@@ -356,4 +440,54 @@ public class GameFacadeImpl implements GameFacade {
     return world.getCurrentPlayer();
   }
 
+  @Override
+  public String resolveSpaceName(String spaceName) {
+    return getSpaceNames().resolve(spaceName);
+  }
+
+  @Override
+  public void setEventLog(GameEventSink eventLog) {
+    this.eventLog = eventLog;
+  }
+
+  /**
+   * Gets the position of the current player in the order in which players joined.
+   *
+   * @return the index of the current player
+   */
+  private int currentPlayerIndex() {
+    return world.getPlayers().indexOf(world.getCurrentPlayer());
+  }
+
+  /**
+   * Records the event of a computer player's turn from the outcome the player reported.
+   * A pick up that found nothing is recorded as looking around.
+   *
+   * @param player  the computer player that took the turn
+   * @param outcome the outcome of the turn
+   */
+  private void recordComputerTurn(Player player, TurnOutcome outcome) {
+    if (eventLog == null) {
+      return;
+    }
+    int index = currentPlayerIndex();
+    switch (outcome.getAction()) {
+      case MOVE:
+        eventLog.append(GameEvent.moved(index, player.getCurrentSpaceIndex()));
+        break;
+      case PICK_UP_ITEM:
+        eventLog.append(outcome.getItemName() == null ? GameEvent.lookedAround(index)
+            : GameEvent.pickedUp(index, outcome.getItemName()));
+        break;
+      case ATTACK:
+        eventLog.append(GameEvent.attacked(index, outcome.getItemName(), outcome.getDamage()));
+        break;
+      case MOVE_PET:
+        eventLog.append(GameEvent.petMoved(index, world.getPet().getCurrentSpaceIndex()));
+        break;
+      default:
+        eventLog.append(GameEvent.lookedAround(index));
+        break;
+    }
+  }
 }
@@ -0,0 +1,217 @@
+package model.event;
+
+import java.util.Objects;
+
+/**
+ * A single state change of a game, as written to a {@link GameEventLog}.
+ *
+ * Players are referred to by the order in which they joined the game, spaces by their
+ * index. Depending on its type an event carries a player, a space, a value (the damage of
+ * an attack, the carrying capacity of a new player or the new turn number) and a name
+ * (the name of a new player or of an item). The fields an event does not use are -1 or
+ * null.
+ */
+public final class GameEvent {
+  private final GameEventType type;
+  private final int player;
+  private final int space;
+  private final int value;
+  private final String name;
+  private final boolean computer;
+
+  private GameEvent(GameEventType type, int player, int space, int value, String name,
+      boolean computer) {
+    this.type = type;
+    this.player = player;
+    this.space = space;
+    this.value = value;
+    this.name = name;
+    this.computer = computer;
+  }
+
+  /**
+   * Creates the event of a player joining the game.
+   *
+   * @param name     the name of the player
+   * @param space    the starting space
+   * @param maxItems the maximum number of items the player can carry, -1 for no limit
+   * @param computer whether the player is a computer player
+   * @return the event
+   */
+  public static GameEvent playerAdded(String name, int space, int maxItems, boolean computer) {
+    return new GameEvent(GameEventType.PLAYER_ADDED, -1, space, maxItems,
+        requireName(name), computer);
+  }
+
+  /**
+   * Creates the event of a player moving.
+   *
+   * @param player the player
+   * @param space  the space moved to
+   * @return the event
+   */
+  public static GameEvent moved(int player, int space) {
+    return new GameEvent(GameEventType.MOVE, player, space, -1, null, false);
+  }
+
+  /**
+   * Creates the event of a player picking up an item in their space.
+   *
+   * @param player the player
+   * @param item   the name of the item
+   * @return the event
+   */
+  public static GameEvent pickedUp(int player, String item) {
+    return new GameEvent(GameEventType.PICK, player, -1, -1, requireName(item), false);
+  }
+
+  /**
+   * Creates the event of a player looking around.
+   *
+   * @param player the player
+   * @return the event
+   */
+  public static GameEvent lookedAround(int player) {
+    return new GameEvent(GameEventType.LOOK, player, -1, -1, null, false);
+  }
+
+  /**
+   * Creates the event of a player attacking the target character.
+   *
+   * @param player the player
+   * @param item   the name of the item used, or "poke"
+   * @param damage the damage dealt
+   * @return the event
+   */
+  public static GameEvent attacked(int player, String item, int damage) {
+    return new GameEvent(GameEventType.ATTACK, player, -1, damage, requireName(item), false);
+  }
+
+  /**
+   * Creates the event of a player moving the pet.
+   *
+   * @param player the player
+   * @param space  the space the pet was moved to
+   * @return the event
+   */
+  public static GameEvent petMoved(int player, int space) {
+    return new GameEvent(GameEventType.MOVE_PET, player, space, -1, null, false);
+  }
+
+  /**
+   * Creates the event of the target character moving.
+   *
+   * @param space the space the target moved to
+   * @return the event
+   */
+  public static GameEvent targetMoved(int space) {
+    return new GameEvent(GameEventType.TARGET_MOVE, -1, space, -1, null, false);
+  }
+
+  /**
+   * Creates the event of the pet taking a step of its walk.
+   *
+   * @param space the space the pet stepped to
+   * @return the event
+   */
+  public static GameEvent petStepped(int space) {
+    return new GameEvent(GameEventType.PET_STEP, -1, space, -1, null, false);
+  }
+
+  /**
+   * Creates the event of the turn passing to the next player.
+   *
+   * @param turn the new turn number
+   * @return the event
+   */
+  public static GameEvent turnAdvanced(int turn) {
+    return new GameEvent(GameEventType.TURN_ADVANCE, -1, -1, turn, null, false);
+  }
+
+  private static String requireName(String name) {
+    if (name == null) {
+      throw new IllegalArgumentException("Name cannot be null");
+    }
+    return name;
+  }
+
+  /**
+   * Gets the type of the event.
+   *
+   * @return the type
+   */
+  public GameEventType getType() {
+    return type;
+  }
+
+  /**
+   * Gets the player who caused the event, by the order in which players joined.
+   *
+   * @return the player, or -1 if no player caused the event
+   */
+  public int getPlayer() {
+    return player;
+  }
+
+  /**
+   * Gets the space of the event.
+   *
+   * @return the space index, or -1 if the event has no space
+   */
+  public int getSpace() {
+    return space;
+  }
+
+  /**
+   * Gets the value of the event: the damage of an attack, the carrying capacity of a new
+   * player or the new turn number.
+   *
+   * @return the value, or -1 if the event has no value
+   */
+  public int getValue() {
+    return value;
+  }
+
+  /**
+   * Gets the name of the event: the name of a new player or of an item.
+   *
+   * @return the name, or null if the event has no name
+   */
+  public String getName() {
+    return name;
+  }
+
+  /**
+   * Checks if a new player is a computer player.
+   *
+   * @return true for a computer player joining, false otherwise
+   */
+  public boolean isComputer() {
+    return computer;
+  }
+
+  @Override
+  public boolean equals(Object obj) {
+    if (this == obj) {
+      return true;
+    }
+    if (!(obj instanceof GameEvent)) {
+      return false;
+    }
+    GameEvent other = (GameEvent) obj;
+    return type == other.type && player == other.player && space == other.space
+        && value == other.value && computer == other.computer
+        && Objects.equals(name, other.name);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(type, player, space, value, name, computer);
+  }
+
+  @Override
+  public String toString() {
+    return String.format("%s{player=%d, space=%d, value=%d, name=%s%s}", type, player, space,
+        value, name, computer ? ", computer" : "");
+  }
+}
@@ -0,0 +1,142 @@
+package model.event;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+
+/**
+ * An append-only, buffered binary log of game events.
+ *
+ * The log starts with a header (magic number and version), followed by one record per
+ * event: the one byte code of its type and then only the fields that type uses. Indices
+ * and counts are written as variable-length integers, so a typical record takes two or
+ * three bytes, and names as modified UTF-8. Records are only written when the buffer
+ * fills up or the log is flushed or closed.
+ */
+public final class GameEventLog implements GameEventSink, Flushable, Closeable {
+  /** The first four bytes of every event log: "KDLE". */
+  static final int MAGIC = 0x4B444C45;
+  /** The version of the layout written by this class. */
+  static final int VERSION = 1;
+  private static final int BUFFER_SIZE = 64 * 1024;
+
+  private final DataOutputStream out;
+  private long eventCount;
+
+  /**
+   * Creates a log writing to a stream, and writes the header.
+   *
+   * @param out the stream to write to, owned by the log afterwards
+   * @throws IOException if the header cannot be written
+   * @throws IllegalArgumentException if out is null
+   */
+  public GameEventLog(OutputStream out) throws IOException {
+    if (out == null) {
+      throw new IllegalArgumentException("Output cannot be null");
+    }
+    this.out = new DataOutputStream(new BufferedOutputStream(out, BUFFER_SIZE));
+    this.out.writeInt(MAGIC);
+    this.out.writeInt(VERSION);
+    this.eventCount = 0;
+  }
+
+  /**
+   * Creates a log writing to a new file.
+   *
+   * @param file the file of the log, replaced if it exists
+   * @throws IOException if the file cannot be created
+   */
+  public GameEventLog(File file) throws IOException {
+    this(new FileOutputStream(file));
+  }
+
+  /**
+   * Appends an event to the log.
+   *
+   * @param event the event
+   * @throws IllegalArgumentException if event is null
+   * @throws UncheckedIOException if the event cannot be written
+   */
+  @Override
+  public void append(GameEvent event) {
+    if (event == null) {
+      throw new IllegalArgumentException("Event cannot be null");
+    }
+    try {
+      out.writeByte(event.getType().getCode());
+      switch (event.getType()) {
+        case PLAYER_ADDED:
+          out.writeBoolean(event.isComputer());
+          writeVarInt(event.getSpace());
+          writeVarInt(event.getValue() + 1);
+          out.writeUTF(event.getName());
+          break;
+        case MOVE:
+        case MOVE_PET:
+          writeVarInt(event.getPlayer());
+          writeVarInt(event.getSpace());
+          break;
+        case PICK:
+          writeVarInt(event.getPlayer());
+          out.writeUTF(event.getName());
+          break;
+        case LOOK:
+          writeVarInt(event.getPlayer());
+          break;
+        case ATTACK:
+          writeVarInt(event.getPlayer());
+          writeVarInt(event.getValue());
+          out.writeUTF(event.getName());
+          break;
+        case TARGET_MOVE:
+        case PET_STEP:
+          writeVarInt(event.getSpace());
+          break;
+        case TURN_ADVANCE:
+          writeVarInt(event.getValue());
+          break;
+        default:
+          throw new IllegalStateException("Unhandled event type: " + event.getType());
+      }
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    eventCount++;
+  }
+
+  /**
+   * Gets the number of events appended so far.
+   *
+   * @return the number of events
+   */
+  public long getEventCount() {
+    return eventCount;
+  }
+
+  @Override
+  public void flush() throws IOException {
+    out.flush();
+  }
+
+  @Override
+  public void close() throws IOException {
+    out.close();
+  }
+
+  private void writeVarInt(int value) throws IOException {
+    if (value < 0) {
+      throw new IllegalArgumentException("Value cannot be negative: " + value);
+    }
+    while ((value & ~0x7F) != 0) {
+      out.writeByte((value & 0x7F) | 0x80);
+      value >>>= 7;
+    }
+    out.writeByte(value);
+  }
+}
@@ -0,0 +1,127 @@
+package model.event;
+
+import java.io.BufferedInputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reads the events written by a {@link GameEventLog}, one at a time.
+ */
+public final class GameEventReader implements Closeable {
+  private final DataInputStream in;
+
+  /**
+   * Creates a reader and checks the header of the log.
+   *
+   * @param in the stream to read from, owned by the reader afterwards
+   * @throws IOException if the header cannot be read, the stream is not an event log, or
+   *                     the log was written with an unsupported version
+   * @throws IllegalArgumentException if in is null
+   */
+  public GameEventReader(InputStream in) throws IOException {
+    if (in == null) {
+      throw new IllegalArgumentException("Input cannot be null");
+    }
+    this.in = new DataInputStream(new BufferedInputStream(in));
+    if (this.in.readInt() != GameEventLog.MAGIC) {
+      throw new IOException("Not a game event log.");
+    }
+    int version = this.in.readInt();
+    if (version != GameEventLog.VERSION) {
+      throw new IOException("Unsupported event log version: " + version);
+    }
+  }
+
+  /**
+   * Reads all events of a log file.
+   *
+   * @param file the log file
+   * @return the events, in the order they were appended
+   * @throws IOException if the file cannot be read or is not a valid event log
+   */
+  public static List<GameEvent> readAll(File file) throws IOException {
+    List<GameEvent> events = new ArrayList<>();
+    try (GameEventReader reader = new GameEventReader(new FileInputStream(file))) {
+      GameEvent event;
+      while ((event = reader.next()) != null) {
+        events.add(event);
+      }
+    }
+    return events;
+  }
+
+  /**
+   * Reads the next event.
+   *
+   * @return the event, or null at the end of the log
+   * @throws IOException if the event cannot be read or is invalid, including a record
+   *                     cut short by the end of the log
+   */
+  public GameEvent next() throws IOException {
+    int code = in.read();
+    if (code == -1) {
+      return null;
+    }
+    GameEventType type;
+    try {
+      type = GameEventType.fromCode(code);
+    } catch (IllegalArgumentException e) {
+      throw new IOException(e.getMessage(), e);
+    }
+    try {
+      switch (type) {
+        case PLAYER_ADDED:
+          boolean computer = in.readBoolean();
+          int space = readVarInt();
+          int maxItems = readVarInt() - 1;
+          return GameEvent.playerAdded(in.readUTF(), space, maxItems, computer);
+        case MOVE:
+          return GameEvent.moved(readVarInt(), readVarInt());
+        case MOVE_PET:
+          return GameEvent.petMoved(readVarInt(), readVarInt());
+        case PICK:
+          return GameEvent.pickedUp(readVarInt(), in.readUTF());
+        case LOOK:
+          return GameEvent.lookedAround(readVarInt());
+        case ATTACK:
+          int player = readVarInt();
+          int damage = readVarInt();
+          return GameEvent.attacked(player, in.readUTF(), damage);
+        case TARGET_MOVE:
+          return GameEvent.targetMoved(readVarInt());
+        case PET_STEP:
+          return GameEvent.petStepped(readVarInt());
+        case TURN_ADVANCE:
+          return GameEvent.turnAdvanced(readVarInt());
+        default:
+          throw new IOException("Unhandled event type: " + type);
+      }
+    } catch (EOFException e) {
+      throw new IOException("Truncated event log.", e);
+    }
+  }
+
+  @Override
+  public void close() throws IOException {
+    in.close();
+  }
+
+  private int readVarInt() throws IOException {
+    int value = 0;
+    for (int shift = 0; shift < 35; shift += 7) {
+      int b = in.readUnsignedByte();
+      value |= (b & 0x7F) << shift;
+      if ((b & 0x80) == 0) {
+        return value;
+      }
+    }
+    throw new IOException("Malformed variable-length integer.");
+  }
+}
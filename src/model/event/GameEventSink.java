@@ -0,0 +1,15 @@
+package model.event;
+
+/**
+ * Receives the events of a game as they happen.
+ */
+public interface GameEventSink {
+  /**
+   * Receives an event. It is called on the thread playing the game, right after the
+   * state change the event describes.
+   *
+   * @param event the event
+   * @throws IllegalArgumentException if event is null
+   */
+  void append(GameEvent event);
+}
@@ -0,0 +1,57 @@
+package model.event;
+
+/**
+ * The kinds of state change recorded in a game event log. Every type is written to the
+ * log as its one byte code, which must never change once logs have been written.
+ */
+public enum GameEventType {
+  /** A player joined the game. */
+  PLAYER_ADDED(1),
+  /** A player moved to another space. */
+  MOVE(2),
+  /** A player picked up an item in their space. */
+  PICK(3),
+  /** A player looked around. */
+  LOOK(4),
+  /** A player attacked the target character. */
+  ATTACK(5),
+  /** A player moved the pet to a space of their choice. */
+  MOVE_PET(6),
+  /** The target character moved along its path. */
+  TARGET_MOVE(7),
+  /** The pet took a step of its depth-first walk. */
+  PET_STEP(8),
+  /** The turn passed to the next player. */
+  TURN_ADVANCE(9);
+
+  private final int code;
+
+  GameEventType(int code) {
+    this.code = code;
+  }
+
+  /**
+   * Gets the code of the type in the log.
+   *
+   * @return the code
+   */
+  public int getCode() {
+    return code;
+  }
+
+  /**
+   * Gets the type with the given code.
+   *
+   * @param code the code read from a log
+   * @return the type
+   * @throws IllegalArgumentException if no type has the code
+   */
+  public static GameEventType fromCode(int code) {
+    for (GameEventType type : values()) {
+      if (type.code == code) {
+        return type;
+      }
+    }
+    throw new IllegalArgumentException("Unknown event code: " + code);
+  }
+}
@@ -0,0 +1,150 @@
+package model.event;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.List;
+import model.item.Item;
+import model.player.ComputerPlayer;
+import model.player.HumanPlayer;
+import model.player.Player;
+import model.player.RandomGenerator;
+import model.space.Space;
+import model.target.TargetCharacter;
+import model.world.WorldFactory;
+import model.world.WorldImpl;
+
+/**
+ * Rebuilds the state of a game from its world and its event log.
+ *
+ * The events are applied to a fresh world through the same model operations the game
+ * used, so the world ends up exactly as it was, including the hidden state of the pet's
+ * walk. The movements of the target character and the pet's walk steps are computed
+ * again and checked against the log, which catches a log replayed on the wrong world.
+ */
+public final class GameReplayer {
+
+  private GameReplayer() {
+    // Static utility class
+  }
+
+  /**
+   * Rebuilds the state of a game at the start of a turn from a world file and a log file.
+   *
+   * @param worldFile the world specification file the game was played on
+   * @param logFile   the event log of the game
+   * @param turn      the turn to stop at; events of this turn and later are not applied
+   * @return the rebuilt world
+   * @throws IOException if a file cannot be read
+   * @throws IllegalStateException if the log does not match the world
+   */
+  public static WorldImpl replay(File worldFile, File logFile, int turn) throws IOException {
+    return replay(new WorldFactory().createWorld(worldFile), GameEventReader.readAll(logFile),
+        turn);
+  }
+
+  /**
+   * Applies the events of a game to a fresh world until the start of a turn. Players join
+   * whenever they were added, so replaying up to turn 1 gives the game as it was set up.
+   *
+   * @param world  a world in its starting state
+   * @param events the events of the game, in order
+   * @param turn   the turn to stop at; events of this turn and later are not applied
+   * @return the given world, in the state of the game at the start of the turn
+   * @throws IllegalArgumentException if an argument is null
+   * @throws IllegalStateException if an event does not match the state of the world
+   */
+  public static WorldImpl replay(WorldImpl world, Iterable<GameEvent> events, int turn) {
+    if (world == null || events == null) {
+      throw new IllegalArgumentException("World and events cannot be null");
+    }
+    for (GameEvent event : events) {
+      if (event.getType() != GameEventType.PLAYER_ADDED && world.getCurrentTurn() >= turn) {
+        break;
+      }
+      apply(world, event);
+    }
+    return world;
+  }
+
+  /**
+   * Applies a single event to a world.
+   *
+   * @param world the world
+   * @param event the event
+   * @throws IllegalStateException if the event does not match the state of the world
+   */
+  public static void apply(WorldImpl world, GameEvent event) {
+    List<Space> spaces = world.getSpaces();
+    TargetCharacter target = world.getTargetCharacter();
+    switch (event.getType()) {
+      case PLAYER_ADDED:
+        world.addPlayer(event.isComputer()
+            ? new ComputerPlayer(event.getName(), event.getSpace(), event.getValue(),
+                new RandomGenerator())
+            : new HumanPlayer(event.getName(), event.getSpace(), event.getValue()));
+        break;
+      case MOVE:
+        player(world, event).setCurrentSpaceIndex(event.getSpace());
+        break;
+      case PICK:
+        pickUp(world, player(world, event), event.getName());
+        break;
+      case LOOK:
+        player(world, event);
+        break;
+      case ATTACK:
+        Player attacker = player(world, event);
+        int healthBefore = target.getHealth();
+        attacker.attack(event.getName(), target);
+        check(healthBefore - target.getHealth() == event.getValue(), event);
+        if (target.getHealth() == 0) {
+          world.setWinner(attacker.getPlayerName());
+        }
+        break;
+      case MOVE_PET:
+        player(world, event);
+        world.getPet().setSpaceIndex(event.getSpace());
+        break;
+      case TARGET_MOVE:
+        target.move(spaces.size());
+        check(target.getCurrentSpaceIndex() == event.getSpace(), event);
+        break;
+      case PET_STEP:
+        check(world.getPet().moveFollowingDfs(spaces) == event.getSpace(), event);
+        break;
+      case TURN_ADVANCE:
+        world.nextTurn();
+        check(world.getCurrentTurn() == event.getValue(), event);
+        break;
+      default:
+        throw new IllegalStateException("Unhandled event type: " + event.getType());
+    }
+  }
+
+  private static Player player(WorldImpl world, GameEvent event) {
+    List<Player> players = world.getPlayers();
+    check(event.getPlayer() >= 0 && event.getPlayer() < players.size(), event);
+    return players.get(event.getPlayer());
+  }
+
+  private static void pickUp(WorldImpl world, Player player, String itemName) {
+    Space space = world.getSpaceByIndex(player.getCurrentSpaceIndex());
+    for (Item item : space.getItems()) {
+      if (item.getItemName().equals(itemName)) {
+        if (!player.addItem(item)) {
+          break;
+        }
+        space.removeItem(item);
+        return;
+      }
+    }
+    throw new IllegalStateException(player.getPlayerName() + " cannot pick up " + itemName
+        + " in " + space.getSpaceName());
+  }
+
+  private static void check(boolean matches, GameEvent event) {
+    if (!matches) {
+      throw new IllegalStateException("Event does not match the world: " + event);
+    }
+  }
+}
@@ -1,5 +1,6 @@
 package model.pet;
 
+import java.util.BitSet;
 import java.util.List;
 import model.space.Space;
 
@@ -49,4 +50,31 @@ public interface Pet {
    * @return the index of the space the pet moved to
    */
   int moveFollowingDfs(List<Space> spaces);
+
+  /**
+   * Retrieves the path of the depth-first walk, from where it started to the current
+   * space.
+   *
+   * @return a new list holding the path
+   */
+  List<Integer> getDfsPath();
+
+  /**
+   * Retrieves the spaces the depth-first walk has visited so far.
+   *
+   * @return a new set holding the visited space indices
+   */
+  BitSet getVisitedSpaces();
+
+  /**
+   * Puts the pet back at a point of its depth-first walk, as taken with
+   * {@link #getDfsPath()} and {@link #getVisitedSpaces()}.
+   *
+   * @param spaceIndex the space of the pet
+   * @param path       the path of the walk
+   * @param visited    the visited spaces
+   * @throws IllegalArgumentException if the space index is negative or the path or the
+   *                                  visited set is null
+   */
+  void restoreDfs(int spaceIndex, List<Integer> path, BitSet visited);
 }
@@ -1,8 +1,8 @@
 package model.pet;
 
-import java.util.HashSet;
+import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.List;
-import java.util.Set;
 import java.util.Stack;
 import model.space.Space;
 
@@ -14,7 +14,7 @@ public class PetImpl implements Pet {
 
   private String petName;
   private Stack<Integer> pathStack;
-  private Set<Integer> visitedSpaces;
+  private BitSet visitedSpaces;
   
   private int currentSpaceIndex;
   
@@ -35,9 +35,9 @@ public class PetImpl implements Pet {
     this.petName = name;
     this.currentSpaceIndex = currentSpaceIndex;
     this.pathStack = new Stack<>();
-    this.visitedSpaces = new HashSet<>();
+    this.visitedSpaces = new BitSet();
     this.pathStack.push(currentSpaceIndex);
-    this.visitedSpaces.add(currentSpaceIndex);
+    this.visitedSpaces.set(currentSpaceIndex);
   }
   
   @Override
@@ -80,22 +80,23 @@ public class PetImpl implements Pet {
     
     // Get current space and its neighbors
     Space currentSpace = spaces.get(currentSpaceIndex);
-    List<Integer> neighbors = currentSpace.getNeighborIndices();
+    int neighborCount = currentSpace.getNeighborCount();
     
     // Try to find an unvisited neighbor
-    Integer nextSpace = null;
-    for (Integer neighborIndex : neighbors) {
-      if (!visitedSpaces.contains(neighborIndex)) {
+    int nextSpace = -1;
+    for (int k = 0; k < neighborCount; k++) {
+      int neighborIndex = currentSpace.getNeighborIndex(k);
+      if (!visitedSpaces.get(neighborIndex)) {
         nextSpace = neighborIndex;
         break;
       }
     }
     
-    if (nextSpace != null) {
+    if (nextSpace >= 0) {
       // Found an unvisited neighbor - move forward
       currentSpaceIndex = nextSpace;
       pathStack.push(nextSpace);
-      visitedSpaces.add(nextSpace);
+      visitedSpaces.set(nextSpace);
     } else if (!pathStack.isEmpty()) {
       // No unvisited neighbors - backtrack
       pathStack.pop(); // Remove current space
@@ -112,6 +113,30 @@ public class PetImpl implements Pet {
     return currentSpaceIndex;
   }
   
+  @Override
+  public List<Integer> getDfsPath() {
+    return new ArrayList<>(pathStack);
+  }
+
+  @Override
+  public BitSet getVisitedSpaces() {
+    return (BitSet) visitedSpaces.clone();
+  }
+
+  @Override
+  public void restoreDfs(int spaceIndex, List<Integer> path, BitSet visited) {
+    if (spaceIndex < 0) {
+      throw new IllegalArgumentException("Space number cannot be negative");
+    }
+    if (path == null || visited == null) {
+      throw new IllegalArgumentException("Path and visited spaces cannot be null");
+    }
+    this.currentSpaceIndex = spaceIndex;
+    this.pathStack.clear();
+    this.pathStack.addAll(path);
+    this.visitedSpaces = (BitSet) visited.clone();
+  }
+
   /**
    * Resets the DFS traversal state, starting fresh from current position.
    */
@@ -119,6 +144,6 @@ public class PetImpl implements Pet {
     pathStack.clear();
     visitedSpaces.clear();
     pathStack.push(currentSpaceIndex);
-    visitedSpaces.add(currentSpaceIndex);
+    visitedSpaces.set(currentSpaceIndex);
   }
 }
@@ -16,6 +16,7 @@ public abstract class AbstractPlayer implements Player {
   protected int currentSpaceIndex;
   protected List<Item> items;
   protected int maxItems;
+  private PlayerMoveListener moveListener;
 
   /**
    * Constructs an AbstractPlayer with the given parameters.
@@ -55,7 +56,25 @@ public abstract class AbstractPlayer implements Player {
 
   @Override
   public void setCurrentSpaceIndex(int spaceIndex) {
+    changeSpace(spaceIndex);
+  }
+
+  @Override
+  public void setMoveListener(PlayerMoveListener listener) {
+    this.moveListener = listener;
+  }
+
+  /**
+   * Moves the player to a space and notifies the move listener, if any.
+   *
+   * @param spaceIndex the index of the space to move to
+   */
+  private void changeSpace(int spaceIndex) {
+    int fromSpaceIndex = currentSpaceIndex;
     this.currentSpaceIndex = spaceIndex;
+    if (moveListener != null && fromSpaceIndex != spaceIndex) {
+      moveListener.playerMoved(this, fromSpaceIndex, spaceIndex);
+    }
   }
 
   @Override
@@ -67,6 +86,11 @@ public abstract class AbstractPlayer implements Player {
     return itemsCopy;
   }
 
+  @Override
+  public int getMaxItems() {
+    return maxItems;
+  }
+
   @Override
   public boolean addItem(Item item) {
     if (maxItems < 0 || items.size() < maxItems) {
@@ -110,8 +134,9 @@ public abstract class AbstractPlayer implements Player {
     }
     description.append(spaces.get(currentSpaceIndex).getItemsInfo()).append("\n");
     description.append(spaces.get(currentSpaceIndex).getNeighborInfo(spaces)).append("\n");
-    List<Integer> neighborIndices = spaces.get(currentSpaceIndex).getNeighborIndices();
-    for (int neighborIndex : neighborIndices) {
+    Space currentSpace = spaces.get(currentSpaceIndex);
+    for (int k = 0; k < currentSpace.getNeighborCount(); k++) {
+      int neighborIndex = currentSpace.getNeighborIndex(k);
       Space neighbor = spaces.get(neighborIndex);
       if (neighborIndex == pet.getCurrentSpaceIndex()) {
         description.append("Space: ").append(neighbor.getSpaceName()).append(":\n");
@@ -161,7 +186,7 @@ public abstract class AbstractPlayer implements Player {
     if (spaceIndex < 0) {
       throw new IllegalArgumentException("Invalid space index");
     }
-    this.currentSpaceIndex = spaceIndex;
+    changeSpace(spaceIndex);
   }
   
   @Override
@@ -12,7 +12,8 @@ import model.target.TargetCharacter;
  */
 public class ComputerPlayer extends AbstractPlayer {
   private static final int[] NON_ATTACK_ACTIONS = {0, 1, 2, 4}; // move, look, pickup, move pet
-  private RandomGenerator randomGenerator;
+  protected final RandomGenerator randomGenerator;
+  private TurnOutcome lastTurnOutcome;
 
   /**
    * Creates a new computer player.
@@ -38,46 +39,168 @@ public class ComputerPlayer extends AbstractPlayer {
     }
     
     // If we can't attack, randomly choose between other actions
-    int actionIndex = randomGenerator.nextInt(NON_ATTACK_ACTIONS.length);
-    int action = NON_ATTACK_ACTIONS[actionIndex];
+    int action = chooseAction();
     
     switch (action) {
       case 0:
         return moveRandomly(spaces);
       case 1:
+        lastTurnOutcome = TurnOutcome.LOOKED_AROUND;
         return lookAround(spaces, players, target, pet);
       case 2:
         return pickUpRandomItem(spaces);
       case 4:
         return movePetRandomly(spaces, pet);
       default:
+        lastTurnOutcome = TurnOutcome.LOOKED_AROUND;
         return "Computer player did nothing.";
     }
   }
   
   /**
-   * Attempts to attack the target character with the item with the highest
-   * damage. If no items are available, the player will attempt to attack with
-   * "poke".
+   * Plays a turn like {@link #takeTurn(List, List, TargetCharacter, Pet, Boolean)}, making
+   * exactly the same choices, but reports a structured outcome instead of building a
+   * text description.
    *
-   * @param target The target character to attack.
-   * @return A string describing the attack attempt.
+   * @param spaces    The list of spaces in the world.
+   * @param target    The target character.
+   * @param pet       The pet.
+   * @param canAttack Whether the player can attack the target unseen.
+   * @return The outcome of the turn.
    */
-  private String botMaxAttack(TargetCharacter target) {
-    // Find the item with max damage
+  public TurnOutcome playTurn(List<Space> spaces, TargetCharacter target, Pet pet,
+      boolean canAttack) {
+    lastTurnOutcome = chooseOutcome(spaces, target, pet, canAttack);
+    return lastTurnOutcome;
+  }
+
+  /**
+   * Plays a turn for {@link #playTurn(List, TargetCharacter, Pet, boolean)}.
+   *
+   * @param spaces    The list of spaces in the world.
+   * @param target    The target character.
+   * @param pet       The pet.
+   * @param canAttack Whether the player can attack the target unseen.
+   * @return The outcome of the turn.
+   */
+  private TurnOutcome chooseOutcome(List<Space> spaces, TargetCharacter target, Pet pet,
+      boolean canAttack) {
+    if (canAttack) {
+      Item item = maxDamageItem();
+      String itemName = item == null ? "poke" : item.getItemName();
+      int healthBefore = target.getHealth();
+      attack(itemName, target);
+      return new TurnOutcome(TurnAction.ATTACK, itemName, healthBefore - target.getHealth());
+    }
+
+    switch (chooseAction()) {
+      case 0:
+        moveToRandomNeighbor(spaces);
+        return TurnOutcome.MOVED;
+      case 1:
+        return TurnOutcome.LOOKED_AROUND;
+      case 2:
+        Space currentSpace = currentSpace(spaces);
+        Item item = randomItemIn(currentSpace);
+        if (item == null || !addItem(item)) {
+          return TurnOutcome.PICKED_UP_NOTHING;
+        }
+        currentSpace.removeItem(item);
+        return new TurnOutcome(TurnAction.PICK_UP_ITEM, item.getItemName(), 0);
+      case 4:
+        movePetToRandomSpace(spaces, pet);
+        return TurnOutcome.MOVED_PET;
+      default:
+        return TurnOutcome.LOOKED_AROUND;
+    }
+  }
+
+  /**
+   * Plays a turn knowing all players of the game. A computer player choosing its actions
+   * randomly ignores the other players and plays like
+   * {@link #playTurn(List, TargetCharacter, Pet, boolean)}.
+   *
+   * @param spaces    The list of spaces in the world.
+   * @param players   The list of players in the game, in turn order.
+   * @param target    The target character.
+   * @param pet       The pet.
+   * @param canAttack Whether the player can attack the target unseen.
+   * @return The outcome of the turn.
+   */
+  public TurnOutcome playTurn(List<Space> spaces, List<Player> players,
+      TargetCharacter target, Pet pet, boolean canAttack) {
+    return playTurn(spaces, target, pet, canAttack);
+  }
+
+  /**
+   * Retrieves the outcome of the last turn this player took, whether it was played with
+   * {@link #takeTurn(List, List, TargetCharacter, Pet, Boolean)} or with
+   * {@link #playTurn(List, TargetCharacter, Pet, boolean)}.
+   *
+   * @return The outcome of the last turn, or null if the player has not taken a turn yet.
+   */
+  public TurnOutcome getLastTurnOutcome() {
+    return lastTurnOutcome;
+  }
+
+  /**
+   * Records the outcome of the turn a subclass has just played.
+   *
+   * @param outcome The outcome of the turn.
+   */
+  protected void setLastTurnOutcome(TurnOutcome outcome) {
+    this.lastTurnOutcome = outcome;
+  }
+
+  /**
+   * Randomly chooses one of the actions other than attacking.
+   *
+   * @return the chosen action
+   */
+  private int chooseAction() {
+    return NON_ATTACK_ACTIONS[randomGenerator.nextInt(NON_ATTACK_ACTIONS.length)];
+  }
+
+  /**
+   * Finds the carried item with the highest damage.
+   *
+   * @return the item, or null if the player carries no item dealing damage
+   */
+  private Item maxDamageItem() {
     Item maxDamageItem = null;
     int maxDamage = 0;
-    
     for (Item item : items) {
       if (item.getDamage() > maxDamage) {
         maxDamage = item.getDamage();
         maxDamageItem = item;
       }
     }
+    return maxDamageItem;
+  }
+
+  /**
+   * Attempts to attack the target character with the item with the highest
+   * damage. If no items are available, the player will attempt to attack with
+   * "poke".
+   *
+   * @param target The target character to attack.
+   * @return A string describing the attack attempt.
+   * @throws IllegalArgumentException if target is null
+   */
+  private String botMaxAttack(TargetCharacter target) {
+    if (target == null) {
+      throw new IllegalArgumentException("Target cannot be null");
+    }
+    // Find the item with max damage
+    Item maxDamageItem = maxDamageItem();
 
     // If no items found, use "poke", otherwise use the max damage item
     String itemToUse = (maxDamageItem != null) ? maxDamageItem.getItemName() : "poke";
-    return attack(itemToUse, target);
+    int healthBefore = target.getHealth();
+    String result = attack(itemToUse, target);
+    lastTurnOutcome = new TurnOutcome(TurnAction.ATTACK, itemToUse,
+        healthBefore - target.getHealth());
+    return result;
   }
 
   /**
@@ -88,11 +211,23 @@ public class ComputerPlayer extends AbstractPlayer {
    * @return A string describing the action taken.
    */
   private String movePetRandomly(List<Space> spaces, Pet pet) {
+    int moveTo = movePetToRandomSpace(spaces, pet);
+    lastTurnOutcome = TurnOutcome.MOVED_PET;
+    return String.format("%s moved pet to %s.", name, spaces.get(moveTo).getSpaceName());
+  }
+
+  /**
+   * Moves the pet to a random space other than its current one.
+   *
+   * @param spaces The list of spaces in the world.
+   * @param pet    The pet to move.
+   * @return The index of the space the pet moved to.
+   */
+  private int movePetToRandomSpace(List<Space> spaces, Pet pet) {
     int currentPetSpace = pet.getCurrentSpaceIndex();
     int moveTo = (currentPetSpace + 1 + randomGenerator.nextInt(spaces.size() - 1)) % spaces.size();
-    
     pet.setSpaceIndex(moveTo);
-    return String.format("%s moved pet to %s.", name, spaces.get(moveTo).getSpaceName());
+    return moveTo;
   }
   
   /**
@@ -102,19 +237,32 @@ public class ComputerPlayer extends AbstractPlayer {
    * @return A string describing the action taken.
    */
   private String moveRandomly(List<Space> spaces) {
-    if (spaces == null || currentSpaceIndex >= spaces.size()) {
-      throw new IllegalArgumentException("Invalid spaces");
-    }
-    List<Integer> neighbors = spaces.get(currentSpaceIndex).getNeighborIndices();
-    if (!neighbors.isEmpty()) {
-      int randomNeighborIndex = randomGenerator.nextInt(neighbors.size());
-      int destinationIndex = neighbors.get(randomNeighborIndex);
-      move(destinationIndex);
+    int destinationIndex = moveToRandomNeighbor(spaces);
+    lastTurnOutcome = TurnOutcome.MOVED;
+    if (destinationIndex >= 0) {
       return String.format("%s moved to %s.", name, spaces.get(destinationIndex).getSpaceName());
     }
     return String.format("%s couldn't move (no neighboring spaces).", name);
   }
 
+  /**
+   * Moves the player to a random neighboring space.
+   * 
+   * @param spaces The list of spaces in the world.
+   * @return The index of the space moved to, or -1 if there is no neighboring space.
+   */
+  private int moveToRandomNeighbor(List<Space> spaces) {
+    Space currentSpace = currentSpace(spaces);
+    int neighborCount = currentSpace.getNeighborCount();
+    if (neighborCount > 0) {
+      int randomNeighborIndex = randomGenerator.nextInt(neighborCount);
+      int destinationIndex = currentSpace.getNeighborIndex(randomNeighborIndex);
+      move(destinationIndex);
+      return destinationIndex;
+    }
+    return -1;
+  }
+
   /**
    * Looks around the current space, picking up a random item if available.
    *
@@ -125,22 +273,46 @@ public class ComputerPlayer extends AbstractPlayer {
    * @return A string describing the action taken.
    */
   private String pickUpRandomItem(List<Space> spaces) {
+    Space currentSpace = currentSpace(spaces);
+    Item randomItem = randomItemIn(currentSpace);
+    lastTurnOutcome = TurnOutcome.PICKED_UP_NOTHING;
+    if (randomItem == null) {
+      return String.format("%s looked for items, but found none.", name);
+    }
+    if (addItem(randomItem)) {
+      currentSpace.removeItem(randomItem);
+      lastTurnOutcome = new TurnOutcome(TurnAction.PICK_UP_ITEM, randomItem.getItemName(), 0);
+      return String.format("%s picked up %s.", name, randomItem.getItemName());
+    }
+    return String.format("%s tried to pick up %s, but couldn't carry more items.", name,
+        randomItem.getItemName());
+  }
+
+  /**
+   * Gets the space the player is in.
+   *
+   * @param spaces The list of spaces in the world.
+   * @return The current space.
+   */
+  private Space currentSpace(List<Space> spaces) {
     if (spaces == null || currentSpaceIndex >= spaces.size()) {
       throw new IllegalArgumentException("Invalid spaces");
     }
-    Space currentSpace = spaces.get(currentSpaceIndex);
-    List<Item> itemsInSpace = currentSpace.getItems();
-
-    if (!itemsInSpace.isEmpty()) {
-      Item randomItem = itemsInSpace.get(randomGenerator.nextInt(itemsInSpace.size()));
-      if (addItem(randomItem)) {
-        currentSpace.removeItem(randomItem);
-        return String.format("%s picked up %s.", name, randomItem.getItemName());
-      }
-      return String.format("%s tried to pick up %s, but couldn't carry more items.", name,
-          randomItem.getItemName());
+    return spaces.get(currentSpaceIndex);
+  }
+
+  /**
+   * Chooses a random item in a space.
+   *
+   * @param space The space.
+   * @return A copy of the chosen item, or null if the space holds no items.
+   */
+  private Item randomItemIn(Space space) {
+    List<Item> itemsInSpace = space.getItems();
+    if (itemsInSpace.isEmpty()) {
+      return null;
     }
-    return String.format("%s looked for items, but found none.", name);
+    return itemsInSpace.get(randomGenerator.nextInt(itemsInSpace.size()));
   }
   
   @Override
@@ -149,7 +321,7 @@ public class ComputerPlayer extends AbstractPlayer {
       this.getPlayerName(),
       this.getCurrentSpaceIndex(),
       this.maxItems,
-        new RandomGenerator() // New random generator for copy
+      randomGenerator.copy() // Same stream, without disturbing this player's own draws
     );
   }
 
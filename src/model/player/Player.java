@@ -31,6 +31,14 @@ public interface Player {
    */
   void setCurrentSpaceIndex(int spaceIndex);
 
+  /**
+   * Sets the listener notified whenever the player changes space, replacing any
+   * previous listener. Copies of the player do not keep the listener.
+   *
+   * @param listener the listener, or null to remove it
+   */
+  void setMoveListener(PlayerMoveListener listener);
+
   /**
    * Gets the list of items the player is carrying.
    *
@@ -38,6 +46,13 @@ public interface Player {
    */
   List<Item> getItems();
 
+  /**
+   * Retrieves the maximum number of items the player can carry.
+   *
+   * @return the maximum number of items, or -1 if the player has no limit
+   */
+  int getMaxItems();
+
   /**
    * Attempts to add an item to the player's inventory.
    *
@@ -0,0 +1,17 @@
+package model.player;
+
+/**
+ * A listener notified whenever a player changes space.
+ */
+@FunctionalInterface
+public interface PlayerMoveListener {
+
+  /**
+   * Called after a player has moved from one space to another.
+   *
+   * @param player         the player that moved
+   * @param fromSpaceIndex the index of the space the player left
+   * @param toSpaceIndex   the index of the space the player entered
+   */
+  void playerMoved(Player player, int fromSpaceIndex, int toSpaceIndex);
+}
@@ -1,22 +1,35 @@
 package model.player;
 
-
-import java.util.Random;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * A custom random number generator that can be used for both gameplay and testing.
  * It can either generate truly random numbers or return a predefined sequence of numbers.
+ *
+ * Random numbers come from a SplitMix64 stream, the algorithm behind
+ * {@link java.util.SplittableRandom}: the state is a single long advanced by a fixed odd
+ * increment and scrambled on output. A stream can be seeded so that it always produces
+ * the same numbers, and {@link #split()} derives a new, statistically independent stream
+ * from it. Creating a generator only takes a few arithmetic operations, and a generator is
+ * meant to be used by a single thread, so nothing is synchronized.
  */
 public class RandomGenerator {
-  private Random random;
+  private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+  private static final AtomicLong DEFAULT_SEEDS =
+      new AtomicLong(mix64(System.currentTimeMillis()) ^ mix64(System.nanoTime()));
+
+  private long seed;
+  private long gamma;
   private int[] predefinedNumbers;
   private int currentIndex;
 
   /**
-   * Default constructor that uses Java's Random class for truly random numbers.
+   * Default constructor that starts an unpredictable random stream.
    */
   public RandomGenerator() {
-    this.random = new Random();
+    long start = DEFAULT_SEEDS.getAndAdd(2 * GOLDEN_GAMMA);
+    this.seed = mix64(start);
+    this.gamma = mixGamma(start + GOLDEN_GAMMA);
     this.predefinedNumbers = null;
   }
 
@@ -30,6 +43,66 @@ public class RandomGenerator {
     this.currentIndex = 0;
   }
 
+  private RandomGenerator(long seed, long gamma) {
+    this.seed = seed;
+    this.gamma = gamma;
+    this.predefinedNumbers = null;
+  }
+
+  /**
+   * Creates a generator producing the same pseudo-random sequence for the same seed.
+   * 
+   * @param seed the seed of the sequence
+   * @return the seeded generator
+   */
+  public static RandomGenerator withSeed(long seed) {
+    return new RandomGenerator(seed, GOLDEN_GAMMA);
+  }
+
+  /**
+   * Derives a well-mixed seed from a base seed and an index, without stepping through the
+   * seeds before it, so that a batch of games can give every game an unrelated seed. The
+   * result is the index-th 64-bit value of the SplitMix64 stream started from the base
+   * seed.
+   *
+   * @param seed  the base seed
+   * @param index the index of the derived seed
+   * @return the derived seed
+   */
+  public static long deriveSeed(long seed, long index) {
+    return mix64(seed + (index + 1) * GOLDEN_GAMMA);
+  }
+
+  /**
+   * Derives a new generator whose random stream is independent of this one. Splitting
+   * advances this generator, so a seeded generator split in the same order always yields
+   * the same streams. A generator returning predefined numbers yields a generator that
+   * continues the same sequence from the current position, and is left unchanged.
+   *
+   * @return the new generator
+   */
+  public RandomGenerator split() {
+    if (predefinedNumbers != null) {
+      return copy();
+    }
+    return new RandomGenerator(mix64(nextSeed()), mixGamma(nextSeed()));
+  }
+
+  /**
+   * Creates a generator in exactly the same state as this one, which returns the same
+   * numbers from now on without affecting this generator.
+   *
+   * @return the copy
+   */
+  public RandomGenerator copy() {
+    if (predefinedNumbers != null) {
+      RandomGenerator copy = new RandomGenerator(predefinedNumbers);
+      copy.currentIndex = currentIndex;
+      return copy;
+    }
+    return new RandomGenerator(seed, gamma);
+  }
+
   /**
    * Generates the next random or predefined number.
    * 
@@ -41,7 +114,7 @@ public class RandomGenerator {
       currentIndex = (currentIndex + 1) % predefinedNumbers.length;
       return result;
     } else {
-      return random.nextInt();
+      return mix32(nextSeed());
     }
   }
 
@@ -50,14 +123,52 @@ public class RandomGenerator {
    * 
    * @param bound the upper bound (exclusive) for the random number
    * @return the next integer in the sequence or a random integer within the specified range
+   * @throws IllegalArgumentException if bound is not positive
    */
   public int nextInt(int bound) {
     if (predefinedNumbers != null) {
       int result = predefinedNumbers[currentIndex] % bound;
       currentIndex = (currentIndex + 1) % predefinedNumbers.length;
       return Math.abs(result);
-    } else {
-      return random.nextInt(bound);
     }
+    if (bound <= 0) {
+      throw new IllegalArgumentException("bound must be positive");
+    }
+    int result = mix32(nextSeed());
+    int mask = bound - 1;
+    if ((bound & mask) == 0) {
+      return result & mask;
+    }
+    // Reject the few values that would make the lower results more likely.
+    for (int u = result >>> 1; u + mask - (result = u % bound) < 0; u = mix32(nextSeed()) >>> 1) {
+      // Draw again
+    }
+    return result;
+  }
+
+  private long nextSeed() {
+    return seed += gamma;
+  }
+
+  private static long mix64(long z) {
+    z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+    z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+    return z ^ (z >>> 31);
+  }
+
+  private static int mix32(long z) {
+    z = (z ^ (z >>> 33)) * 0x62A9D9ED799705F5L;
+    return (int) (((z ^ (z >>> 28)) * 0xCB24D0A5C88C35B3L) >>> 32);
+  }
+
+  /**
+   * Turns a value into an odd increment with enough bit transitions to give a good stream.
+   */
+  private static long mixGamma(long z) {
+    z = (z ^ (z >>> 33)) * 0xFF51AFD7ED558CCDL;
+    z = (z ^ (z >>> 33)) * 0xC4CEB9FE1A85EC53L;
+    z = (z ^ (z >>> 33)) | 1L;
+    int transitions = Long.bitCount(z ^ (z >>> 1));
+    return transitions < 24 ? z ^ 0xAAAAAAAAAAAAAAAAL : z;
   }
 }
@@ -0,0 +1,286 @@
+package model.player;
+
+import java.util.List;
+import model.item.Item;
+import model.pet.Pet;
+import model.space.DistanceTable;
+import model.space.Space;
+import model.target.TargetCharacter;
+
+/**
+ * A computer player that hunts the target character instead of acting randomly.
+ *
+ * The target character moves to the next space in index order after every turn, so the
+ * space it will be in at any later turn of this player is known in advance. On each turn
+ * the player looks for the earliest of its own turns at which it can stand in the same
+ * space as the target, using the distance table of the world, and takes one step along a
+ * shortest way there. Turns it can spare on the way are spent parking the pet so that it
+ * will be in the meeting space, which hides the attack from other players, and on picking
+ * up the most damaging items in reach. Whenever the target cannot be reached at all, the
+ * player acts randomly like any other computer player.
+ */
+public class StrategicComputerPlayer extends ComputerPlayer {
+  /** The most turns ahead of the meeting at which the player considers parking the pet. */
+  static final int PET_ROUNDS = 2;
+
+  private final DistanceTable distances;
+
+  /**
+   * Creates a new strategic computer player.
+   *
+   * @param name              The name of the player.
+   * @param currentSpaceIndex The index of the space the player is currently on.
+   * @param maxItems          The maximum number of items the player can carry.
+   * @param randomGenerator   The random generator used when the target cannot be reached.
+   * @param distances         The distances between the spaces of the world.
+   * @throws IllegalArgumentException if distances is null
+   */
+  public StrategicComputerPlayer(String name, int currentSpaceIndex, int maxItems,
+      RandomGenerator randomGenerator, DistanceTable distances) {
+    super(name, currentSpaceIndex, maxItems, randomGenerator);
+    if (distances == null) {
+      throw new IllegalArgumentException("Distances cannot be null");
+    }
+    this.distances = distances;
+  }
+
+  @Override
+  public String takeTurn(List<Space> spaces, List<Player> players,
+      TargetCharacter target, Pet pet, Boolean canAttack) {
+    Plan plan = canAttack ? null : plan(spaces, players, target, pet);
+    if (plan == null) {
+      return super.takeTurn(spaces, players, target, pet, canAttack);
+    }
+    setLastTurnOutcome(follow(plan, spaces, pet));
+    switch (plan.action) {
+      case MOVE:
+        return String.format("%s moved to %s.", name, spaces.get(plan.space).getSpaceName());
+      case PICK_UP_ITEM:
+        return String.format("%s picked up %s.", name, plan.item.getItemName());
+      case MOVE_PET:
+        return String.format("%s moved pet to %s.", name, spaces.get(plan.space).getSpaceName());
+      default:
+        return lookAround(spaces, players, target, pet);
+    }
+  }
+
+  @Override
+  public TurnOutcome playTurn(List<Space> spaces, TargetCharacter target, Pet pet,
+      boolean canAttack) {
+    return playTurn(spaces, null, target, pet, canAttack);
+  }
+
+  @Override
+  public TurnOutcome playTurn(List<Space> spaces, List<Player> players,
+      TargetCharacter target, Pet pet, boolean canAttack) {
+    Plan plan = canAttack ? null : plan(spaces, players, target, pet);
+    if (plan == null) {
+      return super.playTurn(spaces, target, pet, canAttack);
+    }
+    TurnOutcome outcome = follow(plan, spaces, pet);
+    setLastTurnOutcome(outcome);
+    return outcome;
+  }
+
+  /**
+   * Carries out a planned action.
+   *
+   * @param plan   The action chosen for the turn.
+   * @param spaces The list of spaces in the world.
+   * @param pet    The pet, or null if there is none.
+   * @return The outcome of the turn.
+   */
+  private TurnOutcome follow(Plan plan, List<Space> spaces, Pet pet) {
+    switch (plan.action) {
+      case MOVE:
+        move(plan.space);
+        return TurnOutcome.MOVED;
+      case PICK_UP_ITEM:
+        pickUp(spaces.get(currentSpaceIndex), plan.item);
+        return new TurnOutcome(TurnAction.PICK_UP_ITEM, plan.item.getItemName(), 0);
+      case MOVE_PET:
+        pet.setSpaceIndex(plan.space);
+        return TurnOutcome.MOVED_PET;
+      default:
+        return TurnOutcome.LOOKED_AROUND;
+    }
+  }
+
+  /**
+   * Chooses the action of a turn in which the player cannot attack.
+   *
+   * @param spaces  The list of spaces in the world.
+   * @param players The list of players in the game, or null if the player plays alone.
+   * @param target  The target character.
+   * @param pet     The pet, or null if there is none.
+   * @return The chosen action, or null if the target cannot be reached.
+   */
+  private Plan plan(List<Space> spaces, List<Player> players, TargetCharacter target,
+      Pet pet) {
+    if (spaces == null || currentSpaceIndex >= spaces.size()) {
+      throw new IllegalArgumentException("Invalid spaces");
+    }
+    int spaceCount = spaces.size();
+    if (target == null || distances.size() != spaceCount) {
+      return null;
+    }
+    int turnsPerRound = players == null || players.isEmpty() ? 1 : players.size();
+
+    // The target moves once after every turn, so after i rounds it is i * turnsPerRound
+    // spaces further. Every position repeats within spaceCount rounds.
+    int rounds = -1;
+    int meeting = -1;
+    int distance = -1;
+    for (int i = 1; i <= 2 * spaceCount && rounds < 0; i++) {
+      int space = (int) ((target.getCurrentSpaceIndex() + (long) i * turnsPerRound)
+          % spaceCount);
+      int d = distances.distance(currentSpaceIndex, space);
+      if (d >= 0 && d <= i) {
+        rounds = i;
+        meeting = space;
+        distance = d;
+      }
+    }
+    if (rounds < 0) {
+      return null;
+    }
+
+    int spare = rounds - distance;
+    if (spare > 0) {
+      if (turnsPerRound > 1 && pet != null && rounds <= PET_ROUNDS) {
+        int parking = petParking(spaces, pet, meeting, rounds * turnsPerRound);
+        if (parking >= 0) {
+          return new Plan(TurnAction.MOVE_PET, parking, null);
+        }
+      }
+      Item item = bestItemIn(spaces.get(currentSpaceIndex));
+      if (item != null) {
+        return new Plan(TurnAction.PICK_UP_ITEM, currentSpaceIndex, item);
+      }
+      if (spare > 1) {
+        int detour = itemDetour(spaces, meeting, rounds);
+        if (detour >= 0) {
+          return new Plan(TurnAction.MOVE, detour, null);
+        }
+      }
+    }
+    if (distance == 0) {
+      return new Plan(TurnAction.LOOK_AROUND, currentSpaceIndex, null);
+    }
+    return new Plan(TurnAction.MOVE, distances.nextHop(currentSpaceIndex, meeting), null);
+  }
+
+  /**
+   * Finds where to move the pet so that it is in the meeting space when the player gets
+   * there. The pet keeps walking its depth-first route after every turn, and restarts it
+   * from the space it is moved to, so its position after a number of steps is known.
+   *
+   * @param spaces  The list of spaces in the world.
+   * @param pet     The pet.
+   * @param meeting The index of the meeting space.
+   * @param steps   The number of pet steps until the player attacks.
+   * @return The index of the space to move the pet to, or -1 if the pet will be in the
+   *         meeting space anyway or cannot be parked so that it gets there.
+   */
+  private static int petParking(List<Space> spaces, Pet pet, int meeting, int steps) {
+    Pet probe = pet.copy();
+    probe.restoreDfs(pet.getCurrentSpaceIndex(), pet.getDfsPath(), pet.getVisitedSpaces());
+    if (walk(spaces, probe, steps) == meeting) {
+      return -1;
+    }
+    Space space = spaces.get(meeting);
+    for (int k = -1; k < space.getNeighborCount(); k++) {
+      int candidate = k < 0 ? meeting : space.getNeighborIndex(k);
+      probe.setSpaceIndex(candidate);
+      if (walk(spaces, probe, steps) == meeting) {
+        return candidate;
+      }
+    }
+    return -1;
+  }
+
+  private static int walk(List<Space> spaces, Pet pet, int steps) {
+    for (int step = 0; step < steps; step++) {
+      pet.moveFollowingDfs(spaces);
+    }
+    return pet.getCurrentSpaceIndex();
+  }
+
+  /**
+   * Finds a neighboring space holding a damaging item, from which the player can still
+   * pick the item up and reach the meeting space in time.
+   *
+   * @param spaces  The list of spaces in the world.
+   * @param meeting The index of the meeting space.
+   * @param rounds  The number of turns of the player until the meeting.
+   * @return The index of the neighbor with the most damaging item, or -1 if there is none.
+   */
+  private int itemDetour(List<Space> spaces, int meeting, int rounds) {
+    Space space = spaces.get(currentSpaceIndex);
+    int detour = -1;
+    int bestDamage = 0;
+    for (int k = 0; k < space.getNeighborCount(); k++) {
+      int neighbor = space.getNeighborIndex(k);
+      Item item = neighbor < spaces.size() ? bestItemIn(spaces.get(neighbor)) : null;
+      if (item != null && item.getDamage() > bestDamage) {
+        // Neighbors are symmetric, so one row from the meeting space answers every
+        // neighbor.
+        int d = distances.distance(meeting, neighbor);
+        // One turn to step there and one to pick the item up.
+        if (d >= 0 && d + 2 <= rounds) {
+          detour = neighbor;
+          bestDamage = item.getDamage();
+        }
+      }
+    }
+    return detour;
+  }
+
+  /**
+   * Finds the most damaging item in a space, if the player can carry another item.
+   *
+   * @param space The space.
+   * @return The item, or null if the space holds no damaging item or the player cannot
+   *         carry more.
+   */
+  private Item bestItemIn(Space space) {
+    if (maxItems >= 0 && items.size() >= maxItems) {
+      return null;
+    }
+    Item best = null;
+    for (Item item : space.getItems()) {
+      if (item.getDamage() > 0 && (best == null || item.getDamage() > best.getDamage())) {
+        best = item;
+      }
+    }
+    return best;
+  }
+
+  private void pickUp(Space space, Item item) {
+    if (addItem(item)) {
+      space.removeItem(item);
+    }
+  }
+
+  @Override
+  protected Player createCopy() {
+    return new StrategicComputerPlayer(getPlayerName(), getCurrentSpaceIndex(), maxItems,
+        randomGenerator.copy(), distances);
+  }
+
+  /**
+   * An action chosen for a turn: what to do, the space it involves and the item to pick
+   * up, if any.
+   */
+  private static final class Plan {
+    private final TurnAction action;
+    private final int space;
+    private final Item item;
+
+    private Plan(TurnAction action, int space, Item item) {
+      this.action = action;
+      this.space = space;
+      this.item = item;
+    }
+  }
+}
@@ -0,0 +1,17 @@
+package model.player;
+
+/**
+ * The actions a computer player can take on its turn.
+ */
+public enum TurnAction {
+  /** Moved to a random neighboring space. */
+  MOVE,
+  /** Looked around the current space. */
+  LOOK_AROUND,
+  /** Tried to pick up a random item in the current space. */
+  PICK_UP_ITEM,
+  /** Moved the pet to another space. */
+  MOVE_PET,
+  /** Attacked the target character. */
+  ATTACK
+}
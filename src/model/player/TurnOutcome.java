@@ -0,0 +1,76 @@
+package model.player;
+
+/**
+ * The structured outcome of a computer player's turn, reported instead of a text
+ * description when games are simulated. Outcomes without an item or damage are shared
+ * constants, so that most turns do not allocate.
+ */
+public final class TurnOutcome {
+  /** The outcome of a move to a neighboring space, or of a failed attempt to move. */
+  public static final TurnOutcome MOVED = new TurnOutcome(TurnAction.MOVE, null, 0);
+  /** The outcome of looking around. */
+  public static final TurnOutcome LOOKED_AROUND =
+      new TurnOutcome(TurnAction.LOOK_AROUND, null, 0);
+  /** The outcome of a pick-up attempt that did not pick anything up. */
+  public static final TurnOutcome PICKED_UP_NOTHING =
+      new TurnOutcome(TurnAction.PICK_UP_ITEM, null, 0);
+  /** The outcome of moving the pet. */
+  public static final TurnOutcome MOVED_PET = new TurnOutcome(TurnAction.MOVE_PET, null, 0);
+
+  private final TurnAction action;
+  private final String itemName;
+  private final int damage;
+
+  /**
+   * Creates a turn outcome.
+   *
+   * @param action   the action taken
+   * @param itemName the item picked up or used to attack, or null if none
+   * @param damage   the damage dealt to the target character
+   * @throws IllegalArgumentException if action is null or damage is negative
+   */
+  public TurnOutcome(TurnAction action, String itemName, int damage) {
+    if (action == null) {
+      throw new IllegalArgumentException("Action cannot be null");
+    }
+    if (damage < 0) {
+      throw new IllegalArgumentException("Damage cannot be negative");
+    }
+    this.action = action;
+    this.itemName = itemName;
+    this.damage = damage;
+  }
+
+  /**
+   * Gets the action taken.
+   *
+   * @return the action
+   */
+  public TurnAction getAction() {
+    return action;
+  }
+
+  /**
+   * Gets the item picked up, or the item used to attack ("poke" for a poke in the eye).
+   *
+   * @return the item name, or null if no item was involved
+   */
+  public String getItemName() {
+    return itemName;
+  }
+
+  /**
+   * Gets the damage dealt to the target character.
+   *
+   * @return the damage dealt
+   */
+  public int getDamage() {
+    return damage;
+  }
+
+  @Override
+  public String toString() {
+    return String.format("TurnOutcome{action=%s, item=%s, damage=%d}", action, itemName,
+        damage);
+  }
+}
@@ -0,0 +1,340 @@
+package model.save;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileNotFoundException;
+import java.io.FileOutputStream;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import model.event.GameEvent;
+import model.event.GameEventLog;
+import model.event.GameEventReader;
+import model.event.GameEventSink;
+import model.event.GameEventType;
+import model.event.GameReplayer;
+import model.world.WorldImpl;
+
+/**
+ * Saves a running game to a directory as periodic full snapshots, each followed by the log
+ * of the events played after it, so that a crash loses at most the turn being played.
+ *
+ * The saver is given to the game as its event sink. Every event goes to a background
+ * thread that appends it to the current delta log, which is flushed at the end of every
+ * turn. Every few turns the state of the game is copied into a {@link GameSnapshot} on the
+ * game thread, which only copies memory, and the background thread writes it to a
+ * temporary file, moves it into place, starts a new delta log and deletes the older
+ * files. The game thread never waits for the disk.
+ *
+ * Snapshot number n is stored as snapshot-n.kdls and the events after it as
+ * deltas-n.kdle. The older files are only deleted once a new snapshot is in place, so the
+ * directory always restores to the latest complete turn. The first failed write stops the
+ * saving, and is reported by {@link #flush()} and {@link #close()}.
+ */
+public final class GameSaver implements GameEventSink, Flushable, Closeable {
+  private static final String SNAPSHOT_PREFIX = "snapshot-";
+  private static final String SNAPSHOT_SUFFIX = ".kdls";
+  private static final String DELTAS_PREFIX = "deltas-";
+  private static final String DELTAS_SUFFIX = ".kdle";
+  private static final int BUFFER_SIZE = 64 * 1024;
+
+  private final WorldImpl world;
+  private final File directory;
+  private final int snapshotInterval;
+  private final ExecutorService writer;
+  private long sequence;
+  private GameEventLog deltas;
+  private volatile IOException failure;
+
+  /**
+   * Creates a saver for a game and writes a first snapshot of it. Numbering continues
+   * after any snapshot already in the directory, so a restored game can be saved to the
+   * directory it was restored from.
+   *
+   * @param world            the world of the game
+   * @param directory        the directory of the save files, created if missing
+   * @param snapshotInterval the number of turns between two snapshots
+   * @throws IOException if the directory cannot be created
+   * @throws IllegalArgumentException if world or directory is null, or the interval is
+   *                                  not positive
+   */
+  public GameSaver(WorldImpl world, File directory, int snapshotInterval) throws IOException {
+    if (world == null || directory == null) {
+      throw new IllegalArgumentException("World and directory cannot be null");
+    }
+    if (snapshotInterval <= 0) {
+      throw new IllegalArgumentException("Snapshot interval must be positive");
+    }
+    if (!directory.isDirectory() && !directory.mkdirs()) {
+      throw new IOException("Cannot create directory: " + directory);
+    }
+    this.world = world;
+    this.directory = directory;
+    this.snapshotInterval = snapshotInterval;
+    this.writer = Executors.newSingleThreadExecutor(task -> {
+      Thread thread = new Thread(task, "game-saver");
+      thread.setDaemon(true);
+      return thread;
+    });
+    List<Long> existing = snapshotSequences(directory);
+    this.sequence = existing.isEmpty() ? 0 : existing.get(existing.size() - 1) + 1;
+    this.deltas = null;
+    this.failure = null;
+    snapshot();
+  }
+
+  /**
+   * Passes an event to the background thread, and takes a snapshot when it ends a turn
+   * that is a multiple of the snapshot interval.
+   *
+   * @param event the event
+   * @throws IllegalArgumentException if event is null
+   * @throws IllegalStateException if the saver is closed
+   */
+  @Override
+  public void append(GameEvent event) {
+    if (event == null) {
+      throw new IllegalArgumentException("Event cannot be null");
+    }
+    boolean endsTurn = event.getType() == GameEventType.TURN_ADVANCE;
+    submit(() -> {
+      if (deltas != null) {
+        deltas.append(event);
+        if (endsTurn) {
+          deltas.flush();
+        }
+      }
+    });
+    if (endsTurn && event.getValue() % snapshotInterval == 0) {
+      snapshot();
+    }
+  }
+
+  /**
+   * Copies the current state of the game and writes it as a new snapshot in the
+   * background. Later events go to the delta log of the new snapshot.
+   *
+   * @throws IllegalStateException if the saver is closed
+   */
+  public void snapshot() {
+    GameSnapshot snapshot = GameSnapshot.of(world);
+    long number = sequence++;
+    submit(() -> {
+      File target = file(directory, SNAPSHOT_PREFIX, number, SNAPSHOT_SUFFIX);
+      File temporary = new File(directory, target.getName() + ".tmp");
+      try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(
+          new FileOutputStream(temporary), BUFFER_SIZE))) {
+        snapshot.write(out);
+      }
+      try {
+        Files.move(temporary.toPath(), target.toPath(), StandardCopyOption.REPLACE_EXISTING,
+            StandardCopyOption.ATOMIC_MOVE);
+      } catch (AtomicMoveNotSupportedException e) {
+        Files.move(temporary.toPath(), target.toPath(), StandardCopyOption.REPLACE_EXISTING);
+      }
+      GameEventLog next = new GameEventLog(file(directory, DELTAS_PREFIX, number,
+          DELTAS_SUFFIX));
+      if (deltas != null) {
+        deltas.close();
+      }
+      deltas = next;
+      for (long older : snapshotSequences(directory)) {
+        if (older < number) {
+          Files.deleteIfExists(file(directory, SNAPSHOT_PREFIX, older, SNAPSHOT_SUFFIX)
+              .toPath());
+          Files.deleteIfExists(file(directory, DELTAS_PREFIX, older, DELTAS_SUFFIX).toPath());
+        }
+      }
+    });
+  }
+
+  /**
+   * Waits until everything passed to the saver so far is written and flushed.
+   *
+   * @throws IOException if a write failed
+   * @throws IllegalStateException if the saver is closed
+   */
+  @Override
+  public void flush() throws IOException {
+    try {
+      submit(() -> {
+        if (deltas != null) {
+          deltas.flush();
+        }
+      }).get();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IOException("Interrupted while saving.", e);
+    } catch (ExecutionException e) {
+      throw new IOException("Saving failed.", e.getCause());
+    }
+    throwFailure();
+  }
+
+  /**
+   * Writes everything passed to the saver so far, then stops the background thread and
+   * closes the delta log.
+   *
+   * @throws IOException if a write failed
+   */
+  @Override
+  public void close() throws IOException {
+    if (writer.isShutdown()) {
+      return;
+    }
+    try {
+      submit(() -> {
+        if (deltas != null) {
+          deltas.close();
+          deltas = null;
+        }
+      });
+    } finally {
+      writer.shutdown();
+    }
+    try {
+      writer.awaitTermination(Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IOException("Interrupted while saving.", e);
+    }
+    throwFailure();
+  }
+
+  private Future<?> submit(IoTask task) {
+    try {
+      return writer.submit(() -> {
+        if (failure != null) {
+          return;
+        }
+        try {
+          task.run();
+        } catch (IOException e) {
+          failure = e;
+        } catch (UncheckedIOException e) {
+          failure = e.getCause();
+        }
+      });
+    } catch (RejectedExecutionException e) {
+      throw new IllegalStateException("The saver is closed.", e);
+    }
+  }
+
+  private void throwFailure() throws IOException {
+    IOException e = failure;
+    if (e != null) {
+      throw e;
+    }
+  }
+
+  /**
+   * Restores a saved game into a world freshly loaded from the same specification. The
+   * newest readable snapshot is applied, followed by the events logged after it. If the
+   * delta log was cut short by a crash, only its complete turns are applied.
+   *
+   * @param directory the directory of the save files
+   * @param world     the world, without players and with its target at full health
+   * @return the given world, in the saved state
+   * @throws IOException if the directory holds no readable snapshot
+   * @throws IllegalArgumentException if an argument is null or the save does not fit the
+   *                                  world
+   * @throws IllegalStateException if a logged event does not match the world
+   */
+  public static WorldImpl restore(File directory, WorldImpl world) throws IOException {
+    if (directory == null || world == null) {
+      throw new IllegalArgumentException("Directory and world cannot be null");
+    }
+    List<Long> sequences = snapshotSequences(directory);
+    IOException unreadable = null;
+    for (int k = sequences.size() - 1; k >= 0; k--) {
+      long number = sequences.get(k);
+      GameSnapshot snapshot;
+      try (DataInputStream in = new DataInputStream(new BufferedInputStream(
+          new FileInputStream(file(directory, SNAPSHOT_PREFIX, number, SNAPSHOT_SUFFIX))))) {
+        snapshot = GameSnapshot.read(in);
+      } catch (IOException e) {
+        unreadable = e;
+        continue;
+      }
+      snapshot.applyTo(world);
+      for (GameEvent event : readDeltas(file(directory, DELTAS_PREFIX, number,
+          DELTAS_SUFFIX))) {
+        GameReplayer.apply(world, event);
+      }
+      return world;
+    }
+    throw new IOException("No readable snapshot in " + directory, unreadable);
+  }
+
+  /**
+   * Reads the events of a delta log that can be trusted: all of them when the log ends
+   * cleanly, and only those up to the last complete turn when it is damaged.
+   */
+  private static List<GameEvent> readDeltas(File file) throws IOException {
+    List<GameEvent> events = new ArrayList<>();
+    int complete = 0;
+    try (GameEventReader reader = new GameEventReader(new FileInputStream(file))) {
+      GameEvent event;
+      while ((event = reader.next()) != null) {
+        events.add(event);
+        if (event.getType() == GameEventType.TURN_ADVANCE) {
+          complete = events.size();
+        }
+      }
+      return events;
+    } catch (FileNotFoundException e) {
+      // The game stopped right after the snapshot was written.
+      return events;
+    } catch (IOException e) {
+      return events.subList(0, complete);
+    }
+  }
+
+  private static List<Long> snapshotSequences(File directory) {
+    List<Long> sequences = new ArrayList<>();
+    String[] names = directory.list();
+    if (names == null) {
+      return sequences;
+    }
+    for (String name : names) {
+      if (name.startsWith(SNAPSHOT_PREFIX) && name.endsWith(SNAPSHOT_SUFFIX)) {
+        try {
+          sequences.add(Long.parseLong(name.substring(SNAPSHOT_PREFIX.length(),
+              name.length() - SNAPSHOT_SUFFIX.length())));
+        } catch (NumberFormatException e) {
+          // Not one of our files.
+        }
+      }
+    }
+    sequences.sort(null);
+    return sequences;
+  }
+
+  private static File file(File directory, String prefix, long number, String suffix) {
+    return new File(directory, prefix + number + suffix);
+  }
+
+  /**
+   * A write run on the background thread.
+   */
+  @FunctionalInterface
+  private interface IoTask {
+    void run() throws IOException;
+  }
+}
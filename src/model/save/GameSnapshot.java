@@ -0,0 +1,295 @@
+package model.save;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.List;
+import model.item.Item;
+import model.item.ItemImpl;
+import model.pet.Pet;
+import model.player.ComputerPlayer;
+import model.player.HumanPlayer;
+import model.player.Player;
+import model.player.RandomGenerator;
+import model.space.Space;
+import model.target.TargetCharacter;
+import model.world.WorldImpl;
+
+/**
+ * A full copy of the mutable state of a game: the players with their items and spaces,
+ * the items left in every space, the health and space of the target character, the space
+ * of the pet with the state of its depth-first walk, the turn, the current player, the
+ * maximum number of turns and the winner.
+ *
+ * The layout of the world is not part of a snapshot; it is applied to a world freshly
+ * loaded from the same specification. The random streams of computer players are not
+ * saved either, so restored computer players start new streams.
+ */
+public final class GameSnapshot {
+  /** The first four bytes of every snapshot file: "KDLS". */
+  static final int MAGIC = 0x4B444C53;
+  /** The version of the layout written by this class. */
+  static final int VERSION = 1;
+
+  private final int turn;
+  private final int currentPlayerIndex;
+  private final int maxTurns;
+  private final String winner;
+  private final int targetHealth;
+  private final int targetSpace;
+  private final int petSpace;
+  private final List<Integer> petPath;
+  private final BitSet petVisited;
+  private final List<PlayerState> players;
+  private final List<List<Item>> spaceItems;
+
+  private GameSnapshot(int turn, int currentPlayerIndex, int maxTurns, String winner,
+      int targetHealth, int targetSpace, int petSpace, List<Integer> petPath,
+      BitSet petVisited, List<PlayerState> players, List<List<Item>> spaceItems) {
+    this.turn = turn;
+    this.currentPlayerIndex = currentPlayerIndex;
+    this.maxTurns = maxTurns;
+    this.winner = winner;
+    this.targetHealth = targetHealth;
+    this.targetSpace = targetSpace;
+    this.petSpace = petSpace;
+    this.petPath = petPath;
+    this.petVisited = petVisited;
+    this.players = players;
+    this.spaceItems = spaceItems;
+  }
+
+  /**
+   * Takes a snapshot of the current state of a game. Only copies are kept, so the game can
+   * go on while the snapshot is written.
+   *
+   * @param world the world of the game
+   * @return the snapshot
+   * @throws IllegalArgumentException if world is null
+   */
+  public static GameSnapshot of(WorldImpl world) {
+    if (world == null) {
+      throw new IllegalArgumentException("World cannot be null");
+    }
+    List<PlayerState> players = new ArrayList<>();
+    for (Player player : world.getPlayers()) {
+      players.add(new PlayerState(player.getPlayerName(), player.isComputer(),
+          player.getCurrentSpaceIndex(), player.getMaxItems(), player.getItems()));
+    }
+    List<List<Item>> spaceItems = new ArrayList<>();
+    for (Space space : world.getSpaces()) {
+      spaceItems.add(space.getItems());
+    }
+    TargetCharacter target = world.getTargetCharacter();
+    Pet pet = world.getPet();
+    return new GameSnapshot(world.getCurrentTurn(), world.getCurrentPlayerIndex(),
+        world.getMaxTurns(), world.getWinner(), target.getHealth(),
+        target.getCurrentSpaceIndex(), pet.getCurrentSpaceIndex(), pet.getDfsPath(),
+        pet.getVisitedSpaces(), players, spaceItems);
+  }
+
+  /**
+   * Gets the turn the snapshot was taken at.
+   *
+   * @return the turn number
+   */
+  public int getTurn() {
+    return turn;
+  }
+
+  /**
+   * Puts the saved state into a world freshly loaded from the same specification.
+   *
+   * @param world the world, without players and with its target at full health
+   * @throws IllegalArgumentException if world is null or does not fit the snapshot
+   */
+  public void applyTo(WorldImpl world) {
+    if (world == null) {
+      throw new IllegalArgumentException("World cannot be null");
+    }
+    if (world.getPlayerCount() != 0) {
+      throw new IllegalArgumentException("The world already has players.");
+    }
+    List<Space> spaces = world.getSpaces();
+    if (spaces.size() != spaceItems.size()) {
+      throw new IllegalArgumentException("The snapshot was taken on another world.");
+    }
+    TargetCharacter target = world.getTargetCharacter();
+    if (target.getHealth() < targetHealth) {
+      throw new IllegalArgumentException("The target character has less health than saved.");
+    }
+
+    for (int i = 0; i < spaces.size(); i++) {
+      Space space = spaces.get(i);
+      for (Item item : space.getItems()) {
+        space.removeItem(item);
+      }
+      for (Item item : spaceItems.get(i)) {
+        space.addItem(item.copy());
+      }
+    }
+    for (PlayerState state : players) {
+      Player player = state.computer
+          ? new ComputerPlayer(state.name, state.space, state.maxItems, new RandomGenerator())
+          : new HumanPlayer(state.name, state.space, state.maxItems);
+      for (Item item : state.items) {
+        player.addItem(item.copy());
+      }
+      world.addPlayer(player);
+    }
+    target.takeDamage(target.getHealth() - targetHealth);
+    target.setCurrentSpaceIndex(targetSpace);
+    world.getPet().restoreDfs(petSpace, petPath, petVisited);
+    world.restoreTurn(turn, currentPlayerIndex);
+    if (maxTurns > 0) {
+      world.setMaxTurns(maxTurns);
+    }
+    if (winner != null) {
+      world.setWinner(winner);
+    }
+  }
+
+  /**
+   * Writes the snapshot.
+   *
+   * @param out the output to write to
+   * @throws IOException if writing fails
+   */
+  public void write(DataOutputStream out) throws IOException {
+    out.writeInt(MAGIC);
+    out.writeInt(VERSION);
+    out.writeInt(turn);
+    out.writeInt(currentPlayerIndex);
+    out.writeInt(maxTurns);
+    out.writeBoolean(winner != null);
+    if (winner != null) {
+      out.writeUTF(winner);
+    }
+    out.writeInt(targetHealth);
+    out.writeInt(targetSpace);
+    out.writeInt(petSpace);
+    out.writeInt(petPath.size());
+    for (int space : petPath) {
+      out.writeInt(space);
+    }
+    long[] visited = petVisited.toLongArray();
+    out.writeInt(visited.length);
+    for (long word : visited) {
+      out.writeLong(word);
+    }
+    out.writeInt(players.size());
+    for (PlayerState player : players) {
+      out.writeUTF(player.name);
+      out.writeBoolean(player.computer);
+      out.writeInt(player.space);
+      out.writeInt(player.maxItems);
+      writeItems(player.items, out);
+    }
+    out.writeInt(spaceItems.size());
+    for (List<Item> items : spaceItems) {
+      writeItems(items, out);
+    }
+    out.flush();
+  }
+
+  /**
+   * Reads a snapshot.
+   *
+   * @param in the input to read from
+   * @return the snapshot
+   * @throws IOException if reading fails, the input is not a snapshot, or it was written
+   *                     with an unsupported version
+   */
+  public static GameSnapshot read(DataInputStream in) throws IOException {
+    if (in.readInt() != MAGIC) {
+      throw new IOException("Not a game snapshot.");
+    }
+    int version = in.readInt();
+    if (version != VERSION) {
+      throw new IOException("Unsupported snapshot version: " + version);
+    }
+    int turn = in.readInt();
+    int currentPlayerIndex = in.readInt();
+    int maxTurns = in.readInt();
+    String winner = in.readBoolean() ? in.readUTF() : null;
+    int targetHealth = in.readInt();
+    int targetSpace = in.readInt();
+    int petSpace = in.readInt();
+    List<Integer> petPath = new ArrayList<>();
+    for (int k = readCount(in); k > 0; k--) {
+      petPath.add(in.readInt());
+    }
+    long[] visited = new long[readCount(in)];
+    for (int k = 0; k < visited.length; k++) {
+      visited[k] = in.readLong();
+    }
+    List<PlayerState> players = new ArrayList<>();
+    for (int k = readCount(in); k > 0; k--) {
+      String name = in.readUTF();
+      boolean computer = in.readBoolean();
+      int space = in.readInt();
+      int maxItems = in.readInt();
+      players.add(new PlayerState(name, computer, space, maxItems, readItems(in)));
+    }
+    List<List<Item>> spaceItems = new ArrayList<>();
+    for (int k = readCount(in); k > 0; k--) {
+      spaceItems.add(readItems(in));
+    }
+    return new GameSnapshot(turn, currentPlayerIndex, maxTurns, winner, targetHealth,
+        targetSpace, petSpace, petPath, BitSet.valueOf(visited), players, spaceItems);
+  }
+
+  private static void writeItems(List<Item> items, DataOutputStream out) throws IOException {
+    out.writeInt(items.size());
+    for (Item item : items) {
+      out.writeUTF(item.getItemName());
+      out.writeInt(item.getDamage());
+      out.writeInt(item.getSpaceIndex());
+    }
+  }
+
+  private static List<Item> readItems(DataInputStream in) throws IOException {
+    List<Item> items = new ArrayList<>();
+    for (int k = readCount(in); k > 0; k--) {
+      String name = in.readUTF();
+      int damage = in.readInt();
+      int space = in.readInt();
+      try {
+        items.add(new ItemImpl(name, damage, space));
+      } catch (IllegalArgumentException e) {
+        throw new IOException("Invalid item: " + e.getMessage(), e);
+      }
+    }
+    return items;
+  }
+
+  private static int readCount(DataInputStream in) throws IOException {
+    int count = in.readInt();
+    if (count < 0) {
+      throw new IOException("Invalid count: " + count);
+    }
+    return count;
+  }
+
+  /**
+   * The saved state of a player.
+   */
+  private static final class PlayerState {
+    private final String name;
+    private final boolean computer;
+    private final int space;
+    private final int maxItems;
+    private final List<Item> items;
+
+    PlayerState(String name, boolean computer, int space, int maxItems, List<Item> items) {
+      this.name = name;
+      this.computer = computer;
+      this.space = space;
+      this.maxItems = maxItems;
+      this.items = Collections.unmodifiableList(items);
+    }
+  }
+}
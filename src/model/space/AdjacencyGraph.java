@@ -0,0 +1,208 @@
+package model.space;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * An immutable adjacency structure in compressed sparse row form.
+ *
+ * The neighbors of node i are stored in {@code targets[offsets[i]]} up to (but not
+ * including) {@code targets[offsets[i + 1]]}. A single instance is built by the world and
+ * shared by all of its spaces, so reading neighbors never allocates and adjacency tests
+ * take O(log d) for a node of degree d.
+ */
+public final class AdjacencyGraph {
+
+  private static final AdjacencyGraph EMPTY_ROW = new AdjacencyGraph(new int[] {0, 0},
+      new int[0], true);
+
+  private final int[] offsets;
+  private final int[] targets;
+  private final boolean sortedRows;
+
+  private AdjacencyGraph(int[] offsets, int[] targets, boolean sortedRows) {
+    this.offsets = offsets;
+    this.targets = targets;
+    this.sortedRows = sortedRows;
+  }
+
+  /**
+   * Creates a graph from its offsets and targets arrays. The arrays are owned by the
+   * graph afterwards and must not be modified by the caller.
+   *
+   * @param offsets the start of the neighbors of every node, followed by the total count
+   * @param targets the neighbors of all nodes, node after node
+   * @return the graph
+   * @throws IllegalArgumentException if the arrays are null or inconsistent
+   */
+  public static AdjacencyGraph of(int[] offsets, int[] targets) {
+    if (offsets == null || targets == null) {
+      throw new IllegalArgumentException("Offsets and targets cannot be null.");
+    }
+    if (offsets.length == 0 || offsets[0] != 0 || offsets[offsets.length - 1] != targets.length) {
+      throw new IllegalArgumentException("Offsets do not describe the targets array.");
+    }
+    boolean sorted = true;
+    for (int node = 0; node + 1 < offsets.length; node++) {
+      if (offsets[node + 1] < offsets[node]) {
+        throw new IllegalArgumentException("Offsets must not decrease.");
+      }
+      for (int k = offsets[node] + 1; k < offsets[node + 1] && sorted; k++) {
+        sorted = targets[k - 1] < targets[k];
+      }
+    }
+    for (int target : targets) {
+      if (target < 0) {
+        throw new IllegalArgumentException("Neighbor index cannot be negative.");
+      }
+    }
+    return new AdjacencyGraph(offsets, targets, sorted);
+  }
+
+  /**
+   * Creates a graph from the neighbor lists of every node.
+   *
+   * @param neighborLists the neighbors of every node
+   * @return the graph
+   * @throws IllegalArgumentException if the lists are null
+   */
+  public static AdjacencyGraph fromNeighborLists(int[][] neighborLists) {
+    if (neighborLists == null) {
+      throw new IllegalArgumentException("Neighbor lists cannot be null.");
+    }
+    int[] offsets = new int[neighborLists.length + 1];
+    for (int node = 0; node < neighborLists.length; node++) {
+      offsets[node + 1] = offsets[node] + neighborLists[node].length;
+    }
+    int[] targets = new int[offsets[neighborLists.length]];
+    for (int node = 0; node < neighborLists.length; node++) {
+      System.arraycopy(neighborLists[node], 0, targets, offsets[node],
+          neighborLists[node].length);
+    }
+    return of(offsets, targets);
+  }
+
+  /**
+   * Creates a graph holding a single node with the given neighbors. Spaces that are not
+   * part of a world use it to store their own neighbors.
+   *
+   * @param neighbors the neighbors of the node
+   * @return the single-node graph
+   * @throws IllegalArgumentException if neighbors is null
+   */
+  public static AdjacencyGraph singleRow(List<Integer> neighbors) {
+    if (neighbors == null) {
+      throw new IllegalArgumentException("Neighbors cannot be null.");
+    }
+    if (neighbors.isEmpty()) {
+      return EMPTY_ROW;
+    }
+    int[] targets = new int[neighbors.size()];
+    int k = 0;
+    for (int neighbor : neighbors) {
+      targets[k++] = neighbor;
+    }
+    return of(new int[] {0, targets.length}, targets);
+  }
+
+  /**
+   * Retrieves the number of nodes in the graph.
+   *
+   * @return the number of nodes
+   */
+  public int size() {
+    return offsets.length - 1;
+  }
+
+  /**
+   * Retrieves the total number of directed edges in the graph.
+   *
+   * @return the number of edges
+   */
+  public int edgeCount() {
+    return targets.length;
+  }
+
+  /**
+   * Retrieves the number of neighbors of a node.
+   *
+   * @param node the node
+   * @return the degree of the node
+   */
+  public int degree(int node) {
+    return offsets[node + 1] - offsets[node];
+  }
+
+  /**
+   * Retrieves the k-th neighbor of a node.
+   *
+   * @param node the node
+   * @param k    the position of the neighbor, from 0 to {@code degree(node) - 1}
+   * @return the index of the neighbor
+   * @throws IndexOutOfBoundsException if k is out of range
+   */
+  public int neighbor(int node, int k) {
+    if (k < 0 || k >= degree(node)) {
+      throw new IndexOutOfBoundsException("Invalid neighbor position: " + k);
+    }
+    return targets[offsets[node] + k];
+  }
+
+  /**
+   * Checks if a node has the given neighbor.
+   *
+   * @param node   the node
+   * @param target the index of the potential neighbor
+   * @return true if target is a neighbor of node, false otherwise
+   */
+  public boolean hasEdge(int node, int target) {
+    int from = offsets[node];
+    int to = offsets[node + 1];
+    if (sortedRows) {
+      return Arrays.binarySearch(targets, from, to, target) >= 0;
+    }
+    for (int k = from; k < to; k++) {
+      if (targets[k] == target) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Copies the neighbors of a node into a new list.
+   *
+   * @param node the node
+   * @return a new list holding the neighbors of the node
+   */
+  public List<Integer> neighborList(int node) {
+    List<Integer> neighbors = new ArrayList<>(degree(node));
+    for (int k = offsets[node]; k < offsets[node + 1]; k++) {
+      neighbors.add(targets[k]);
+    }
+    return neighbors;
+  }
+
+  @Override
+  public boolean equals(Object obj) {
+    if (this == obj) {
+      return true;
+    }
+    if (!(obj instanceof AdjacencyGraph)) {
+      return false;
+    }
+    AdjacencyGraph other = (AdjacencyGraph) obj;
+    return Arrays.equals(offsets, other.offsets) && Arrays.equals(targets, other.targets);
+  }
+
+  @Override
+  public int hashCode() {
+    return 31 * Arrays.hashCode(offsets) + Arrays.hashCode(targets);
+  }
+
+  @Override
+  public String toString() {
+    return String.format("AdjacencyGraph{nodes=%d, edges=%d}", size(), edgeCount());
+  }
+}
@@ -0,0 +1,259 @@
+package model.space;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+/**
+ * The number of moves between any two spaces of a world, and the neighbor to move to
+ * first along a shortest way.
+ *
+ * Worlds with at most {@link #DENSE_LIMIT} pairs of spaces keep the whole table in two
+ * short arrays of n * n entries, filled by a breadth-first search from every space run in
+ * parallel, so every lookup is a single array read. Larger worlds cannot afford n * n
+ * entries; they search from a space the first time a distance from it is requested and
+ * keep the rows of the most recently used spaces.
+ */
+public final class DistanceTable {
+  /** The largest number of space pairs for which the whole table is precomputed. */
+  public static final int DENSE_LIMIT = 1 << 22;
+
+  /** The number of rows kept by a table searching on demand. */
+  static final int ROW_CACHE_CAPACITY = 64;
+
+  private final AdjacencyGraph graph;
+  private final int size;
+  private final short[] denseDistances;
+  private final short[] denseHops;
+  private final Map<Integer, Row> rows;
+
+  private DistanceTable(AdjacencyGraph graph, short[] denseDistances, short[] denseHops,
+      int cacheCapacity) {
+    this.graph = graph;
+    this.size = graph.size();
+    this.denseDistances = denseDistances;
+    this.denseHops = denseHops;
+    this.rows = denseDistances != null ? null
+        : new LinkedHashMap<>(16, 0.75f, true) {
+          private static final long serialVersionUID = 1L;
+
+          @Override
+          protected boolean removeEldestEntry(Map.Entry<Integer, Row> eldest) {
+            return size() > cacheCapacity;
+          }
+        };
+  }
+
+  /**
+   * Builds the distance table of a neighbor graph. Neighbors outside the graph are
+   * ignored.
+   *
+   * @param graph the neighbor graph of the world
+   * @return the table
+   * @throws IllegalArgumentException if graph is null
+   */
+  public static DistanceTable of(AdjacencyGraph graph) {
+    return of(graph, DENSE_LIMIT, ROW_CACHE_CAPACITY);
+  }
+
+  /**
+   * Builds the distance table of a neighbor graph with the given limits.
+   *
+   * @param graph         the neighbor graph of the world
+   * @param denseLimit    the largest number of space pairs to precompute
+   * @param cacheCapacity the number of rows kept when searching on demand
+   * @return the table
+   * @throws IllegalArgumentException if graph is null or the capacity is not positive
+   */
+  static DistanceTable of(AdjacencyGraph graph, int denseLimit, int cacheCapacity) {
+    if (graph == null) {
+      throw new IllegalArgumentException("Graph cannot be null.");
+    }
+    if (cacheCapacity <= 0) {
+      throw new IllegalArgumentException("Cache capacity must be positive.");
+    }
+    int n = graph.size();
+    if ((long) n * n > Math.min(denseLimit, DENSE_LIMIT)) {
+      return new DistanceTable(graph, null, null, cacheCapacity);
+    }
+    short[] distances = new short[n * n];
+    short[] hops = new short[n * n];
+    IntStream.range(0, n).parallel().forEach(source -> {
+      Row row = search(graph, source);
+      for (int target = 0; target < n; target++) {
+        distances[source * n + target] = (short) row.distances[target];
+        hops[source * n + target] = (short) row.hops[target];
+      }
+    });
+    return new DistanceTable(graph, distances, hops, cacheCapacity);
+  }
+
+  /**
+   * Retrieves the number of spaces in the table.
+   *
+   * @return the number of spaces
+   */
+  public int size() {
+    return size;
+  }
+
+  /**
+   * Checks whether the whole table was computed up front.
+   *
+   * @return true if every lookup is a single array read, false if rows are searched on
+   *         demand
+   */
+  public boolean isPrecomputed() {
+    return denseDistances != null;
+  }
+
+  /**
+   * Retrieves the smallest number of moves from one space to another.
+   *
+   * @param from the index of the starting space
+   * @param to   the index of the destination space
+   * @return the number of moves, or -1 if the destination cannot be reached
+   * @throws IllegalArgumentException if a space index is invalid
+   */
+  public int distance(int from, int to) {
+    checkIndex(from);
+    checkIndex(to);
+    if (denseDistances != null) {
+      return denseDistances[from * size + to];
+    }
+    return getRow(from).distances[to];
+  }
+
+  /**
+   * Retrieves the neighbor to move to first on a shortest way from one space to another.
+   *
+   * @param from the index of the starting space
+   * @param to   the index of the destination space
+   * @return the index of the neighbor, from itself when both spaces are the same, or -1 if
+   *         the destination cannot be reached
+   * @throws IllegalArgumentException if a space index is invalid
+   */
+  public int nextHop(int from, int to) {
+    checkIndex(from);
+    checkIndex(to);
+    if (denseHops != null) {
+      return denseHops[from * size + to];
+    }
+    return getRow(from).hops[to];
+  }
+
+  /**
+   * Retrieves a shortest way from one space to another.
+   *
+   * @param from the index of the starting space
+   * @param to   the index of the destination space
+   * @return a new list of the spaces visited, starting with from and ending with to, or an
+   *         empty list if the destination cannot be reached
+   * @throws IllegalArgumentException if a space index is invalid
+   */
+  public List<Integer> path(int from, int to) {
+    int distance = distance(from, to);
+    if (distance < 0) {
+      return Collections.emptyList();
+    }
+    List<Integer> path = new ArrayList<>(distance + 1);
+    path.add(from);
+    for (int current = from; current != to; ) {
+      current = nextHop(current, to);
+      path.add(current);
+    }
+    return path;
+  }
+
+  /**
+   * Retrieves the number of rows currently kept by a table searching on demand.
+   *
+   * @return the number of kept rows, 0 for a precomputed table
+   */
+  int cachedRowCount() {
+    if (rows == null) {
+      return 0;
+    }
+    synchronized (rows) {
+      return rows.size();
+    }
+  }
+
+  private void checkIndex(int spaceIndex) {
+    if (spaceIndex < 0 || spaceIndex >= size) {
+      throw new IllegalArgumentException("Invalid space index: " + spaceIndex);
+    }
+  }
+
+  /**
+   * Retrieves the row of a space, searching outside the lock so that lookups from other
+   * threads are not held up. Two threads missing the same row may both search; the first
+   * row stored is kept and returned to both.
+   */
+  private Row getRow(int source) {
+    Row row;
+    synchronized (rows) {
+      row = rows.get(source);
+    }
+    if (row != null) {
+      return row;
+    }
+    Row searched = search(graph, source);
+    synchronized (rows) {
+      row = rows.putIfAbsent(source, searched);
+    }
+    return row != null ? row : searched;
+  }
+
+  /**
+   * Searches breadth first from a space, recording for every space its distance and the
+   * neighbor of the source through which it was first reached.
+   */
+  private static Row search(AdjacencyGraph graph, int source) {
+    int n = graph.size();
+    int[] distances = new int[n];
+    int[] hops = new int[n];
+    Arrays.fill(distances, -1);
+    Arrays.fill(hops, -1);
+    int[] queue = new int[n];
+    int head = 0;
+    int tail = 0;
+    distances[source] = 0;
+    hops[source] = source;
+    queue[tail++] = source;
+    while (head < tail) {
+      int node = queue[head++];
+      for (int k = 0; k < graph.degree(node); k++) {
+        int neighbor = graph.neighbor(node, k);
+        if (neighbor < n && distances[neighbor] < 0) {
+          distances[neighbor] = distances[node] + 1;
+          hops[neighbor] = node == source ? neighbor : hops[node];
+          queue[tail++] = neighbor;
+        }
+      }
+    }
+    return new Row(distances, hops);
+  }
+
+  @Override
+  public String toString() {
+    return String.format("DistanceTable{spaces=%d, precomputed=%b}", size, isPrecomputed());
+  }
+
+  /**
+   * The distances and first moves from a single space.
+   */
+  private static final class Row {
+    private final int[] distances;
+    private final int[] hops;
+
+    private Row(int[] distances, int[] hops) {
+      this.distances = distances;
+      this.hops = hops;
+    }
+  }
+}
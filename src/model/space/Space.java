@@ -63,6 +63,22 @@ public interface Space {
    */
   List<Integer> getNeighborIndices();
 
+  /**
+   * Retrieves the number of neighboring spaces without copying the neighbor indices.
+   *
+   * @return the number of neighboring spaces.
+   */
+  int getNeighborCount();
+
+  /**
+   * Retrieves the index of a neighboring space without copying the neighbor indices.
+   *
+   * @param position the position of the neighbor, from 0 to {@code getNeighborCount() - 1}.
+   * @return the index of the neighboring space at the given position.
+   * @throws IndexOutOfBoundsException if position is out of range.
+   */
+  int getNeighborIndex(int position);
+
   /**
    * Sets the neighboring space indices for this space.
    *
@@ -70,6 +86,15 @@ public interface Space {
    */
   void setNeighbors(List<Integer> neighbors);
 
+  /**
+   * Makes this space read its neighbors from a node of a shared adjacency graph.
+   *
+   * @param graph the adjacency graph of the world.
+   * @param node the node of the graph that holds the neighbors of this space.
+   * @throws IllegalArgumentException if graph is null or node is not in the graph.
+   */
+  void setAdjacency(AdjacencyGraph graph, int node);
+
   /**
    * Adds an item to the space.
    *
@@ -97,6 +122,15 @@ public interface Space {
    * @return a copy of the space
    */
   Space copy();
+
+  /**
+   * Checks if another space holds the same items as this one, in the same order, without
+   * copying them.
+   *
+   * @param other the other space
+   * @return true if both spaces hold equal items, false otherwise
+   */
+  boolean hasSameItems(Space other);
   
   /**
    * Retrieves information about the neighboring spaces.
@@ -21,7 +21,8 @@ public class SpaceImpl implements Space {
   private final int lowerRightRow;
   private final int lowerRightColumn;
   private List<Item> items;
-  private final List<Integer> neighborIndices;
+  private AdjacencyGraph adjacency;
+  private int adjacencyNode;
   
   /**
    * Constructs a new SpaceImpl instance.
@@ -60,7 +61,8 @@ public class SpaceImpl implements Space {
     this.lowerRightRow = lowerRightRow;
     this.lowerRightColumn = lowerRightColumn;
     this.items = items;
-    this.neighborIndices = neighborIndices;
+    this.adjacency = AdjacencyGraph.singleRow(neighborIndices);
+    this.adjacencyNode = 0;
   }
   
   @Override
@@ -113,6 +115,16 @@ public class SpaceImpl implements Space {
     throw new IllegalArgumentException("No such item!");
   }
   
+  @Override
+  public boolean hasSameItems(Space other) {
+    if (other == null) {
+      return false;
+    }
+    List<Item> otherItems = other instanceof SpaceImpl ? ((SpaceImpl) other).items
+        : other.getItems();
+    return items.equals(otherItems);
+  }
+
   @Override
   public int getSpaceIndex() {
     return spaceIndex;
@@ -120,15 +132,35 @@ public class SpaceImpl implements Space {
   
   @Override
   public List<Integer> getNeighborIndices() {
-    List<Integer> copiedList = new ArrayList<>();
-    copiedList.addAll(neighborIndices);
-    return copiedList;
+    return adjacency.neighborList(adjacencyNode);
+  }
+
+  @Override
+  public int getNeighborCount() {
+    return adjacency.degree(adjacencyNode);
+  }
+
+  @Override
+  public int getNeighborIndex(int position) {
+    return adjacency.neighbor(adjacencyNode, position);
   }
 
   @Override
   public void setNeighbors(List<Integer> neighbors) {
-    neighborIndices.clear();
-    neighborIndices.addAll(neighbors);
+    this.adjacency = AdjacencyGraph.singleRow(neighbors);
+    this.adjacencyNode = 0;
+  }
+
+  @Override
+  public void setAdjacency(AdjacencyGraph graph, int node) {
+    if (graph == null) {
+      throw new IllegalArgumentException("Adjacency graph cannot be null.");
+    }
+    if (node < 0 || node >= graph.size()) {
+      throw new IllegalArgumentException("Invalid adjacency node: " + node);
+    }
+    this.adjacency = graph;
+    this.adjacencyNode = node;
   }
 
   @Override
@@ -166,19 +198,23 @@ public class SpaceImpl implements Space {
     for (Item item : items) {
       copiedItems.add(item.copy());
     }
-    return new SpaceImpl(spaceIndex, spaceName, upperLeftRow, upperLeftColumn, lowerRightRow,
-        lowerRightColumn, copiedItems, neighborIndices);
+    SpaceImpl copy = new SpaceImpl(spaceIndex, spaceName, upperLeftRow, upperLeftColumn,
+        lowerRightRow, lowerRightColumn, copiedItems, new ArrayList<>());
+    // The adjacency graph is immutable, so the copy can share it.
+    copy.setAdjacency(adjacency, adjacencyNode);
+    return copy;
   }
 
   @Override
   public String getNeighborInfo(List<Space> spaces) {
     StringBuilder info = new StringBuilder();
-    if (neighborIndices.isEmpty()) {
+    int neighborCount = getNeighborCount();
+    if (neighborCount == 0) {
       info.append("No neighbors!");
     } else {
       info.append("Neighbors: \n");
-      for (int neighborIndex : neighborIndices) {
-        Space neighbor = spaces.get(neighborIndex);
+      for (int k = 0; k < neighborCount; k++) {
+        Space neighbor = spaces.get(getNeighborIndex(k));
         info.append(String.format(" - %s%n", neighbor.getSpaceName()));
       }
     }
@@ -204,7 +240,7 @@ public class SpaceImpl implements Space {
     if (index < 0) {
       throw new IllegalArgumentException("Index cannot be negative.");
     }
-    return neighborIndices.contains(index);
+    return adjacency.hasEdge(adjacencyNode, index);
   }
 
   @Override
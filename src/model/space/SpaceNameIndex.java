@@ -0,0 +1,150 @@
+package model.space;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * An index of the spaces of a world by name.
+ *
+ * Exact names are looked up in a hash map. Abbreviated names are resolved through a
+ * trie over the lower-case names, where every node counts the names below it, so that
+ * checking whether a prefix names exactly one space only walks the characters of the
+ * prefix. When several spaces have the same name, the first one is kept.
+ */
+public final class SpaceNameIndex {
+  private final Map<String, Space> byName;
+  private final Node root;
+
+  /**
+   * Creates an empty index.
+   */
+  public SpaceNameIndex() {
+    this.byName = new HashMap<>();
+    this.root = new Node();
+  }
+
+  /**
+   * Adds a space to the index, unless a space with the same name was added before.
+   *
+   * @param space the space to add
+   * @throws IllegalArgumentException if space is null
+   */
+  public void add(Space space) {
+    if (space == null) {
+      throw new IllegalArgumentException("Space cannot be null.");
+    }
+    String name = space.getSpaceName();
+    if (name == null || byName.putIfAbsent(name, space) != null) {
+      return;
+    }
+    String key = name.toLowerCase(Locale.ROOT);
+    Node node = root;
+    node.count++;
+    for (int i = 0; i < key.length(); i++) {
+      node = node.children.computeIfAbsent(key.charAt(i), c -> new Node());
+      node.count++;
+    }
+    if (node.name == null) {
+      node.name = name;
+    }
+  }
+
+  /**
+   * Finds the space with exactly the given name.
+   *
+   * @param name the name of the space
+   * @return the space, or null if no space has that name
+   */
+  public Space get(String name) {
+    return byName.get(name);
+  }
+
+  /**
+   * Retrieves the number of distinct names in the index.
+   *
+   * @return the number of names
+   */
+  public int size() {
+    return byName.size();
+  }
+
+  /**
+   * Resolves a possibly abbreviated space name. An exact name is returned as is.
+   * Otherwise the name is taken as a case-insensitive prefix, and the full name of the
+   * only space it matches is returned.
+   *
+   * @param name the full or abbreviated name
+   * @return the full name of the space, or the given name if no space matches it
+   * @throws IllegalArgumentException if the name is a prefix of several space names
+   */
+  public String resolve(String name) {
+    if (name == null || byName.containsKey(name)) {
+      return name;
+    }
+    Node node = find(name.toLowerCase(Locale.ROOT));
+    if (node == null || node.count == 0) {
+      return name;
+    }
+    if (node.name != null && node.count > 1 && node.name.equalsIgnoreCase(name)) {
+      // The prefix is itself a complete name, which wins over longer names.
+      return node.name;
+    }
+    if (node.count == 1) {
+      while (node.name == null) {
+        node = node.children.values().iterator().next();
+      }
+      return node.name;
+    }
+    throw new IllegalArgumentException("Ambiguous space name: " + name + " could be "
+        + String.join(", ", withPrefix(name)));
+  }
+
+  /**
+   * Lists the names of all spaces starting with the given case-insensitive prefix, in
+   * lexicographic order of their lower-case names.
+   *
+   * @param prefix the prefix
+   * @return the matching names
+   */
+  public List<String> withPrefix(String prefix) {
+    List<String> names = new ArrayList<>();
+    if (prefix == null) {
+      return names;
+    }
+    Node node = find(prefix.toLowerCase(Locale.ROOT));
+    if (node != null) {
+      collect(node, names);
+    }
+    return names;
+  }
+
+  private Node find(String key) {
+    Node node = root;
+    for (int i = 0; i < key.length() && node != null; i++) {
+      node = node.children.get(key.charAt(i));
+    }
+    return node;
+  }
+
+  private static void collect(Node node, List<String> names) {
+    if (node.name != null) {
+      names.add(node.name);
+    }
+    for (Node child : node.children.values()) {
+      collect(child, names);
+    }
+  }
+
+  /**
+   * A node of the trie, reached by the characters of a lower-case name prefix.
+   */
+  private static final class Node {
+    private final Map<Character, Node> children = new TreeMap<>();
+    private int count;
+    private String name;
+  }
+}
@@ -0,0 +1,109 @@
+package model.space;
+
+import java.util.Arrays;
+
+/**
+ * The precomputed line-of-sight sets of a world: for every space, the set of spaces from
+ * which a player sees into it, which are its neighbors.
+ *
+ * Every set is stored as a bitset over the space indices, keeping only its non-zero words
+ * as (word index, mask) pairs in compressed sparse row form, so the index stays linear in
+ * the number of neighbor pairs however large the world is. Checking whether any watching
+ * space is occupied is then a few word-wide AND operations against a bitset of the
+ * occupied spaces, without allocating.
+ */
+public final class VisibilityIndex {
+  private final int size;
+  private final int[] offsets;
+  private final int[] words;
+  private final long[] masks;
+
+  private VisibilityIndex(int size, int[] offsets, int[] words, long[] masks) {
+    this.size = size;
+    this.offsets = offsets;
+    this.words = words;
+    this.masks = masks;
+  }
+
+  /**
+   * Builds the line-of-sight sets of a neighbor graph. Neighbors outside the graph are
+   * ignored.
+   *
+   * @param graph the neighbor graph of the world
+   * @return the index
+   * @throws IllegalArgumentException if graph is null
+   */
+  public static VisibilityIndex of(AdjacencyGraph graph) {
+    if (graph == null) {
+      throw new IllegalArgumentException("Graph cannot be null.");
+    }
+    int n = graph.size();
+    int[] offsets = new int[n + 1];
+    int[] words = new int[graph.edgeCount()];
+    long[] masks = new long[graph.edgeCount()];
+    int[] watchers = new int[n];
+    int count = 0;
+    for (int node = 0; node < n; node++) {
+      int degree = 0;
+      for (int k = 0; k < graph.degree(node); k++) {
+        int neighbor = graph.neighbor(node, k);
+        if (neighbor < n) {
+          watchers[degree++] = neighbor;
+        }
+      }
+      Arrays.sort(watchers, 0, degree);
+      for (int k = 0; k < degree; k++) {
+        int word = watchers[k] >>> 6;
+        if (count == offsets[node] || words[count - 1] != word) {
+          words[count] = word;
+          masks[count] = 0L;
+          count++;
+        }
+        masks[count - 1] |= 1L << watchers[k];
+      }
+      offsets[node + 1] = count;
+    }
+    return new VisibilityIndex(n, offsets, Arrays.copyOf(words, count),
+        Arrays.copyOf(masks, count));
+  }
+
+  /**
+   * Creates an empty bitset able to hold one bit per space of a world.
+   *
+   * @param spaceCount the number of spaces
+   * @return the bitset, with all bits cleared
+   */
+  public static long[] newSpaceSet(int spaceCount) {
+    return new long[(spaceCount + 63) >>> 6];
+  }
+
+  /**
+   * Retrieves the number of spaces in the index.
+   *
+   * @return the number of spaces
+   */
+  public int size() {
+    return size;
+  }
+
+  /**
+   * Checks if any space from which a player sees into the given space is in a set.
+   *
+   * @param spaceIndex     the index of the watched space
+   * @param occupiedSpaces the bitset of occupied spaces, as created by
+   *                       {@link #newSpaceSet(int)}
+   * @return true if a watching space is in the set, false otherwise
+   * @throws IllegalArgumentException if the space index is invalid
+   */
+  public boolean isWatched(int spaceIndex, long[] occupiedSpaces) {
+    if (spaceIndex < 0 || spaceIndex >= size) {
+      throw new IllegalArgumentException("Invalid space index: " + spaceIndex);
+    }
+    for (int k = offsets[spaceIndex]; k < offsets[spaceIndex + 1]; k++) {
+      if ((occupiedSpaces[words[k]] & masks[k]) != 0) {
+        return true;
+      }
+    }
+    return false;
+  }
+}
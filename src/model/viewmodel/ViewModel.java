@@ -85,4 +85,20 @@ public interface ViewModel {
    * @return the current turn number
    */
   int getCurrentTurn();
-} 
\ No newline at end of file
+
+  /**
+   * Gets the version of the state of the world, which changes whenever the state
+   * changes. A view that drew a version does not need to draw it again.
+   *
+   * @return the version
+   */
+  long getVersion();
+
+  /**
+   * Gets the snapshot of the current state of the world. The snapshot is taken once per
+   * version and shared, so reading it does not copy the model.
+   *
+   * @return the snapshot
+   */
+  WorldSnapshot getSnapshot();
+}
@@ -0,0 +1,152 @@
+package model.viewmodel;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import model.pet.Pet;
+import model.player.Player;
+import model.space.Space;
+import model.target.TargetCharacter;
+import model.world.World;
+
+/**
+ * The state of a world as seen by the view at one version: copies of the spaces, the
+ * players, the target character and the pet, with the turn and the winner.
+ *
+ * A snapshot is taken at most once per version of the world and then shared by every
+ * reader, so drawing or hit-testing never copies the model. The copies held by a snapshot
+ * must only be read. A new snapshot shares the copy of every space whose items did not
+ * change with the snapshot before it.
+ */
+public final class WorldSnapshot {
+  private final long version;
+  private final int currentTurn;
+  private final String winner;
+  private final List<Space> spaces;
+  private final List<Player> players;
+  private final Player currentPlayer;
+  private final TargetCharacter target;
+  private final Pet pet;
+
+  private WorldSnapshot(long version, int currentTurn, String winner, List<Space> spaces,
+      List<Player> players, Player currentPlayer, TargetCharacter target, Pet pet) {
+    this.version = version;
+    this.currentTurn = currentTurn;
+    this.winner = winner;
+    this.spaces = Collections.unmodifiableList(spaces);
+    this.players = Collections.unmodifiableList(players);
+    this.currentPlayer = currentPlayer;
+    this.target = target;
+    this.pet = pet;
+  }
+
+  /**
+   * Takes a snapshot of a world.
+   *
+   * @param version  the version of the world
+   * @param world    the world
+   * @param previous the previous snapshot of the world, whose unchanged spaces are reused,
+   *                 or null
+   * @return the snapshot
+   * @throws IllegalArgumentException if world is null
+   */
+  public static WorldSnapshot capture(long version, World world, WorldSnapshot previous) {
+    if (world == null) {
+      throw new IllegalArgumentException("World cannot be null");
+    }
+    List<Space> liveSpaces = world.getSpaces();
+    boolean reuse = previous != null && previous.spaces.size() == liveSpaces.size();
+    List<Space> spaces = new ArrayList<>(liveSpaces.size());
+    for (int i = 0; i < liveSpaces.size(); i++) {
+      Space live = liveSpaces.get(i);
+      Space shared = reuse ? previous.spaces.get(i) : null;
+      spaces.add(shared != null && live.hasSameItems(shared) ? shared : live.copy());
+    }
+    List<Player> livePlayers = world.getPlayers();
+    Player liveCurrent = livePlayers.isEmpty() ? null : world.getCurrentPlayer();
+    List<Player> players = new ArrayList<>(livePlayers.size());
+    Player currentPlayer = null;
+    for (Player live : livePlayers) {
+      Player copy = live.copy();
+      if (live == liveCurrent) {
+        currentPlayer = copy;
+      }
+      players.add(copy);
+    }
+    return new WorldSnapshot(version, world.getCurrentTurn(), world.getWinner(), spaces,
+        players, currentPlayer, world.getTargetCharacter().copy(), world.getPet().copy());
+  }
+
+  /**
+   * Gets the version of the world the snapshot was taken at. Two snapshots of the same
+   * world with the same version show the same state.
+   *
+   * @return the version
+   */
+  public long getVersion() {
+    return version;
+  }
+
+  /**
+   * Gets the current turn number.
+   *
+   * @return the turn number
+   */
+  public int getCurrentTurn() {
+    return currentTurn;
+  }
+
+  /**
+   * Gets the name of the winner.
+   *
+   * @return the winner, or null if nobody won yet
+   */
+  public String getWinner() {
+    return winner;
+  }
+
+  /**
+   * Gets the spaces, in index order.
+   *
+   * @return the read-only list of spaces
+   */
+  public List<Space> getSpaces() {
+    return spaces;
+  }
+
+  /**
+   * Gets the players, in the order in which they joined.
+   *
+   * @return the read-only list of players
+   */
+  public List<Player> getPlayers() {
+    return players;
+  }
+
+  /**
+   * Gets the player whose turn it is.
+   *
+   * @return the current player, or null if the game has no players
+   */
+  public Player getCurrentPlayer() {
+    return currentPlayer;
+  }
+
+  /**
+   * Gets the target character.
+   *
+   * @return the target character
+   */
+  public TargetCharacter getTarget() {
+    return target;
+  }
+
+  /**
+   * Gets the pet.
+   *
+   * @return the pet
+   */
+  public Pet getPet() {
+    return pet;
+  }
+}
@@ -0,0 +1,289 @@
+package model.world;
+
+import java.util.Arrays;
+import java.util.List;
+import model.space.AdjacencyGraph;
+import model.space.Space;
+
+/**
+ * Computes the neighbors of every space in a world.
+ *
+ * Two spaces are neighbors when the bottom edge of one lies on the row directly above
+ * the top edge of the other and their column ranges overlap, or when the right edge of
+ * one lies on the column directly left of the left edge of the other and their row ranges
+ * overlap. Instead of testing every pair of spaces, the builder sorts the spaces by the
+ * edge they touch and sweeps over each shared edge line, so that the work is
+ * O(n log n + k) for n spaces and k neighbor pairs. The result is stored as an
+ * {@link AdjacencyGraph} whose node i is the space at position i of the list.
+ */
+public final class AdjacencyBuilder {
+
+  private AdjacencyBuilder() {
+    // Static utility class
+  }
+
+  /**
+   * Computes the neighbor indices of every space with a sweep over the shared edges.
+   * The neighbors of the space at list position p are stored at node p, listed in the
+   * order in which they appear in the list of spaces.
+   *
+   * @param spaces the spaces of the world
+   * @return the adjacency graph of the spaces
+   * @throws IllegalArgumentException if spaces is null
+   */
+  public static AdjacencyGraph build(List<Space> spaces) {
+    if (spaces == null) {
+      throw new IllegalArgumentException("Spaces cannot be null.");
+    }
+    int n = spaces.size();
+    int[] top = new int[n];
+    int[] left = new int[n];
+    int[] bottom = new int[n];
+    int[] right = new int[n];
+    int[] topLine = new int[n];
+    int[] leftLine = new int[n];
+    for (int i = 0; i < n; i++) {
+      Space space = spaces.get(i);
+      top[i] = space.getUpperLeftRow();
+      left[i] = space.getUpperLeftColumn();
+      bottom[i] = space.getLowerRightRow();
+      right[i] = space.getLowerRightColumn();
+      topLine[i] = top[i] - 1;
+      leftLine[i] = left[i] - 1;
+    }
+
+    PairCollector pairs = new PairCollector(n);
+    // Spaces stacked on top of each other share a horizontal edge line.
+    sweep(bottom, topLine, left, right, pairs);
+    // Spaces standing side by side share a vertical edge line.
+    sweep(right, leftLine, top, bottom, pairs);
+    return pairs.toGraph(spaces);
+  }
+
+  /**
+   * Computes the neighbor indices of every space by comparing every pair of spaces.
+   * This is the reference implementation the sweep is checked against, and it produces
+   * exactly the same result as {@link #build(List)}.
+   *
+   * @param spaces the spaces of the world
+   * @return the adjacency graph of the spaces
+   * @throws IllegalArgumentException if spaces is null
+   */
+  public static AdjacencyGraph buildPairwise(List<Space> spaces) {
+    if (spaces == null) {
+      throw new IllegalArgumentException("Spaces cannot be null.");
+    }
+    int n = spaces.size();
+    int[][] neighbors = new int[n][];
+    int[] buffer = new int[n];
+    for (int i = 0; i < n; i++) {
+      Space space = spaces.get(i);
+      int count = 0;
+      for (int j = 0; j < n; j++) {
+        Space potentialNeighbor = spaces.get(j);
+        if (space != potentialNeighbor && areNeighbors(potentialNeighbor, space)) {
+          buffer[count++] = potentialNeighbor.getSpaceIndex();
+        }
+      }
+      neighbors[i] = Arrays.copyOf(buffer, count);
+    }
+    return AdjacencyGraph.fromNeighborLists(neighbors);
+  }
+
+  /**
+   * Determines if two spaces are neighbors based on their coordinates.
+   *
+   * @param s1 the first space
+   * @param s2 the second space
+   * @return true if the spaces are neighbors, false otherwise
+   */
+  static boolean areNeighbors(Space s1, Space s2) {
+    boolean adjacentRows = (s1.getLowerRightRow() == s2.getUpperLeftRow() - 1
+        || s2.getLowerRightRow() == s1.getUpperLeftRow() - 1)
+        && (s1.getUpperLeftColumn() <= s2.getLowerRightColumn()
+            && s1.getLowerRightColumn() >= s2.getUpperLeftColumn());
+    boolean adjacentColumns = (s1.getUpperLeftColumn() == s2.getLowerRightColumn() + 1
+        || s2.getUpperLeftColumn() == s1.getLowerRightColumn() + 1)
+        && (s1.getUpperLeftRow() <= s2.getLowerRightRow()
+            && s1.getLowerRightRow() >= s2.getUpperLeftRow());
+
+    return adjacentRows || adjacentColumns;
+  }
+
+  /**
+   * Finds every pair of spaces (a, b) where the closing edge of a and the opening edge
+   * of b lie on the same line and the spans of a and b along that line overlap.
+   *
+   * @param closingLine the line of the closing edge (bottom or right) of every space
+   * @param openingLine the line just before the opening edge (top or left) of every space
+   * @param spanStart   the first row or column covered by every space along the line
+   * @param spanEnd     the last row or column covered by every space along the line
+   * @param pairs       the collector receiving the neighbor pairs
+   */
+  private static void sweep(int[] closingLine, int[] openingLine, int[] spanStart,
+      int[] spanEnd, PairCollector pairs) {
+    int n = closingLine.length;
+    int[] closing = sortedOrder(closingLine, spanStart);
+    int[] opening = sortedOrder(openingLine, spanStart);
+    int[] activeClosing = new int[n];
+    int[] activeOpening = new int[n];
+
+    int c = 0;
+    int o = 0;
+    while (c < n && o < n) {
+      int line = Math.max(closingLine[closing[c]], openingLine[opening[o]]);
+      while (c < n && closingLine[closing[c]] < line) {
+        c++;
+      }
+      while (o < n && openingLine[opening[o]] < line) {
+        o++;
+      }
+      if (c == n || o == n
+          || closingLine[closing[c]] != line || openingLine[opening[o]] != line) {
+        continue;
+      }
+
+      // Both groups now start at the same line: merge them by span start.
+      int closingCount = 0;
+      int openingCount = 0;
+      while ((c < n && closingLine[closing[c]] == line)
+          || (o < n && openingLine[opening[o]] == line)) {
+        boolean takeClosing = o == n || openingLine[opening[o]] != line
+            || (c < n && closingLine[closing[c]] == line
+                && spanStart[closing[c]] <= spanStart[opening[o]]);
+        if (takeClosing) {
+          int space = closing[c++];
+          openingCount = report(space, spanStart[space], activeOpening, openingCount,
+              spanEnd, pairs);
+          activeClosing[closingCount++] = space;
+        } else {
+          int space = opening[o++];
+          closingCount = report(space, spanStart[space], activeClosing, closingCount,
+              spanEnd, pairs);
+          activeOpening[openingCount++] = space;
+        }
+      }
+    }
+  }
+
+  /**
+   * Drops the active spaces whose span ends before the given start and pairs the given
+   * space with every remaining active space, all of which overlap it.
+   *
+   * @param space   the list position of the space entering the sweep
+   * @param start   the span start of the entering space
+   * @param active  the list positions of the active spaces on the other side of the line
+   * @param count   the number of active spaces
+   * @param spanEnd the span end of every space
+   * @param pairs   the collector receiving the neighbor pairs
+   * @return the number of active spaces left
+   */
+  private static int report(int space, int start, int[] active, int count, int[] spanEnd,
+      PairCollector pairs) {
+    int kept = 0;
+    for (int i = 0; i < count; i++) {
+      int other = active[i];
+      if (spanEnd[other] >= start) {
+        pairs.add(space, other);
+        active[kept++] = other;
+      }
+    }
+    return kept;
+  }
+
+  /**
+   * Sorts the list positions of the spaces by line, then by span start.
+   *
+   * @param line      the primary sort key of every space
+   * @param spanStart the secondary sort key of every space
+   * @return the list positions in sorted order
+   */
+  private static int[] sortedOrder(int[] line, int[] spanStart) {
+    int n = line.length;
+    int[] order = new int[n];
+    for (int i = 0; i < n; i++) {
+      order[i] = i;
+    }
+    mergeSort(order, new int[n], 0, n, line, spanStart);
+    return order;
+  }
+
+  private static void mergeSort(int[] order, int[] scratch, int from, int to, int[] line,
+      int[] spanStart) {
+    if (to - from < 2) {
+      return;
+    }
+    int mid = (from + to) >>> 1;
+    mergeSort(order, scratch, from, mid, line, spanStart);
+    mergeSort(order, scratch, mid, to, line, spanStart);
+    int i = from;
+    int j = mid;
+    int k = from;
+    while (i < mid && j < to) {
+      int a = order[i];
+      int b = order[j];
+      boolean takeLeft = line[a] < line[b]
+          || (line[a] == line[b] && spanStart[a] <= spanStart[b]);
+      scratch[k++] = takeLeft ? order[i++] : order[j++];
+    }
+    while (i < mid) {
+      scratch[k++] = order[i++];
+    }
+    while (j < to) {
+      scratch[k++] = order[j++];
+    }
+    System.arraycopy(scratch, from, order, from, to - from);
+  }
+
+  /**
+   * Accumulates undirected neighbor pairs in growable primitive arrays.
+   */
+  private static final class PairCollector {
+    private final int spaceCount;
+    private int[] first;
+    private int[] second;
+    private int size;
+
+    PairCollector(int spaceCount) {
+      this.spaceCount = spaceCount;
+      this.first = new int[Math.max(16, spaceCount * 2)];
+      this.second = new int[first.length];
+      this.size = 0;
+    }
+
+    void add(int a, int b) {
+      if (size == first.length) {
+        first = Arrays.copyOf(first, size * 2);
+        second = Arrays.copyOf(second, size * 2);
+      }
+      first[size] = a;
+      second[size] = b;
+      size++;
+    }
+
+    AdjacencyGraph toGraph(List<Space> spaces) {
+      int[] offsets = new int[spaceCount + 1];
+      for (int i = 0; i < size; i++) {
+        offsets[first[i] + 1]++;
+        offsets[second[i] + 1]++;
+      }
+      for (int i = 0; i < spaceCount; i++) {
+        offsets[i + 1] += offsets[i];
+      }
+      int[] fill = Arrays.copyOf(offsets, spaceCount);
+      int[] targets = new int[offsets[spaceCount]];
+      for (int i = 0; i < size; i++) {
+        targets[fill[first[i]]++] = second[i];
+        targets[fill[second[i]]++] = first[i];
+      }
+      for (int i = 0; i < spaceCount; i++) {
+        // Sorting by list position reproduces the pairwise scan order.
+        Arrays.sort(targets, offsets[i], offsets[i + 1]);
+      }
+      for (int k = 0; k < targets.length; k++) {
+        targets[k] = spaces.get(targets[k]).getSpaceIndex();
+      }
+      return AdjacencyGraph.of(offsets, targets);
+    }
+  }
+}
@@ -0,0 +1,217 @@
+package model.world;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import model.item.Item;
+import model.item.ItemImpl;
+import model.pet.PetImpl;
+import model.space.AdjacencyGraph;
+import model.space.Space;
+import model.space.SpaceImpl;
+import model.target.TargetCharacterImpl;
+
+/**
+ * Reads and writes the binary compiled form of a world specification.
+ *
+ * The layout is a header (magic number and version), a table of interned strings, the
+ * world, target and pet records, a table of fixed-width space rectangles, a table of
+ * fixed-width items and the precomputed neighbor graph in compressed sparse row form.
+ * All names are stored as indices into the string table. Loading a compiled world skips
+ * text parsing and neighbor computation entirely.
+ */
+final class CompiledWorldFormat {
+  /** The first four bytes of every compiled world file: "KDLW". */
+  static final int MAGIC = 0x4B444C57;
+  /** The version of the layout written by this class. */
+  static final int VERSION = 1;
+
+  private CompiledWorldFormat() {
+    // Static utility class
+  }
+
+  /**
+   * Writes a freshly loaded world in compiled form.
+   *
+   * @param world the world to write, before any game has been played on it
+   * @param out   the output to write to
+   * @throws IOException if writing fails
+   */
+  static void write(WorldImpl world, DataOutputStream out) throws IOException {
+    List<String> strings = new ArrayList<>();
+    Map<String, Integer> stringIndex = new HashMap<>();
+    List<Space> spaces = world.getSpaces();
+
+    int worldNameRef = intern(world.getWorldName(), strings, stringIndex);
+    int targetNameRef = intern(world.getTargetCharacter().getTargetName(), strings, stringIndex);
+    int petNameRef = intern(world.getPet().getPetName(), strings, stringIndex);
+    int[] spaceNameRefs = new int[spaces.size()];
+    List<int[]> itemRecords = new ArrayList<>();
+    for (int i = 0; i < spaces.size(); i++) {
+      Space space = spaces.get(i);
+      spaceNameRefs[i] = intern(space.getSpaceName(), strings, stringIndex);
+      for (Item item : space.getItems()) {
+        itemRecords.add(new int[] {i, item.getDamage(),
+            intern(item.getItemName(), strings, stringIndex)});
+      }
+    }
+
+    out.writeInt(MAGIC);
+    out.writeInt(VERSION);
+
+    out.writeInt(strings.size());
+    for (String string : strings) {
+      out.writeUTF(string);
+    }
+
+    out.writeInt(worldNameRef);
+    out.writeInt(world.getRows());
+    out.writeInt(world.getColumns());
+    out.writeInt(targetNameRef);
+    out.writeInt(world.getTargetCharacter().getHealth());
+    out.writeInt(petNameRef);
+
+    out.writeInt(spaces.size());
+    for (int i = 0; i < spaces.size(); i++) {
+      Space space = spaces.get(i);
+      out.writeInt(space.getUpperLeftRow());
+      out.writeInt(space.getUpperLeftColumn());
+      out.writeInt(space.getLowerRightRow());
+      out.writeInt(space.getLowerRightColumn());
+      out.writeInt(spaceNameRefs[i]);
+    }
+
+    out.writeInt(world.getTotalItems());
+    out.writeInt(itemRecords.size());
+    for (int[] record : itemRecords) {
+      out.writeInt(record[0]);
+      out.writeInt(record[1]);
+      out.writeInt(record[2]);
+    }
+
+    // The neighbor graph: the offsets array, then the targets array.
+    AdjacencyGraph adjacency = world.getAdjacency();
+    int offset = 0;
+    out.writeInt(offset);
+    for (int node = 0; node < adjacency.size(); node++) {
+      offset += adjacency.degree(node);
+      out.writeInt(offset);
+    }
+    for (int node = 0; node < adjacency.size(); node++) {
+      for (int k = 0; k < adjacency.degree(node); k++) {
+        out.writeInt(adjacency.neighbor(node, k));
+      }
+    }
+    out.flush();
+  }
+
+  /**
+   * Reads a compiled world and builds a new world from it.
+   *
+   * @param in the input to read from
+   * @return a newly created world
+   * @throws IOException if reading fails, the file is not a compiled world, it was
+   *                     written with an unsupported version, or the values in it are
+   *                     invalid
+   */
+  static WorldImpl read(DataInputStream in) throws IOException {
+    try {
+      return readWorld(in);
+    } catch (IllegalArgumentException e) {
+      // A damaged file is reported like any other unreadable one.
+      throw new IOException("Invalid compiled world: " + e.getMessage(), e);
+    }
+  }
+
+  private static WorldImpl readWorld(DataInputStream in) throws IOException {
+    if (in.readInt() != MAGIC) {
+      throw new IOException("Not a compiled world file.");
+    }
+    int version = in.readInt();
+    if (version != VERSION) {
+      throw new IOException("Unsupported compiled world version: " + version);
+    }
+
+    String[] strings = new String[readCount(in)];
+    for (int i = 0; i < strings.length; i++) {
+      strings[i] = in.readUTF();
+    }
+
+    String worldName = lookup(strings, in.readInt());
+    int rows = in.readInt();
+    int columns = in.readInt();
+    String targetName = lookup(strings, in.readInt());
+    int health = in.readInt();
+    String petName = lookup(strings, in.readInt());
+
+    int totalSpaces = readCount(in);
+    List<Space> spaces = new ArrayList<>(totalSpaces);
+    for (int i = 0; i < totalSpaces; i++) {
+      int upperLeftRow = in.readInt();
+      int upperLeftColumn = in.readInt();
+      int lowerRightRow = in.readInt();
+      int lowerRightColumn = in.readInt();
+      String spaceName = lookup(strings, in.readInt());
+      spaces.add(new SpaceImpl(i, spaceName, upperLeftRow, upperLeftColumn, lowerRightRow,
+          lowerRightColumn, new ArrayList<Item>(), new ArrayList<Integer>()));
+    }
+
+    int totalItems = in.readInt();
+    int itemCount = readCount(in);
+    for (int i = 0; i < itemCount; i++) {
+      int spaceIndex = in.readInt();
+      int damage = in.readInt();
+      String itemName = lookup(strings, in.readInt());
+      if (spaceIndex < 0 || spaceIndex >= totalSpaces) {
+        throw new IOException("Invalid item space index: " + spaceIndex);
+      }
+      spaces.get(spaceIndex).addItem(new ItemImpl(itemName, damage, spaceIndex));
+    }
+
+    int[] offsets = new int[totalSpaces + 1];
+    for (int node = 0; node <= totalSpaces; node++) {
+      offsets[node] = readCount(in);
+    }
+    int[] targets = new int[offsets[totalSpaces]];
+    for (int k = 0; k < targets.length; k++) {
+      targets[k] = in.readInt();
+      if (targets[k] < 0 || targets[k] >= totalSpaces) {
+        throw new IOException("Invalid neighbor index: " + targets[k]);
+      }
+    }
+    AdjacencyGraph adjacency = AdjacencyGraph.of(offsets, targets);
+
+    return new WorldImpl(worldName, rows, columns, spaces,
+        new TargetCharacterImpl(targetName, health), totalSpaces, totalItems,
+        new PetImpl(petName, 0), adjacency);
+  }
+
+  private static int intern(String value, List<String> strings, Map<String, Integer> index) {
+    Integer ref = index.get(value);
+    if (ref == null) {
+      ref = strings.size();
+      strings.add(value);
+      index.put(value, ref);
+    }
+    return ref;
+  }
+
+  private static String lookup(String[] strings, int ref) throws IOException {
+    if (ref < 0 || ref >= strings.length) {
+      throw new IOException("Invalid string reference: " + ref);
+    }
+    return strings[ref];
+  }
+
+  private static int readCount(DataInputStream in) throws IOException {
+    int count = in.readInt();
+    if (count < 0) {
+      throw new IOException("Invalid count: " + count);
+    }
+    return count;
+  }
+}
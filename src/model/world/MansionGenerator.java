@@ -0,0 +1,190 @@
+package model.world;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import model.player.RandomGenerator;
+
+/**
+ * Generates world specification files of any size, for measuring how the game scales.
+ *
+ * The rooms are laid out row by row on a grid with a fixed number of columns. Every room
+ * fills its grid cell except for a one unit gap on its bottom and right sides, so rooms
+ * never overlap. A room closes the gap towards a neighbor to touch it: every room touches
+ * the room to its right, the rooms of the first column touch the room below them, and
+ * every other room touches the room below it with the probability given by the
+ * connectivity. This keeps the world connected even at connectivity 0, where the rooms
+ * form a comb, while connectivity 1 gives the full grid.
+ *
+ * The rooms and items are computed from their index and a seeded random stream while they
+ * are written, so the output is streamed and the same settings always give the same file,
+ * whatever its size.
+ */
+public final class MansionGenerator {
+  /** The height of a room, in rows, without the gap below it. */
+  static final int ROOM_HEIGHT = 3;
+  /** The width of a room, in columns, without the gap to its right. */
+  static final int ROOM_WIDTH = 4;
+  private static final int MAX_DAMAGE = 5;
+  private static final int PROBABILITY_SCALE = 1 << 24;
+
+  private final int roomCount;
+  private final int gridColumns;
+  private final double itemDensity;
+  private final double connectivity;
+  private final long seed;
+
+  /**
+   * Creates a generator.
+   *
+   * @param roomCount    the number of rooms
+   * @param gridColumns  the number of rooms in every row of the grid
+   * @param itemDensity  the average number of items per room
+   * @param connectivity the probability that a room touches the room below it, from 0 to 1
+   * @param seed         the seed of the random choices
+   * @throws IllegalArgumentException if a count is not positive, the grid would be larger
+   *                                  than an int can address, the density is negative or
+   *                                  the connectivity is outside [0, 1]
+   */
+  public MansionGenerator(int roomCount, int gridColumns, double itemDensity,
+      double connectivity, long seed) {
+    if (roomCount <= 0 || gridColumns <= 0) {
+      throw new IllegalArgumentException("Room count and grid columns must be positive.");
+    }
+    if ((long) gridColumns * (ROOM_WIDTH + 1) > Integer.MAX_VALUE
+        || gridRows(roomCount, gridColumns) * (ROOM_HEIGHT + 1) > Integer.MAX_VALUE) {
+      throw new IllegalArgumentException("The grid is too large.");
+    }
+    if (!(itemDensity >= 0) || itemDensity > Integer.MAX_VALUE) {
+      throw new IllegalArgumentException("Item density must be a non-negative number.");
+    }
+    if (!(connectivity >= 0 && connectivity <= 1)) {
+      throw new IllegalArgumentException("Connectivity must be between 0 and 1.");
+    }
+    this.roomCount = roomCount;
+    this.gridColumns = gridColumns;
+    this.itemDensity = itemDensity;
+    this.connectivity = connectivity;
+    this.seed = seed;
+  }
+
+  /**
+   * Writes the world to a file in ASCII.
+   *
+   * @param file the file to write
+   * @throws IOException if the file cannot be written
+   * @throws IllegalArgumentException if file is null
+   */
+  public void write(File file) throws IOException {
+    if (file == null) {
+      throw new IllegalArgumentException("File cannot be null.");
+    }
+    try (Writer out = new BufferedWriter(new OutputStreamWriter(new FileOutputStream(file),
+        StandardCharsets.US_ASCII), 1 << 16)) {
+      write(out);
+    }
+  }
+
+  /**
+   * Writes the world to a writer, which is neither flushed nor closed.
+   *
+   * @param out the writer to write to
+   * @throws IOException if writing fails
+   * @throws IllegalArgumentException if out is null or the world would hold more items than
+   *                                  an int can count
+   */
+  public void write(Writer out) throws IOException {
+    if (out == null) {
+      throw new IllegalArgumentException("Writer cannot be null.");
+    }
+    RandomGenerator root = RandomGenerator.withSeed(seed);
+    RandomGenerator layout = root.split();
+    RandomGenerator counting = root.split();
+    RandomGenerator itemCounts = counting.copy();
+    RandomGenerator damages = root.split();
+
+    long totalItems = 0;
+    for (int room = 0; room < roomCount; room++) {
+      totalItems += itemsIn(counting);
+    }
+    if (totalItems > Integer.MAX_VALUE) {
+      throw new IllegalArgumentException("Too many items: " + totalItems);
+    }
+
+    StringBuilder line = new StringBuilder(64);
+    long rows = gridRows(roomCount, gridColumns);
+    line.append(rows * (ROOM_HEIGHT + 1)).append(' ')
+        .append((long) gridColumns * (ROOM_WIDTH + 1)).append(" Generated Mansion ")
+        .append(roomCount).append('\n')
+        .append("50 Doctor Lucky\n")
+        .append("Fortune the Cat\n")
+        .append(roomCount).append('\n');
+    flush(line, out);
+
+    for (int room = 0; room < roomCount; room++) {
+      int column = room % gridColumns;
+      int top = room / gridColumns * (ROOM_HEIGHT + 1);
+      int left = column * (ROOM_WIDTH + 1);
+      boolean touchesRight = column + 1 < gridColumns && room + 1 < roomCount;
+      boolean touchesBelow = room + gridColumns < roomCount
+          && (column == 0 || chance(layout, connectivity));
+      line.append(top).append(' ').append(left).append(' ')
+          .append(top + ROOM_HEIGHT - (touchesBelow ? 0 : 1)).append(' ')
+          .append(left + ROOM_WIDTH - (touchesRight ? 0 : 1)).append(" Room ").append(room)
+          .append('\n');
+      flush(line, out);
+    }
+
+    line.append(totalItems).append('\n');
+    int item = 0;
+    for (int room = 0; room < roomCount; room++) {
+      for (int k = itemsIn(itemCounts); k > 0; k--) {
+        line.append(room).append(' ').append(1 + damages.nextInt(MAX_DAMAGE))
+            .append(" Item ").append(item++).append('\n');
+        flush(line, out);
+      }
+    }
+    flush(line, out);
+  }
+
+  private int itemsIn(RandomGenerator random) {
+    int whole = (int) itemDensity;
+    return whole + (chance(random, itemDensity - whole) ? 1 : 0);
+  }
+
+  private static boolean chance(RandomGenerator random, double probability) {
+    return random.nextInt(PROBABILITY_SCALE) < probability * PROBABILITY_SCALE;
+  }
+
+  private static long gridRows(int roomCount, int gridColumns) {
+    return ((long) roomCount + gridColumns - 1) / gridColumns;
+  }
+
+  private static void flush(StringBuilder line, Writer out) throws IOException {
+    out.append(line);
+    line.setLength(0);
+  }
+
+  /**
+   * Writes a generated world file from the command line.
+   *
+   * @param args the output file, the room count, the grid columns, the item density, the
+   *             connectivity and optionally the seed
+   * @throws IOException if the file cannot be written
+   */
+  public static void main(String[] args) throws IOException {
+    if (args.length < 5 || args.length > 6) {
+      System.err.println("Usage: MansionGenerator <file> <rooms> <grid columns>"
+          + " <items per room> <connectivity> [seed]");
+      System.exit(1);
+    }
+    long seed = args.length == 6 ? Long.parseLong(args[5]) : 0L;
+    new MansionGenerator(Integer.parseInt(args[1]), Integer.parseInt(args[2]),
+        Double.parseDouble(args[3]), Double.parseDouble(args[4]), seed)
+        .write(new File(args[0]));
+  }
+}
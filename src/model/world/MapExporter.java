@@ -0,0 +1,163 @@
+package model.world;
+
+import java.awt.image.BufferedImage;
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import javax.imageio.ImageIO;
+
+/**
+ * Writes map images to PNG files on a background thread, so that rendering a map never
+ * waits for the compression.
+ *
+ * Before encoding, the pixels of the image are hashed and compared with the hash of the
+ * image last written to the same file. When they match and the file is still there, the
+ * file is left as it is, so exporting the map of an unchanged world again costs a pass
+ * over its pixels instead of a new PNG encoding. Files are written to a temporary file
+ * first and moved into place, so a reader never sees a half-written image.
+ */
+public final class MapExporter implements Closeable {
+  private static MapExporter defaultExporter;
+
+  private final ExecutorService encoder;
+  private final Map<String, byte[]> exportedHashes;
+
+  /**
+   * Creates an exporter with its own background thread.
+   */
+  public MapExporter() {
+    this.encoder = Executors.newSingleThreadExecutor(task -> {
+      Thread thread = new Thread(task, "map-exporter");
+      thread.setDaemon(true);
+      return thread;
+    });
+    this.exportedHashes = new HashMap<>();
+  }
+
+  /**
+   * Retrieves the exporter shared by the whole application, creating it the first time it
+   * is requested. The shared exporter is never closed.
+   *
+   * @return the shared exporter
+   */
+  public static synchronized MapExporter getDefault() {
+    if (defaultExporter == null) {
+      defaultExporter = new MapExporter();
+    }
+    return defaultExporter;
+  }
+
+  /**
+   * Writes an image to a PNG file in the background, unless the file already holds the
+   * same image. The image must not be drawn on until the returned future completes.
+   *
+   * @param image the image to write
+   * @param file  the file to write, whose directory is created if missing
+   * @return a future completing with true when the image was encoded, or false when the
+   *         file already held it, and completing exceptionally if the file cannot be
+   *         written
+   * @throws IllegalArgumentException if image or file is null
+   * @throws IllegalStateException if the exporter is closed
+   */
+  public CompletableFuture<Boolean> export(BufferedImage image, File file) {
+    if (image == null || file == null) {
+      throw new IllegalArgumentException("Image and file cannot be null.");
+    }
+    try {
+      return CompletableFuture.supplyAsync(() -> {
+        try {
+          return write(image, file);
+        } catch (IOException e) {
+          throw new UncheckedIOException(e);
+        }
+      }, encoder);
+    } catch (RejectedExecutionException e) {
+      throw new IllegalStateException("The exporter is closed.", e);
+    }
+  }
+
+  private boolean write(BufferedImage image, File file) throws IOException {
+    String path = file.getCanonicalPath();
+    byte[] hash = hash(image);
+    if (file.isFile() && Arrays.equals(hash, exportedHashes.get(path))) {
+      return false;
+    }
+    File directory = file.getAbsoluteFile().getParentFile();
+    if (directory != null && !directory.isDirectory() && !directory.mkdirs()) {
+      throw new IOException("Failed to create directory: " + directory);
+    }
+    File temporary = new File(directory, file.getName() + ".tmp");
+    if (!ImageIO.write(image, "png", temporary)) {
+      throw new IOException("Failed to save image: No appropriate writer found");
+    }
+    try {
+      Files.move(temporary.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING,
+          StandardCopyOption.ATOMIC_MOVE);
+    } catch (AtomicMoveNotSupportedException e) {
+      Files.move(temporary.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+    }
+    exportedHashes.put(path, hash);
+    return true;
+  }
+
+  private static byte[] hash(BufferedImage image) {
+    MessageDigest digest;
+    try {
+      digest = MessageDigest.getInstance("SHA-256");
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException("SHA-256 is not available.", e);
+    }
+    int width = image.getWidth();
+    int height = image.getHeight();
+    int[] row = new int[width];
+    byte[] bytes = new byte[width * 4 + 8];
+    putInt(bytes, 0, width);
+    putInt(bytes, 4, height);
+    digest.update(bytes, 0, 8);
+    for (int y = 0; y < height; y++) {
+      image.getRGB(0, y, width, 1, row, 0, width);
+      for (int x = 0; x < width; x++) {
+        putInt(bytes, x * 4, row[x]);
+      }
+      digest.update(bytes, 0, width * 4);
+    }
+    return digest.digest();
+  }
+
+  private static void putInt(byte[] bytes, int offset, int value) {
+    bytes[offset] = (byte) (value >>> 24);
+    bytes[offset + 1] = (byte) (value >>> 16);
+    bytes[offset + 2] = (byte) (value >>> 8);
+    bytes[offset + 3] = (byte) value;
+  }
+
+  /**
+   * Writes the images passed to the exporter so far, then stops the background thread.
+   *
+   * @throws IOException if interrupted while waiting for the writes
+   */
+  @Override
+  public void close() throws IOException {
+    encoder.shutdown();
+    try {
+      encoder.awaitTermination(Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IOException("Interrupted while exporting.", e);
+    }
+  }
+}
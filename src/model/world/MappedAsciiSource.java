@@ -0,0 +1,89 @@
+package model.world;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.CharBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+
+/**
+ * A {@link Readable} over a memory-mapped file that holds only ASCII text.
+ *
+ * The file is mapped window by window, and every byte is widened straight into the
+ * caller's character buffer instead of going through a charset decoder. The mapped
+ * windows live outside the Java heap, so reading a file of any size needs only the
+ * caller's buffer on the heap. When a byte outside the ASCII range is found, reading stops
+ * with a {@link NonAsciiInputException} so that the caller can fall back to a decoding
+ * reader.
+ */
+final class MappedAsciiSource implements Readable, Closeable {
+  private static final long WINDOW_SIZE = 64L * 1024 * 1024;
+
+  private final FileChannel channel;
+  private final long size;
+  private long nextWindowStart;
+  private MappedByteBuffer window;
+
+  /**
+   * Creates a source reading from the given channel.
+   *
+   * @param channel the channel of the file to read, owned by the source afterwards
+   * @throws IOException if the size of the file cannot be read
+   */
+  MappedAsciiSource(FileChannel channel) throws IOException {
+    this.channel = channel;
+    this.size = channel.size();
+    this.nextWindowStart = 0;
+    this.window = null;
+  }
+
+  @Override
+  public int read(CharBuffer target) throws IOException {
+    if (window == null || !window.hasRemaining()) {
+      if (nextWindowStart >= size) {
+        return -1;
+      }
+      long length = Math.min(WINDOW_SIZE, size - nextWindowStart);
+      window = channel.map(FileChannel.MapMode.READ_ONLY, nextWindowStart, length);
+      nextWindowStart += length;
+    }
+    int count = Math.min(target.remaining(), window.remaining());
+    if (target.hasArray()) {
+      char[] chars = target.array();
+      int offset = target.arrayOffset() + target.position();
+      for (int i = 0; i < count; i++) {
+        chars[offset + i] = toAscii(window.get());
+      }
+      target.position(target.position() + count);
+    } else {
+      for (int i = 0; i < count; i++) {
+        target.put(toAscii(window.get()));
+      }
+    }
+    return count;
+  }
+
+  @Override
+  public void close() throws IOException {
+    window = null;
+    channel.close();
+  }
+
+  private static char toAscii(byte b) {
+    if (b < 0) {
+      throw new NonAsciiInputException();
+    }
+    return (char) b;
+  }
+
+  /**
+   * Signals that the mapped file holds a byte outside the ASCII range.
+   */
+  static final class NonAsciiInputException extends RuntimeException {
+    private static final long serialVersionUID = 4215730893142587603L;
+
+    NonAsciiInputException() {
+      super("The world file is not plain ASCII.");
+    }
+  }
+}
@@ -5,6 +5,8 @@ import java.io.IOException;
 import java.util.List;
 import model.pet.Pet;
 import model.player.Player;
+import model.space.AdjacencyGraph;
+import model.space.DistanceTable;
 import model.space.Space;
 import model.target.TargetCharacter;
 
@@ -56,6 +58,22 @@ public interface World {
    */
   void findNeighbors();
 
+  /**
+   * Retrieves the adjacency graph shared by all spaces of the world. Node i of the graph
+   * holds the neighbors of the space at position i of {@link #getSpaces()}.
+   *
+   * @return the adjacency graph built by {@link #findNeighbors()}.
+   */
+  AdjacencyGraph getAdjacency();
+
+  /**
+   * Retrieves the number of moves between the spaces of the world, built from
+   * {@link #getAdjacency()} the first time it is requested.
+   *
+   * @return the distance table of the world
+   */
+  DistanceTable getDistances();
+
   /**
    * Creates a visual representation of the world as a map.
    *
@@ -79,12 +97,44 @@ public interface World {
   void addPlayer(Player player);
 
   /**
-   * Retrieves a list of all players in the game world.
+   * Retrieves a list of all players in the game world, in turn order. The list is a
+   * read-only view that follows players joining the game, so callers taking every turn
+   * do not copy it.
    *
-   * @return a list of all players
+   * @return an unmodifiable view of all players
    */
   List<Player> getPlayers();
 
+  /**
+   * Finds a player in the game world by name.
+   *
+   * @param playerName the name of the player
+   * @return the first player added with that name, or null if there is none
+   */
+  Player getPlayerByName(String playerName);
+
+  /**
+   * Retrieves the number of players in a space. The count is kept up to date as players
+   * join and move, so the query takes constant time.
+   *
+   * @param spaceIndex the index of the space
+   * @return the number of players in the space
+   * @throws IllegalArgumentException if the space index is invalid
+   */
+  int getPlayerCountInSpace(int spaceIndex);
+
+  /**
+   * Checks if a player in a space would be seen by another player: the pet is not in the
+   * space, and another player is in the same space or in a neighboring space. The check
+   * uses the precomputed line-of-sight sets and the live occupancy of the spaces, so it
+   * does not allocate.
+   *
+   * @param spaceIndex the index of the space
+   * @return true if a player in the space can be seen, false otherwise
+   * @throws IllegalArgumentException if the space index is invalid
+   */
+  boolean isPlayerSeen(int spaceIndex);
+
   /**
    * Gets the current active player.
    *
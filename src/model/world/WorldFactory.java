@@ -1,8 +1,19 @@
 package model.world;
 
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileNotFoundException;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Scanner;
 import model.item.Item;
 import model.item.ItemImpl;
 import model.pet.Pet;
@@ -35,11 +46,21 @@ public class WorldFactory {
    * This constructor sets up the list of spaces.
    */
   public WorldFactory() {
+    reset();
+  }
+
+  /**
+   * Clears the values read so far, so that the factory can read a new input.
+   */
+  private void reset() {
+    worldName = null;
     rows = 0;
     columns = 0;
     spaces = new ArrayList<>();
+    targetCharacter = null;
     totalSpaces = 0;
     totalItems = 0;
+    pet = null;
   }
 
   /**
@@ -49,31 +70,34 @@ public class WorldFactory {
    * @param readable the source of input (can be a file or other readable source)
    */
   public void readValuesFromFile(Readable readable) {
-    Scanner scanner = new Scanner(readable);
+    reset();
+    WorldFileTokenizer tokenizer = new WorldFileTokenizer(readable);
     try {
-      readWorld(scanner);
-      createTargetCharacter(scanner);
-      createPet(scanner);
-      createSpaces(scanner);
-      createItems(scanner);
+      readWorld(tokenizer);
+      createTargetCharacter(tokenizer);
+      createPet(tokenizer);
+      createSpaces(tokenizer);
+      createItems(tokenizer);
     } catch (IllegalArgumentException e) {
-      throw new IllegalArgumentException("Error reading values from file: " + e.getMessage());
+      throw new IllegalArgumentException("Error reading values from file: " + e.getMessage()
+          + " (line " + tokenizer.getTokenLine() + ", column " + tokenizer.getTokenColumn()
+          + ")");
     } finally {
-      scanner.close();
+      tokenizer.close();
     }
   }
 
   /**
    * Reads the world configuration from the input.
    *
-   * @param scanner the scanner used to parse the input
+   * @param tokenizer the tokenizer used to parse the input
    * @throws IllegalArgumentException if rows and columns read are negative or zero,
    *          or the world name read is empty
    */
-  private void readWorld(Scanner scanner) {
-    int rowsRead = Integer.parseInt(scanner.next());
-    int columnsRead = Integer.parseInt(scanner.next());
-    String worldNameRead = scanner.nextLine().trim();
+  private void readWorld(WorldFileTokenizer tokenizer) {
+    int rowsRead = tokenizer.nextInt();
+    int columnsRead = tokenizer.nextInt();
+    String worldNameRead = tokenizer.nextLine().trim();
     if (rowsRead <= 0 || columnsRead <= 0) {
       throw new IllegalArgumentException("Rows and columns must be positive integers.");
     }
@@ -88,13 +112,13 @@ public class WorldFactory {
   /**
    * Creates the target character based on the input values.
    *
-   * @param scanner the scanner used to parse the input
+   * @param tokenizer the tokenizer used to parse the input
    * @throws IllegalArgumentException if health is not positive, 
    *          character name is empty or failed to create target character
    */
-  private void createTargetCharacter(Scanner scanner) {
-    int health = Integer.parseInt(scanner.next());
-    String targetName = scanner.nextLine().trim();
+  private void createTargetCharacter(WorldFileTokenizer tokenizer) {
+    int health = tokenizer.nextInt();
+    String targetName = tokenizer.nextLine().trim();
     
     if (health <= 0) {
       throw new IllegalArgumentException("Health must be a positive integer.");
@@ -110,8 +134,8 @@ public class WorldFactory {
     }
   }
 
-  private void createPet(Scanner scanner) {
-    String petName = scanner.nextLine().trim();
+  private void createPet(WorldFileTokenizer tokenizer) {
+    String petName = tokenizer.nextLine().trim();
     if (petName.isEmpty()) {
       throw new IllegalArgumentException("Pet name cannot be empty.");
     }
@@ -125,18 +149,18 @@ public class WorldFactory {
   /**
    * Creates spaces in the world based on the input values.
    *
-   * @param scanner the scanner used to parse the input
+   * @param tokenizer the tokenizer used to parse the input
    * @throws IllegalArgumentException if number of spaces is not positive.
    */
-  private void createSpaces(Scanner scanner) {
-    int totalSpacesRead = Integer.parseInt(scanner.next());
+  private void createSpaces(WorldFileTokenizer tokenizer) {
+    int totalSpacesRead = tokenizer.nextInt();
     if (totalSpacesRead <= 0) {
       throw new IllegalArgumentException("Total spaces must be a positive integer.");
     }
     totalSpaces = totalSpacesRead;
     for (int i = 0; i < totalSpaces; i++) {
       try {
-        spaces.add(createSpace(i, scanner));
+        spaces.add(createSpace(i, tokenizer));
       } catch (IllegalArgumentException e) {
         throw new IllegalArgumentException("Error creating space at index " 
       + i + ": " + e.getMessage());
@@ -148,16 +172,16 @@ public class WorldFactory {
    * Creates a single space based on the input values.
    *
    * @param index the index of the space being created
-   * @param scanner the scanner used to parse the input
+   * @param tokenizer the tokenizer used to parse the input
    * @return a newly created Space object
    * @throws IllegalArgumentException if invalid coordinates for spaces or space name is empty
    */
-  private Space createSpace(int index, Scanner scanner) {
-    int upperLeftRow = Integer.parseInt(scanner.next());
-    int upperLeftCol = Integer.parseInt(scanner.next());
-    int lowerRightRow = Integer.parseInt(scanner.next());
-    int lowerRightCol = Integer.parseInt(scanner.next());
-    String spaceName = scanner.nextLine().trim();
+  private Space createSpace(int index, WorldFileTokenizer tokenizer) {
+    int upperLeftRow = tokenizer.nextInt();
+    int upperLeftCol = tokenizer.nextInt();
+    int lowerRightRow = tokenizer.nextInt();
+    int lowerRightCol = tokenizer.nextInt();
+    String spaceName = tokenizer.nextLine().trim();
   
     if (upperLeftRow < 0 || upperLeftCol < 0 
         || lowerRightRow < upperLeftRow || lowerRightCol < upperLeftCol) {
@@ -180,18 +204,18 @@ public class WorldFactory {
   /**
    * Creates items in the world based on the input values.
    *
-   * @param scanner the scanner used to parse the input
+   * @param tokenizer the tokenizer used to parse the input
    * @throws IllegalArgumentException if number of items is negative
    */
-  private void createItems(Scanner scanner) {
-    int totalItemsRead = Integer.parseInt(scanner.next());
+  private void createItems(WorldFileTokenizer tokenizer) {
+    int totalItemsRead = tokenizer.nextInt();
     if (totalItemsRead < 0) {
       throw new IllegalArgumentException("Total items cannot be negative.");
     }
     totalItems = totalItemsRead;
     for (int i = 0; i < totalItems; i++) {
       try {
-        Item item = createItem(scanner);
+        Item item = createItem(tokenizer);
         spaces.get(item.getSpaceIndex()).addItem(item);
       } catch (IllegalArgumentException e) {
         throw new IllegalArgumentException("Error creating item at index "
@@ -203,15 +227,15 @@ public class WorldFactory {
   /**
    * Creates a single item based on the input values.
    *
-   * @param scanner the scanner used to parse the input
+   * @param tokenizer the tokenizer used to parse the input
    * @return a newly created Item object
    * @throws IllegalArgumentException if space index out of range
    *          , damage be negative, item name be empty, or failed to create item
    */
-  private Item createItem(Scanner scanner) {
-    int spaceIndex = Integer.parseInt(scanner.next());
-    int damage = Integer.parseInt(scanner.next());
-    String itemName = scanner.nextLine().trim();
+  private Item createItem(WorldFileTokenizer tokenizer) {
+    int spaceIndex = tokenizer.nextInt();
+    int damage = tokenizer.nextInt();
+    String itemName = tokenizer.nextLine().trim();
     
     if (spaceIndex < 0 || spaceIndex >= totalSpaces) {
       throw new IllegalArgumentException("Space index must be valid (0 to "
@@ -246,4 +270,84 @@ public class WorldFactory {
       throw new IllegalArgumentException("Error creating world: " + e.getMessage());
     }
   }
+
+  /**
+   * Creates a world from a file on disk. Plain ASCII files are memory-mapped and read
+   * without a charset decoder, so that the heap used while loading stays proportional to
+   * the world rather than to the file. Files holding other characters, such as accented
+   * names, are read again through a reader using the default charset.
+   *
+   * @param file the world specification file
+   * @return a newly created WorldImpl object
+   * @throws FileNotFoundException if the file does not exist
+   * @throws IOException if the file cannot be read
+   * @throws IllegalArgumentException if file is null or its content is invalid
+   */
+  public WorldImpl createWorld(File file) throws IOException {
+    if (file == null) {
+      throw new IllegalArgumentException("File cannot be null.");
+    }
+    if (!file.isFile()) {
+      throw new FileNotFoundException(file.getPath() + " (No such file or directory)");
+    }
+    FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ);
+    MappedAsciiSource source;
+    try {
+      source = new MappedAsciiSource(channel);
+    } catch (IOException e) {
+      channel.close();
+      throw e;
+    }
+    try {
+      return createWorld(source);
+    } catch (MappedAsciiSource.NonAsciiInputException e) {
+      return createWorld(new InputStreamReader(new FileInputStream(file)));
+    }
+  }
+
+  /**
+   * Compiles a world specification file into the binary compiled world format. The
+   * compiled file holds the spaces, items and precomputed neighbors of the world, so that
+   * {@link #createWorldFromCompiled(File)} can load it without parsing or computing
+   * neighbors again.
+   *
+   * @param worldFile    the world specification file
+   * @param compiledFile the file to write the compiled world to
+   * @return the world that was compiled
+   * @throws FileNotFoundException if the world specification file does not exist
+   * @throws IOException if a file cannot be read or written
+   * @throws IllegalArgumentException if a file is null or the specification is invalid
+   */
+  public WorldImpl compileWorld(File worldFile, File compiledFile) throws IOException {
+    if (compiledFile == null) {
+      throw new IllegalArgumentException("Compiled file cannot be null.");
+    }
+    WorldImpl world = createWorld(worldFile);
+    try (DataOutputStream out = new DataOutputStream(
+        new BufferedOutputStream(new FileOutputStream(compiledFile)))) {
+      CompiledWorldFormat.write(world, out);
+    }
+    return world;
+  }
+
+  /**
+   * Creates a world from a file written by {@link #compileWorld(File, File)}.
+   *
+   * @param compiledFile the compiled world file
+   * @return a newly created WorldImpl object
+   * @throws FileNotFoundException if the file does not exist
+   * @throws IOException if the file cannot be read, is not a compiled world, was
+   *                     compiled with an unsupported version of the format, or its content
+   *                     is invalid
+   * @throws IllegalArgumentException if compiledFile is null
+   */
+  public WorldImpl createWorldFromCompiled(File compiledFile) throws IOException {
+    if (compiledFile == null) {
+      throw new IllegalArgumentException("Compiled file cannot be null.");
+    }
+    try (DataInputStream in = new DataInputStream(
+        new BufferedInputStream(new FileInputStream(compiledFile)))) {
+      return CompiledWorldFormat.read(in);
+    }
+  }
 }
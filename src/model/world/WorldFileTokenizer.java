@@ -0,0 +1,213 @@
+package model.world;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.CharBuffer;
+
+/**
+ * A streaming tokenizer for world specification files.
+ *
+ * It reads the input in fixed-size character chunks and parses integers directly from the
+ * buffer, without regular expressions and without creating a string per token. It follows
+ * the same rules as the {@link java.util.Scanner} calls it replaces: integers are
+ * separated by whitespace, and {@link #nextLine()} returns the rest of the current line.
+ * The line and column of the last token read are kept so that errors can point at the
+ * offending spot of the file.
+ */
+public final class WorldFileTokenizer implements Closeable {
+  private static final int BUFFER_SIZE = 8192;
+
+  private final Readable source;
+  private final CharBuffer buffer;
+  private final StringBuilder text;
+  private int line;
+  private int column;
+  private int tokenLine;
+  private int tokenColumn;
+  private boolean endOfInput;
+
+  /**
+   * Creates a tokenizer reading from the given source.
+   *
+   * @param source the source of the world specification
+   * @throws IllegalArgumentException if source is null
+   */
+  public WorldFileTokenizer(Readable source) {
+    if (source == null) {
+      throw new IllegalArgumentException("Source cannot be null.");
+    }
+    this.source = source;
+    this.buffer = CharBuffer.allocate(BUFFER_SIZE);
+    this.buffer.flip();
+    this.text = new StringBuilder();
+    this.line = 1;
+    this.column = 1;
+    this.tokenLine = 1;
+    this.tokenColumn = 1;
+    this.endOfInput = false;
+  }
+
+  /**
+   * Skips whitespace and parses the next whitespace-delimited token as an integer.
+   *
+   * @return the value of the token
+   * @throws NumberFormatException if the token is not a valid integer
+   * @throws IllegalArgumentException if the input ends before a token is found
+   */
+  public int nextInt() {
+    skipWhitespace();
+    markToken();
+    if (!fill()) {
+      throw new IllegalArgumentException("Unexpected end of input.");
+    }
+    text.setLength(0);
+    boolean negative = false;
+    char first = buffer.get(buffer.position());
+    if (first == '-' || first == '+') {
+      negative = first == '-';
+      text.append(first);
+      advance();
+    }
+    long value = 0;
+    int digits = 0;
+    while (fill()) {
+      char c = buffer.get(buffer.position());
+      if (c < '0' || c > '9' || value > Integer.MAX_VALUE) {
+        break;
+      }
+      value = value * 10 + (c - '0');
+      digits++;
+      text.append(c);
+      advance();
+    }
+    long signed = negative ? -value : value;
+    boolean endOfToken = !fill() || Character.isWhitespace(buffer.get(buffer.position()));
+    if (digits == 0 || !endOfToken || signed > Integer.MAX_VALUE || signed < Integer.MIN_VALUE) {
+      throw new NumberFormatException("For input string: \"" + restOfToken() + "\"");
+    }
+    return (int) signed;
+  }
+
+  /**
+   * Returns the rest of the current line and moves to the beginning of the next line.
+   *
+   * @return the rest of the current line, without the line terminator
+   * @throws IllegalArgumentException if the input has already ended
+   */
+  public String nextLine() {
+    markToken();
+    if (!fill()) {
+      throw new IllegalArgumentException("Unexpected end of input.");
+    }
+    text.setLength(0);
+    while (fill()) {
+      char c = buffer.get(buffer.position());
+      if (c == '\n' || c == '\r') {
+        advance();
+        if (c == '\r' && fill() && buffer.get(buffer.position()) == '\n') {
+          advance();
+        }
+        break;
+      }
+      text.append(c);
+      advance();
+    }
+    return text.toString();
+  }
+
+  /**
+   * Retrieves the line of the last token read, starting from 1.
+   *
+   * @return the line of the last token
+   */
+  public int getTokenLine() {
+    return tokenLine;
+  }
+
+  /**
+   * Retrieves the column of the last token read, starting from 1.
+   *
+   * @return the column of the last token
+   */
+  public int getTokenColumn() {
+    return tokenColumn;
+  }
+
+  @Override
+  public void close() {
+    if (source instanceof Closeable) {
+      try {
+        ((Closeable) source).close();
+      } catch (IOException e) {
+        throw new UncheckedIOException(e);
+      }
+    }
+  }
+
+  /**
+   * Consumes the remaining characters of a malformed token for the error message.
+   *
+   * @return the whole token text
+   */
+  private String restOfToken() {
+    while (fill() && !Character.isWhitespace(buffer.get(buffer.position()))) {
+      text.append(buffer.get(buffer.position()));
+      advance();
+    }
+    return text.toString();
+  }
+
+  private void skipWhitespace() {
+    while (fill() && Character.isWhitespace(buffer.get(buffer.position()))) {
+      advance();
+    }
+  }
+
+  private void markToken() {
+    tokenLine = line;
+    tokenColumn = column;
+  }
+
+  /**
+   * Moves past the current character and updates the line and column counters.
+   */
+  private void advance() {
+    char c = buffer.get();
+    if (c == '\n') {
+      line++;
+      column = 1;
+    } else {
+      column++;
+    }
+  }
+
+  /**
+   * Makes sure the buffer holds at least one character, reading the next chunk if needed.
+   *
+   * @return true if a character is available, false at the end of the input
+   */
+  private boolean fill() {
+    if (buffer.hasRemaining()) {
+      return true;
+    }
+    if (endOfInput) {
+      return false;
+    }
+    try {
+      buffer.clear();
+      int read;
+      do {
+        read = source.read(buffer);
+      } while (read == 0);
+      buffer.flip();
+      if (read < 0) {
+        endOfInput = true;
+        return false;
+      }
+      return true;
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+}
@@ -3,12 +3,19 @@ package model.world;
 import java.awt.image.BufferedImage;
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import model.pet.Pet;
 import model.player.Player;
+import model.space.AdjacencyGraph;
+import model.space.DistanceTable;
 import model.space.Space;
+import model.space.VisibilityIndex;
 import model.target.TargetCharacter;
 import model.viewmodel.ViewModel;
+import model.viewmodel.WorldSnapshot;
 
 /**
  * This class represents a game world, containing multiple spaces and a target
@@ -16,6 +23,11 @@ import model.viewmodel.ViewModel;
  * generating maps.
  */
 public class WorldImpl implements World, ViewModel {
+  /** The number of pixels per row and column of the map image. */
+  static final int MAP_SCALE = 30;
+  /** The padding around the border of the map image, in pixels. */
+  static final int MAP_PADDING = 100;
+
   private final String worldName;
   private final int rows;
   private final int columns;
@@ -24,11 +36,21 @@ public class WorldImpl implements World, ViewModel {
   private final int totalSpaces;
   private final int totalItems;
   private final List<Player> players;
+  private final List<Player> playersView;
+  private final Map<String, Player> playersByName;
+  private final int[] occupancy;
+  private final long[] occupiedSpaces;
+  private VisibilityIndex visibility;
+  private DistanceTable distances;
   private int currentPlayerIndex;
   private int currentTurn;
   private int maxTurns;
   private String winner;
   private Pet pet;
+  private AdjacencyGraph adjacency;
+  private WorldTemplate template;
+  private long version;
+  private WorldSnapshot snapshot;
 
   /**
    * Constructs a new WorldImpl instance.
@@ -49,6 +71,30 @@ public class WorldImpl implements World, ViewModel {
    */
   public WorldImpl(String worldName, int rows, int columns, List<Space> spaces,
       TargetCharacter targetCharacter, int totalSpaces, int totalItems, Pet pet) {
+    this(worldName, rows, columns, spaces, targetCharacter, totalSpaces, totalItems, pet, null);
+  }
+
+  /**
+   * Constructs a new WorldImpl instance whose neighbors have already been computed, for
+   * example when it is loaded from a compiled world file.
+   *
+   * @param worldName       the name of the world
+   * @param rows            the number of rows in the world
+   * @param columns         the number of columns in the world
+   * @param spaces          the list of spaces in the world
+   * @param targetCharacter the target character in the world
+   * @param totalSpaces     the total number of spaces
+   * @param totalItems      the total number of items
+   * @param pet             the pet in the world
+   * @param adjacency       the precomputed neighbors of the spaces, or null to compute them
+   * @throws IllegalArgumentException if any argument is invalid as described in
+   *                                  {@link #WorldImpl(String, int, int, List,
+   *                                  TargetCharacter, int, int, Pet)}, or if the adjacency
+   *                                  graph does not have one node per space
+   */
+  public WorldImpl(String worldName, int rows, int columns, List<Space> spaces,
+      TargetCharacter targetCharacter, int totalSpaces, int totalItems, Pet pet,
+      AdjacencyGraph adjacency) {
     if (worldName == null || worldName.trim().isEmpty()) {
       throw new IllegalArgumentException("World name cannot be null or empty.");
     }
@@ -78,12 +124,30 @@ public class WorldImpl implements World, ViewModel {
     this.totalSpaces = totalSpaces;
     this.totalItems = totalItems;
     this.players = new ArrayList<>();
+    this.playersView = Collections.unmodifiableList(players);
+    this.playersByName = new HashMap<>();
+    this.occupancy = new int[spaces.size()];
+    this.occupiedSpaces = VisibilityIndex.newSpaceSet(spaces.size());
+    this.visibility = null;
     this.currentPlayerIndex = 0;
     this.currentTurn = 1;
     this.maxTurns = 0;
     this.winner = null;
     this.pet = pet;
-    findNeighbors();
+    this.template = null;
+    this.version = 0;
+    this.snapshot = null;
+    if (adjacency == null) {
+      findNeighbors();
+    } else {
+      if (adjacency.size() != spaces.size()) {
+        throw new IllegalArgumentException("Adjacency graph must have one node per space.");
+      }
+      this.adjacency = adjacency;
+      for (int i = 0; i < spaces.size(); i++) {
+        spaces.get(i).setAdjacency(adjacency, i);
+      }
+    }
   }
 
   @Override
@@ -111,46 +175,47 @@ public class WorldImpl implements World, ViewModel {
     return totalItems;
   }
 
-  /**
-   * Determines if two spaces are neighbors based on their coordinates.
-   *
-   * @param s1 the first space
-   * @param s2 the second space
-   * @return true if the spaces are neighbors, false otherwise
-   */
-  private boolean areNeighbors(Space s1, Space s2) {
-    boolean adjacentRows = (s1.getLowerRightRow() == s2.getUpperLeftRow() - 1
-        || s2.getLowerRightRow() == s1.getUpperLeftRow() - 1)
-        && (s1.getUpperLeftColumn() <= s2.getLowerRightColumn()
-            && s1.getLowerRightColumn() >= s2.getUpperLeftColumn());
-    boolean adjacentColumns = (s1.getUpperLeftColumn() == s2.getLowerRightColumn() + 1
-        || s2.getUpperLeftColumn() == s1.getLowerRightColumn() + 1)
-        && (s1.getUpperLeftRow() <= s2.getLowerRightRow()
-            && s1.getLowerRightRow() >= s2.getUpperLeftRow());
+  @Override
+  public void findNeighbors() {
+    adjacency = AdjacencyBuilder.build(spaces);
+    visibility = null;
+    distances = null;
+    for (int i = 0; i < spaces.size(); i++) {
+      spaces.get(i).setAdjacency(adjacency, i);
+    }
+  }
 
-    return adjacentRows || adjacentColumns;
+  @Override
+  public AdjacencyGraph getAdjacency() {
+    return adjacency;
   }
 
   @Override
-  public void findNeighbors() {
-    List<Integer> neighborsIndices = new ArrayList<Integer>();
-    for (Space space : spaces) {
-      for (Space potentialNeighbor : spaces) {
-        if (space != potentialNeighbor && areNeighbors(potentialNeighbor, space)) {
-          neighborsIndices.add(potentialNeighbor.getSpaceIndex());
-        }
-      }
-      space.setNeighbors(neighborsIndices);
-      neighborsIndices.clear();
+  public DistanceTable getDistances() {
+    if (distances == null) {
+      distances = template != null && template.getAdjacency() == adjacency
+          ? template.getDistances() : DistanceTable.of(adjacency);
     }
+    return distances;
   }
 
   @Override
   public BufferedImage createWorldMap() throws IOException {
+    if (template != null) {
+      return template.getWorldMap();
+    }
     WorldPainter wp = new WorldPainter(spaces, columns, rows);
-    int scale = 30;
-    int padding = 100;
-    return wp.createImage(scale, padding);
+    return wp.createImage(MAP_SCALE, MAP_PADDING);
+  }
+
+  /**
+   * Links the world to the template it was created from, so that the map image painted
+   * for the template is reused instead of painting it again.
+   *
+   * @param template the template of the world
+   */
+  void setTemplate(WorldTemplate template) {
+    this.template = template;
   }
 
   @Override
@@ -164,11 +229,78 @@ public class WorldImpl implements World, ViewModel {
       throw new IllegalArgumentException("Player cannot be null");
     }
     players.add(player);
+    playersByName.putIfAbsent(player.getPlayerName(), player);
+    updateOccupancy(player.getCurrentSpaceIndex(), 1);
+    player.setMoveListener(this::playerMoved);
+    version++;
+  }
+
+  /**
+   * Moves a player between the occupancy counts of two spaces.
+   *
+   * @param player         the player that moved
+   * @param fromSpaceIndex the index of the space the player left
+   * @param toSpaceIndex   the index of the space the player entered
+   */
+  private void playerMoved(Player player, int fromSpaceIndex, int toSpaceIndex) {
+    updateOccupancy(fromSpaceIndex, -1);
+    updateOccupancy(toSpaceIndex, 1);
+    version++;
+  }
+
+  private void updateOccupancy(int spaceIndex, int change) {
+    // Players placed outside the world are not counted in any space.
+    if (spaceIndex >= 0 && spaceIndex < occupancy.length) {
+      occupancy[spaceIndex] += change;
+      if (occupancy[spaceIndex] > 0) {
+        occupiedSpaces[spaceIndex >>> 6] |= 1L << spaceIndex;
+      } else {
+        occupiedSpaces[spaceIndex >>> 6] &= ~(1L << spaceIndex);
+      }
+    }
+  }
+
+  @Override
+  public int getPlayerCountInSpace(int spaceIndex) {
+    if (spaceIndex < 0 || spaceIndex >= occupancy.length) {
+      throw new IllegalArgumentException("Invalid space index: " + spaceIndex);
+    }
+    return occupancy[spaceIndex];
+  }
+
+  @Override
+  public boolean isPlayerSeen(int spaceIndex) {
+    if (spaceIndex < 0 || spaceIndex >= occupancy.length) {
+      throw new IllegalArgumentException("Invalid space index: " + spaceIndex);
+    }
+    if (pet != null && pet.getCurrentSpaceIndex() == spaceIndex) {
+      return false;
+    }
+    return occupancy[spaceIndex] > 1 || getVisibility().isWatched(spaceIndex, occupiedSpaces);
+  }
+
+  /**
+   * Retrieves the line-of-sight sets of the world, building them on first use or taking
+   * them from the template the world was created from.
+   *
+   * @return the line-of-sight sets
+   */
+  private VisibilityIndex getVisibility() {
+    if (visibility == null) {
+      visibility = template != null && template.getAdjacency() == adjacency
+          ? template.getVisibility() : VisibilityIndex.of(adjacency);
+    }
+    return visibility;
   }
 
   @Override
   public List<Player> getPlayers() {
-    return new ArrayList<>(players);
+    return playersView;
+  }
+
+  @Override
+  public Player getPlayerByName(String playerName) {
+    return playersByName.get(playerName);
   }
 
   @Override
@@ -190,6 +322,37 @@ public class WorldImpl implements World, ViewModel {
     }
     currentPlayerIndex = (currentPlayerIndex + 1) % players.size();
     currentTurn++;
+    version++;
+  }
+
+  /**
+   * Retrieves the position of the current player in the order in which players joined.
+   *
+   * @return the index of the current player
+   */
+  public int getCurrentPlayerIndex() {
+    return currentPlayerIndex;
+  }
+
+  /**
+   * Sets the turn number and the current player, to put a saved game back in place.
+   *
+   * @param turn               the turn number
+   * @param currentPlayerIndex the index of the current player, in the order in which
+   *                           players joined
+   * @throws IllegalArgumentException if the turn is not positive or the player index is
+   *                                  invalid
+   */
+  public void restoreTurn(int turn, int currentPlayerIndex) {
+    if (turn <= 0) {
+      throw new IllegalArgumentException("Turn must be positive.");
+    }
+    if (currentPlayerIndex < 0 || currentPlayerIndex >= Math.max(1, players.size())) {
+      throw new IllegalArgumentException("Invalid player index: " + currentPlayerIndex);
+    }
+    this.currentTurn = turn;
+    this.currentPlayerIndex = currentPlayerIndex;
+    version++;
   }
 
   @Override
@@ -203,6 +366,7 @@ public class WorldImpl implements World, ViewModel {
       throw new IllegalArgumentException("Maximum turns must be positive");
     }
     this.maxTurns = maxTurns;
+    version++;
   }
 
   @Override
@@ -244,6 +408,7 @@ public class WorldImpl implements World, ViewModel {
       throw new IllegalArgumentException("Winner name cannot be null or empty.");
     }
     this.winner = winner;
+    version++;
   }
 
   @Override
@@ -274,6 +439,29 @@ public class WorldImpl implements World, ViewModel {
     return pet.copy();
   }
 
+  /**
+   * Gets the version of the state of the world. It changes whenever a player joins or
+   * moves, the turn advances or is restored, the maximum number of turns is set, or the
+   * game is won. Every action of a game ends with one of these, so the version also
+   * covers the items, the target character and the pet changed during the action.
+   *
+   * @return the version
+   */
+  @Override
+  public long getVersion() {
+    return version;
+  }
+
+  @Override
+  public WorldSnapshot getSnapshot() {
+    WorldSnapshot current = snapshot;
+    if (current == null || current.getVersion() != version) {
+      current = WorldSnapshot.capture(version, this, current);
+      snapshot = current;
+    }
+    return current;
+  }
+
   @Override
   public Player getCurrentPlayerCopy() {
     return getCurrentPlayer().copy();
@@ -1,17 +1,14 @@
 package model.world;
 
-import constants.Constants;
 import java.awt.Color;
 import java.awt.Graphics;
 import java.awt.image.BufferedImage;
-import java.io.File;
-import java.io.IOException;
 import java.util.List;
-import javax.imageio.ImageIO;
 import model.space.Space;
 
 /**
- * Paints the game world to an image file.
+ * Paints the game world to an image. Writing the image to a file is left to
+ * {@link MapExporter}.
  */
 public class WorldPainter {
   private static final int NAME_PADDING = 5; // Padding for space names
@@ -44,9 +41,8 @@ public class WorldPainter {
    * @param scaleFactor  The scale factor for the image.
    * @param borderPadding The padding around the border of the image.
    * @return The BufferedImage of the game world map.
-   * @throws IOException  If an error occurs while creating the image.
    */
-  public BufferedImage createImage(int scaleFactor, int borderPadding) throws IOException {
+  public BufferedImage createImage(int scaleFactor, int borderPadding) {
     int imageWidth = totalColumns * scaleFactor + borderPadding;
     int imageHeight = totalRows * scaleFactor + borderPadding;
     
@@ -63,9 +59,6 @@ public class WorldPainter {
     
     graphicsContext.dispose();
     
-    // Save the BufferedImage to a file
-    saveImageToFile(worldImage);
-    
     return worldImage;
   }
 
@@ -78,47 +71,37 @@ public class WorldPainter {
    */
   private void drawSpaces(Graphics graphicsContext, int scaleFactor, int borderPadding) {
     for (Space space : gameSpaces) {
-      int x = space.getUpperLeftColumn() * scaleFactor + borderPadding / 4;
-      int y = space.getUpperLeftRow() * scaleFactor + borderPadding / 4;   
-      int height = (space.getLowerRightRow() - space.getUpperLeftRow() + 1) * scaleFactor;
-      int width = (space.getLowerRightColumn() - space.getUpperLeftColumn() + 1) * scaleFactor;
-        
-      // Draw the space rectangle outline
-      graphicsContext.setColor(Color.ORANGE);
-      graphicsContext.drawRect(x, y, width, height);
-      
-      // Draw the space name in top-left corner with padding
-      graphicsContext.setColor(Color.BLACK);
-      String spaceName = space.getSpaceName();
-      
-      // Draw the space name in the top-left corner with padding
-      int textX = x + NAME_PADDING;
-      int textY = y + graphicsContext.getFontMetrics().getHeight() + NAME_PADDING;
-      graphicsContext.drawString(spaceName, textX, textY);
+      drawSpace(graphicsContext, space, scaleFactor, borderPadding, true);
     }
   }
 
   /**
-   * Saves the image to a file.
-   * 
-   * @param bufferedImage The image to save.
-   * @throws IOException If an error occurs while saving the image.
+   * Draws a single space the way it appears on the game world map, so that parts of the
+   * map can be drawn without creating the image of the whole map.
+   *
+   * @param graphicsContext The graphics context to draw on, in map image coordinates.
+   * @param space           The space to draw.
+   * @param scaleFactor     The scale factor for drawing the space.
+   * @param borderPadding   The padding around the border of the image.
+   * @param withName        Whether to draw the name of the space.
    */
-  private void saveImageToFile(BufferedImage bufferedImage) throws IOException {
-    // Create res directory if it doesn't exist
-    File resDirectory = new File(Constants.SAVE_PATH);
-    if (!resDirectory.exists()) {
-      boolean created = resDirectory.mkdirs();
-      if (!created) {
-        throw new IOException("Failed to create directory: " + Constants.SAVE_PATH);
-      }
-    }
-
-    // Create and save the file
-    File outputFile = new File(Constants.SAVE_PATH + "gameWorldMap.png");
-    if (!ImageIO.write(bufferedImage, "png", outputFile)) {
-      throw new IOException("Failed to save image: No appropriate writer found");
+  public static void drawSpace(Graphics graphicsContext, Space space, int scaleFactor,
+      int borderPadding, boolean withName) {
+    int x = space.getUpperLeftColumn() * scaleFactor + borderPadding / 4;
+    int y = space.getUpperLeftRow() * scaleFactor + borderPadding / 4;   
+    int height = (space.getLowerRightRow() - space.getUpperLeftRow() + 1) * scaleFactor;
+    int width = (space.getLowerRightColumn() - space.getUpperLeftColumn() + 1) * scaleFactor;
+      
+    // Draw the space rectangle outline
+    graphicsContext.setColor(Color.ORANGE);
+    graphicsContext.drawRect(x, y, width, height);
+    
+    if (withName) {
+      // Draw the space name in the top-left corner with padding
+      graphicsContext.setColor(Color.BLACK);
+      int textX = x + NAME_PADDING;
+      int textY = y + graphicsContext.getFontMetrics().getHeight() + NAME_PADDING;
+      graphicsContext.drawString(space.getSpaceName(), textX, textY);
     }
-    System.out.println("Image saved to: " + outputFile.getAbsolutePath());
   }
-}
\ No newline at end of file
+}
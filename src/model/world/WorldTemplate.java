@@ -0,0 +1,186 @@
+package model.world;
+
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import model.item.Item;
+import model.item.ItemImpl;
+import model.pet.PetImpl;
+import model.space.AdjacencyGraph;
+import model.space.DistanceTable;
+import model.space.Space;
+import model.space.SpaceImpl;
+import model.space.VisibilityIndex;
+import model.target.TargetCharacterImpl;
+
+/**
+ * The immutable layout of a world as it was loaded: its name and size, the rectangles
+ * and names of its spaces, the items in their starting spaces, the target character and
+ * the pet, together with the resolved neighbor graph.
+ *
+ * A template is taken from a freshly loaded world once, and {@link #newWorld()} then
+ * stamps out any number of worlds ready for a new game. Every world gets its own spaces,
+ * items, target character and pet, while the neighbor graph and the rendered map image
+ * are shared between all of them.
+ */
+public final class WorldTemplate {
+  private final String worldName;
+  private final int rows;
+  private final int columns;
+  private final String targetName;
+  private final int targetHealth;
+  private final String petName;
+  private final int totalItems;
+  private final String[] spaceNames;
+  private final int[] spaceBounds;
+  private final String[] itemNames;
+  private final int[] itemDamages;
+  private final int[] itemSpaces;
+  private final AdjacencyGraph adjacency;
+  private VisibilityIndex visibility;
+  private DistanceTable distances;
+  private BufferedImage worldMap;
+
+  private WorldTemplate(WorldImpl world) {
+    List<Space> spaces = world.getSpaces();
+    this.worldName = world.getWorldName();
+    this.rows = world.getRows();
+    this.columns = world.getColumns();
+    this.targetName = world.getTargetCharacter().getTargetName();
+    this.targetHealth = world.getTargetCharacter().getHealth();
+    this.petName = world.getPet().getPetName();
+    this.totalItems = world.getTotalItems();
+    this.spaceNames = new String[spaces.size()];
+    this.spaceBounds = new int[spaces.size() * 4];
+    List<Item> items = new ArrayList<>();
+    for (int i = 0; i < spaces.size(); i++) {
+      Space space = spaces.get(i);
+      spaceNames[i] = space.getSpaceName();
+      spaceBounds[i * 4] = space.getUpperLeftRow();
+      spaceBounds[i * 4 + 1] = space.getUpperLeftColumn();
+      spaceBounds[i * 4 + 2] = space.getLowerRightRow();
+      spaceBounds[i * 4 + 3] = space.getLowerRightColumn();
+      items.addAll(space.getItems());
+    }
+    this.itemNames = new String[items.size()];
+    this.itemDamages = new int[items.size()];
+    this.itemSpaces = new int[items.size()];
+    for (int k = 0; k < items.size(); k++) {
+      Item item = items.get(k);
+      itemNames[k] = item.getItemName();
+      itemDamages[k] = item.getDamage();
+      itemSpaces[k] = item.getSpaceIndex();
+    }
+    this.adjacency = world.getAdjacency();
+    this.visibility = null;
+    this.worldMap = null;
+  }
+
+  /**
+   * Takes the template of a world that was just loaded, before any game is played on it.
+   *
+   * @param world the freshly loaded world
+   * @return the template of the world
+   * @throws IllegalArgumentException if world is null
+   */
+  public static WorldTemplate of(WorldImpl world) {
+    if (world == null) {
+      throw new IllegalArgumentException("World cannot be null.");
+    }
+    return new WorldTemplate(world);
+  }
+
+  /**
+   * Creates a new world with the layout of the template and fresh game state: no players,
+   * every item in its starting space, the target character at full health and the pet in
+   * its starting space.
+   *
+   * @return a newly created world
+   */
+  public WorldImpl newWorld() {
+    List<Space> spaces = new ArrayList<>(spaceNames.length);
+    for (int i = 0; i < spaceNames.length; i++) {
+      spaces.add(new SpaceImpl(i, spaceNames[i], spaceBounds[i * 4], spaceBounds[i * 4 + 1],
+          spaceBounds[i * 4 + 2], spaceBounds[i * 4 + 3], new ArrayList<Item>(),
+          new ArrayList<Integer>()));
+    }
+    for (int k = 0; k < itemNames.length; k++) {
+      spaces.get(itemSpaces[k]).addItem(new ItemImpl(itemNames[k], itemDamages[k],
+          itemSpaces[k]));
+    }
+    WorldImpl world = new WorldImpl(worldName, rows, columns, spaces,
+        new TargetCharacterImpl(targetName, targetHealth), spaceNames.length, totalItems,
+        new PetImpl(petName, 0), adjacency);
+    world.setTemplate(this);
+    return world;
+  }
+
+  /**
+   * Retrieves the name of the world.
+   *
+   * @return the name of the world
+   */
+  public String getWorldName() {
+    return worldName;
+  }
+
+  /**
+   * Retrieves the number of spaces in the world.
+   *
+   * @return the number of spaces
+   */
+  public int getSpaceCount() {
+    return spaceNames.length;
+  }
+
+  /**
+   * Retrieves the neighbor graph shared by all worlds created from the template.
+   *
+   * @return the neighbor graph
+   */
+  public AdjacencyGraph getAdjacency() {
+    return adjacency;
+  }
+
+  /**
+   * Retrieves the line-of-sight sets of the world, building them the first time they are
+   * requested. They are shared by all worlds created from the template.
+   *
+   * @return the line-of-sight sets
+   */
+  synchronized VisibilityIndex getVisibility() {
+    if (visibility == null) {
+      visibility = VisibilityIndex.of(adjacency);
+    }
+    return visibility;
+  }
+
+  /**
+   * Retrieves the distances between the spaces of the world, building them the first time
+   * they are requested. They are shared by all worlds created from the template.
+   *
+   * @return the distance table
+   */
+  synchronized DistanceTable getDistances() {
+    if (distances == null) {
+      distances = DistanceTable.of(adjacency);
+    }
+    return distances;
+  }
+
+  /**
+   * Retrieves the map image of the world, painting it the first time it is requested.
+   * The image is shared by all worlds created from the template and must not be drawn on.
+   *
+   * @return the map image of the world
+   * @throws IOException if an error occurs while creating the image
+   */
+  synchronized BufferedImage getWorldMap() throws IOException {
+    if (worldMap == null) {
+      worldMap = new WorldPainter(newWorld().getSpaces(), columns, rows)
+          .createImage(WorldImpl.MAP_SCALE, WorldImpl.MAP_PADDING);
+    }
+    return worldMap;
+  }
+}
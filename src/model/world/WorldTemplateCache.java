@@ -0,0 +1,173 @@
+package model.world;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * A cache of world templates, so that starting a new game on a world file that was
+ * already loaded does not parse the file, compute neighbors or paint the map again.
+ *
+ * Entries are keyed by the canonical path of the world file, and remember the
+ * modification time, the length and a SHA-256 hash of the content the template was
+ * loaded from. When the modification time and length are unchanged the template is
+ * reused straight away. Otherwise the content is hashed again, and the file is only
+ * loaded again when its content really changed. Files with identical content share a
+ * single template.
+ */
+public final class WorldTemplateCache {
+  private static final int HASH_BUFFER_SIZE = 64 * 1024;
+
+  private final Map<String, Entry> entries;
+  private final Map<String, WorldTemplate> templatesByHash;
+
+  /**
+   * Creates an empty cache.
+   */
+  public WorldTemplateCache() {
+    this.entries = new HashMap<>();
+    this.templatesByHash = new HashMap<>();
+  }
+
+  /**
+   * Creates a world with fresh game state for a world file, loading the file with the
+   * given loader only when no template of its current content is cached.
+   *
+   * @param worldFile the world specification file
+   * @param loader    the loader used when the file is not cached yet or has changed
+   * @return a newly created world
+   * @throws FileNotFoundException if the file does not exist
+   * @throws IOException if the file cannot be read
+   * @throws IllegalArgumentException if an argument is null or the file content is invalid
+   */
+  public synchronized WorldImpl newWorld(File worldFile, WorldLoader loader)
+      throws IOException {
+    if (worldFile == null || loader == null) {
+      throw new IllegalArgumentException("World file and loader cannot be null.");
+    }
+    if (!worldFile.isFile()) {
+      throw new FileNotFoundException(worldFile.getPath() + " (No such file or directory)");
+    }
+    String path = worldFile.getCanonicalPath();
+    long lastModified = worldFile.lastModified();
+    long length = worldFile.length();
+
+    Entry entry = entries.get(path);
+    if (entry != null && entry.lastModified == lastModified && entry.length == length) {
+      return entry.template.newWorld();
+    }
+
+    String hash = hash(worldFile);
+    WorldTemplate template = templatesByHash.get(hash);
+    if (template == null) {
+      template = WorldTemplate.of(loader.load(worldFile));
+      templatesByHash.put(hash, template);
+    }
+    entries.put(path, new Entry(lastModified, length, hash, template));
+    if (entry != null && !entry.hash.equals(hash)) {
+      releaseUnused(entry.hash);
+    }
+    return template.newWorld();
+  }
+
+  /**
+   * Drops the cached template of a world file, if any.
+   *
+   * @param worldFile the world specification file
+   * @throws IOException if the canonical path of the file cannot be resolved
+   */
+  public synchronized void invalidate(File worldFile) throws IOException {
+    if (worldFile == null) {
+      throw new IllegalArgumentException("World file cannot be null.");
+    }
+    Entry entry = entries.remove(worldFile.getCanonicalPath());
+    if (entry != null) {
+      releaseUnused(entry.hash);
+    }
+  }
+
+  /**
+   * Drops all cached templates.
+   */
+  public synchronized void clear() {
+    entries.clear();
+    templatesByHash.clear();
+  }
+
+  /**
+   * Retrieves the number of distinct templates held by the cache.
+   *
+   * @return the number of templates
+   */
+  public synchronized int size() {
+    return templatesByHash.size();
+  }
+
+  private void releaseUnused(String hash) {
+    for (Entry other : entries.values()) {
+      if (other.hash.equals(hash)) {
+        return;
+      }
+    }
+    templatesByHash.remove(hash);
+  }
+
+  private static String hash(File file) throws IOException {
+    MessageDigest digest;
+    try {
+      digest = MessageDigest.getInstance("SHA-256");
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException("SHA-256 is not available.", e);
+    }
+    byte[] buffer = new byte[HASH_BUFFER_SIZE];
+    try (InputStream in = new FileInputStream(file)) {
+      int read;
+      while ((read = in.read(buffer)) != -1) {
+        digest.update(buffer, 0, read);
+      }
+    }
+    StringBuilder hex = new StringBuilder();
+    for (byte b : digest.digest()) {
+      hex.append(String.format("%02x", b));
+    }
+    return hex.toString();
+  }
+
+  /**
+   * Loads a world from a world file when the cache has no template for it.
+   */
+  @FunctionalInterface
+  public interface WorldLoader {
+    /**
+     * Loads a world from a file.
+     *
+     * @param worldFile the world specification file
+     * @return the freshly loaded world
+     * @throws IOException if the file cannot be read
+     */
+    WorldImpl load(File worldFile) throws IOException;
+  }
+
+  /**
+   * The state of a world file when its template was cached.
+   */
+  private static final class Entry {
+    private final long lastModified;
+    private final long length;
+    private final String hash;
+    private final WorldTemplate template;
+
+    Entry(long lastModified, long length, String hash, WorldTemplate template) {
+      this.lastModified = lastModified;
+      this.length = length;
+      this.hash = hash;
+      this.template = template;
+    }
+  }
+}
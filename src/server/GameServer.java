@@ -0,0 +1,243 @@
+package server;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketException;
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Serves the games of a session manager to clients on the loopback interface, through a
+ * line protocol that reuses the commands of the console game.
+ *
+ * A client opens a game with "new [max-turns]" and plays it by sending lines of the form
+ * "&lt;session&gt; &lt;command&gt;", such as "7 move Kitchen" or "7 attack Knife". Every
+ * request gets exactly one response line, "&lt;session&gt; ok &lt;text&gt;" or
+ * "&lt;token&gt; error &lt;message&gt;", where line breaks and backslashes in the text are
+ * escaped as "\n" and "\\". A connection may play any number of games at once: the
+ * responses of one game come in order, while different games answer as soon as they are
+ * done. The games of a connection are closed when it is closed.
+ */
+public final class GameServer implements Closeable {
+  private final SessionManager sessions;
+  private final int defaultMaxTurns;
+  private final ServerSocket serverSocket;
+  private final ExecutorService connections;
+  private final Set<Socket> openSockets;
+
+  /**
+   * Creates a server listening on a loopback port.
+   *
+   * @param sessions        the session manager hosting the games
+   * @param port            the port, or 0 for any free port
+   * @param defaultMaxTurns the maximum number of turns of games opened without one
+   * @throws IOException if the port cannot be opened
+   * @throws IllegalArgumentException if sessions is null or defaultMaxTurns is not positive
+   */
+  public GameServer(SessionManager sessions, int port, int defaultMaxTurns)
+      throws IOException {
+    if (sessions == null) {
+      throw new IllegalArgumentException("Sessions cannot be null");
+    }
+    if (defaultMaxTurns <= 0) {
+      throw new IllegalArgumentException("Max turns must be a positive integer.");
+    }
+    this.sessions = sessions;
+    this.defaultMaxTurns = defaultMaxTurns;
+    this.serverSocket = new ServerSocket(port, 0, InetAddress.getLoopbackAddress());
+    this.connections = Executors.newCachedThreadPool(task -> {
+      Thread thread = new Thread(task, "game-connection");
+      thread.setDaemon(true);
+      return thread;
+    });
+    this.openSockets = ConcurrentHashMap.newKeySet();
+  }
+
+  /**
+   * Gets the port the server listens on.
+   *
+   * @return the port
+   */
+  public int getPort() {
+    return serverSocket.getLocalPort();
+  }
+
+  /**
+   * Starts accepting connections in the background.
+   */
+  public void start() {
+    connections.execute(this::acceptConnections);
+  }
+
+  private void acceptConnections() {
+    try {
+      while (!serverSocket.isClosed()) {
+        Socket socket = serverSocket.accept();
+        openSockets.add(socket);
+        connections.execute(() -> serve(socket));
+      }
+    } catch (IOException e) {
+      // The server socket was closed.
+    }
+  }
+
+  private void serve(Socket socket) {
+    Set<Long> owned = ConcurrentHashMap.newKeySet();
+    try (Socket connection = socket;
+        BufferedReader in = new BufferedReader(new InputStreamReader(
+            connection.getInputStream(), StandardCharsets.UTF_8));
+        Writer out = new BufferedWriter(new OutputStreamWriter(connection.getOutputStream(),
+            StandardCharsets.UTF_8))) {
+      String line;
+      while ((line = in.readLine()) != null) {
+        handle(line.trim(), owned, out);
+      }
+    } catch (IOException e) {
+      // The client went away.
+    } finally {
+      openSockets.remove(socket);
+      for (long id : owned) {
+        sessions.remove(id);
+      }
+    }
+  }
+
+  private void handle(String line, Set<Long> owned, Writer out) {
+    int space = line.indexOf(' ');
+    String token = space < 0 ? line : line.substring(0, space);
+    String rest = space < 0 ? "" : line.substring(space + 1).trim();
+    if ("new".equals(token)) {
+      try {
+        GameSession session = sessions.create(rest.isEmpty() ? defaultMaxTurns
+            : Integer.parseInt(rest));
+        owned.add(session.getId());
+        send(out, session.getId() + " ok Welcome to the game! Please add players before"
+            + " starting.");
+      } catch (NumberFormatException e) {
+        send(out, "new error Max turns must be a positive integer.");
+      } catch (IOException | IllegalArgumentException | IllegalStateException e) {
+        send(out, "new error " + escape(e.getMessage()));
+      }
+      return;
+    }
+    GameSession session = findSession(token, owned);
+    if (session == null) {
+      send(out, token + " error Unknown session.");
+      return;
+    }
+    long id = session.getId();
+    session.submit(rest).whenComplete((response, failure) -> {
+      if (session.isClosed()) {
+        sessions.remove(id);
+        owned.remove(id);
+      }
+      if (failure != null) {
+        send(out, id + " error " + escape(String.valueOf(failure.getMessage())));
+      } else {
+        send(out, id + " ok " + escape(response));
+      }
+    });
+  }
+
+  private GameSession findSession(String token, Set<Long> owned) {
+    try {
+      long id = Long.parseLong(token);
+      return owned.contains(id) ? sessions.get(id) : null;
+    } catch (NumberFormatException e) {
+      return null;
+    }
+  }
+
+  private static void send(Writer out, String line) {
+    synchronized (out) {
+      try {
+        out.write(line);
+        out.write('\n');
+        out.flush();
+      } catch (IOException e) {
+        // The client went away, the reader notices it.
+      }
+    }
+  }
+
+  /**
+   * Escapes line breaks and backslashes, so that a text fits on one line.
+   *
+   * @param text the text
+   * @return the escaped text
+   */
+  static String escape(String text) {
+    return text.replace("\\", "\\\\").replace("\r", "").replace("\n", "\\n");
+  }
+
+  /**
+   * Reverses {@link #escape(String)}.
+   *
+   * @param text the escaped text
+   * @return the original text
+   */
+  static String unescape(String text) {
+    StringBuilder result = new StringBuilder(text.length());
+    for (int i = 0; i < text.length(); i++) {
+      char c = text.charAt(i);
+      if (c == '\\' && i + 1 < text.length()) {
+        char next = text.charAt(++i);
+        result.append(next == 'n' ? '\n' : next);
+      } else {
+        result.append(c);
+      }
+    }
+    return result.toString();
+  }
+
+  /**
+   * Stops accepting connections and closes the open ones.
+   *
+   * @throws IOException if the server socket cannot be closed
+   */
+  @Override
+  public void close() throws IOException {
+    serverSocket.close();
+    for (Socket socket : openSockets) {
+      try {
+        socket.close();
+      } catch (SocketException e) {
+        // Already closed.
+      }
+    }
+    connections.shutdown();
+  }
+
+  /**
+   * Runs a game server from the command line.
+   *
+   * @param args the world file, the port, and optionally the number of threads and the
+   *             default maximum number of turns
+   * @throws IOException if the port cannot be opened
+   */
+  public static void main(String[] args) throws IOException {
+    if (args.length < 2 || args.length > 4) {
+      System.err.println("Usage: GameServer <world-file> <port> [threads] [max-turns]");
+      System.exit(1);
+    }
+    int threads = args.length > 2 ? Integer.parseInt(args[2])
+        : Runtime.getRuntime().availableProcessors();
+    int maxTurns = args.length > 3 ? Integer.parseInt(args[3]) : 100;
+    GameServer server = new GameServer(new SessionManager(new File(args[0]), threads,
+        100_000), Integer.parseInt(args[1]), maxTurns);
+    server.start();
+    System.out.println("Serving games on port " + server.getPort());
+  }
+}
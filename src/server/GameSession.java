@@ -0,0 +1,156 @@
+package server;
+
+import control.CommandParser;
+import control.commands.CommandFactory;
+import facade.GameFacade;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+/**
+ * One game hosted by the server, played through the same text commands as the console
+ * game. Its commands run one at a time on its own mailbox, so a session is only ever used
+ * by one thread at a time, while many sessions share a few threads.
+ *
+ * Computer players take their turns right after the command of a human player, so every
+ * response ends with a human player to move or with the game over.
+ */
+public final class GameSession {
+  private final long id;
+  private final GameFacade facade;
+  private final SerialExecutor mailbox;
+  private final Map<String, CommandFactory> setupCommands;
+  private final Map<String, CommandFactory> gameplayCommands;
+  private boolean started;
+  private volatile boolean closed;
+
+  /**
+   * Creates a session for a game that is set up but has no players yet.
+   *
+   * @param id      the identifier of the session
+   * @param facade  the game
+   * @param backing the executor shared by the sessions
+   * @throws IllegalArgumentException if facade or backing is null
+   */
+  public GameSession(long id, GameFacade facade, Executor backing) {
+    if (facade == null) {
+      throw new IllegalArgumentException("Facade cannot be null");
+    }
+    this.id = id;
+    this.facade = facade;
+    this.mailbox = new SerialExecutor(backing);
+    this.setupCommands = CommandParser.setupCommands();
+    this.gameplayCommands = CommandParser.gameplayCommands();
+    this.started = false;
+    this.closed = false;
+  }
+
+  /**
+   * Gets the identifier of the session.
+   *
+   * @return the identifier
+   */
+  public long getId() {
+    return id;
+  }
+
+  /**
+   * Checks if the session was ended by a quit command.
+   *
+   * @return true if the session is closed, false otherwise
+   */
+  public boolean isClosed() {
+    return closed;
+  }
+
+  /**
+   * Queues a command line on the mailbox of the session.
+   *
+   * @param line the command line, as typed in the console game
+   * @return the response of the game, completed once the command ran
+   */
+  public CompletableFuture<String> submit(String line) {
+    return CompletableFuture.supplyAsync(() -> handle(line), mailbox);
+  }
+
+  /**
+   * Runs a command line. Must only be called from the mailbox of the session.
+   *
+   * @param line the command line
+   * @return the response of the game
+   */
+  String handle(String line) {
+    if (closed) {
+      return "The session is closed.";
+    }
+    String[] words = CommandParser.parse(line == null ? "" : line.trim());
+    if (words.length == 0) {
+      return "Unknown command. Type 'help' for available commands.";
+    }
+    String command = words[0];
+    String[] args = Arrays.copyOfRange(words, 1, words.length);
+    if ("quit".equals(command)) {
+      closed = true;
+      return "Game over!";
+    }
+    StringBuilder response = new StringBuilder();
+    if (!started) {
+      if ("start".equals(command)) {
+        if (facade.getPlayerCount() == 0) {
+          return "Please add at least one player before starting the game.";
+        }
+        started = true;
+        response.append("Game setup complete. Starting the game...\n");
+        playComputerTurns(response);
+      } else {
+        run(setupCommands, command, args, response);
+      }
+    } else if (facade.isGameEnded()) {
+      response.append("The game is over.\n");
+    } else {
+      run(gameplayCommands, command, args, response);
+      playComputerTurns(response);
+    }
+    return response.toString().trim();
+  }
+
+  private void run(Map<String, CommandFactory> commands, String command, String[] args,
+      StringBuilder response) {
+    CommandFactory factory = commands.get(command);
+    if (factory == null) {
+      response.append("Unknown command. Type 'help' for available commands.\n");
+      return;
+    }
+    try {
+      CommandParser.resolveSpaceArgument(command, args, facade);
+      response.append(factory.create(args).execute(facade)).append('\n');
+    } catch (IllegalArgumentException e) {
+      response.append("Error: ").append(e.getMessage()).append('\n');
+    }
+  }
+
+  private void playComputerTurns(StringBuilder response) {
+    while (!facade.isGameEnded() && facade.computerPlayerTurn()) {
+      response.append("Computer player ").append(facade.getCurrentPlayerName())
+          .append(": ");
+      try {
+        response.append(facade.computerPlayerTakeTurn()).append('\n');
+      } catch (IllegalArgumentException e) {
+        response.append("Error: ").append(e.getMessage()).append('\n');
+        return;
+      }
+    }
+    if (facade.isGameEnded()) {
+      try {
+        response.append(facade.getWinner()).append('\n');
+      } catch (IllegalStateException e) {
+        response.append("No winner.\n");
+      }
+      response.append("Game over!\n");
+    } else {
+      response.append(String.format("Turn %d, Current player: %s\n", facade.getCurrentTurn(),
+          facade.getCurrentPlayerName()));
+    }
+  }
+}
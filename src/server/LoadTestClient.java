@@ -0,0 +1,284 @@
+package server;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Plays many games against a game server at once and measures how fast it answers.
+ *
+ * Every connection opens its games with one burst of "new" requests, adds a human and a
+ * computer player to each and starts it, then keeps one command in flight per game,
+ * looking around until the game is over. The latency of a command is the time between
+ * sending it and reading its response.
+ */
+public final class LoadTestClient {
+  private final int port;
+  private final String spaceName;
+  private final int connections;
+  private final int gamesPerConnection;
+  private final int maxTurns;
+
+  /**
+   * Creates a load test.
+   *
+   * @param port               the loopback port of the server
+   * @param spaceName          the name of the space the players start in
+   * @param connections        the number of connections
+   * @param gamesPerConnection the number of games played at once on every connection
+   * @param maxTurns           the maximum number of turns of every game
+   * @throws IllegalArgumentException if spaceName is null or a count is not positive
+   */
+  public LoadTestClient(int port, String spaceName, int connections, int gamesPerConnection,
+      int maxTurns) {
+    if (spaceName == null) {
+      throw new IllegalArgumentException("Space name cannot be null");
+    }
+    if (connections <= 0 || gamesPerConnection <= 0 || maxTurns <= 0) {
+      throw new IllegalArgumentException("Counts must be positive");
+    }
+    this.port = port;
+    this.spaceName = spaceName;
+    this.connections = connections;
+    this.gamesPerConnection = gamesPerConnection;
+    this.maxTurns = maxTurns;
+  }
+
+  /**
+   * Runs the load test until every game is over.
+   *
+   * @return the measurements
+   * @throws IOException if a connection fails
+   * @throws InterruptedException if interrupted while waiting for the connections
+   */
+  public Report run() throws IOException, InterruptedException {
+    ExecutorService pool = Executors.newFixedThreadPool(connections);
+    try {
+      long start = System.nanoTime();
+      List<Future<Connection>> futures = new ArrayList<>();
+      for (int c = 0; c < connections; c++) {
+        futures.add(pool.submit(() -> {
+          Connection connection = new Connection();
+          connection.play();
+          return connection;
+        }));
+      }
+      int games = 0;
+      int errors = 0;
+      long[] latencies = new long[0];
+      for (Future<Connection> future : futures) {
+        Connection connection;
+        try {
+          connection = future.get();
+        } catch (ExecutionException e) {
+          throw e.getCause() instanceof IOException ? (IOException) e.getCause()
+              : new IOException(e.getCause());
+        }
+        games += connection.finished;
+        errors += connection.errors;
+        int offset = latencies.length;
+        latencies = Arrays.copyOf(latencies, offset + connection.latencyCount);
+        System.arraycopy(connection.latencies, 0, latencies, offset, connection.latencyCount);
+      }
+      return new Report(games, errors, latencies, System.nanoTime() - start);
+    } finally {
+      pool.shutdownNow();
+    }
+  }
+
+  /**
+   * The games of one connection.
+   */
+  private final class Connection {
+    private final Map<Long, Integer> steps = new HashMap<>();
+    private final Map<Long, Long> sentAt = new HashMap<>();
+    private final Set<Long> quit = new HashSet<>();
+    private long[] latencies = new long[1024];
+    private int latencyCount;
+    private int finished;
+    private int errors;
+
+    void play() throws IOException {
+      try (Socket socket = new Socket(InetAddress.getLoopbackAddress(), port);
+          BufferedReader in = new BufferedReader(new InputStreamReader(
+              socket.getInputStream(), StandardCharsets.UTF_8));
+          Writer out = new BufferedWriter(new OutputStreamWriter(socket.getOutputStream(),
+              StandardCharsets.UTF_8))) {
+        for (int g = 0; g < gamesPerConnection; g++) {
+          out.write("new " + maxTurns + "\n");
+        }
+        out.flush();
+        int active = gamesPerConnection;
+        while (active > 0) {
+          String line = in.readLine();
+          if (line == null) {
+            throw new IOException("The server closed the connection.");
+          }
+          String[] parts = line.split(" ", 3);
+          if (parts.length < 2 || !"ok".equals(parts[1])) {
+            errors++;
+            active--;
+            continue;
+          }
+          long id = Long.parseLong(parts[0]);
+          Long sent = sentAt.remove(id);
+          if (sent != null) {
+            record(System.nanoTime() - sent);
+          }
+          int step = steps.merge(id, 1, Integer::sum);
+          String text = parts.length > 2 ? GameServer.unescape(parts[2]) : "";
+          String command = next(step, id, text);
+          if (command == null) {
+            finished++;
+            active--;
+            continue;
+          }
+          sentAt.put(id, System.nanoTime());
+          out.write(id + " " + command + "\n");
+          out.flush();
+        }
+      }
+    }
+
+    private String next(int step, long id, String response) {
+      switch (step) {
+        case 1:
+          return "add-human \"Player " + id + "\" \"" + spaceName + "\" 3";
+        case 2:
+          return "add-computer \"Bot " + id + "\" \"" + spaceName + "\" 3";
+        case 3:
+          return "start";
+        default:
+          if (!response.endsWith("Game over!") && !response.equals("The game is over.")) {
+            return "look";
+          }
+          return quit.add(id) ? "quit" : null;
+      }
+    }
+
+    private void record(long latency) {
+      if (latencyCount == latencies.length) {
+        latencies = Arrays.copyOf(latencies, latencyCount * 2);
+      }
+      latencies[latencyCount++] = latency;
+    }
+  }
+
+  /**
+   * The measurements of a load test.
+   */
+  public static final class Report {
+    private final int games;
+    private final int errors;
+    private final long[] latencies;
+    private final long elapsedNanos;
+
+    Report(int games, int errors, long[] latencies, long elapsedNanos) {
+      this.games = games;
+      this.errors = errors;
+      this.latencies = latencies.clone();
+      this.elapsedNanos = elapsedNanos;
+      Arrays.sort(this.latencies);
+    }
+
+    /**
+     * Gets the number of games played to the end.
+     *
+     * @return the number of games
+     */
+    public int getGames() {
+      return games;
+    }
+
+    /**
+     * Gets the number of error responses, each of which ended its game.
+     *
+     * @return the number of errors
+     */
+    public int getErrors() {
+      return errors;
+    }
+
+    /**
+     * Gets the number of commands answered, not counting the opening of the games.
+     *
+     * @return the number of commands
+     */
+    public int getCommands() {
+      return latencies.length;
+    }
+
+    /**
+     * Gets a percentile of the command latencies.
+     *
+     * @param percent the percentile, from 0 to 100
+     * @return the latency in nanoseconds, or 0 if no command was answered
+     * @throws IllegalArgumentException if percent is outside [0, 100]
+     */
+    public long getLatencyPercentile(double percent) {
+      if (!(percent >= 0 && percent <= 100)) {
+        throw new IllegalArgumentException("Percent must be between 0 and 100");
+      }
+      if (latencies.length == 0) {
+        return 0;
+      }
+      int index = (int) Math.ceil(percent / 100 * latencies.length) - 1;
+      return latencies[Math.max(0, index)];
+    }
+
+    /**
+     * Gets the number of commands answered per second.
+     *
+     * @return the throughput
+     */
+    public double getCommandsPerSecond() {
+      return elapsedNanos == 0 ? 0 : latencies.length * 1e9 / elapsedNanos;
+    }
+
+    @Override
+    public String toString() {
+      return String.format("%d games, %d errors, %d commands, %.0f commands/s,"
+          + " latency p50 %.3f ms, p99 %.3f ms, max %.3f ms", games, errors,
+          getCommands(), getCommandsPerSecond(), getLatencyPercentile(50) / 1e6,
+          getLatencyPercentile(99) / 1e6, getLatencyPercentile(100) / 1e6);
+    }
+  }
+
+  /**
+   * Runs a load test from the command line.
+   *
+   * @param args the port, the starting space, and optionally the number of connections,
+   *             the games per connection and the maximum number of turns
+   * @throws IOException if a connection fails
+   * @throws InterruptedException if interrupted while waiting for the connections
+   */
+  public static void main(String[] args) throws IOException, InterruptedException {
+    if (args.length < 2 || args.length > 5) {
+      System.err.println("Usage: LoadTestClient <port> <space-name> [connections]"
+          + " [games-per-connection] [max-turns]");
+      System.exit(1);
+    }
+    int connections = args.length > 2 ? Integer.parseInt(args[2]) : 4;
+    int games = args.length > 3 ? Integer.parseInt(args[3]) : 250;
+    int maxTurns = args.length > 4 ? Integer.parseInt(args[4]) : 50;
+    System.out.println(new LoadTestClient(Integer.parseInt(args[0]), args[1], connections,
+        games, maxTurns).run());
+  }
+}
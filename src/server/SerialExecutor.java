@@ -0,0 +1,86 @@
+package server;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * An executor that runs its tasks one at a time, in the order they were submitted, on a
+ * shared backing executor. It is the mailbox of a game session: no thread is dedicated to
+ * the session, yet its tasks never run concurrently, so the game state needs no locking.
+ *
+ * A busy mailbox gives its thread back after a batch of tasks, so that one chatty session
+ * cannot starve the others sharing the backing executor.
+ */
+public final class SerialExecutor implements Executor {
+  private static final int BATCH_SIZE = 16;
+
+  private final Executor backing;
+  private final Queue<Runnable> tasks;
+  private final AtomicBoolean scheduled;
+
+  /**
+   * Creates a mailbox on a backing executor.
+   *
+   * @param backing the executor running the tasks
+   * @throws IllegalArgumentException if backing is null
+   */
+  public SerialExecutor(Executor backing) {
+    if (backing == null) {
+      throw new IllegalArgumentException("Backing executor cannot be null");
+    }
+    this.backing = backing;
+    this.tasks = new ConcurrentLinkedQueue<>();
+    this.scheduled = new AtomicBoolean();
+  }
+
+  /**
+   * Queues a task, to run after all tasks submitted before it.
+   *
+   * @param task the task
+   * @throws IllegalArgumentException if task is null
+   * @throws RejectedExecutionException if the backing executor rejects the mailbox
+   */
+  @Override
+  public void execute(Runnable task) {
+    if (task == null) {
+      throw new IllegalArgumentException("Task cannot be null");
+    }
+    tasks.add(task);
+    schedule();
+  }
+
+  /**
+   * Retrieves the number of tasks waiting to run.
+   *
+   * @return the number of queued tasks
+   */
+  public int getPendingCount() {
+    return tasks.size();
+  }
+
+  private void schedule() {
+    if (!tasks.isEmpty() && scheduled.compareAndSet(false, true)) {
+      try {
+        backing.execute(this::drain);
+      } catch (RejectedExecutionException e) {
+        scheduled.set(false);
+        throw e;
+      }
+    }
+  }
+
+  private void drain() {
+    try {
+      Runnable task;
+      for (int k = 0; k < BATCH_SIZE && (task = tasks.poll()) != null; k++) {
+        task.run();
+      }
+    } finally {
+      scheduled.set(false);
+      schedule();
+    }
+  }
+}
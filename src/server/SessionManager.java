@@ -0,0 +1,152 @@
+package server;
+
+import facade.GameFacade;
+import facade.GameFacadeImpl;
+import java.io.File;
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import model.world.WorldFactory;
+import model.world.WorldTemplateCache;
+
+/**
+ * Hosts many games in one process. Every session gets a world stamped out of the cached
+ * template of the world file, and its own mailbox on a small pool shared by all sessions,
+ * so thousands of idle sessions cost memory but no threads.
+ */
+public final class SessionManager implements AutoCloseable {
+  private final File worldFile;
+  private final int maxSessions;
+  private final WorldTemplateCache worldCache;
+  private final ExecutorService workers;
+  private final Map<Long, GameSession> sessions;
+  private final AtomicLong nextId;
+  private final AtomicInteger openSessions;
+  private final AtomicInteger workerCount;
+
+  /**
+   * Creates a session manager.
+   *
+   * @param worldFile   the world specification file every game is played on
+   * @param threads     the number of threads running the sessions
+   * @param maxSessions the maximum number of sessions open at the same time
+   * @throws IllegalArgumentException if worldFile is null or a count is not positive
+   */
+  public SessionManager(File worldFile, int threads, int maxSessions) {
+    if (worldFile == null) {
+      throw new IllegalArgumentException("World file cannot be null");
+    }
+    if (threads <= 0 || maxSessions <= 0) {
+      throw new IllegalArgumentException("Threads and maximum sessions must be positive");
+    }
+    this.worldFile = worldFile;
+    this.maxSessions = maxSessions;
+    this.worldCache = new WorldTemplateCache();
+    this.workerCount = new AtomicInteger();
+    this.workers = Executors.newFixedThreadPool(threads, task -> {
+      Thread thread = new Thread(task, "session-worker-" + workerCount.incrementAndGet());
+      thread.setDaemon(true);
+      return thread;
+    });
+    this.sessions = new ConcurrentHashMap<>();
+    this.nextId = new AtomicLong(1);
+    this.openSessions = new AtomicInteger();
+  }
+
+  /**
+   * Opens a new session with a fresh game.
+   *
+   * @param maxTurns the maximum number of turns of the game
+   * @return the session
+   * @throws IOException if the world file cannot be read
+   * @throws IllegalArgumentException if maxTurns is not positive
+   * @throws IllegalStateException if the maximum number of sessions are open
+   */
+  public GameSession create(int maxTurns) throws IOException {
+    if (maxTurns <= 0) {
+      throw new IllegalArgumentException("Max turns must be a positive integer.");
+    }
+    reserveSlot();
+    try {
+      GameFacade facade = new GameFacadeImpl(worldCache.newWorld(worldFile,
+          file -> new WorldFactory().createWorld(file)));
+      facade.setMaxTurns(maxTurns);
+      GameSession session = new GameSession(nextId.getAndIncrement(), facade, workers);
+      sessions.put(session.getId(), session);
+      return session;
+    } catch (IOException | RuntimeException e) {
+      openSessions.decrementAndGet();
+      throw e;
+    }
+  }
+
+  /**
+   * Takes one of the session slots, so that concurrent requests from different
+   * connections never open more than the maximum number of sessions.
+   *
+   * @throws IllegalStateException if all slots are taken
+   */
+  private void reserveSlot() {
+    while (true) {
+      int open = openSessions.get();
+      if (open >= maxSessions) {
+        throw new IllegalStateException("Too many sessions.");
+      }
+      if (openSessions.compareAndSet(open, open + 1)) {
+        return;
+      }
+    }
+  }
+
+  /**
+   * Finds an open session.
+   *
+   * @param id the identifier of the session
+   * @return the session, or null if no open session has that identifier
+   */
+  public GameSession get(long id) {
+    return sessions.get(id);
+  }
+
+  /**
+   * Forgets a session. Commands already queued on it still run.
+   *
+   * @param id the identifier of the session
+   */
+  public void remove(long id) {
+    if (sessions.remove(id) != null) {
+      openSessions.decrementAndGet();
+    }
+  }
+
+  /**
+   * Retrieves the number of open sessions.
+   *
+   * @return the number of sessions
+   */
+  public int size() {
+    return sessions.size();
+  }
+
+  /**
+   * Forgets all sessions and stops the threads once the queued commands ran. If the
+   * calling thread is interrupted while waiting, it stops waiting and keeps its
+   * interrupted status.
+   */
+  @Override
+  public void close() {
+    sessions.clear();
+    openSessions.set(0);
+    workers.shutdown();
+    try {
+      workers.awaitTermination(1, TimeUnit.MINUTES);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
@@ -0,0 +1,93 @@
+package simulation;
+
+/**
+ * Describes a computer player taking part in simulated games: its name, the space it
+ * starts in, how many items it can carry and whether it hunts the target or acts
+ * randomly.
+ */
+public final class ComputerPlayerSpec {
+  private final String name;
+  private final int startingSpaceIndex;
+  private final int maxItems;
+  private final boolean strategic;
+
+  /**
+   * Creates a description of a computer player choosing its actions randomly.
+   *
+   * @param name               the name of the player
+   * @param startingSpaceIndex the index of the space the player starts in
+   * @param maxItems           the maximum number of items the player can carry, or -1
+   *                           for no limit
+   * @throws IllegalArgumentException if name is null or empty, the space index is
+   *                                  negative, or maxItems is below -1
+   */
+  public ComputerPlayerSpec(String name, int startingSpaceIndex, int maxItems) {
+    this(name, startingSpaceIndex, maxItems, false);
+  }
+
+  /**
+   * Creates a computer player description.
+   *
+   * @param name               the name of the player
+   * @param startingSpaceIndex the index of the space the player starts in
+   * @param maxItems           the maximum number of items the player can carry, or -1
+   *                           for no limit
+   * @param strategic          true for a {@link model.player.StrategicComputerPlayer}
+   *                           hunting the target, false for a player acting randomly
+   * @throws IllegalArgumentException if name is null or empty, the space index is
+   *                                  negative, or maxItems is below -1
+   */
+  public ComputerPlayerSpec(String name, int startingSpaceIndex, int maxItems,
+      boolean strategic) {
+    if (name == null || name.trim().isEmpty()) {
+      throw new IllegalArgumentException("Player name cannot be null or empty");
+    }
+    if (startingSpaceIndex < 0) {
+      throw new IllegalArgumentException("Invalid starting space index");
+    }
+    if (maxItems < -1) {
+      throw new IllegalArgumentException(
+          "Max items must be -1 (unlimited) or a non-negative number");
+    }
+    this.name = name;
+    this.startingSpaceIndex = startingSpaceIndex;
+    this.maxItems = maxItems;
+    this.strategic = strategic;
+  }
+
+  /**
+   * Gets the name of the player.
+   *
+   * @return the name
+   */
+  public String getName() {
+    return name;
+  }
+
+  /**
+   * Gets the index of the space the player starts in.
+   *
+   * @return the starting space index
+   */
+  public int getStartingSpaceIndex() {
+    return startingSpaceIndex;
+  }
+
+  /**
+   * Gets the maximum number of items the player can carry.
+   *
+   * @return the maximum number of items, or -1 for no limit
+   */
+  public int getMaxItems() {
+    return maxItems;
+  }
+
+  /**
+   * Checks whether the player hunts the target instead of acting randomly.
+   *
+   * @return true for a strategic player, false for a random one
+   */
+  public boolean isStrategic() {
+    return strategic;
+  }
+}
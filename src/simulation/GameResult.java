@@ -0,0 +1,115 @@
+package simulation;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * The result of one simulated game.
+ */
+public final class GameResult {
+  private final String winner;
+  private final int turns;
+  private final Map<String, Integer> damageByPlayer;
+  private final Map<String, Integer> itemUses;
+  private final int itemsPickedUp;
+
+  /**
+   * Creates a game result.
+   *
+   * @param winner         the name of the winning player, or null if the target escaped
+   * @param turns          the number of turns played
+   * @param damageByPlayer the damage dealt to the target by every player
+   * @param itemUses       the number of attacks made with every item, "poke" included
+   * @param itemsPickedUp  the number of items picked up by all players
+   * @throws IllegalArgumentException if a map is null or a count is negative
+   */
+  public GameResult(String winner, int turns, Map<String, Integer> damageByPlayer,
+      Map<String, Integer> itemUses, int itemsPickedUp) {
+    if (damageByPlayer == null || itemUses == null) {
+      throw new IllegalArgumentException("Damage and item uses cannot be null");
+    }
+    if (turns < 0 || itemsPickedUp < 0) {
+      throw new IllegalArgumentException("Counts cannot be negative");
+    }
+    this.winner = winner;
+    this.turns = turns;
+    this.damageByPlayer = Collections.unmodifiableMap(new LinkedHashMap<>(damageByPlayer));
+    this.itemUses = Collections.unmodifiableMap(new LinkedHashMap<>(itemUses));
+    this.itemsPickedUp = itemsPickedUp;
+  }
+
+  /**
+   * Gets the name of the winning player.
+   *
+   * @return the winner, or null if the target character escaped
+   */
+  public String getWinner() {
+    return winner;
+  }
+
+  /**
+   * Checks if the target character escaped, that is no player won.
+   *
+   * @return true if the target escaped, false otherwise
+   */
+  public boolean targetEscaped() {
+    return winner == null;
+  }
+
+  /**
+   * Gets the number of turns played.
+   *
+   * @return the number of turns
+   */
+  public int getTurns() {
+    return turns;
+  }
+
+  /**
+   * Gets the damage dealt to the target character by every player, in turn order.
+   *
+   * @return an unmodifiable map from player name to damage dealt
+   */
+  public Map<String, Integer> getDamageByPlayer() {
+    return damageByPlayer;
+  }
+
+  /**
+   * Gets the total damage dealt to the target character.
+   *
+   * @return the total damage
+   */
+  public int getTotalDamage() {
+    int total = 0;
+    for (int damage : damageByPlayer.values()) {
+      total += damage;
+    }
+    return total;
+  }
+
+  /**
+   * Gets the number of attacks made with every item, in order of first use. Pokes in the
+   * eye are counted under "poke".
+   *
+   * @return an unmodifiable map from item name to number of attacks
+   */
+  public Map<String, Integer> getItemUses() {
+    return itemUses;
+  }
+
+  /**
+   * Gets the number of items picked up by all players.
+   *
+   * @return the number of items picked up
+   */
+  public int getItemsPickedUp() {
+    return itemsPickedUp;
+  }
+
+  @Override
+  public String toString() {
+    return String.format("GameResult{winner=%s, turns=%d, damage=%s, itemUses=%s, "
+        + "itemsPickedUp=%d}", winner, turns, damageByPlayer, itemUses, itemsPickedUp);
+  }
+}
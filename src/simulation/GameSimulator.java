@@ -0,0 +1,186 @@
+package simulation;
+
+import facade.GameFacade;
+import facade.GameFacadeImpl;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+import model.player.ComputerPlayer;
+import model.player.RandomGenerator;
+import model.player.StrategicComputerPlayer;
+import model.player.TurnAction;
+import model.player.TurnOutcome;
+import model.world.WorldImpl;
+import model.world.WorldTemplate;
+
+/**
+ * Runs complete games between computer players without any view, controller or text
+ * output, to evaluate bot strategies.
+ *
+ * Every game starts from a fresh world created from a {@link WorldTemplate}, and turns
+ * are played through {@link GameFacade#computerPlayerPlayTurn()}, which applies the same
+ * rules as the interactive game but reports structured outcomes instead of building
+ * descriptions.
+ */
+public class GameSimulator {
+  private final WorldTemplate template;
+  private final List<ComputerPlayerSpec> players;
+  private final int maxTurns;
+  private final Supplier<RandomGenerator> randomSource;
+
+  /**
+   * Creates a simulator whose players choose their actions with new unseeded random
+   * generators.
+   *
+   * @param template the world to play in
+   * @param players  the computer players, in turn order
+   * @param maxTurns the maximum number of turns of a game
+   * @throws IllegalArgumentException if an argument is invalid
+   */
+  public GameSimulator(WorldTemplate template, List<ComputerPlayerSpec> players,
+      int maxTurns) {
+    this(template, players, maxTurns, RandomGenerator::new);
+  }
+
+  /**
+   * Creates a simulator.
+   *
+   * @param template     the world to play in
+   * @param players      the computer players, in turn order
+   * @param maxTurns     the maximum number of turns of a game
+   * @param randomSource supplies the random generator of every player in every game
+   * @throws IllegalArgumentException if template, players or randomSource is null, if
+   *                                  there are no players, if a starting space is outside
+   *                                  the world, or if maxTurns is not positive
+   */
+  public GameSimulator(WorldTemplate template, List<ComputerPlayerSpec> players,
+      int maxTurns, Supplier<RandomGenerator> randomSource) {
+    if (template == null || players == null || randomSource == null) {
+      throw new IllegalArgumentException("Template, players and random source cannot be null");
+    }
+    if (players.isEmpty()) {
+      throw new IllegalArgumentException("At least one player is required");
+    }
+    if (maxTurns <= 0) {
+      throw new IllegalArgumentException("Maximum turns must be positive");
+    }
+    for (ComputerPlayerSpec player : players) {
+      if (player == null || player.getStartingSpaceIndex() >= template.getSpaceCount()) {
+        throw new IllegalArgumentException("Invalid player: every player must start "
+            + "in a space of the world");
+      }
+    }
+    this.template = template;
+    this.players = new ArrayList<>(players);
+    this.maxTurns = maxTurns;
+    this.randomSource = randomSource;
+  }
+
+  /**
+   * Plays one complete game, with players using generators from the random source of the
+   * simulator.
+   *
+   * @return the result of the game
+   */
+  public GameResult playGame() {
+    RandomGenerator[] generators = new RandomGenerator[players.size()];
+    for (int i = 0; i < generators.length; i++) {
+      generators[i] = randomSource.get();
+    }
+    return play(generators);
+  }
+
+  /**
+   * Plays one complete game in which the random generators of the players are derived
+   * from the given seed, so that the same seed always plays the same game. Games played
+   * this way do not touch any shared state, so a simulator can play seeded games on
+   * several threads at once.
+   *
+   * @param seed the seed of the game
+   * @return the result of the game
+   */
+  public GameResult playGame(long seed) {
+    RandomGenerator root = RandomGenerator.withSeed(seed);
+    RandomGenerator[] generators = new RandomGenerator[players.size()];
+    for (int i = 0; i < generators.length; i++) {
+      generators[i] = root.split();
+    }
+    return play(generators);
+  }
+
+  /**
+   * Derives a well-mixed seed from a game seed and an index, so that the seeds of
+   * consecutive games are unrelated.
+   *
+   * @param seed  the base seed
+   * @param index the index of the game
+   * @return the derived seed
+   * @see RandomGenerator#deriveSeed(long, long)
+   */
+  static long deriveSeed(long seed, long index) {
+    return RandomGenerator.deriveSeed(seed, index);
+  }
+
+  /**
+   * Plays one complete game on a fresh world.
+   *
+   * @param generators the random generator of every player, in turn order
+   * @return the result of the game
+   */
+  private GameResult play(RandomGenerator[] generators) {
+    WorldImpl world = template.newWorld();
+    for (int i = 0; i < players.size(); i++) {
+      ComputerPlayerSpec spec = players.get(i);
+      world.addPlayer(spec.isStrategic()
+          ? new StrategicComputerPlayer(spec.getName(), spec.getStartingSpaceIndex(),
+              spec.getMaxItems(), generators[i], world.getDistances())
+          : new ComputerPlayer(spec.getName(), spec.getStartingSpaceIndex(),
+              spec.getMaxItems(), generators[i]));
+    }
+    GameFacade facade = new GameFacadeImpl(world);
+    facade.setMaxTurns(maxTurns);
+
+    int playerCount = players.size();
+    int[] damage = new int[playerCount];
+    Map<String, Integer> itemUses = new LinkedHashMap<>();
+    int itemsPickedUp = 0;
+    int turns = 0;
+    while (!facade.isGameEnded()) {
+      int player = turns % playerCount;
+      TurnOutcome outcome = facade.computerPlayerPlayTurn();
+      turns++;
+      if (outcome.getAction() == TurnAction.ATTACK) {
+        damage[player] += outcome.getDamage();
+        itemUses.merge(outcome.getItemName(), 1, Integer::sum);
+      } else if (outcome.getItemName() != null) {
+        itemsPickedUp++;
+      }
+    }
+
+    Map<String, Integer> damageByPlayer = new LinkedHashMap<>();
+    for (int i = 0; i < playerCount; i++) {
+      damageByPlayer.merge(players.get(i).getName(), damage[i], Integer::sum);
+    }
+    return new GameResult(world.getWinner(), turns, damageByPlayer, itemUses, itemsPickedUp);
+  }
+
+  /**
+   * Plays a number of complete games and sums up their results.
+   *
+   * @param games the number of games to play
+   * @return the summary of the games
+   * @throws IllegalArgumentException if games is negative
+   */
+  public SimulationSummary run(int games) {
+    if (games < 0) {
+      throw new IllegalArgumentException("Number of games cannot be negative");
+    }
+    SimulationSummary summary = new SimulationSummary();
+    for (int i = 0; i < games; i++) {
+      summary.add(playGame());
+    }
+    return summary;
+  }
+}
@@ -0,0 +1,138 @@
+package simulation;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Totals over a batch of simulated games: wins of every player, escapes of the target
+ * character, turns played, damage dealt and item usage.
+ */
+public final class SimulationSummary {
+  private final Map<String, Integer> winsByPlayer;
+  private final Map<String, Long> damageByPlayer;
+  private final Map<String, Long> itemUses;
+  private int games;
+  private int escapes;
+  private long turns;
+  private long itemsPickedUp;
+
+  /**
+   * Creates an empty summary.
+   */
+  public SimulationSummary() {
+    this.winsByPlayer = new LinkedHashMap<>();
+    this.damageByPlayer = new LinkedHashMap<>();
+    this.itemUses = new LinkedHashMap<>();
+    this.games = 0;
+    this.escapes = 0;
+    this.turns = 0;
+    this.itemsPickedUp = 0;
+  }
+
+  /**
+   * Adds the result of a game to the totals.
+   *
+   * @param result the result of the game
+   * @throws IllegalArgumentException if result is null
+   */
+  public void add(GameResult result) {
+    if (result == null) {
+      throw new IllegalArgumentException("Result cannot be null");
+    }
+    games++;
+    turns += result.getTurns();
+    itemsPickedUp += result.getItemsPickedUp();
+    for (String player : result.getDamageByPlayer().keySet()) {
+      winsByPlayer.putIfAbsent(player, 0);
+    }
+    if (result.targetEscaped()) {
+      escapes++;
+    } else {
+      winsByPlayer.merge(result.getWinner(), 1, Integer::sum);
+    }
+    result.getDamageByPlayer().forEach((player, damage) ->
+        damageByPlayer.merge(player, (long) damage, Long::sum));
+    result.getItemUses().forEach((item, uses) ->
+        itemUses.merge(item, (long) uses, Long::sum));
+  }
+
+  /**
+   * Gets the number of games summarized.
+   *
+   * @return the number of games
+   */
+  public int getGames() {
+    return games;
+  }
+
+  /**
+   * Gets the number of games won by every player.
+   *
+   * @return an unmodifiable map from player name to wins
+   */
+  public Map<String, Integer> getWinsByPlayer() {
+    return Collections.unmodifiableMap(winsByPlayer);
+  }
+
+  /**
+   * Gets the number of games in which the target character escaped.
+   *
+   * @return the number of escapes
+   */
+  public int getEscapes() {
+    return escapes;
+  }
+
+  /**
+   * Gets the total number of turns played over all games.
+   *
+   * @return the total number of turns
+   */
+  public long getTotalTurns() {
+    return turns;
+  }
+
+  /**
+   * Gets the average number of turns per game.
+   *
+   * @return the average number of turns, or 0 if no game was played
+   */
+  public double getAverageTurns() {
+    return games == 0 ? 0 : (double) turns / games;
+  }
+
+  /**
+   * Gets the total damage dealt by every player over all games.
+   *
+   * @return an unmodifiable map from player name to damage dealt
+   */
+  public Map<String, Long> getDamageByPlayer() {
+    return Collections.unmodifiableMap(damageByPlayer);
+  }
+
+  /**
+   * Gets the total number of attacks made with every item over all games.
+   *
+   * @return an unmodifiable map from item name to number of attacks
+   */
+  public Map<String, Long> getItemUses() {
+    return Collections.unmodifiableMap(itemUses);
+  }
+
+  /**
+   * Gets the total number of items picked up over all games.
+   *
+   * @return the number of items picked up
+   */
+  public long getItemsPickedUp() {
+    return itemsPickedUp;
+  }
+
+  @Override
+  public String toString() {
+    return String.format("SimulationSummary{games=%d, wins=%s, escapes=%d, averageTurns=%.2f, "
+        + "damage=%s, itemUses=%s, itemsPickedUp=%d}", games, winsByPlayer, escapes,
+        getAverageTurns(), damageByPlayer, itemUses, itemsPickedUp);
+  }
+}
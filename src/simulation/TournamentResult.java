@@ -0,0 +1,200 @@
+package simulation;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * The aggregated result of a tournament of simulated games: the wins of every player, the
+ * escapes of the target character, the distribution of game lengths, the damage dealt and
+ * the item usage.
+ */
+public final class TournamentResult {
+  private final int games;
+  private final Map<String, Long> winsByPlayer;
+  private final Map<String, Long> damageByPlayer;
+  private final Map<String, Long> itemUses;
+  private final long escapes;
+  private final long itemsPickedUp;
+  private final long[] turnHistogram;
+
+  /**
+   * Creates a tournament result.
+   *
+   * @param games          the number of games played
+   * @param winsByPlayer   the number of games won by every player
+   * @param damageByPlayer the damage dealt by every player
+   * @param itemUses       the number of attacks made with every item
+   * @param escapes        the number of games in which the target escaped
+   * @param itemsPickedUp  the number of items picked up
+   * @param turnHistogram  the number of games that lasted t turns, at index t
+   * @throws IllegalArgumentException if an argument is null or a count is negative
+   */
+  public TournamentResult(int games, Map<String, Long> winsByPlayer,
+      Map<String, Long> damageByPlayer, Map<String, Long> itemUses, long escapes,
+      long itemsPickedUp, long[] turnHistogram) {
+    if (winsByPlayer == null || damageByPlayer == null || itemUses == null
+        || turnHistogram == null) {
+      throw new IllegalArgumentException("Result values cannot be null");
+    }
+    if (games < 0 || escapes < 0 || itemsPickedUp < 0) {
+      throw new IllegalArgumentException("Counts cannot be negative");
+    }
+    this.games = games;
+    this.winsByPlayer = Collections.unmodifiableMap(new LinkedHashMap<>(winsByPlayer));
+    this.damageByPlayer = Collections.unmodifiableMap(new LinkedHashMap<>(damageByPlayer));
+    this.itemUses = Collections.unmodifiableMap(new LinkedHashMap<>(itemUses));
+    this.escapes = escapes;
+    this.itemsPickedUp = itemsPickedUp;
+    this.turnHistogram = turnHistogram.clone();
+  }
+
+  /**
+   * Gets the number of games played.
+   *
+   * @return the number of games
+   */
+  public int getGames() {
+    return games;
+  }
+
+  /**
+   * Gets the number of games won by every player, in turn order.
+   *
+   * @return an unmodifiable map from player name to wins
+   */
+  public Map<String, Long> getWinsByPlayer() {
+    return winsByPlayer;
+  }
+
+  /**
+   * Gets the fraction of games won by a player.
+   *
+   * @param playerName the name of the player
+   * @return the win rate, from 0 to 1
+   */
+  public double getWinRate(String playerName) {
+    return games == 0 ? 0 : (double) winsByPlayer.getOrDefault(playerName, 0L) / games;
+  }
+
+  /**
+   * Gets the number of games in which the target character escaped.
+   *
+   * @return the number of escapes
+   */
+  public long getEscapes() {
+    return escapes;
+  }
+
+  /**
+   * Gets the fraction of games in which the target character escaped.
+   *
+   * @return the escape rate, from 0 to 1
+   */
+  public double getEscapeRate() {
+    return games == 0 ? 0 : (double) escapes / games;
+  }
+
+  /**
+   * Gets the damage dealt by every player over all games, in turn order.
+   *
+   * @return an unmodifiable map from player name to damage dealt
+   */
+  public Map<String, Long> getDamageByPlayer() {
+    return damageByPlayer;
+  }
+
+  /**
+   * Gets the number of attacks made with every item over all games.
+   *
+   * @return an unmodifiable map from item name to number of attacks
+   */
+  public Map<String, Long> getItemUses() {
+    return itemUses;
+  }
+
+  /**
+   * Gets the number of items picked up over all games.
+   *
+   * @return the number of items picked up
+   */
+  public long getItemsPickedUp() {
+    return itemsPickedUp;
+  }
+
+  /**
+   * Gets the distribution of game lengths.
+   *
+   * @return a new array holding the number of games that lasted t turns at index t
+   */
+  public long[] getTurnHistogram() {
+    return turnHistogram.clone();
+  }
+
+  /**
+   * Gets the average number of turns per game.
+   *
+   * @return the average number of turns, or 0 if no game was played
+   */
+  public double getAverageTurns() {
+    if (games == 0) {
+      return 0;
+    }
+    long total = 0;
+    for (int t = 0; t < turnHistogram.length; t++) {
+      total += t * turnHistogram[t];
+    }
+    return (double) total / games;
+  }
+
+  /**
+   * Gets the smallest number of turns t such that at least the given fraction of the
+   * games lasted t turns or fewer.
+   *
+   * @param fraction the fraction of games, from 0 to 1
+   * @return the number of turns, or 0 if no game was played
+   * @throws IllegalArgumentException if fraction is outside [0, 1]
+   */
+  public int getTurnPercentile(double fraction) {
+    if (fraction < 0 || fraction > 1) {
+      throw new IllegalArgumentException("Fraction must be between 0 and 1");
+    }
+    long needed = (long) Math.ceil(fraction * games);
+    long seen = 0;
+    for (int t = 0; t < turnHistogram.length; t++) {
+      seen += turnHistogram[t];
+      if (seen >= needed && seen > 0) {
+        return t;
+      }
+    }
+    return 0;
+  }
+
+  @Override
+  public boolean equals(Object obj) {
+    if (this == obj) {
+      return true;
+    }
+    if (!(obj instanceof TournamentResult)) {
+      return false;
+    }
+    TournamentResult other = (TournamentResult) obj;
+    return games == other.games && escapes == other.escapes
+        && itemsPickedUp == other.itemsPickedUp && winsByPlayer.equals(other.winsByPlayer)
+        && damageByPlayer.equals(other.damageByPlayer) && itemUses.equals(other.itemUses)
+        && Arrays.equals(turnHistogram, other.turnHistogram);
+  }
+
+  @Override
+  public int hashCode() {
+    return 31 * (31 * games + winsByPlayer.hashCode()) + Arrays.hashCode(turnHistogram);
+  }
+
+  @Override
+  public String toString() {
+    return String.format("TournamentResult{games=%d, wins=%s, escapes=%d, averageTurns=%.2f, "
+        + "medianTurns=%d, damage=%s, itemsPickedUp=%d}", games, winsByPlayer, escapes,
+        getAverageTurns(), getTurnPercentile(0.5), damageByPlayer, itemsPickedUp);
+  }
+}
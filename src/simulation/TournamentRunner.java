@@ -0,0 +1,205 @@
+package simulation;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import model.world.WorldTemplate;
+
+/**
+ * Runs a Monte-Carlo tournament of independent computer-only games on a
+ * {@link ForkJoinPool}.
+ *
+ * The games are split into ranges that the pool spreads over its workers. Every game is
+ * played on its own world created from the shared template, with random generators seeded
+ * from the tournament seed and the index of the game only. Every range first sums up its
+ * games locally and then adds its totals to lock-free accumulators, so the workers never
+ * wait on each other. Since the seeds do not depend on which worker plays a game and the
+ * totals are plain sums, the same seed gives the same result on any number of threads.
+ */
+public class TournamentRunner {
+  private static final int TASKS_PER_WORKER = 16;
+
+  private final GameSimulator simulator;
+  private final List<String> playerNames;
+  private final int maxTurns;
+  private final ForkJoinPool pool;
+
+  /**
+   * Creates a runner playing on the common pool.
+   *
+   * @param template the world to play in
+   * @param players  the computer players, in turn order
+   * @param maxTurns the maximum number of turns of a game
+   * @throws IllegalArgumentException if an argument is invalid
+   */
+  public TournamentRunner(WorldTemplate template, List<ComputerPlayerSpec> players,
+      int maxTurns) {
+    this(template, players, maxTurns, ForkJoinPool.commonPool());
+  }
+
+  /**
+   * Creates a runner playing on the given pool.
+   *
+   * @param template the world to play in
+   * @param players  the computer players, in turn order
+   * @param maxTurns the maximum number of turns of a game
+   * @param pool     the pool playing the games
+   * @throws IllegalArgumentException if pool is null or another argument is invalid as
+   *                                  described in {@link GameSimulator}
+   */
+  public TournamentRunner(WorldTemplate template, List<ComputerPlayerSpec> players,
+      int maxTurns, ForkJoinPool pool) {
+    if (pool == null) {
+      throw new IllegalArgumentException("Pool cannot be null");
+    }
+    this.simulator = new GameSimulator(template, players, maxTurns);
+    this.playerNames = new ArrayList<>();
+    for (ComputerPlayerSpec player : players) {
+      if (!playerNames.contains(player.getName())) {
+        playerNames.add(player.getName());
+      }
+    }
+    this.maxTurns = maxTurns;
+    this.pool = pool;
+  }
+
+  /**
+   * Plays a tournament.
+   *
+   * @param games the number of games to play
+   * @param seed  the seed of the tournament
+   * @return the aggregated result of all games
+   * @throws IllegalArgumentException if games is negative
+   */
+  public TournamentResult run(int games, long seed) {
+    if (games < 0) {
+      throw new IllegalArgumentException("Number of games cannot be negative");
+    }
+    Accumulator accumulator = new Accumulator(playerNames.size(), maxTurns);
+    int threshold = Math.max(1, games / (pool.getParallelism() * TASKS_PER_WORKER));
+    pool.invoke(new GameRange(0, games, threshold, seed, accumulator));
+    return accumulator.toResult(games);
+  }
+
+  /**
+   * Plays the games of a range of game indices, splitting it while it is large.
+   */
+  private final class GameRange extends RecursiveAction {
+    private static final long serialVersionUID = 1L;
+
+    private final int from;
+    private final int to;
+    private final int threshold;
+    private final long seed;
+    private final Accumulator accumulator;
+
+    GameRange(int from, int to, int threshold, long seed, Accumulator accumulator) {
+      this.from = from;
+      this.to = to;
+      this.threshold = threshold;
+      this.seed = seed;
+      this.accumulator = accumulator;
+    }
+
+    @Override
+    protected void compute() {
+      if (to - from > threshold) {
+        int mid = (from + to) >>> 1;
+        invokeAll(new GameRange(from, mid, threshold, seed, accumulator),
+            new GameRange(mid, to, threshold, seed, accumulator));
+        return;
+      }
+      int playerCount = playerNames.size();
+      long[] wins = new long[playerCount];
+      long[] damage = new long[playerCount];
+      long[] turns = new long[maxTurns + 1];
+      Map<String, Long> itemUses = new HashMap<>();
+      long escapes = 0;
+      long itemsPickedUp = 0;
+      for (int game = from; game < to; game++) {
+        GameResult result = simulator.playGame(GameSimulator.deriveSeed(seed, game));
+        if (result.targetEscaped()) {
+          escapes++;
+        } else {
+          wins[playerNames.indexOf(result.getWinner())]++;
+        }
+        for (int i = 0; i < playerCount; i++) {
+          damage[i] += result.getDamageByPlayer().get(playerNames.get(i));
+        }
+        result.getItemUses().forEach((item, uses) ->
+            itemUses.merge(item, (long) uses, Long::sum));
+        itemsPickedUp += result.getItemsPickedUp();
+        turns[result.getTurns()]++;
+      }
+      accumulator.add(wins, damage, turns, itemUses, escapes, itemsPickedUp);
+    }
+  }
+
+  /**
+   * Lock-free totals shared by all ranges of a tournament.
+   */
+  private final class Accumulator {
+    private final LongAdder[] wins;
+    private final LongAdder[] damage;
+    private final AtomicLongArray turns;
+    private final ConcurrentHashMap<String, LongAdder> itemUses;
+    private final LongAdder escapes;
+    private final LongAdder itemsPickedUp;
+
+    Accumulator(int playerCount, int maxTurns) {
+      this.wins = new LongAdder[playerCount];
+      this.damage = new LongAdder[playerCount];
+      for (int i = 0; i < playerCount; i++) {
+        wins[i] = new LongAdder();
+        damage[i] = new LongAdder();
+      }
+      this.turns = new AtomicLongArray(maxTurns + 1);
+      this.itemUses = new ConcurrentHashMap<>();
+      this.escapes = new LongAdder();
+      this.itemsPickedUp = new LongAdder();
+    }
+
+    void add(long[] rangeWins, long[] rangeDamage, long[] rangeTurns,
+        Map<String, Long> rangeItemUses, long rangeEscapes, long rangeItemsPickedUp) {
+      for (int i = 0; i < rangeWins.length; i++) {
+        wins[i].add(rangeWins[i]);
+        damage[i].add(rangeDamage[i]);
+      }
+      for (int t = 0; t < rangeTurns.length; t++) {
+        if (rangeTurns[t] != 0) {
+          turns.addAndGet(t, rangeTurns[t]);
+        }
+      }
+      rangeItemUses.forEach((item, uses) ->
+          itemUses.computeIfAbsent(item, key -> new LongAdder()).add(uses));
+      escapes.add(rangeEscapes);
+      itemsPickedUp.add(rangeItemsPickedUp);
+    }
+
+    TournamentResult toResult(int games) {
+      Map<String, Long> winsByPlayer = new LinkedHashMap<>();
+      Map<String, Long> damageByPlayer = new LinkedHashMap<>();
+      for (int i = 0; i < playerNames.size(); i++) {
+        winsByPlayer.put(playerNames.get(i), wins[i].sum());
+        damageByPlayer.put(playerNames.get(i), damage[i].sum());
+      }
+      // Sorting the items makes the result independent of the order ranges finished in.
+      Map<String, Long> itemTotals = new LinkedHashMap<>();
+      itemUses.keySet().stream().sorted().forEach(item ->
+          itemTotals.put(item, itemUses.get(item).sum()));
+      long[] histogram = new long[turns.length()];
+      for (int t = 0; t < histogram.length; t++) {
+        histogram[t] = turns.get(t);
+      }
+      return new TournamentResult(games, winsByPlayer, damageByPlayer, itemTotals,
+          escapes.sum(), itemsPickedUp.sum(), histogram);
+    }
+  }
+}
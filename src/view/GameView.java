@@ -81,9 +81,10 @@ public interface GameView {
   Point getLastClickPoint();
 
   /**
-   * Sets the world image to display.
+   * Sets the world image to display. Without an image, the map is drawn from the spaces
+   * of the world.
    * 
-   * @param image the world image to display
+   * @param image the world image to display, or null to draw the map from the spaces
    */
   void setWorldImage(BufferedImage image);
 
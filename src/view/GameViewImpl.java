@@ -28,6 +28,7 @@ import model.item.Item;
 import model.player.Player;
 import model.space.Space;
 import model.viewmodel.ViewModel;
+import model.viewmodel.WorldSnapshot;
 
 /**
  * Represents the main view for the game, which includes the welcome screen,
@@ -259,10 +260,11 @@ public class GameViewImpl implements GameView {
   @Override
   public void showSpaceInfo(String spaceName) {
     String info = null;
-    for (var space : viewModel.getSpaceCopies()) {
+    WorldSnapshot snapshot = viewModel.getSnapshot();
+    for (var space : snapshot.getSpaces()) {
       if (space.getSpaceName().equals(spaceName)) {
-        info = space.getSpaceInfo(viewModel.getSpaceCopies(), viewModel.getPlayerCopies(),
-            viewModel.getTargetCopy(), viewModel.getPetCopy());
+        info = space.getSpaceInfo(snapshot.getSpaces(), snapshot.getPlayers(),
+            snapshot.getTarget(), snapshot.getPet());
         break;
       }
     }
@@ -276,8 +278,12 @@ public class GameViewImpl implements GameView {
   public void refreshWorld() {
     if (worldPanel != null) {
       try {
-        worldPanel.revalidate();
-        worldPanel.repaint();
+        if (viewModel == null) {
+          worldPanel.revalidate();
+          worldPanel.repaint();
+        } else {
+          worldPanel.refresh();
+        }
       } catch (IllegalArgumentException  e) {
         showError("Error refreshing world: " + e.getMessage());
       }
@@ -392,9 +398,9 @@ public class GameViewImpl implements GameView {
   public void updateTurnDisplay(String playerName, int turnNumber) {
     SwingUtilities.invokeLater(() -> {
       if (viewModel != null) {
-        Player currentPlayer = viewModel.getCurrentPlayerCopy();
+        WorldSnapshot snapshot = viewModel.getSnapshot();
         String limitedInfo = String.format("Turn %d | Current Player: %s\n%s", turnNumber,
-            playerName, currentPlayer.limitedInfo(viewModel.getSpaceCopies()));
+            playerName, snapshot.getCurrentPlayer().limitedInfo(snapshot.getSpaces()));
         limitedInfoArea.setText(limitedInfo);
       }
     });
@@ -405,9 +411,10 @@ public class GameViewImpl implements GameView {
     SwingUtilities.invokeLater(() -> {
       statusArea.append(status + "\n");
       statusArea.setCaretPosition(statusArea.getDocument().getLength());
-      if (currentTurn != viewModel.getCurrentTurn()) {
-        currentTurn = viewModel.getCurrentTurn();
-        updateTurnDisplay(viewModel.getCurrentPlayerCopy().getPlayerName(), currentTurn);
+      WorldSnapshot snapshot = viewModel.getSnapshot();
+      if (currentTurn != snapshot.getCurrentTurn()) {
+        currentTurn = snapshot.getCurrentTurn();
+        updateTurnDisplay(snapshot.getCurrentPlayer().getPlayerName(), currentTurn);
       }
     });
   }
@@ -468,8 +475,9 @@ public class GameViewImpl implements GameView {
   @Override
   public String showItemPickerDialog() {
     // Get current player and items in their space
-    Player currentPlayer = viewModel.getCurrentPlayerCopy();
-    Space currentSpace = viewModel.getSpaceCopies().get(currentPlayer.getCurrentSpaceIndex());
+    WorldSnapshot snapshot = viewModel.getSnapshot();
+    Player currentPlayer = snapshot.getCurrentPlayer();
+    Space currentSpace = snapshot.getSpaces().get(currentPlayer.getCurrentSpaceIndex());
     List<Item> items = currentSpace.getItems();
 
     if (items.isEmpty()) {
@@ -483,7 +491,7 @@ public class GameViewImpl implements GameView {
 
   @Override
   public String showAttackItemDialog() {
-    Player currentPlayer = viewModel.getCurrentPlayerCopy();
+    Player currentPlayer = viewModel.getSnapshot().getCurrentPlayer();
     List<Item> items = currentPlayer.getItems();
     PickerDialog<String> dialog = new AttackItemDialog(frame, items);
     return dialog.showDialog();
@@ -495,7 +503,8 @@ public class GameViewImpl implements GameView {
       showError("Game not properly initialized");
       return null;
     }
-    PickerDialog<String> dialog = new SpacePickerDialog(frame, viewModel.getSpaceCopies());
+    PickerDialog<String> dialog = new SpacePickerDialog(frame,
+        viewModel.getSnapshot().getSpaces());
     return dialog.showDialog();
   }
 }
\ No newline at end of file
@@ -92,6 +92,8 @@ public class HelpMenu extends JMenu {
     controls.append("<ul>");
     controls.append("<li><b>Click on a space:</b> Move to that space</li>");
     controls.append("<li><b>Click on a player:</b> View player information</li>");
+    controls.append("<li><b>Mouse wheel:</b> Zoom the map around the mouse</li>");
+    controls.append("<li><b>Drag:</b> Move the zoomed map</li>");
     controls.append("</ul>");
 
     controls.append("<h3>Keyboard Controls:</h3>");
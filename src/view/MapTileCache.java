@@ -0,0 +1,367 @@
+package view;
+
+import java.awt.Color;
+import java.awt.Graphics;
+import java.awt.Graphics2D;
+import java.awt.Rectangle;
+import java.awt.image.BufferedImage;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * Draws a map in fixed-size tiles that are painted on demand and kept in a bounded cache,
+ * so that only the part of the map on screen is ever held in memory, however large the
+ * map is.
+ *
+ * Tiles come in levels of detail. At level 0 a tile pixel is a map pixel, every level
+ * above halves the resolution and every level below doubles it. The level for a zoom is
+ * the most detailed one that is not finer than the screen, so a tile is drawn at between
+ * half and its full size, a zoomed out view covers the whole map with a few coarse tiles,
+ * and tiles stay valid while the zoom changes within a level. When the cache is full the
+ * least recently drawn tile is dropped.
+ *
+ * Tiles can also be painted on a background thread. Missing tiles are then shown from a
+ * coarser cached tile, or left blank, until they are ready, and the tiles around the
+ * visible ones can be prefetched, so that dragging the map never waits for painting.
+ */
+final class MapTileCache {
+  /** The width and height of a tile, in tile pixels. */
+  static final int TILE_SIZE = 256;
+  /** The most detailed level, at 8 tile pixels per map pixel. */
+  static final int MIN_LEVEL = -3;
+  /** The coarsest level. */
+  static final int MAX_LEVEL = 30;
+  /** How many levels up a coarser tile is looked for while a tile is painted. */
+  private static final int FALLBACK_LEVELS = 4;
+
+  private final int mapWidth;
+  private final int mapHeight;
+  private final TilePainter painter;
+  private final int capacity;
+  private final Map<Long, BufferedImage> tiles;
+  private final Set<Long> pending;
+  private volatile int wantedLevel;
+  private long renderedCount;
+
+  /**
+   * Creates an empty cache.
+   *
+   * @param mapWidth  the width of the map, in map pixels
+   * @param mapHeight the height of the map, in map pixels
+   * @param capacity  the number of tiles kept
+   * @param painter   paints the map on new tiles
+   * @throws IllegalArgumentException if a size is not positive or painter is null
+   */
+  MapTileCache(int mapWidth, int mapHeight, int capacity, TilePainter painter) {
+    if (mapWidth <= 0 || mapHeight <= 0 || capacity <= 0) {
+      throw new IllegalArgumentException("Map size and capacity must be positive");
+    }
+    if (painter == null) {
+      throw new IllegalArgumentException("Painter cannot be null");
+    }
+    this.mapWidth = mapWidth;
+    this.mapHeight = mapHeight;
+    this.painter = painter;
+    this.capacity = capacity;
+    this.tiles = new LinkedHashMap<Long, BufferedImage>(capacity * 2, 0.75f, true) {
+      private static final long serialVersionUID = 1L;
+
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<Long, BufferedImage> eldest) {
+        return size() > capacity;
+      }
+    };
+    this.pending = new HashSet<>();
+    this.wantedLevel = MAX_LEVEL;
+    this.renderedCount = 0;
+  }
+
+  /**
+   * Picks the level of detail for drawing the map at a zoom.
+   *
+   * @param scale the number of screen pixels per map pixel
+   * @return the level of the tiles to draw
+   */
+  static int levelFor(double scale) {
+    if (!(scale > 0)) {
+      return MAX_LEVEL;
+    }
+    double exact = Math.floor(Math.log(1 / scale) / Math.log(2));
+    int level = (int) Math.max(MIN_LEVEL, Math.min(MAX_LEVEL, exact));
+    // Correct rounding in the logarithm, so the tiles are as coarse as possible without
+    // being coarser than the screen.
+    while (level > MIN_LEVEL && Math.scalb(1.0, level) * scale > 1) {
+      level--;
+    }
+    while (level < MAX_LEVEL && Math.scalb(1.0, level + 1) * scale <= 1) {
+      level++;
+    }
+    return level;
+  }
+
+  /**
+   * Draws the tiles of the map overlapping an area of the screen, painting the missing
+   * ones.
+   *
+   * @param g       the graphics context to draw on
+   * @param scale   the number of screen pixels per map pixel
+   * @param originX the horizontal screen position of the top left corner of the map
+   * @param originY the vertical screen position of the top left corner of the map
+   * @param area    the area of the screen to cover
+   */
+  void paint(Graphics g, double scale, int originX, int originY, Rectangle area) {
+    paint(g, scale, originX, originY, area, null, null);
+  }
+
+  /**
+   * Draws the tiles of the map overlapping an area of the screen. Missing tiles are
+   * painted on a background executor when one is given, and shown from a coarser cached
+   * tile in the meantime, or else painted straight away.
+   *
+   * @param g          the graphics context to draw on
+   * @param scale      the number of screen pixels per map pixel
+   * @param originX    the horizontal screen position of the top left corner of the map
+   * @param originY    the vertical screen position of the top left corner of the map
+   * @param area       the area of the screen to cover
+   * @param background the executor painting missing tiles, or null to paint them now
+   * @param tileReady  run on the executor whenever a missing tile is ready, may be null
+   */
+  void paint(Graphics g, double scale, int originX, int originY, Rectangle area,
+      Executor background, Runnable tileReady) {
+    int level = levelFor(scale);
+    wantedLevel = level;
+    long span = tileSpan(level);
+    long[] range = tileRange(span, scale, originX, originY, area);
+    if (range == null) {
+      return;
+    }
+    for (long row = range[2]; row <= range[3]; row++) {
+      for (long column = range[0]; column <= range[1]; column++) {
+        Rectangle region = tileRegion(span, column, row);
+        Rectangle screen = toScreen(region, scale, originX, originY);
+        if (screen.isEmpty()) {
+          continue;
+        }
+        BufferedImage tile = background == null ? tile(level, column, row)
+            : cached(key(level, column, row));
+        if (tile != null) {
+          g.drawImage(tile, screen.x, screen.y, screen.width, screen.height, null);
+        } else {
+          drawFallback(g, level, column, row, region, screen);
+          request(level, column, row, background, tileReady);
+        }
+      }
+    }
+  }
+
+  /**
+   * Paints the missing tiles around an area of the screen on a background executor, one
+   * tile deep on every side, unless they would not all fit in the cache together with the
+   * visible tiles.
+   *
+   * @param scale      the number of screen pixels per map pixel
+   * @param originX    the horizontal screen position of the top left corner of the map
+   * @param originY    the vertical screen position of the top left corner of the map
+   * @param area       the visible area of the screen
+   * @param background the executor painting the tiles
+   */
+  void prefetch(double scale, int originX, int originY, Rectangle area, Executor background) {
+    int level = levelFor(scale);
+    long span = tileSpan(level);
+    int margin = (int) Math.min(Integer.MAX_VALUE / 4, Math.ceil(span * scale));
+    Rectangle around = new Rectangle(area.x - margin, area.y - margin,
+        area.width + 2 * margin, area.height + 2 * margin);
+    long[] range = tileRange(span, scale, originX, originY, around);
+    if (range == null || (range[1] - range[0] + 1) * (range[3] - range[2] + 1) > capacity) {
+      return;
+    }
+    for (long row = range[2]; row <= range[3]; row++) {
+      for (long column = range[0]; column <= range[1]; column++) {
+        request(level, column, row, background, null);
+      }
+    }
+  }
+
+  /**
+   * Finds the tiles of a level overlapping an area of the screen.
+   *
+   * @return the first and last column and the first and last row, or null if the area
+   *         does not overlap the map
+   */
+  private long[] tileRange(long span, double scale, int originX, int originY,
+      Rectangle area) {
+    double left = Math.max(0, (area.x - originX) / scale);
+    double top = Math.max(0, (area.y - originY) / scale);
+    double right = Math.min(mapWidth, ((double) area.x + area.width - originX) / scale);
+    double bottom = Math.min(mapHeight, ((double) area.y + area.height - originY) / scale);
+    if (right <= left || bottom <= top) {
+      return null;
+    }
+    return new long[] {(long) (left / span), (long) Math.ceil(right / span) - 1,
+        (long) (top / span), (long) Math.ceil(bottom / span) - 1};
+  }
+
+  private static Rectangle toScreen(Rectangle region, double scale, int originX,
+      int originY) {
+    int x1 = originX + (int) Math.floor(region.x * scale);
+    int y1 = originY + (int) Math.floor(region.y * scale);
+    int x2 = originX + (int) Math.floor(((long) region.x + region.width) * scale);
+    int y2 = originY + (int) Math.floor(((long) region.y + region.height) * scale);
+    return new Rectangle(x1, y1, x2 - x1, y2 - y1);
+  }
+
+  /**
+   * Draws the part of the closest coarser cached tile covering a missing tile.
+   */
+  private void drawFallback(Graphics g, int level, long column, long row, Rectangle region,
+      Rectangle screen) {
+    for (int up = 1; up <= FALLBACK_LEVELS && level + up <= MAX_LEVEL; up++) {
+      BufferedImage coarse = cached(key(level + up, column >> up, row >> up));
+      if (coarse != null) {
+        Rectangle coarseRegion = tileRegion(tileSpan(level + up), column >> up, row >> up);
+        double coarseScale = Math.scalb(1.0, -(level + up));
+        int sx1 = (int) Math.floor((region.x - coarseRegion.x) * coarseScale);
+        int sy1 = (int) Math.floor((region.y - coarseRegion.y) * coarseScale);
+        int sx2 = (int) Math.ceil((region.x - coarseRegion.x + region.width) * coarseScale);
+        int sy2 = (int) Math.ceil((region.y - coarseRegion.y + region.height) * coarseScale);
+        g.drawImage(coarse, screen.x, screen.y, screen.x + screen.width,
+            screen.y + screen.height, sx1, sy1, Math.min(coarse.getWidth(), sx2),
+            Math.min(coarse.getHeight(), sy2), null);
+        return;
+      }
+    }
+  }
+
+  /**
+   * Paints a tile on a background executor, unless it is cached or already requested.
+   * Tiles of a level that is no longer drawn when their turn comes are skipped.
+   */
+  private void request(int level, long column, long row, Executor background,
+      Runnable tileReady) {
+    long key = key(level, column, row);
+    synchronized (tiles) {
+      if (tiles.containsKey(key) || !pending.add(key)) {
+        return;
+      }
+    }
+    try {
+      background.execute(() -> {
+        try {
+          if (wantedLevel == level) {
+            store(key, render(level, tileRegion(tileSpan(level), column, row)));
+            if (tileReady != null) {
+              tileReady.run();
+            }
+          }
+        } finally {
+          synchronized (tiles) {
+            pending.remove(key);
+          }
+        }
+      });
+    } catch (RejectedExecutionException e) {
+      synchronized (tiles) {
+        pending.remove(key);
+      }
+    }
+  }
+
+  /**
+   * Retrieves the number of tiles in the cache.
+   *
+   * @return the number of cached tiles
+   */
+  int size() {
+    synchronized (tiles) {
+      return tiles.size();
+    }
+  }
+
+  /**
+   * Retrieves the number of tiles painted since the cache was created.
+   *
+   * @return the number of painted tiles
+   */
+  long getRenderedCount() {
+    synchronized (tiles) {
+      return renderedCount;
+    }
+  }
+
+  private static long tileSpan(int level) {
+    return level >= 0 ? (long) TILE_SIZE << level : TILE_SIZE >> -level;
+  }
+
+  private Rectangle tileRegion(long span, long column, long row) {
+    long x = column * span;
+    long y = row * span;
+    return new Rectangle((int) x, (int) y, (int) Math.min(span, mapWidth - x),
+        (int) Math.min(span, mapHeight - y));
+  }
+
+  private static long key(int level, long column, long row) {
+    return ((long) (level - MIN_LEVEL) << 56) | (row << 28) | column;
+  }
+
+  private BufferedImage cached(long key) {
+    synchronized (tiles) {
+      return tiles.get(key);
+    }
+  }
+
+  private void store(long key, BufferedImage tile) {
+    synchronized (tiles) {
+      tiles.put(key, tile);
+      renderedCount++;
+    }
+  }
+
+  private BufferedImage tile(int level, long column, long row) {
+    long key = key(level, column, row);
+    BufferedImage tile = cached(key);
+    if (tile == null) {
+      tile = render(level, tileRegion(tileSpan(level), column, row));
+      store(key, tile);
+    }
+    return tile;
+  }
+
+  private BufferedImage render(int level, Rectangle region) {
+    double tileScale = Math.scalb(1.0, -level);
+    int width = Math.max(1, (int) Math.ceil(region.width * tileScale));
+    int height = Math.max(1, (int) Math.ceil(region.height * tileScale));
+    BufferedImage tile = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+    Graphics2D g = tile.createGraphics();
+    try {
+      g.setColor(Color.WHITE);
+      g.fillRect(0, 0, width, height);
+      g.scale(tileScale, tileScale);
+      g.translate(-region.x, -region.y);
+      painter.paint(g, region, tileScale);
+    } finally {
+      g.dispose();
+    }
+    return tile;
+  }
+
+  /**
+   * Paints the content of the map on a tile.
+   */
+  @FunctionalInterface
+  interface TilePainter {
+    /**
+     * Paints the part of the map shown by a tile.
+     *
+     * @param g      the graphics context of the tile, in map pixel coordinates, where
+     *               drawing outside the tile is discarded
+     * @param region the part of the map shown by the tile, in map pixels
+     * @param scale  the number of tile pixels per map pixel, for leaving out details
+     *               too small to see
+     */
+    void paint(Graphics2D g, Rectangle region, double scale);
+  }
+}
@@ -0,0 +1,207 @@
+package view;
+
+import java.awt.Rectangle;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.IntConsumer;
+
+/**
+ * A uniform grid index over a fixed list of rectangles, answering which rectangle holds a
+ * point by checking only the few rectangles overlapping the grid cell of the point, and
+ * which rectangles overlap an area by checking only the cells the area covers.
+ *
+ * The cell size is picked so that there are about as many cells as rectangles. The cells
+ * list the rectangles overlapping them in compressed sparse row form, so the index is a
+ * handful of int arrays however many rectangles it holds, and a lookup does not allocate.
+ */
+final class RectangleGrid {
+  private final int[] left;
+  private final int[] top;
+  private final int[] right;
+  private final int[] bottom;
+  private final int originX;
+  private final int originY;
+  private final int cellSize;
+  private final int columns;
+  private final int rows;
+  private final int[] offsets;
+  private final int[] entries;
+
+  /**
+   * Builds the index of a list of rectangles. Empty rectangles never hold a point.
+   *
+   * @param rectangles the rectangles, identified by their position in the list
+   * @throws IllegalArgumentException if rectangles is null
+   */
+  RectangleGrid(List<Rectangle> rectangles) {
+    if (rectangles == null) {
+      throw new IllegalArgumentException("Rectangles cannot be null");
+    }
+    int n = rectangles.size();
+    left = new int[n];
+    top = new int[n];
+    right = new int[n];
+    bottom = new int[n];
+    long minX = Long.MAX_VALUE;
+    long minY = Long.MAX_VALUE;
+    long maxX = Long.MIN_VALUE;
+    long maxY = Long.MIN_VALUE;
+    long area = 0;
+    int kept = 0;
+    for (int i = 0; i < n; i++) {
+      Rectangle r = rectangles.get(i);
+      left[i] = r.x;
+      top[i] = r.y;
+      right[i] = r.x + Math.max(0, r.width);
+      bottom[i] = r.y + Math.max(0, r.height);
+      if (right[i] > left[i] && bottom[i] > top[i]) {
+        minX = Math.min(minX, left[i]);
+        minY = Math.min(minY, top[i]);
+        maxX = Math.max(maxX, right[i]);
+        maxY = Math.max(maxY, bottom[i]);
+        area += (long) (right[i] - left[i]) * (bottom[i] - top[i]);
+        kept++;
+      }
+    }
+    if (kept == 0) {
+      originX = 0;
+      originY = 0;
+      cellSize = 1;
+      columns = 0;
+      rows = 0;
+      offsets = new int[1];
+      entries = new int[0];
+      return;
+    }
+    originX = (int) minX;
+    originY = (int) minY;
+    int size = (int) Math.max(1, Math.ceil(Math.sqrt((double) area / kept)));
+    // Keep the number of cells linear in the number of rectangles for sparse layouts.
+    while ((double) ((maxX - minX) / size + 1) * ((maxY - minY) / size + 1) > 4.0 * kept + 16) {
+      size *= 2;
+    }
+    cellSize = size;
+    columns = (int) ((maxX - minX - 1) / size + 1);
+    rows = (int) ((maxY - minY - 1) / size + 1);
+
+    offsets = new int[columns * rows + 1];
+    for (int i = 0; i < n; i++) {
+      if (right[i] > left[i] && bottom[i] > top[i]) {
+        forEachCell(i, cell -> offsets[cell + 1]++);
+      }
+    }
+    for (int cell = 0; cell < columns * rows; cell++) {
+      offsets[cell + 1] += offsets[cell];
+    }
+    entries = new int[offsets[columns * rows]];
+    int[] fill = Arrays.copyOf(offsets, columns * rows);
+    for (int i = 0; i < n; i++) {
+      if (right[i] > left[i] && bottom[i] > top[i]) {
+        int rectangle = i;
+        forEachCell(i, cell -> entries[fill[cell]++] = rectangle);
+      }
+    }
+  }
+
+  private void forEachCell(int i, IntConsumer action) {
+    int firstColumn = (left[i] - originX) / cellSize;
+    int lastColumn = (right[i] - 1 - originX) / cellSize;
+    int firstRow = (top[i] - originY) / cellSize;
+    int lastRow = (bottom[i] - 1 - originY) / cellSize;
+    for (int row = firstRow; row <= lastRow; row++) {
+      for (int column = firstColumn; column <= lastColumn; column++) {
+        action.accept(row * columns + column);
+      }
+    }
+  }
+
+  /**
+   * Retrieves the number of rectangles in the index.
+   *
+   * @return the number of rectangles
+   */
+  int size() {
+    return left.length;
+  }
+
+  /**
+   * Retrieves a rectangle of the index.
+   *
+   * @param index the position of the rectangle in the list the index was built from
+   * @return a new rectangle with the same bounds
+   */
+  Rectangle get(int index) {
+    return new Rectangle(left[index], top[index], right[index] - left[index],
+        bottom[index] - top[index]);
+  }
+
+  /**
+   * Finds the rectangle holding a point, with the same bounds as
+   * {@link Rectangle#contains(int, int)}. When several rectangles hold the point, the one
+   * listed first wins.
+   *
+   * @param x the horizontal coordinate of the point
+   * @param y the vertical coordinate of the point
+   * @return the position of the rectangle in the list the index was built from, or -1 if
+   *         no rectangle holds the point
+   */
+  int find(int x, int y) {
+    long column = Math.floorDiv((long) x - originX, cellSize);
+    long row = Math.floorDiv((long) y - originY, cellSize);
+    if (column < 0 || row < 0 || column >= columns || row >= rows) {
+      return -1;
+    }
+    int cell = (int) row * columns + (int) column;
+    int found = -1;
+    for (int k = offsets[cell]; k < offsets[cell + 1]; k++) {
+      int i = entries[k];
+      if ((found == -1 || i < found) && x >= left[i] && x < right[i] && y >= top[i]
+          && y < bottom[i]) {
+        found = i;
+      }
+    }
+    return found;
+  }
+
+  /**
+   * Visits every rectangle overlapping an area once, with the same bounds as
+   * {@link Rectangle#intersects(Rectangle)}, in no particular order.
+   *
+   * @param area   the area
+   * @param action called with the position of every overlapping rectangle in the list the
+   *               index was built from
+   */
+  void forEachIntersecting(Rectangle area, IntConsumer action) {
+    if (columns == 0 || area.width <= 0 || area.height <= 0) {
+      return;
+    }
+    long firstColumn = Math.floorDiv((long) area.x - originX, cellSize);
+    long lastColumn = Math.floorDiv((long) area.x + area.width - 1 - originX, cellSize);
+    long firstRow = Math.floorDiv((long) area.y - originY, cellSize);
+    long lastRow = Math.floorDiv((long) area.y + area.height - 1 - originY, cellSize);
+    if (lastColumn < 0 || lastRow < 0 || firstColumn >= columns || firstRow >= rows) {
+      return;
+    }
+    int startColumn = (int) Math.max(0, firstColumn);
+    int endColumn = (int) Math.min(columns - 1, lastColumn);
+    int startRow = (int) Math.max(0, firstRow);
+    int endRow = (int) Math.min(rows - 1, lastRow);
+    long areaRight = (long) area.x + area.width;
+    long areaBottom = (long) area.y + area.height;
+    for (int row = startRow; row <= endRow; row++) {
+      for (int column = startColumn; column <= endColumn; column++) {
+        int cell = row * columns + column;
+        for (int k = offsets[cell]; k < offsets[cell + 1]; k++) {
+          int i = entries[k];
+          // A rectangle spanning several cells is reported from the first one visited.
+          if (left[i] < areaRight && right[i] > area.x && top[i] < areaBottom
+              && bottom[i] > area.y
+              && column == Math.max((left[i] - originX) / cellSize, startColumn)
+              && row == Math.max((top[i] - originY) / cellSize, startRow)) {
+            action.accept(i);
+          }
+        }
+      }
+    }
+  }
+}
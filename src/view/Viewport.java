@@ -0,0 +1,183 @@
+package view;
+
+import java.awt.Point;
+
+/**
+ * The part of the map shown by a panel: how many screen pixels a map pixel takes, and
+ * where on screen the top left corner of the map is.
+ *
+ * A new viewport fits the whole map into the panel and keeps fitting it while the panel is
+ * resized. Zooming in keeps the map point under the mouse in place, and the map can then be
+ * dragged around, though never further than needed to see its edges. Zooming back out to
+ * the fitting scale fits the whole map again.
+ */
+final class Viewport {
+  /** The largest number of screen pixels per map pixel. */
+  static final double MAX_SCALE = 4.0;
+
+  private final int padding;
+  private int mapWidth;
+  private int mapHeight;
+  private int viewWidth;
+  private int viewHeight;
+  private double scale;
+  private double originX;
+  private double originY;
+  private boolean fitted;
+
+  /**
+   * Creates a viewport fitting the map into the view.
+   *
+   * @param padding the margin kept between the edges of the view and a fitted map, in
+   *                screen pixels
+   */
+  Viewport(int padding) {
+    this.padding = padding;
+    this.mapWidth = 1;
+    this.mapHeight = 1;
+    this.viewWidth = 0;
+    this.viewHeight = 0;
+    this.fitted = true;
+    fit();
+  }
+
+  /**
+   * Sets the size of the map, and fits it into the view when it changed.
+   *
+   * @param width  the width of the map, in map pixels
+   * @param height the height of the map, in map pixels
+   * @throws IllegalArgumentException if a size is not positive
+   */
+  void setMapSize(int width, int height) {
+    if (width <= 0 || height <= 0) {
+      throw new IllegalArgumentException("Map size must be positive");
+    }
+    if (width != mapWidth || height != mapHeight) {
+      mapWidth = width;
+      mapHeight = height;
+      fit();
+    }
+  }
+
+  /**
+   * Sets the size of the view. A fitted map is fitted again, and otherwise the map point at
+   * the center of the view stays there.
+   *
+   * @param width  the width of the view, in screen pixels
+   * @param height the height of the view, in screen pixels
+   */
+  void setViewSize(int width, int height) {
+    if (width == viewWidth && height == viewHeight) {
+      return;
+    }
+    originX += (width - viewWidth) / 2.0;
+    originY += (height - viewHeight) / 2.0;
+    viewWidth = width;
+    viewHeight = height;
+    if (fitted) {
+      fit();
+    } else {
+      clamp();
+    }
+  }
+
+  /**
+   * Fits the whole map into the view, centered.
+   */
+  void fit() {
+    scale = fitScale();
+    fitted = true;
+    originX = (viewWidth - (int) (mapWidth * scale)) / 2;
+    originY = (viewHeight - (int) (mapHeight * scale)) / 2;
+  }
+
+  /**
+   * Zooms in or out around a point of the view, which keeps showing the same map point.
+   * The scale stays between the fitting scale and {@link #MAX_SCALE}, and reaching the
+   * fitting scale fits the map again.
+   *
+   * @param factor  the factor to multiply the scale with
+   * @param anchorX the horizontal position of the point in the view
+   * @param anchorY the vertical position of the point in the view
+   */
+  void zoom(double factor, int anchorX, int anchorY) {
+    if (!(factor > 0)) {
+      return;
+    }
+    double min = fitScale();
+    double target = Math.min(Math.max(MAX_SCALE, min), Math.max(min, scale * factor));
+    if (target <= min) {
+      fit();
+      return;
+    }
+    originX = anchorX - (anchorX - originX) * target / scale;
+    originY = anchorY - (anchorY - originY) * target / scale;
+    scale = target;
+    fitted = false;
+    clamp();
+  }
+
+  /**
+   * Moves the map in the view, as far as its edges allow.
+   *
+   * @param dx the horizontal distance, in screen pixels
+   * @param dy the vertical distance, in screen pixels
+   */
+  void pan(int dx, int dy) {
+    if (fitted) {
+      return;
+    }
+    originX += dx;
+    originY += dy;
+    clamp();
+  }
+
+  /**
+   * Retrieves the number of screen pixels per map pixel.
+   *
+   * @return the scale
+   */
+  double getScale() {
+    return scale;
+  }
+
+  /**
+   * Retrieves the position of the top left corner of the map in the view.
+   *
+   * @return a new point with the position, in screen pixels
+   */
+  Point getOrigin() {
+    return new Point((int) Math.floor(originX), (int) Math.floor(originY));
+  }
+
+  /**
+   * Checks whether the whole map is fitted into the view.
+   *
+   * @return true if the map is fitted, false if it was zoomed into
+   */
+  boolean isFitted() {
+    return fitted;
+  }
+
+  private double fitScale() {
+    double scaleX = (double) (viewWidth - 2 * padding) / mapWidth;
+    double scaleY = (double) (viewHeight - 2 * padding) / mapHeight;
+    return Math.max(Double.MIN_NORMAL, Math.min(scaleX, scaleY));
+  }
+
+  /**
+   * Keeps the map centered along an axis where it is smaller than the view, and otherwise
+   * keeps its edges from moving inside the padding.
+   */
+  private void clamp() {
+    originX = clampAxis(originX, mapWidth * scale, viewWidth);
+    originY = clampAxis(originY, mapHeight * scale, viewHeight);
+  }
+
+  private double clampAxis(double origin, double mapSize, int viewSize) {
+    if (mapSize <= viewSize - 2 * padding) {
+      return Math.floor((viewSize - mapSize) / 2);
+    }
+    return Math.min(padding, Math.max(viewSize - padding - mapSize, origin));
+  }
+}
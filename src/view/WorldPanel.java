@@ -6,17 +6,27 @@ import java.awt.FontMetrics;
 import java.awt.Graphics;
 import java.awt.Point;
 import java.awt.Rectangle;
+import java.awt.event.MouseAdapter;
+import java.awt.event.MouseEvent;
+import java.awt.event.MouseWheelEvent;
 import java.awt.image.BufferedImage;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import javax.swing.BorderFactory;
 import javax.swing.JPanel;
+import javax.swing.SwingUtilities;
 import model.player.Player;
 import model.space.Space;
 import model.target.TargetCharacter;
 import model.viewmodel.ViewModel;
+import model.viewmodel.WorldSnapshot;
+import model.world.WorldPainter;
 
 /**
  * A panel that displays the game world and its elements.
@@ -26,7 +36,19 @@ public class WorldPanel extends JPanel implements WorldPanelInterface {
   private static final int PADDING = 25;
   private static final int PLAYER_SIZE = 20;
   private static final double DISTRIBUTION_RADIUS = 30.0;
+  private static final int CLICK_TOLERANCE = 2;
   private static final int IMAGE_PADDING = 100; // Match the padding used in WorldPainter
+  private static final int MAP_SCALE = 30; // Match the scale used in WorldPainter
+  private static final int TILE_CACHE_CAPACITY = 128;
+  private static final double NAME_SCALE = 0.5; // Smallest tile scale showing space names
+  private static final int NAME_MARGIN = 200; // How far a space name may run past its space
+  private static final double ZOOM_STEP = 1.25; // Zoom factor of one mouse wheel notch
+  private static final ExecutorService TILE_PAINTER = Executors.newSingleThreadExecutor(
+      task -> {
+        Thread thread = new Thread(task, "map-tiles");
+        thread.setDaemon(true);
+        return thread;
+      });
   private static final Color[] PLAYER_COLOR_PALETTE = { new Color(0, 120, 215), // Blue
       new Color(216, 0, 115), // Magenta
       new Color(255, 140, 0), // Orange
@@ -39,11 +61,20 @@ public class WorldPanel extends JPanel implements WorldPanelInterface {
 
   private final ViewModel viewModel;
   private BufferedImage worldImage;
+  private MapTileCache mapTiles;
+  private final Viewport viewport;
   private Point offset;
   private Point lastClickPoint;
   private double scale = 1.0;
-  private Map<Rectangle, Player> playerBounds;
   private Map<String, Color> playerColors;
+  private WorldSnapshot paintedSnapshot;
+  private List<Space> mapSpaces;
+  private RectangleGrid spaceGrid;
+  private Rectangle[] paintedExtents;
+  private List<Rectangle> playerRects;
+  private List<Player> drawnPlayers;
+  private RectangleGrid playerGrid;
+  private boolean refreshing;
 
   /**
    * Creates a new WorldPanel with the given ViewModel.
@@ -52,12 +83,56 @@ public class WorldPanel extends JPanel implements WorldPanelInterface {
    */
   public WorldPanel(ViewModel viewModel) {
     this.viewModel = viewModel;
+    this.viewport = new Viewport(PADDING);
     this.offset = new Point(PADDING, PADDING);
-    this.playerBounds = new HashMap<>();
     this.playerColors = new HashMap<>();
+    this.playerRects = new ArrayList<>();
+    this.drawnPlayers = new ArrayList<>();
+    this.playerGrid = new RectangleGrid(playerRects);
+    this.paintedSnapshot = null;
+    this.refreshing = false;
     setPreferredSize(new Dimension(1000, 800));
     setBorder(BorderFactory.createLineBorder(Color.BLACK));
     setBackground(Color.WHITE);
+    MapNavigation navigation = new MapNavigation();
+    addMouseListener(navigation);
+    addMouseMotionListener(navigation);
+    addMouseWheelListener(navigation);
+  }
+
+  /**
+   * Zooms the map with the mouse wheel, around the mouse, and drags it with any mouse
+   * button.
+   */
+  private final class MapNavigation extends MouseAdapter {
+    private Point dragPoint;
+
+    @Override
+    public void mousePressed(MouseEvent e) {
+      dragPoint = e.getPoint();
+    }
+
+    @Override
+    public void mouseDragged(MouseEvent e) {
+      if (dragPoint != null && viewModel != null) {
+        viewport.pan(e.getX() - dragPoint.x, e.getY() - dragPoint.y);
+        dragPoint = e.getPoint();
+        repaint();
+      }
+    }
+
+    @Override
+    public void mouseReleased(MouseEvent e) {
+      dragPoint = null;
+    }
+
+    @Override
+    public void mouseWheelMoved(MouseWheelEvent e) {
+      if (viewModel != null) {
+        viewport.zoom(Math.pow(ZOOM_STEP, -e.getPreciseWheelRotation()), e.getX(), e.getY());
+        repaint();
+      }
+    }
   }
 
   /**
@@ -79,59 +154,285 @@ public class WorldPanel extends JPanel implements WorldPanelInterface {
   @Override
   protected void paintComponent(Graphics g) {
     super.paintComponent(g);
-    playerBounds.clear();
+    playerRects.clear();
+    drawnPlayers.clear();
 
     g.setColor(Color.WHITE);
     g.fillRect(0, 0, getWidth(), getHeight());
 
+    if (viewModel != null) {
+      WorldSnapshot snapshot = viewModel.getSnapshot();
+      updateScale(snapshot);
+
+      // Draw the tiles of the map on screen, painting missing ones in the background
+      // unless the panel is drawn off screen
+      Rectangle visible = getVisibleRect();
+      Rectangle clip = g.getClipBounds();
+      Rectangle drawn = clip != null ? clip : visible;
+      if (isShowing()) {
+        mapTiles.paint(g, scale, offset.x, offset.y, drawn, TILE_PAINTER, this::repaint);
+        mapTiles.prefetch(scale, offset.x, offset.y, new Rectangle(0, 0, getWidth(),
+            getHeight()), TILE_PAINTER);
+      } else {
+        mapTiles.paint(g, scale, offset.x, offset.y, drawn);
+      }
+
+      // Draw game elements on top
+      if (!refreshing && paintedSnapshot != null
+          && paintedSnapshot.getVersion() != snapshot.getVersion() && clip != null
+          && !clip.contains(0, 0, getWidth(), getHeight())) {
+        // Swing painted part of the panel after the world changed, draw the rest as well.
+        repaint();
+      }
+      if (paintedExtents == null || paintedExtents.length != snapshot.getSpaces().size()) {
+        paintedExtents = new Rectangle[snapshot.getSpaces().size()];
+      } else {
+        Arrays.fill(paintedExtents, null);
+      }
+      drawGameElements(g, snapshot, drawn, visible);
+      paintedSnapshot = snapshot;
+    }
+    playerGrid = new RectangleGrid(playerRects);
+  }
+
+  /**
+   * Takes the scale and position of the map from the viewport, and prepares the tiles and
+   * the space index of the map the first time the world is drawn.
+   *
+   * @param snapshot the state of the world to draw
+   */
+  private void updateScale(WorldSnapshot snapshot) {
+    int mapWidth = worldImage != null ? worldImage.getWidth()
+        : viewModel.getColumns() * MAP_SCALE + IMAGE_PADDING;
+    int mapHeight = worldImage != null ? worldImage.getHeight()
+        : viewModel.getRows() * MAP_SCALE + IMAGE_PADDING;
+    viewport.setMapSize(mapWidth, mapHeight);
+    viewport.setViewSize(getWidth(), getHeight());
+    scale = viewport.getScale();
+    offset = viewport.getOrigin();
+
+    // The layout of the spaces never changes, so the index is built once per world.
+    if (spaceGrid == null) {
+      mapSpaces = snapshot.getSpaces();
+      List<Rectangle> areas = new ArrayList<>(mapSpaces.size());
+      for (Space space : mapSpaces) {
+        areas.add(getMapBounds(space));
+      }
+      spaceGrid = new RectangleGrid(areas);
+    }
+    if (mapTiles == null) {
+      mapTiles = createMapTiles(mapWidth, mapHeight, mapSpaces, spaceGrid);
+    }
+  }
+
+  /**
+   * Creates the tile cache of the map. The tiles are cut from the world image when one was
+   * set, and otherwise drawn from the spaces of the world, so that no image of the whole
+   * map is ever needed.
+   *
+   * @param mapWidth  the width of the map, in map pixels
+   * @param mapHeight the height of the map, in map pixels
+   * @param spaces    the spaces of the world
+   * @param spaceGrid the index of the map bounds of the spaces
+   * @return the tile cache
+   */
+  private MapTileCache createMapTiles(int mapWidth, int mapHeight, List<Space> spaces,
+      RectangleGrid spaceGrid) {
     if (worldImage != null) {
-      // Calculate scale based on the original image size
-      double scaleX = (double) (getWidth() - 2 * PADDING) / worldImage.getWidth();
-      double scaleY = (double) (getHeight() - 2 * PADDING) / worldImage.getHeight();
-      scale = Math.min(scaleX, scaleY);
+      BufferedImage image = worldImage;
+      return new MapTileCache(mapWidth, mapHeight, TILE_CACHE_CAPACITY,
+          (g, region, tileScale) -> g.drawImage(image, 0, 0, null));
+    }
+    return new MapTileCache(mapWidth, mapHeight, TILE_CACHE_CAPACITY,
+        (g, region, tileScale) -> {
+          // Outlines are drawn one pixel past the right and bottom of a space, and names
+          // may run past its right side.
+          int margin = tileScale >= NAME_SCALE ? NAME_MARGIN : 1;
+          boolean withNames = tileScale >= NAME_SCALE;
+          Rectangle area = new Rectangle(region.x - margin, region.y - 1,
+              region.width + margin, region.height + 1);
+          // Draw in the order of the spaces, like the image of the whole map.
+          BitSet visible = new BitSet(spaces.size());
+          spaceGrid.forEachIntersecting(area, visible::set);
+          for (int i = visible.nextSetBit(0); i >= 0; i = visible.nextSetBit(i + 1)) {
+            WorldPainter.drawSpace(g, spaces.get(i), MAP_SCALE, IMAGE_PADDING, withNames);
+          }
+        });
+  }
+
+  /**
+   * Repaints only the spaces whose tokens changed since the panel last drew the world,
+   * each on its own, so that a player moving between two rooms redraws those two rooms.
+   * The whole panel is repainted when nothing was drawn yet, the players changed, or the
+   * call is not made on the event dispatch thread.
+   */
+  @Override
+  public void refresh() {
+    if (viewModel == null) {
+      repaint();
+      return;
+    }
+    WorldSnapshot current = viewModel.getSnapshot();
+    if (paintedSnapshot != null && paintedSnapshot.getVersion() == current.getVersion()) {
+      return;
+    }
+    List<Rectangle> regions = dirtyRegions(paintedSnapshot, current);
+    if (regions == null || !SwingUtilities.isEventDispatchThread()) {
+      repaint();
+      return;
+    }
+    refreshing = true;
+    try {
+      for (Rectangle region : regions) {
+        paintImmediately(region);
+      }
+    } finally {
+      refreshing = false;
+    }
+  }
 
-      // Calculate dimensions for the scaled image
-      int scaledWidth = (int) (worldImage.getWidth() * scale);
-      int scaledHeight = (int) (worldImage.getHeight() * scale);
+  /**
+   * Computes the regions of the panel to draw again to go from one state of the world to
+   * another: the bounds of every space a player or the target entered or left, together
+   * with the tokens and labels drawn in it before and after.
+   *
+   * @param painted the state drawn last
+   * @param current the state to draw
+   * @return the regions, or null if the whole panel must be drawn
+   */
+  List<Rectangle> dirtyRegions(WorldSnapshot painted, WorldSnapshot current) {
+    if (painted == null || paintedExtents == null || viewport.getScale() != scale
+        || !viewport.getOrigin().equals(offset)
+        || paintedExtents.length != current.getSpaces().size()
+        || painted.getPlayers().size() != current.getPlayers().size()) {
+      return null;
+    }
+    BitSet changed = new BitSet();
+    for (int k = 0; k < current.getPlayers().size(); k++) {
+      Player before = painted.getPlayers().get(k);
+      Player after = current.getPlayers().get(k);
+      if (!before.getPlayerName().equals(after.getPlayerName())) {
+        return null;
+      }
+      if (before.getCurrentSpaceIndex() != after.getCurrentSpaceIndex()) {
+        markSpace(changed, before.getCurrentSpaceIndex());
+        markSpace(changed, after.getCurrentSpaceIndex());
+      }
+    }
+    TargetCharacter targetBefore = painted.getTarget();
+    TargetCharacter targetAfter = current.getTarget();
+    if (targetBefore.getCurrentSpaceIndex() != targetAfter.getCurrentSpaceIndex()
+        || targetBefore.getHealth() != targetAfter.getHealth()) {
+      markSpace(changed, targetBefore.getCurrentSpaceIndex());
+      markSpace(changed, targetAfter.getCurrentSpaceIndex());
+    }
 
-      // Center the map in the panel
-      int x = (getWidth() - scaledWidth) / 2;
-      int y = (getHeight() - scaledHeight) / 2;
-      offset = new Point(x, y);
+    Rectangle[] extents = tokenExtents(current, getFontMetrics(getFont()));
+    List<Rectangle> regions = new ArrayList<>();
+    for (int i = changed.nextSetBit(0); i >= 0 && i < extents.length;
+        i = changed.nextSetBit(i + 1)) {
+      Rectangle region = computeSpaceBounds(current.getSpaces().get(i));
+      if (paintedExtents[i] != null) {
+        region.add(paintedExtents[i]);
+      }
+      if (extents[i] != null) {
+        region.add(extents[i]);
+      }
+      region.grow(1, 1);
+      regions.add(region);
+    }
+    return regions;
+  }
 
-      // Draw the scaled world image
-      g.drawImage(worldImage, x, y, scaledWidth, scaledHeight, null);
+  private static void markSpace(BitSet spaces, int spaceIndex) {
+    if (spaceIndex >= 0) {
+      spaces.set(spaceIndex);
+    }
+  }
 
-      // Draw game elements on top
-      drawGameElements(g);
+  /**
+   * Computes the area covered by the tokens and labels that would be drawn in every
+   * space for a state of the world.
+   *
+   * @param snapshot the state of the world
+   * @param fm       the metrics of the font of the labels
+   * @return the covered areas by space index, null for spaces without tokens
+   */
+  private Rectangle[] tokenExtents(WorldSnapshot snapshot, FontMetrics fm) {
+    List<Space> spaces = snapshot.getSpaces();
+    Rectangle[] extents = new Rectangle[spaces.size()];
+    int targetSpace = snapshot.getTarget().getCurrentSpaceIndex();
+    Point targetPosition = getSpaceCenter(spaces, targetSpace);
+    if (targetPosition != null) {
+      addExtent(extents, targetSpace, getTargetRect(targetPosition));
+    }
+    for (Map.Entry<Integer, List<Player>> entry : groupBySpace(snapshot.getPlayers())
+        .entrySet()) {
+      Point center = getSpaceCenter(spaces, entry.getKey());
+      List<Player> playersInSpace = entry.getValue();
+      for (int i = 0; center != null && i < playersInSpace.size(); i++) {
+        Point position = getPlayerPosition(center, i, playersInSpace.size());
+        addExtent(extents, entry.getKey(), getPlayerExtent(playersInSpace.get(i), position, fm));
+      }
+    }
+    return extents;
+  }
+
+  private void addExtent(Rectangle[] extents, int spaceIndex, Rectangle extent) {
+    if (extents[spaceIndex] == null) {
+      extents[spaceIndex] = new Rectangle(extent);
+    } else {
+      extents[spaceIndex].add(extent);
     }
   }
 
   /**
-   * Draws the target and players on the game world.
+   * Draws the target and players on the game world, leaving out those outside the area
+   * being drawn. The tokens on screen are recorded for hit-testing and later refreshes
+   * even when the area being drawn is only part of the panel, since the rest of the panel
+   * still shows them.
    *
-   * @param g the graphics context to draw on
+   * @param g        the graphics context to draw on
+   * @param snapshot the state of the world to draw
+   * @param drawn    the area being drawn
+   * @param visible  the area of the panel on screen
    */
-  private void drawGameElements(Graphics g) {
-    drawTarget(g);
-    drawPlayersInSpaces(g);
+  private void drawGameElements(Graphics g, WorldSnapshot snapshot, Rectangle drawn,
+      Rectangle visible) {
+    drawTarget(g, snapshot, drawn, visible);
+    drawPlayersInSpaces(g, snapshot, drawn, visible);
   }
 
   /**
-   * Gets the bounds of a space in the scaled image.
+   * Computes the bounds of a space on the map image, before scaling.
+   *
+   * @param space the space to get the bounds for
+   * @return the bounds of the space in map image coordinates
+   */
+  private static Rectangle getMapBounds(Space space) {
+    return new Rectangle(space.getUpperLeftColumn() * MAP_SCALE + IMAGE_PADDING / 4,
+        space.getUpperLeftRow() * MAP_SCALE + IMAGE_PADDING / 4,
+        (space.getLowerRightColumn() - space.getUpperLeftColumn() + 1) * MAP_SCALE,
+        (space.getLowerRightRow() - space.getUpperLeftRow() + 1) * MAP_SCALE);
+  }
+
+  /**
+   * Computes the bounds of a space in the scaled image.
    *
    * @param space the space to get the bounds for
    * @return the bounds of the space in the scaled image coordinates
    */
-  private Rectangle getSpaceBounds(Space space) {
+  private Rectangle computeSpaceBounds(Space space) {
     // Account for both the image padding and the scale
     int imageOffsetX = (int) (IMAGE_PADDING / 4 * scale); // Quarter of padding as in WorldPainter
     int imageOffsetY = (int) (IMAGE_PADDING / 4 * scale);
 
-    int x = (int) (space.getUpperLeftColumn() * 30 * scale) + offset.x + imageOffsetX;
-    int y = (int) (space.getUpperLeftRow() * 30 * scale) + offset.y + imageOffsetY;
-    int width = (int) ((space.getLowerRightColumn() - space.getUpperLeftColumn() + 1) * 30 * scale);
-    int height = (int) ((space.getLowerRightRow() - space.getUpperLeftRow() + 1) * 30 * scale);
+    int x = (int) (space.getUpperLeftColumn() * MAP_SCALE * scale) + offset.x + imageOffsetX;
+    int y = (int) (space.getUpperLeftRow() * MAP_SCALE * scale) + offset.y + imageOffsetY;
+    int width = (int) ((space.getLowerRightColumn() - space.getUpperLeftColumn() + 1)
+        * MAP_SCALE * scale);
+    int height = (int) ((space.getLowerRightRow() - space.getUpperLeftRow() + 1)
+        * MAP_SCALE * scale);
 
     return new Rectangle(x, y, width, height);
   }
@@ -139,31 +440,38 @@ public class WorldPanel extends JPanel implements WorldPanelInterface {
   /**
    * Gets the center of a space in the scaled image.
    *
+   * @param spaces     the spaces of the world
    * @param spaceIndex the index of the space to get the center for
    * @return the center of the space in the scaled image coordinates
    */
-  private Point getSpaceCenter(int spaceIndex) {
-    List<Space> spaces = viewModel.getSpaceCopies();
+  private Point getSpaceCenter(List<Space> spaces, int spaceIndex) {
     if (spaceIndex >= 0 && spaceIndex < spaces.size()) {
-      Space space = spaces.get(spaceIndex);
-      Rectangle bounds = getSpaceBounds(space);
+      Rectangle bounds = computeSpaceBounds(spaces.get(spaceIndex));
       return new Point(bounds.x + bounds.width / 2, bounds.y + bounds.height / 2);
     }
     return null;
   }
 
   /**
-   * Draws the target on the game world.
+   * Draws the target on the game world, unless it is outside the area being drawn.
    *
-   * @param g the graphics context to draw on
+   * @param g        the graphics context to draw on
+   * @param snapshot the state of the world to draw
+   * @param drawn    the area being drawn
+   * @param visible  the area of the panel on screen
    */
-  private void drawTarget(Graphics g) {
-    TargetCharacter target = viewModel.getTargetCopy();
-    Point pos = getSpaceCenter(target.getCurrentSpaceIndex());
-    if (pos != null) {
-      int size = (int) (PLAYER_SIZE * 1.2 * scale);
+  private void drawTarget(Graphics g, WorldSnapshot snapshot, Rectangle drawn,
+      Rectangle visible) {
+    TargetCharacter target = snapshot.getTarget();
+    Point pos = getSpaceCenter(snapshot.getSpaces(), target.getCurrentSpaceIndex());
+    if (pos == null || !getTargetRect(pos).intersects(visible)) {
+      return;
+    }
+    Rectangle targetRect = getTargetRect(pos);
+    addExtent(paintedExtents, target.getCurrentSpaceIndex(), targetRect);
+    if (targetRect.intersects(drawn)) {
       g.setColor(Color.RED);
-      g.fillOval(pos.x - size / 2, pos.y - size / 2, size, size);
+      g.fillOval(targetRect.x, targetRect.y, targetRect.width, targetRect.height);
 
       String health = String.valueOf(target.getHealth());
       g.setColor(Color.WHITE);
@@ -174,40 +482,108 @@ public class WorldPanel extends JPanel implements WorldPanelInterface {
   }
 
   /**
-   * Draws the players on the game world.
+   * Draws the players on the game world, leaving out those outside the area being drawn.
    *
-   * @param g the graphics context to draw on
+   * @param g        the graphics context to draw on
+   * @param snapshot the state of the world to draw
+   * @param drawn    the area being drawn
+   * @param visible  the area of the panel on screen
    */
-  private void drawPlayersInSpaces(Graphics g) {
-    List<Player> players = viewModel.getPlayerCopies();
-    Map<Integer, List<Player>> playersInSpaces = new HashMap<>();
+  private void drawPlayersInSpaces(Graphics g, WorldSnapshot snapshot, Rectangle drawn,
+      Rectangle visible) {
+    // Draw players in each space
+    for (Map.Entry<Integer, List<Player>> entry : groupBySpace(snapshot.getPlayers())
+        .entrySet()) {
+      Point center = getSpaceCenter(snapshot.getSpaces(), entry.getKey());
+      List<Player> playersInSpace = entry.getValue();
+      for (int i = 0; center != null && i < playersInSpace.size(); i++) {
+        Point position = getPlayerPosition(center, i, playersInSpace.size());
+        Rectangle extent = getPlayerExtent(playersInSpace.get(i), position, g.getFontMetrics());
+        if (extent.intersects(visible)) {
+          addExtent(paintedExtents, entry.getKey(), extent);
+          addPlayerRect(playersInSpace.get(i), position);
+          if (extent.intersects(drawn)) {
+            drawPlayer(g, playersInSpace.get(i), position);
+          }
+        }
+      }
+    }
+  }
 
-    // Group players by space
+  /**
+   * Groups players by the space they are in.
+   *
+   * @param players the players
+   * @return the players in every occupied space, in their order
+   */
+  private static Map<Integer, List<Player>> groupBySpace(List<Player> players) {
+    Map<Integer, List<Player>> playersInSpaces = new HashMap<>();
     for (Player player : players) {
       playersInSpaces.computeIfAbsent(player.getCurrentSpaceIndex(), k -> new ArrayList<>())
           .add(player);
     }
+    return playersInSpaces;
+  }
 
-    // Draw players in each space
-    for (Map.Entry<Integer, List<Player>> entry : playersInSpaces.entrySet()) {
-      Point center = getSpaceCenter(entry.getKey());
-      List<Player> playersInSpace = entry.getValue();
-
-      if (center != null && !playersInSpace.isEmpty()) {
-        if (playersInSpace.size() == 1) {
-          drawPlayer(g, playersInSpace.get(0), center);
-        } else {
-          // Distribute multiple players in a circle
-          double angleStep = 2 * Math.PI / playersInSpace.size();
-          for (int i = 0; i < playersInSpace.size(); i++) {
-            double angle = i * angleStep;
-            int x = (int) (center.x + DISTRIBUTION_RADIUS * scale * Math.cos(angle));
-            int y = (int) (center.y + DISTRIBUTION_RADIUS * scale * Math.sin(angle));
-            drawPlayer(g, playersInSpace.get(i), new Point(x, y));
-          }
-        }
-      }
+  /**
+   * Computes where a player is drawn in a space. A single player is drawn at the center,
+   * several players are distributed in a circle around it.
+   *
+   * @param center the center of the space
+   * @param i      the position of the player among the players in the space
+   * @param count  the number of players in the space
+   * @return the position of the player
+   */
+  private Point getPlayerPosition(Point center, int i, int count) {
+    if (count == 1) {
+      return center;
     }
+    double angle = i * 2 * Math.PI / count;
+    int x = (int) (center.x + DISTRIBUTION_RADIUS * scale * Math.cos(angle));
+    int y = (int) (center.y + DISTRIBUTION_RADIUS * scale * Math.sin(angle));
+    return new Point(x, y);
+  }
+
+  private Rectangle getTargetRect(Point pos) {
+    int size = (int) (PLAYER_SIZE * 1.2 * scale);
+    return new Rectangle(pos.x - size / 2, pos.y - size / 2, size, size);
+  }
+
+  private Rectangle getPlayerRect(Point position) {
+    int size = (int) (PLAYER_SIZE * scale);
+    return new Rectangle(position.x - size / 2, position.y - size / 2, size, size);
+  }
+
+  /**
+   * Computes the area covered by a player token and its name label.
+   *
+   * @param player   the player
+   * @param position the position of the player
+   * @param fm       the metrics of the font of the label
+   * @return the covered area
+   */
+  private Rectangle getPlayerExtent(Player player, Point position, FontMetrics fm) {
+    Rectangle extent = getPlayerRect(position);
+    String name = player.getPlayerName();
+    int baseline = position.y - (int) (PLAYER_SIZE * scale);
+    extent.add(new Rectangle(position.x - fm.stringWidth(name) / 2,
+        baseline - fm.getAscent(), fm.stringWidth(name), fm.getAscent() + fm.getDescent()));
+    return extent;
+  }
+
+  /**
+   * Records where a player on screen can be clicked.
+   *
+   * @param player   the player
+   * @param position the position the player is drawn at
+   */
+  private void addPlayerRect(Player player, Point position) {
+    Rectangle playerRect = getPlayerRect(position);
+    // Players drawn later are on top, so they are listed first for hit-testing.
+    playerRects.add(0, new Rectangle(playerRect.x - CLICK_TOLERANCE,
+        playerRect.y - CLICK_TOLERANCE, playerRect.width + 2 * CLICK_TOLERANCE,
+        playerRect.height + 2 * CLICK_TOLERANCE));
+    drawnPlayers.add(0, player);
   }
 
   /**
@@ -218,38 +594,44 @@ public class WorldPanel extends JPanel implements WorldPanelInterface {
    * @param position the position to draw the player at
    */
   private void drawPlayer(Graphics g, Player player, Point position) {
-    int size = (int) (PLAYER_SIZE * scale);
-    Rectangle playerRect = new Rectangle(position.x - size / 2, position.y - size / 2, size, size);
-    playerBounds.put(playerRect, player);
-
+    Rectangle playerRect = getPlayerRect(position);
     g.setColor(getPlayerColor(player));
     g.fillRect(playerRect.x, playerRect.y, playerRect.width, playerRect.height);
 
     String name = player.getPlayerName();
     g.setColor(Color.BLACK);
     FontMetrics fm = g.getFontMetrics();
-    g.drawString(name, position.x - fm.stringWidth(name) / 2, position.y - size);
+    g.drawString(name, position.x - fm.stringWidth(name) / 2, position.y - playerRect.height);
   }
 
   @Override
   public void setWorldImage(BufferedImage image) {
     this.worldImage = image;
+    this.mapTiles = null;
+    this.spaceGrid = null;
+    this.viewport.fit();
+    this.paintedSnapshot = null;
+  }
+
+  @Override
+  public long getPaintedVersion() {
+    return paintedSnapshot == null ? -1 : paintedSnapshot.getVersion();
   }
 
   @Override
   public String getSpaceAtPoint(Point point) {
-    if (point == null || worldImage == null) {
+    if (point == null || viewModel == null) {
       return null;
     }
 
-    List<Space> spaces = viewModel.getSpaceCopies();
-    for (Space space : spaces) {
-      Rectangle bounds = getSpaceBounds(space);
-      if (bounds.contains(point)) {
-        return space.getSpaceName();
-      }
+    if (spaceGrid == null) {
+      updateScale(viewModel.getSnapshot());
     }
-    return null;
+    // Look the point up on the map image, before scaling
+    int x = (int) Math.floor((point.x - offset.x) / scale);
+    int y = (int) Math.floor((point.y - offset.y) / scale);
+    int index = spaceGrid.find(x, y);
+    return index < 0 ? null : mapSpaces.get(index).getSpaceName();
   }
 
   @Override
@@ -258,18 +640,8 @@ public class WorldPanel extends JPanel implements WorldPanelInterface {
       return null;
     }
 
-    int clickTolerance = 2;
-    for (Map.Entry<Rectangle, Player> entry : playerBounds.entrySet()) {
-      Rectangle bounds = entry.getKey();
-      Rectangle expandedBounds = new Rectangle(bounds.x - clickTolerance,
-          bounds.y - clickTolerance, bounds.width + (2 * clickTolerance),
-          bounds.height + (2 * clickTolerance));
-
-      if (expandedBounds.contains(point)) {
-        return entry.getValue().copy();
-      }
-    }
-    return null;
+    int index = playerGrid.find(point.x, point.y);
+    return index < 0 ? null : drawnPlayers.get(index).copy();
   }
 
   @Override
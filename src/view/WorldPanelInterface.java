@@ -10,9 +10,11 @@ import model.player.Player;
  */
 public interface WorldPanelInterface {
   /**
-   * Sets the world image to be displayed.
+   * Sets an image of the whole map to draw the map from. Without an image, the map is
+   * drawn from the spaces of the world, which also works for worlds too large to fit in a
+   * single image.
    *
-   * @param image the BufferedImage to display
+   * @param image the BufferedImage to display, or null to draw the map from the spaces
    */
   void setWorldImage(BufferedImage image);
 
@@ -56,10 +58,23 @@ public interface WorldPanelInterface {
    */
   void repaint();
 
+  /**
+   * Draws the changes made to the world since the panel last drew it, redrawing only the
+   * spaces that changed when possible.
+   */
+  void refresh();
+
   /**
    * Set the panel to be focusable.
    * 
    * @param b whether the panel should be focusable
    */
   void setFocusable(boolean b);
-}
\ No newline at end of file
+
+  /**
+   * Gets the version of the world state the panel last drew.
+   *
+   * @return the version, or -1 if the panel did not draw the world yet
+   */
+  long getPaintedVersion();
+}
@@ -4,12 +4,14 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.any;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import facade.GameFacade;
 import java.awt.image.BufferedImage;
 import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
 import org.junit.Before;
 import org.junit.Test;
 
@@ -115,6 +117,15 @@ public class CommandTests {
     assertEquals("Failed to create world map: File error", result);
   }
 
+  @Test
+  public void testCreateWorldMapCommandExportFailure() throws IOException {
+    CreateWorldMapCommand command = new CreateWorldMapCommand();
+    when(mockFacade.createWorldMap()).thenReturn(mock(BufferedImage.class));
+    when(mockFacade.exportWorldMap(any())).thenReturn(
+        CompletableFuture.failedFuture(new IOException("Disk full")));
+    assertEquals("Failed to save world map: Disk full", command.execute(mockFacade));
+  }
+
   @Test
   public void testCreateWorldMapCommandCreate() {
     CreateWorldMapCommand command = new CreateWorldMapCommand();
@@ -186,6 +186,7 @@ public class GameFacadeImplTest {
   @Test
   public void testGetPlayerInfo() {
     when(mockWorld.getPlayers()).thenReturn(List.of(mockPlayer));
+    when(mockWorld.getPlayerByName("Alice")).thenReturn(mockPlayer);
     when(mockPlayer.getPlayerName()).thenReturn("Alice");
     when(mockPlayer.getDescription(any())).thenReturn("Alice's description");
 
@@ -19,6 +19,8 @@ import model.player.ComputerPlayer;
 import model.player.HumanPlayer;
 import model.player.Player;
 import model.player.RandomGenerator;
+import model.player.TurnAction;
+import model.player.TurnOutcome;
 import model.space.Space;
 import model.space.SpaceImpl;
 import model.target.TargetCharacter;
@@ -646,4 +648,61 @@ public class Milestone3GameFacadeTest {
     assertEquals("Pet cannot be moved from another space", result);
     assertEquals(1, pet.getCurrentSpaceIndex());
   }
-}
\ No newline at end of file
+
+  @Test
+  public void testResolveSpaceName() {
+    assertEquals("Kitchen", facade.resolveSpaceName("Kitchen"));
+    assertEquals("Living Room", facade.resolveSpaceName("liv"));
+    assertEquals("Study", facade.resolveSpaceName("S"));
+    assertEquals("Cellar", facade.resolveSpaceName("Cellar"));
+  }
+
+  @Test
+  public void testResolveAmbiguousSpaceName() {
+    spaces.add(createSpace(4, "Dining Hall", 4, 0, 5, 1));
+    GameFacade fresh = new GameFacadeImpl(new WorldImpl("Test World", 6, 6, spaces,
+        new TargetCharacterImpl("Doctor Lucky", 50), 5, 0, new PetImpl("Fortune", 0)));
+
+    assertThrows(IllegalArgumentException.class, () -> fresh.resolveSpaceName("din"));
+    assertEquals("Dining Hall", fresh.resolveSpaceName("dining h"));
+  }
+
+  @Test
+  public void testNameTakenByPlayerAddedToWorld() {
+    assertThrows(IllegalArgumentException.class,
+        () -> facade.addHumanPlayer(humanPlayer.getPlayerName(), "Kitchen", 3));
+  }
+
+  @Test
+  public void testComputerPlayerPlayTurnWithPetCover() {
+    facade.movePlayer("Living Room");
+    pet.setSpaceIndex(0);
+    computerPlayer.setCurrentSpaceIndex(0);
+    target.setCurrentSpaceIndex(0);
+    computerPlayer.addItem(new ItemImpl("Knife", 3, 0));
+
+    TurnOutcome outcome = facade.computerPlayerPlayTurn();
+
+    assertEquals(TurnAction.ATTACK, outcome.getAction());
+    assertEquals("Knife", outcome.getItemName());
+    assertEquals(3, outcome.getDamage());
+    assertEquals(7, target.getHealth());
+    assertEquals("Alice", facade.getCurrentPlayerName());
+  }
+
+  @Test
+  public void testComputerPlayerPlayTurnDefeatsTarget() {
+    facade.movePlayer("Living Room");
+    pet.setSpaceIndex(0);
+    computerPlayer.setCurrentSpaceIndex(0);
+    target.setCurrentSpaceIndex(0);
+    target.takeDamage(8);
+    computerPlayer.addItem(new ItemImpl("Knife", 3, 0));
+
+    TurnOutcome outcome = facade.computerPlayerPlayTurn();
+
+    assertEquals(2, outcome.getDamage());
+    assertTrue(facade.isGameEnded());
+    assertEquals("Winner is Bob", facade.getWinner());
+  }
+}
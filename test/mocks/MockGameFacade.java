@@ -3,7 +3,10 @@ package mocks;
 import facade.GameFacade;
 import java.awt.image.BufferedImage;
 import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+import model.event.GameEventSink;
 import model.player.Player;
+import model.player.TurnOutcome;
 
 /**
  * This class provides a mock implementation of the GameFacade interface for
@@ -75,6 +78,12 @@ public class MockGameFacade implements GameFacade {
     return new BufferedImage(100, 100, BufferedImage.TYPE_INT_RGB);
   }
 
+  @Override
+  public CompletableFuture<Boolean> exportWorldMap(BufferedImage image) {
+    log.append("exportWorldMap called\n");
+    return CompletableFuture.completedFuture(true);
+  }
+
   @Override
   public void addHumanPlayer(String name, String startingSpace, int maxItems) {
     playerCount++;
@@ -224,4 +233,21 @@ public class MockGameFacade implements GameFacade {
     log.append("getCurrentPlayer called\n");
     return currentPlayer;
   }
-}
\ No newline at end of file
+
+  @Override
+  public String resolveSpaceName(String spaceName) {
+    log.append("resolveSpaceName called with ").append(spaceName).append("\n");
+    return spaceName;
+  }
+
+  @Override
+  public TurnOutcome computerPlayerPlayTurn() {
+    log.append("computerPlayerPlayTurn called\n");
+    return TurnOutcome.LOOKED_AROUND;
+  }
+
+  @Override
+  public void setEventLog(GameEventSink eventLog) {
+    log.append("setEventLog called\n");
+  }
+}
@@ -5,6 +5,7 @@ import java.util.List;
 import model.item.Item;
 import model.pet.Pet;
 import model.player.Player;
+import model.player.PlayerMoveListener;
 import model.space.Space;
 import model.target.TargetCharacter;
 
@@ -62,6 +63,12 @@ public class MockPlayer implements Player {
     return new ArrayList<>(items);
   }
 
+  @Override
+  public int getMaxItems() {
+    log.append(String.format("getMaxItems called for: %s\n", name));
+    return -1;
+  }
+
   @Override
   public boolean addItem(Item item) {
     log.append(String.format("addItem called with: %s for: %s\n", item.getItemName(), name));
@@ -158,4 +165,9 @@ public class MockPlayer implements Player {
   public String getLog() {
     return log.toString();
   }
-}
\ No newline at end of file
+
+  @Override
+  public void setMoveListener(PlayerMoveListener listener) {
+    log.append(String.format("setMoveListener called for: %s\n", name));
+  }
+}
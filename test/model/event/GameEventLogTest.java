@@ -0,0 +1,120 @@
+package model.event;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.Test;
+
+/**
+ * Test class for GameEventLog and GameEventReader.
+ */
+public class GameEventLogTest {
+
+  private static final List<GameEvent> EVENTS = List.of(
+      GameEvent.playerAdded("Alice", 3, -1, false),
+      GameEvent.playerAdded("Bot", 20, 2, true),
+      GameEvent.moved(0, 4),
+      GameEvent.pickedUp(1, "Cr\u00eape Pan"),
+      GameEvent.lookedAround(0),
+      GameEvent.attacked(1, "poke", 1),
+      GameEvent.petMoved(0, 300),
+      GameEvent.targetMoved(5),
+      GameEvent.petStepped(1_000_000),
+      GameEvent.turnAdvanced(2));
+
+  private static byte[] write(List<GameEvent> events) throws IOException {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    try (GameEventLog log = new GameEventLog(bytes)) {
+      for (GameEvent event : events) {
+        log.append(event);
+      }
+      assertEquals(events.size(), log.getEventCount());
+    }
+    return bytes.toByteArray();
+  }
+
+  @Test
+  public void testRoundTrip() throws IOException {
+    try (GameEventReader reader =
+        new GameEventReader(new ByteArrayInputStream(write(EVENTS)))) {
+      for (GameEvent expected : EVENTS) {
+        assertEquals(expected, reader.next());
+      }
+      assertNull(reader.next());
+    }
+  }
+
+  @Test
+  public void testRecordsAreCompact() throws IOException {
+    byte[] bytes = write(List.of(GameEvent.moved(0, 4), GameEvent.targetMoved(5),
+        GameEvent.petStepped(6), GameEvent.turnAdvanced(2)));
+    assertEquals(8 + 3 + 2 + 2 + 2, bytes.length);
+  }
+
+  @Test
+  public void testBufferedUntilFlushed() throws IOException {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    GameEventLog log = new GameEventLog(bytes);
+    log.append(GameEvent.turnAdvanced(2));
+    assertEquals(0, bytes.size());
+    log.flush();
+    assertEquals(10, bytes.size());
+    log.close();
+  }
+
+  @Test
+  public void testReadAllFromFile() throws IOException {
+    File file = Files.createTempFile("game", ".kdle").toFile();
+    try {
+      try (GameEventLog log = new GameEventLog(file)) {
+        for (GameEvent event : EVENTS) {
+          log.append(event);
+        }
+      }
+      assertEquals(EVENTS, GameEventReader.readAll(file));
+    } finally {
+      file.delete();
+    }
+  }
+
+  @Test
+  public void testTruncatedLog() throws IOException {
+    byte[] bytes = write(EVENTS);
+    GameEventReader reader =
+        new GameEventReader(new ByteArrayInputStream(Arrays.copyOf(bytes, bytes.length - 1)));
+    try {
+      while (reader.next() != null) {
+        // Read until the cut record
+      }
+      throw new AssertionError("Expected the truncated record to be reported");
+    } catch (IOException e) {
+      assertTrue(e.getMessage().contains("Truncated"));
+    }
+  }
+
+  @Test(expected = IOException.class)
+  public void testNotAnEventLog() throws IOException {
+    new GameEventReader(new ByteArrayInputStream(new byte[] {1, 2, 3, 4, 0, 0, 0, 1}));
+  }
+
+  @Test(expected = IOException.class)
+  public void testUnknownEventCode() throws IOException {
+    byte[] bytes = write(List.of());
+    byte[] withBadCode = Arrays.copyOf(bytes, bytes.length + 1);
+    withBadCode[bytes.length] = 99;
+    new GameEventReader(new ByteArrayInputStream(withBadCode)).next();
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testNullEvent() throws IOException {
+    new GameEventLog(new ByteArrayOutputStream()).append(null);
+  }
+}
@@ -0,0 +1,155 @@
+package model.event;
+
+import static model.event.RandomGamePlayer.describe;
+import static model.event.RandomGamePlayer.newWorld;
+import static model.event.RandomGamePlayer.playHumanTurn;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import constants.Constants;
+import facade.GameFacadeImpl;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import model.item.ItemImpl;
+import model.world.WorldImpl;
+import org.junit.Test;
+
+/**
+ * Test class for GameReplayer, replaying games logged through the facade.
+ */
+public class GameReplayerTest {
+
+  /**
+   * Plays a game with a human and two computer players through the facade, recording the
+   * state at the start of every turn.
+   */
+  private static Map<Integer, String> playLoggedGame(ByteArrayOutputStream bytes, long seed)
+      throws IOException {
+    WorldImpl world = newWorld();
+    GameFacadeImpl facade = new GameFacadeImpl(world);
+    Random random = new Random(seed);
+    Map<Integer, String> states = new HashMap<>();
+    try (GameEventLog log = new GameEventLog(bytes)) {
+      facade.setEventLog(log);
+      facade.setMaxTurns(150);
+      facade.addHumanPlayer("Human", world.getSpaceByIndex(1).getSpaceName(), 3);
+      facade.addComputerPlayer("Bot A", world.getSpaceByIndex(5).getSpaceName(), 2);
+      facade.addComputerPlayer("Bot B", world.getSpaceByIndex(9).getSpaceName(), 0);
+      int computerTurns = 0;
+      while (!facade.isGameEnded()) {
+        states.put(world.getCurrentTurn(), describe(world));
+        if (facade.computerPlayerTurn()) {
+          if (computerTurns++ % 2 == 0) {
+            facade.computerPlayerTakeTurn();
+          } else {
+            facade.computerPlayerPlayTurn();
+          }
+        } else {
+          playHumanTurn(facade, world, random);
+        }
+      }
+    }
+    states.put(Integer.MAX_VALUE, describe(world));
+    return states;
+  }
+
+  private static List<GameEvent> read(byte[] bytes) throws IOException {
+    List<GameEvent> events = new ArrayList<>();
+    try (GameEventReader reader = new GameEventReader(new ByteArrayInputStream(bytes))) {
+      GameEvent event;
+      while ((event = reader.next()) != null) {
+        events.add(event);
+      }
+    }
+    return events;
+  }
+
+  @Test
+  public void testReplayRebuildsEveryTurn() throws IOException {
+    for (long seed = 0; seed < 5; seed++) {
+      ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+      Map<Integer, String> states = playLoggedGame(bytes, seed);
+      List<GameEvent> events = read(bytes.toByteArray());
+      for (Map.Entry<Integer, String> state : states.entrySet()) {
+        assertEquals("turn " + state.getKey(), state.getValue(),
+            describe(GameReplayer.replay(newWorld(), events, state.getKey())));
+      }
+    }
+  }
+
+  @Test
+  public void testReplaysComputerAttackWithHarmlessItem() throws IOException {
+    WorldImpl world = newWorld();
+    int space = (world.getTargetCharacter().getCurrentSpaceIndex() + 2) % world.getTotalSpace();
+    world.getSpaceByIndex(space).addItem(new ItemImpl("Bottle", 0, space));
+    world.getSpaceByIndex(space).addItem(new ItemImpl("Bottle", 3, space));
+    int health = world.getTargetCharacter().getHealth();
+    GameFacadeImpl facade = new GameFacadeImpl(world);
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    try (GameEventLog log = new GameEventLog(bytes)) {
+      facade.setEventLog(log);
+      facade.addComputerPlayer("Bot", world.getSpaceByIndex(space).getSpaceName(), 2);
+      facade.playerPickUpItem("Bottle");
+      facade.playerPickUpItem("Bottle");
+      // The target has walked into the bot's space, and the bot attacks with the bottle it
+      // picked up first, which does no damage.
+      facade.computerPlayerTakeTurn();
+    }
+    assertEquals(1, world.getPlayers().get(0).getItems().size());
+    assertEquals(health, world.getTargetCharacter().getHealth());
+
+    List<GameEvent> events = read(bytes.toByteArray());
+    assertTrue(events.stream().anyMatch(event -> event.getType() == GameEventType.ATTACK
+        && event.getValue() == 0));
+    WorldImpl replayWorld = newWorld();
+    replayWorld.getSpaceByIndex(space).addItem(new ItemImpl("Bottle", 0, space));
+    replayWorld.getSpaceByIndex(space).addItem(new ItemImpl("Bottle", 3, space));
+    WorldImpl replayed = GameReplayer.replay(replayWorld, events, Integer.MAX_VALUE);
+    assertEquals(describe(world), describe(replayed));
+    assertEquals(3, replayed.getPlayers().get(0).getItems().get(0).getDamage());
+  }
+
+  @Test
+  public void testReplayFromFiles() throws IOException {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    Map<Integer, String> states = playLoggedGame(bytes, 42);
+    File logFile = Files.createTempFile("game", ".kdle").toFile();
+    try {
+      Files.write(logFile.toPath(), bytes.toByteArray());
+      assertEquals(states.get(10),
+          describe(GameReplayer.replay(new File(Constants.FILE_PATH), logFile, 10)));
+    } finally {
+      logFile.delete();
+    }
+  }
+
+  @Test
+  public void testReplayToFirstTurnHasPlayersOnly() throws IOException {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    Map<Integer, String> states = playLoggedGame(bytes, 7);
+    WorldImpl world = GameReplayer.replay(newWorld(), read(bytes.toByteArray()), 1);
+    assertEquals(3, world.getPlayerCount());
+    assertEquals(1, world.getCurrentTurn());
+    assertEquals(states.get(1), describe(world));
+  }
+
+  @Test
+  public void testLogDoesNotMatchOtherWorld() throws IOException {
+    List<GameEvent> events = List.of(GameEvent.playerAdded("Alice", 0, -1, false),
+        GameEvent.targetMoved(7));
+    try {
+      GameReplayer.replay(newWorld(), events, 5);
+      throw new AssertionError("Expected a mismatch");
+    } catch (IllegalStateException e) {
+      assertTrue(e.getMessage().contains("TARGET_MOVE"));
+    }
+  }
+}
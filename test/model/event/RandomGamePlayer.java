@@ -0,0 +1,98 @@
+package model.event;
+
+import constants.Constants;
+import facade.GameFacadeImpl;
+import java.io.File;
+import java.io.IOException;
+import java.util.Random;
+import model.item.Item;
+import model.player.Player;
+import model.space.Space;
+import model.world.WorldFactory;
+import model.world.WorldImpl;
+
+/**
+ * Plays random games on the bundled mansion through the facade and describes their state,
+ * for the tests that record a game and rebuild it from what was recorded.
+ */
+public final class RandomGamePlayer {
+
+  private RandomGamePlayer() {
+    // Static utility class
+  }
+
+  /**
+   * Creates a fresh world from the bundled mansion.
+   *
+   * @return the world
+   * @throws IOException if the world file cannot be read
+   */
+  public static WorldImpl newWorld() throws IOException {
+    return new WorldFactory().createWorld(new File(Constants.FILE_PATH));
+  }
+
+  /**
+   * Describes everything a game can change: the turn, the players, the target, the pet
+   * and its walk, and the items left in every space.
+   *
+   * @param world the world
+   * @return the description
+   */
+  public static String describe(WorldImpl world) {
+    StringBuilder state = new StringBuilder();
+    state.append("turn ").append(world.getCurrentTurn()).append(", player ")
+        .append(world.getCurrentPlayerIndex()).append(", winner ").append(world.getWinner())
+        .append('\n');
+    for (Player player : world.getPlayers()) {
+      state.append(player.getPlayerName()).append(" in ").append(player.getCurrentSpaceIndex())
+          .append(" carrying ").append(player.getMaxItems()).append(" with");
+      for (Item item : player.getItems()) {
+        state.append(' ').append(item.getItemName());
+      }
+      state.append('\n');
+    }
+    state.append("target ").append(world.getTargetCharacter().getHealth()).append(" in ")
+        .append(world.getTargetCharacter().getCurrentSpaceIndex()).append(", pet in ")
+        .append(world.getPet().getCurrentSpaceIndex()).append(" on ")
+        .append(world.getPet().getDfsPath()).append(" after ")
+        .append(world.getPet().getVisitedSpaces()).append('\n');
+    for (Space space : world.getSpaces()) {
+      for (Item item : space.getItems()) {
+        state.append(item.getItemName()).append(',');
+      }
+      state.append(';');
+    }
+    return state.toString();
+  }
+
+  /**
+   * Plays the turn of the current human player: an attack whenever the target can be
+   * attacked unseen, and otherwise a random pick up, look around, pet move or move.
+   *
+   * @param facade the facade of the game
+   * @param world  the world of the game
+   * @param random the source of the random choices
+   */
+  public static void playHumanTurn(GameFacadeImpl facade, WorldImpl world, Random random) {
+    Player human = world.getCurrentPlayer();
+    Space space = world.getSpaceByIndex(human.getCurrentSpaceIndex());
+    if (world.getTargetCharacter().getCurrentSpaceIndex() == human.getCurrentSpaceIndex()
+        && !facade.playerCanBeeSeen(human.getCurrentSpaceIndex())) {
+      facade.attackTargetCharacter(human.getItems().isEmpty() ? "poke"
+          : human.getItems().get(0).getItemName());
+      return;
+    }
+    int choice = random.nextInt(4);
+    if (choice == 0 && !space.getItems().isEmpty() && human.getItems().size() < 3) {
+      facade.playerPickUpItem(space.getItems().get(0).getItemName());
+    } else if (choice == 1) {
+      facade.playerLookAround();
+    } else if (choice == 2) {
+      facade.movePet(world.getSpaceByIndex(random.nextInt(world.getTotalSpace()))
+          .getSpaceName());
+    } else {
+      int neighbor = space.getNeighborIndex(random.nextInt(space.getNeighborCount()));
+      facade.movePlayer(world.getSpaceByIndex(neighbor).getSpaceName());
+    }
+  }
+}
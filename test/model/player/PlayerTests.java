@@ -2,6 +2,7 @@ package model.player;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
 import java.util.ArrayList;
@@ -10,6 +11,8 @@ import model.item.Item;
 import model.item.ItemImpl;
 import model.space.Space;
 import model.space.SpaceImpl;
+import model.target.TargetCharacter;
+import model.target.TargetCharacterImpl;
 import org.junit.Before;
 import org.junit.Test;
 
@@ -49,6 +52,22 @@ public class PlayerTests {
 
   // AbstractPlayer Tests
 
+  @Test
+  public void testMoveListenerNotified() {
+    List<String> moves = new ArrayList<>();
+    humanPlayer.setMoveListener((player, from, to) ->
+        moves.add(player.getPlayerName() + " " + from + "->" + to));
+
+    humanPlayer.setCurrentSpaceIndex(1);
+    humanPlayer.move(0);
+    humanPlayer.move(0);
+    humanPlayer.copy().setCurrentSpaceIndex(1);
+    humanPlayer.setMoveListener(null);
+    humanPlayer.setCurrentSpaceIndex(1);
+
+    assertEquals(List.of("Alice 0->1", "Alice 1->0"), moves);
+  }
+
   @Test
   public void testValidPlayerCreation() {
     assertEquals("Alice", humanPlayer.getPlayerName());
@@ -212,6 +231,52 @@ public class PlayerTests {
     assertEquals("Knife", fullBot.getItems().get(0).getItemName());
   }
 
+  @Test
+  public void testComputerPlayerPlayTurnPicksUpItem() {
+    ComputerPlayer pickingBot = new ComputerPlayer("PickBot", 0, 3, new RandomGenerator(2));
+    TurnOutcome outcome = pickingBot.playTurn(spaces, null, null, false);
+    assertEquals(TurnAction.PICK_UP_ITEM, outcome.getAction());
+    assertEquals("Book", outcome.getItemName());
+    assertEquals(1, pickingBot.getItems().size());
+    assertTrue(space1.getItems().isEmpty());
+  }
+
+  @Test
+  public void testComputerPlayerPlayTurnWhenFull() {
+    ComputerPlayer fullBot = new ComputerPlayer("FullBot", 0, 1, new RandomGenerator(2));
+    fullBot.addItem(item2);
+    assertSame(TurnOutcome.PICKED_UP_NOTHING, fullBot.playTurn(spaces, null, null, false));
+    assertEquals(1, space1.getItems().size());
+  }
+
+  @Test
+  public void testComputerPlayerPlayTurnMoves() {
+    ComputerPlayer movingBot = new ComputerPlayer("MoveBot", 0, 3, new RandomGenerator(0));
+    assertSame(TurnOutcome.MOVED, movingBot.playTurn(spaces, null, null, false));
+    assertEquals(1, movingBot.getCurrentSpaceIndex());
+  }
+
+  @Test
+  public void testComputerPlayerPlayTurnAttacks() {
+    TargetCharacter target = new TargetCharacterImpl("Doctor Lucky", 5);
+    ComputerPlayer attackingBot = new ComputerPlayer("AttackBot", 0, 3, new RandomGenerator(0));
+    attackingBot.addItem(item1);
+    attackingBot.addItem(item2);
+
+    TurnOutcome outcome = attackingBot.playTurn(spaces, target, null, true);
+    assertEquals(TurnAction.ATTACK, outcome.getAction());
+    assertEquals("Knife", outcome.getItemName());
+    assertEquals(2, outcome.getDamage());
+    assertEquals(3, target.getHealth());
+    assertEquals(1, attackingBot.getItems().size());
+
+    attackingBot.playTurn(spaces, target, null, true);
+    outcome = attackingBot.playTurn(spaces, target, null, true);
+    assertEquals("poke", outcome.getItemName());
+    assertEquals(1, outcome.getDamage());
+    assertEquals(1, target.getHealth());
+  }
+
   @Test(expected = IllegalArgumentException.class)
   public void testComputerPlayerTakeTurnInvalidSpaces() {
     computerPlayer.takeTurn(null, null, null, null, true);
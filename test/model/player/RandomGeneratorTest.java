@@ -0,0 +1,104 @@
+package model.player;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import org.junit.Test;
+
+/**
+ * Test class for RandomGenerator.
+ */
+public class RandomGeneratorTest {
+
+  private static int[] draw(RandomGenerator generator, int count, int bound) {
+    int[] values = new int[count];
+    for (int i = 0; i < count; i++) {
+      values[i] = generator.nextInt(bound);
+    }
+    return values;
+  }
+
+  @Test
+  public void testPredefinedSequenceIsRepeated() {
+    RandomGenerator generator = new RandomGenerator(3, -7, 12);
+    assertEquals(3, generator.nextInt());
+    assertEquals(3, generator.nextInt(4));
+    assertEquals(2, generator.nextInt(5));
+    assertEquals(3, generator.nextInt());
+  }
+
+  @Test
+  public void testSameSeedGivesSameSequence() {
+    assertArrayEquals(draw(RandomGenerator.withSeed(42), 100, 1000),
+        draw(RandomGenerator.withSeed(42), 100, 1000));
+    assertFalse(Arrays.equals(draw(RandomGenerator.withSeed(42), 100, 1000),
+        draw(RandomGenerator.withSeed(43), 100, 1000)));
+  }
+
+  @Test
+  public void testSplitIsReproducibleAndIndependent() {
+    RandomGenerator first = RandomGenerator.withSeed(7);
+    RandomGenerator second = RandomGenerator.withSeed(7);
+    RandomGenerator firstChild = first.split();
+    RandomGenerator secondChild = second.split();
+    assertArrayEquals(draw(firstChild, 50, 100), draw(secondChild, 50, 100));
+
+    RandomGenerator otherChild = first.split();
+    assertFalse(Arrays.equals(draw(first.split(), 50, 100), draw(otherChild, 50, 100)));
+    assertFalse(Arrays.equals(draw(first, 50, 100), draw(first.split(), 50, 100)));
+  }
+
+  @Test
+  public void testCopyContinuesWithoutAdvancing() {
+    RandomGenerator generator = RandomGenerator.withSeed(5);
+    generator.nextInt();
+    RandomGenerator copy = generator.copy();
+    assertArrayEquals(draw(generator, 20, 50), draw(copy, 20, 50));
+
+    RandomGenerator predefined = new RandomGenerator(1, 2, 3);
+    predefined.nextInt();
+    assertEquals(2, predefined.copy().nextInt());
+    assertEquals(2, predefined.split().nextInt());
+    assertEquals(2, predefined.nextInt());
+  }
+
+  @Test
+  public void testBoundedValuesAreInRangeAndSpread() {
+    RandomGenerator generator = RandomGenerator.withSeed(1);
+    int[] counts = new int[6];
+    for (int i = 0; i < 60000; i++) {
+      int value = generator.nextInt(6);
+      assertTrue(value >= 0 && value < 6);
+      counts[value]++;
+    }
+    for (int count : counts) {
+      assertTrue(count > 9000 && count < 11000);
+    }
+    assertEquals(0, generator.nextInt(1));
+  }
+
+  @Test
+  public void testUnseededGeneratorsDiffer() {
+    assertFalse(Arrays.equals(draw(new RandomGenerator(), 20, Integer.MAX_VALUE),
+        draw(new RandomGenerator(), 20, Integer.MAX_VALUE)));
+  }
+
+  @Test
+  public void testDerivedSeedsAreReproducibleAndDistinct() {
+    long[] seeds = new long[1000];
+    for (int i = 0; i < seeds.length; i++) {
+      seeds[i] = RandomGenerator.deriveSeed(9, i);
+      assertEquals(seeds[i], RandomGenerator.deriveSeed(9, i));
+    }
+    assertEquals(seeds.length, Arrays.stream(seeds).distinct().count());
+    assertFalse(RandomGenerator.deriveSeed(9, 0) == RandomGenerator.deriveSeed(10, 0));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testNonPositiveBound() {
+    RandomGenerator.withSeed(1).nextInt(0);
+  }
+}
@@ -0,0 +1,204 @@
+package model.player;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import model.item.ItemImpl;
+import model.pet.Pet;
+import model.pet.PetImpl;
+import model.space.AdjacencyGraph;
+import model.space.DistanceTable;
+import model.space.Space;
+import model.space.SpaceImpl;
+import model.target.TargetCharacter;
+import model.target.TargetCharacterImpl;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Test class for StrategicComputerPlayer.
+ */
+public class StrategicComputerPlayerTest {
+  // Rooms 0 to 5 form a corridor, and room 6 is a closet off room 0.
+  private static final int[][] NEIGHBORS = {{6, 1}, {0, 2}, {1, 3}, {2, 4}, {3, 5}, {4}, {0}};
+
+  private List<Space> spaces;
+  private DistanceTable distances;
+  private TargetCharacter target;
+
+  /**
+   * Builds the corridor and its distance table.
+   */
+  @Before
+  public void setUp() {
+    spaces = new ArrayList<>();
+    for (int i = 0; i < NEIGHBORS.length; i++) {
+      Space space = new SpaceImpl(i, "Room " + i, i, 0, i + 1, 1, new ArrayList<>(),
+          new ArrayList<>());
+      List<Integer> neighbors = new ArrayList<>();
+      for (int neighbor : NEIGHBORS[i]) {
+        neighbors.add(neighbor);
+      }
+      space.setNeighbors(neighbors);
+      spaces.add(space);
+    }
+    distances = DistanceTable.of(AdjacencyGraph.fromNeighborLists(NEIGHBORS));
+    target = new TargetCharacterImpl("Doctor Lucky", 50);
+  }
+
+  private StrategicComputerPlayer player(int space, int maxItems) {
+    return new StrategicComputerPlayer("Hunter", space, maxItems, new RandomGenerator(1),
+        distances);
+  }
+
+  private List<Player> twoPlayers(Player player) {
+    return List.of(player, new ComputerPlayer("Other", 3, 3, new RandomGenerator(1)));
+  }
+
+  @Test
+  public void testMovesToMeetTarget() {
+    target.setCurrentSpaceIndex(0);
+    StrategicComputerPlayer hunter = player(3, 3);
+    // The target reaches room 2 after two turns, when the player can be there too.
+    assertSame(TurnOutcome.MOVED, hunter.playTurn(spaces, target, null, false));
+    assertEquals(2, hunter.getCurrentSpaceIndex());
+  }
+
+  @Test
+  public void testWaitsForTargetComingAround() {
+    target.setCurrentSpaceIndex(6);
+    StrategicComputerPlayer hunter = player(0, 3);
+    assertSame(TurnOutcome.LOOKED_AROUND, hunter.playTurn(spaces, target, null, false));
+    assertEquals(0, hunter.getCurrentSpaceIndex());
+  }
+
+  @Test
+  public void testPicksUpBestItemWhenTimeAllows() {
+    spaces.get(3).addItem(new ItemImpl("Spoon", 1, 3));
+    spaces.get(3).addItem(new ItemImpl("Knife", 4, 3));
+    target.setCurrentSpaceIndex(0);
+    StrategicComputerPlayer hunter = player(3, 3);
+
+    TurnOutcome outcome = hunter.playTurn(spaces, target, null, false);
+    assertEquals(TurnAction.PICK_UP_ITEM, outcome.getAction());
+    assertEquals("Knife", outcome.getItemName());
+    assertEquals(1, spaces.get(3).getItems().size());
+    assertEquals("Knife", hunter.getItems().get(0).getItemName());
+  }
+
+  @Test
+  public void testFullPlayerKeepsMoving() {
+    spaces.get(3).addItem(new ItemImpl("Knife", 4, 3));
+    target.setCurrentSpaceIndex(0);
+    StrategicComputerPlayer hunter = player(3, 0);
+    assertSame(TurnOutcome.MOVED, hunter.playTurn(spaces, target, null, false));
+    assertEquals(1, spaces.get(3).getItems().size());
+  }
+
+  @Test
+  public void testDetoursForItemWhenTimeAllows() {
+    target.setCurrentSpaceIndex(2);
+    // The target reaches the closet after four turns, one step away from the player.
+    StrategicComputerPlayer direct = player(0, 3);
+    direct.playTurn(spaces, target, null, false);
+    assertEquals(6, direct.getCurrentSpaceIndex());
+
+    spaces.get(1).addItem(new ItemImpl("Knife", 4, 1));
+    StrategicComputerPlayer hunter = player(0, 3);
+    hunter.playTurn(spaces, target, null, false);
+    assertEquals(1, hunter.getCurrentSpaceIndex());
+  }
+
+  @Test
+  public void testParksPetInMeetingSpace() {
+    target.setCurrentSpaceIndex(5);
+    Pet pet = new PetImpl("Dog", 3);
+    StrategicComputerPlayer hunter = player(0, 3);
+    // The target reaches room 0 after the next two turns.
+    assertSame(TurnOutcome.MOVED_PET,
+        hunter.playTurn(spaces, twoPlayers(hunter), target, pet, false));
+    assertEquals(0, pet.getCurrentSpaceIndex());
+
+    // The pet walks into the closet and back before the player's next turn.
+    pet.moveFollowingDfs(spaces);
+    pet.moveFollowingDfs(spaces);
+    assertEquals(0, pet.getCurrentSpaceIndex());
+  }
+
+  @Test
+  public void testPetIsLeftAloneWhenPlayingAlone() {
+    target.setCurrentSpaceIndex(6);
+    Pet pet = new PetImpl("Dog", 3);
+    StrategicComputerPlayer hunter = player(0, 3);
+    assertSame(TurnOutcome.LOOKED_AROUND, hunter.playTurn(spaces, target, pet, false));
+    assertEquals(3, pet.getCurrentSpaceIndex());
+  }
+
+  @Test
+  public void testPetIsLeftAloneWhenAlreadyOnTheWay() {
+    target.setCurrentSpaceIndex(5);
+    Pet pet = new PetImpl("Dog", 0);
+    StrategicComputerPlayer hunter = player(0, 3);
+    assertSame(TurnOutcome.LOOKED_AROUND,
+        hunter.playTurn(spaces, twoPlayers(hunter), target, pet, false));
+    assertEquals(0, pet.getCurrentSpaceIndex());
+  }
+
+  @Test
+  public void testAttacksWithBestItem() {
+    StrategicComputerPlayer hunter = player(0, 3);
+    hunter.addItem(new ItemImpl("Spoon", 1, 0));
+    hunter.addItem(new ItemImpl("Knife", 4, 0));
+    TurnOutcome outcome = hunter.playTurn(spaces, target, null, true);
+    assertEquals(TurnAction.ATTACK, outcome.getAction());
+    assertEquals("Knife", outcome.getItemName());
+    assertEquals(46, target.getHealth());
+  }
+
+  @Test
+  public void testUnreachableTargetFallsBackToRandomActions() {
+    List<Space> rooms = List.of(
+        new SpaceImpl(0, "Hall", 0, 0, 1, 1, new ArrayList<>(), new ArrayList<>()),
+        new SpaceImpl(1, "Attic", 1, 1, 2, 2, new ArrayList<>(), new ArrayList<>()));
+    StrategicComputerPlayer hunter = new StrategicComputerPlayer("Hunter", 1, 3,
+        new RandomGenerator(1),
+        DistanceTable.of(AdjacencyGraph.fromNeighborLists(new int[][] {{}, {}})));
+    target.setCurrentSpaceIndex(0);
+    // With two players the target is always in the hall on the player's turns.
+    assertSame(TurnOutcome.LOOKED_AROUND,
+        hunter.playTurn(rooms, twoPlayers(hunter), target, null, false));
+  }
+
+  @Test
+  public void testTakeTurnDescribesAction() {
+    target.setCurrentSpaceIndex(0);
+    StrategicComputerPlayer hunter = player(3, 3);
+    assertEquals("Hunter moved to Room 2.",
+        hunter.takeTurn(spaces, List.of(hunter), target, null, false));
+  }
+
+  @Test
+  public void testCopyIsStrategic() {
+    StrategicComputerPlayer hunter = player(3, 3);
+    hunter.addItem(new ItemImpl("Knife", 4, 3));
+    Player copy = hunter.copy();
+    assertNotSame(hunter, copy);
+    assertTrue(copy instanceof StrategicComputerPlayer);
+    assertTrue(copy.isComputer());
+    assertEquals(1, copy.getItems().size());
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testNullDistances() {
+    new StrategicComputerPlayer("Hunter", 0, 3, new RandomGenerator(1), null);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testInvalidSpaces() {
+    player(3, 3).playTurn(null, target, null, false);
+  }
+}
@@ -0,0 +1,166 @@
+package model.save;
+
+import static model.event.RandomGamePlayer.describe;
+import static model.event.RandomGamePlayer.newWorld;
+import static model.event.RandomGamePlayer.playHumanTurn;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import facade.GameFacadeImpl;
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import model.world.WorldImpl;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Test class for GameSaver and GameSnapshot, saving games played through the facade.
+ */
+public class GameSaverTest {
+  private static final int STOP_TURN = 40;
+
+  private File directory;
+  private WorldImpl liveWorld;
+  private GameFacadeImpl liveFacade;
+
+  @Before
+  public void setUp() throws IOException {
+    directory = Files.createTempDirectory("save").toFile();
+  }
+
+  @After
+  public void tearDown() {
+    File[] files = directory.listFiles();
+    if (files != null) {
+      for (File file : files) {
+        file.delete();
+      }
+    }
+    directory.delete();
+  }
+
+  /**
+   * Plays a game with a human and a computer player through the facade until a given turn,
+   * saving it and recording the state at the start of every turn.
+   */
+  private Map<Integer, String> playSavedGame(int interval) throws IOException {
+    WorldImpl world = newWorld();
+    GameFacadeImpl facade = new GameFacadeImpl(world);
+    Random random = new Random(3);
+    Map<Integer, String> states = new HashMap<>();
+    try (GameSaver saver = new GameSaver(world, directory, interval)) {
+      facade.setEventLog(saver);
+      facade.setMaxTurns(200);
+      facade.addHumanPlayer("Human", world.getSpaceByIndex(1).getSpaceName(), 3);
+      facade.addComputerPlayer("Bot", world.getSpaceByIndex(5).getSpaceName(), 2);
+      while (!facade.isGameEnded() && world.getCurrentTurn() < STOP_TURN) {
+        states.put(world.getCurrentTurn(), describe(world));
+        if (facade.computerPlayerTurn()) {
+          facade.computerPlayerTakeTurn();
+        } else {
+          playHumanTurn(facade, world, random);
+        }
+      }
+      states.put(Integer.MAX_VALUE, describe(world));
+      facade.setEventLog(null);
+    }
+    liveWorld = world;
+    liveFacade = facade;
+    return states;
+  }
+
+  private File onlyFile(String prefix) {
+    File[] files = directory.listFiles((dir, name) -> name.startsWith(prefix));
+    assertEquals(1, files.length);
+    return files[0];
+  }
+
+  @Test
+  public void testRestoreGivesLatestState() throws IOException {
+    for (int interval : new int[] {1, 7, 1000}) {
+      tearDown();
+      directory.mkdirs();
+      Map<Integer, String> states = playSavedGame(interval);
+      assertEquals("interval " + interval, states.get(Integer.MAX_VALUE),
+          describe(GameSaver.restore(directory, newWorld())));
+    }
+  }
+
+  @Test
+  public void testOlderFilesAreDeleted() throws IOException {
+    playSavedGame(7);
+    assertEquals("snapshot-" + (STOP_TURN / 7) + ".kdls", onlyFile("snapshot-").getName());
+    assertEquals("deltas-" + (STOP_TURN / 7) + ".kdle", onlyFile("deltas-").getName());
+  }
+
+  @Test
+  public void testRestoredPetContinuesItsWalk() throws IOException {
+    playSavedGame(7);
+    WorldImpl restored = GameSaver.restore(directory, newWorld());
+    GameFacadeImpl restoredFacade = new GameFacadeImpl(restored);
+    for (int step = 0; step < 30; step++) {
+      liveFacade.petAutoMove();
+      restoredFacade.petAutoMove();
+      assertEquals(liveWorld.getPet().getCurrentSpaceIndex(),
+          restored.getPet().getCurrentSpaceIndex());
+    }
+  }
+
+  @Test
+  public void testTruncatedDeltasRestoreLastCompleteTurn() throws IOException {
+    Map<Integer, String> states = playSavedGame(7);
+    File deltas = onlyFile("deltas-");
+    try (RandomAccessFile file = new RandomAccessFile(deltas, "rw")) {
+      file.setLength(file.length() - 1);
+    }
+    assertEquals(states.get(STOP_TURN - 1), describe(GameSaver.restore(directory,
+        newWorld())));
+  }
+
+  @Test
+  public void testMissingDeltasRestoreSnapshot() throws IOException {
+    playSavedGame(1);
+    assertTrue(onlyFile("deltas-").delete());
+    WorldImpl world = GameSaver.restore(directory, newWorld());
+    assertEquals(STOP_TURN, world.getCurrentTurn());
+  }
+
+  @Test
+  public void testSavingContinuesAfterRestore() throws IOException {
+    playSavedGame(7);
+    WorldImpl world = GameSaver.restore(directory, newWorld());
+    GameFacadeImpl facade = new GameFacadeImpl(world);
+    try (GameSaver saver = new GameSaver(world, directory, 7)) {
+      facade.setEventLog(saver);
+      facade.playerLookAround();
+      saver.flush();
+    }
+    assertEquals("snapshot-" + (STOP_TURN / 7 + 1) + ".kdls", onlyFile("snapshot-").getName());
+    assertEquals(describe(world), describe(GameSaver.restore(directory, newWorld())));
+  }
+
+  @Test(expected = IOException.class)
+  public void testCorruptSnapshotIsRejected() throws IOException {
+    playSavedGame(7);
+    Files.write(onlyFile("snapshot-").toPath(), new byte[] {1, 2, 3});
+    GameSaver.restore(directory, newWorld());
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testRestoreIntoStartedGame() throws IOException {
+    playSavedGame(7);
+    WorldImpl world = GameSaver.restore(directory, newWorld());
+    GameSaver.restore(directory, world);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testInvalidInterval() throws IOException {
+    new GameSaver(newWorld(), directory, 0);
+  }
+}
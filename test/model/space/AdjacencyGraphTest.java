@@ -0,0 +1,98 @@
+package model.space;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Test class for AdjacencyGraph.
+ */
+public class AdjacencyGraphTest {
+
+  private AdjacencyGraph graph;
+
+  /**
+   * Sets up the test fixture.
+   */
+  @Before
+  public void setUp() {
+    graph = AdjacencyGraph.fromNeighborLists(new int[][] {{1, 2}, {0}, {0}, {}});
+  }
+
+  @Test
+  public void testSizeAndDegree() {
+    assertEquals(4, graph.size());
+    assertEquals(4, graph.edgeCount());
+    assertEquals(2, graph.degree(0));
+    assertEquals(1, graph.degree(1));
+    assertEquals(0, graph.degree(3));
+  }
+
+  @Test
+  public void testNeighbor() {
+    assertEquals(1, graph.neighbor(0, 0));
+    assertEquals(2, graph.neighbor(0, 1));
+    assertEquals(0, graph.neighbor(2, 0));
+  }
+
+  @Test(expected = IndexOutOfBoundsException.class)
+  public void testNeighborOutOfRange() {
+    graph.neighbor(1, 1);
+  }
+
+  @Test
+  public void testHasEdge() {
+    assertTrue(graph.hasEdge(0, 2));
+    assertTrue(graph.hasEdge(2, 0));
+    assertFalse(graph.hasEdge(1, 2));
+    assertFalse(graph.hasEdge(3, 0));
+  }
+
+  @Test
+  public void testHasEdgeOnUnsortedRow() {
+    AdjacencyGraph unsorted = AdjacencyGraph.singleRow(List.of(5, 1, 3));
+    assertTrue(unsorted.hasEdge(0, 1));
+    assertTrue(unsorted.hasEdge(0, 5));
+    assertFalse(unsorted.hasEdge(0, 2));
+  }
+
+  @Test
+  public void testNeighborListIsCopy() {
+    List<Integer> neighbors = graph.neighborList(0);
+    assertEquals(List.of(1, 2), neighbors);
+    neighbors.clear();
+    assertEquals(2, graph.degree(0));
+  }
+
+  @Test
+  public void testSingleRowEmpty() {
+    AdjacencyGraph empty = AdjacencyGraph.singleRow(new ArrayList<>());
+    assertEquals(1, empty.size());
+    assertEquals(0, empty.degree(0));
+  }
+
+  @Test
+  public void testEquals() {
+    assertEquals(graph, AdjacencyGraph.of(new int[] {0, 2, 3, 4, 4}, new int[] {1, 2, 0, 0}));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testInconsistentOffsets() {
+    AdjacencyGraph.of(new int[] {0, 3}, new int[] {1, 2});
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testNegativeNeighbor() {
+    AdjacencyGraph.of(new int[] {0, 1}, new int[] {-1});
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testNullNeighbors() {
+    AdjacencyGraph.singleRow(null);
+  }
+}
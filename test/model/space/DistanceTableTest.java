@@ -0,0 +1,165 @@
+package model.space;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Queue;
+import java.util.Random;
+import java.util.stream.IntStream;
+import org.junit.Test;
+
+/**
+ * Test class for DistanceTable.
+ */
+public class DistanceTableTest {
+
+  private static final int[][] CHAIN = {{1}, {0, 2}, {1, 3}, {2}, {}};
+
+  private static int[] search(int[][] lists, int source) {
+    int[] distances = new int[lists.length];
+    Arrays.fill(distances, -1);
+    distances[source] = 0;
+    Queue<Integer> queue = new ArrayDeque<>();
+    queue.add(source);
+    while (!queue.isEmpty()) {
+      int node = queue.remove();
+      for (int neighbor : lists[node]) {
+        if (distances[neighbor] < 0) {
+          distances[neighbor] = distances[node] + 1;
+          queue.add(neighbor);
+        }
+      }
+    }
+    return distances;
+  }
+
+  private static void assertMatchesSearch(int[][] lists, DistanceTable table) {
+    for (int from = 0; from < lists.length; from++) {
+      int[] expected = search(lists, from);
+      for (int to = 0; to < lists.length; to++) {
+        assertEquals(expected[to], table.distance(from, to));
+        int hop = table.nextHop(from, to);
+        if (expected[to] < 0) {
+          assertEquals(-1, hop);
+        } else if (from == to) {
+          assertEquals(from, hop);
+        } else {
+          assertTrue(Arrays.stream(lists[from]).anyMatch(neighbor -> neighbor == hop));
+          assertEquals(expected[to] - 1, search(lists, hop)[to]);
+        }
+      }
+    }
+  }
+
+  @Test
+  public void testDistancesAlongChain() {
+    DistanceTable table = DistanceTable.of(AdjacencyGraph.fromNeighborLists(CHAIN));
+    assertTrue(table.isPrecomputed());
+    assertEquals(5, table.size());
+    assertEquals(0, table.distance(2, 2));
+    assertEquals(3, table.distance(0, 3));
+    assertEquals(1, table.nextHop(0, 3));
+    assertEquals(2, table.nextHop(3, 0));
+    assertEquals(-1, table.distance(0, 4));
+    assertEquals(-1, table.nextHop(4, 0));
+  }
+
+  @Test
+  public void testPath() {
+    DistanceTable table = DistanceTable.of(AdjacencyGraph.fromNeighborLists(CHAIN));
+    assertEquals(List.of(3, 2, 1, 0), table.path(3, 0));
+    assertEquals(List.of(1), table.path(1, 1));
+    assertEquals(Collections.emptyList(), table.path(0, 4));
+  }
+
+  @Test
+  public void testOneWayNeighbors() {
+    DistanceTable table = DistanceTable.of(AdjacencyGraph.fromNeighborLists(new int[][] {
+        {1}, {2}, {}}));
+    assertEquals(2, table.distance(0, 2));
+    assertEquals(-1, table.distance(2, 0));
+  }
+
+  @Test
+  public void testNeighborsOutsideGraphAreIgnored() {
+    DistanceTable table = DistanceTable.of(AdjacencyGraph.fromNeighborLists(new int[][] {
+        {5, 1}, {0}}));
+    assertEquals(1, table.distance(0, 1));
+  }
+
+  @Test
+  public void testOnDemandMatchesPrecomputed() {
+    Random random = new Random(24);
+    int n = 200;
+    int[][] lists = new int[n][];
+    for (int node = 0; node < n; node++) {
+      lists[node] = random.ints(random.nextInt(4), 0, n).distinct().sorted().toArray();
+    }
+    AdjacencyGraph graph = AdjacencyGraph.fromNeighborLists(lists);
+    DistanceTable dense = DistanceTable.of(graph);
+    DistanceTable onDemand = DistanceTable.of(graph, 0, 8);
+    assertTrue(dense.isPrecomputed());
+    assertFalse(onDemand.isPrecomputed());
+    assertMatchesSearch(lists, dense);
+    assertMatchesSearch(lists, onDemand);
+  }
+
+  @Test
+  public void testOnDemandRowsAreBounded() {
+    DistanceTable table = DistanceTable.of(AdjacencyGraph.fromNeighborLists(CHAIN), 0, 2);
+    assertEquals(0, table.cachedRowCount());
+    table.distance(0, 3);
+    table.distance(0, 2);
+    assertEquals(1, table.cachedRowCount());
+    table.distance(1, 3);
+    table.distance(2, 3);
+    assertEquals(2, table.cachedRowCount());
+    assertEquals(3, table.distance(0, 3));
+  }
+
+  @Test
+  public void testConcurrentLookupsShareRows() {
+    int n = 300;
+    int[][] ring = new int[n][];
+    for (int node = 0; node < n; node++) {
+      ring[node] = new int[] {(node + n - 1) % n, (node + 1) % n};
+    }
+    DistanceTable table = DistanceTable.of(AdjacencyGraph.fromNeighborLists(ring), 0, 4);
+    // Every thread asks for the same few rows, which are searched outside the lock.
+    IntStream.range(0, 2000).parallel().forEach(k -> {
+      int from = k % 4;
+      int to = (k * 7) % n;
+      assertEquals(Math.min(Math.abs(to - from), n - Math.abs(to - from)),
+          table.distance(from, to));
+    });
+    assertEquals(4, table.cachedRowCount());
+  }
+
+  @Test
+  public void testLargeGraphSearchesOnDemand() {
+    int n = 2100;
+    int[][] ring = new int[n][];
+    for (int node = 0; node < n; node++) {
+      ring[node] = new int[] {(node + n - 1) % n, (node + 1) % n};
+    }
+    DistanceTable table = DistanceTable.of(AdjacencyGraph.fromNeighborLists(ring));
+    assertFalse(table.isPrecomputed());
+    assertEquals(n / 2, table.distance(0, n / 2));
+    assertEquals(n - 1, table.nextHop(0, n - 2));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testInvalidSpace() {
+    DistanceTable.of(AdjacencyGraph.fromNeighborLists(CHAIN)).distance(0, 5);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testNullGraph() {
+    DistanceTable.of(null);
+  }
+}
@@ -126,6 +126,27 @@ public class SpaceImplTest {
     assertEquals(space.getNeighborIndices(), copiedSpace.getNeighborIndices());
   }
 
+  @Test
+  public void testNeighborCountAndIndex() {
+    assertEquals(1, space.getNeighborCount());
+    assertEquals(1, space.getNeighborIndex(0));
+  }
+
+  @Test
+  public void testSetAdjacency() {
+    AdjacencyGraph graph = AdjacencyGraph.fromNeighborLists(new int[][] {{2, 4}, {0}});
+    space.setAdjacency(graph, 0);
+    assertEquals(List.of(2, 4), space.getNeighborIndices());
+    assertTrue(space.hasNeighbor(4));
+    assertFalse(space.hasNeighbor(1));
+    assertEquals(List.of(2, 4), space.copy().getNeighborIndices());
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testSetAdjacencyInvalidNode() {
+    space.setAdjacency(AdjacencyGraph.fromNeighborLists(new int[][] {{1}}), 1);
+  }
+
   @Test
   public void testGetNeighborInfo() {
     List<Space> allSpaces = new ArrayList<>();
@@ -201,5 +222,15 @@ public class SpaceImplTest {
         + "index=0, upperLeft=(0, 0), lowerRight=(2, 2)}";
     assertEquals(expectedString, space.toString());
   }
-}
 
+  @Test
+  public void testHasSameItems() {
+    Space copy = space.copy();
+    assertTrue(space.hasSameItems(copy));
+    copy.removeItem(new ItemImpl("Guitar", 3, 0));
+    assertFalse(space.hasSameItems(copy));
+    copy.addItem(new ItemImpl("Guitar", 3, 0));
+    assertTrue(space.hasSameItems(copy));
+    assertFalse(space.hasSameItems(null));
+  }
+}
@@ -0,0 +1,91 @@
+package model.space;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Test class for SpaceNameIndex.
+ */
+public class SpaceNameIndexTest {
+
+  private SpaceNameIndex index;
+  private List<Space> spaces;
+
+  /**
+   * Sets up the test fixture.
+   */
+  @Before
+  public void setUp() {
+    String[] names = {"Library", "Living Room", "Dining Room", "Hall", "Hallway", "Study"};
+    spaces = new ArrayList<>();
+    index = new SpaceNameIndex();
+    for (int i = 0; i < names.length; i++) {
+      Space space = new SpaceImpl(i, names[i], 0, i * 2, 1, i * 2 + 1, new ArrayList<>(),
+          new ArrayList<>());
+      spaces.add(space);
+      index.add(space);
+    }
+  }
+
+  @Test
+  public void testGetExactName() {
+    assertSame(spaces.get(1), index.get("Living Room"));
+    assertSame(spaces.get(5), index.get("Study"));
+    assertNull(index.get("living room"));
+    assertNull(index.get("Cellar"));
+    assertEquals(6, index.size());
+  }
+
+  @Test
+  public void testDuplicateNameKeepsFirstSpace() {
+    index.add(new SpaceImpl(6, "Study", 2, 0, 3, 1, new ArrayList<>(), new ArrayList<>()));
+    assertSame(spaces.get(5), index.get("Study"));
+    assertEquals(6, index.size());
+    assertEquals("Study", index.resolve("st"));
+  }
+
+  @Test
+  public void testResolveUniquePrefix() {
+    assertEquals("Living Room", index.resolve("Liv"));
+    assertEquals("Library", index.resolve("libr"));
+    assertEquals("Dining Room", index.resolve("d"));
+    assertEquals("Study", index.resolve("STUDY"));
+  }
+
+  @Test
+  public void testResolveCompleteNameBeforeLongerNames() {
+    assertEquals("Hall", index.resolve("hall"));
+    assertEquals("Hallway", index.resolve("hallw"));
+  }
+
+  @Test
+  public void testResolveUnknownNameUnchanged() {
+    assertEquals("Cellar", index.resolve("Cellar"));
+    assertEquals("Living Rooms", index.resolve("Living Rooms"));
+    assertNull(index.resolve(null));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testResolveAmbiguousPrefix() {
+    index.resolve("li");
+  }
+
+  @Test
+  public void testWithPrefix() {
+    assertEquals(List.of("Library", "Living Room"), index.withPrefix("LI"));
+    assertEquals(List.of("Hall", "Hallway"), index.withPrefix("ha"));
+    assertEquals(6, index.withPrefix("").size());
+    assertEquals(List.of(), index.withPrefix("x"));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testAddNull() {
+    index.add(null);
+  }
+}
@@ -0,0 +1,80 @@
+package model.space;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Random;
+import org.junit.Test;
+
+/**
+ * Test class for VisibilityIndex.
+ */
+public class VisibilityIndexTest {
+
+  private static void add(long[] set, int index) {
+    set[index >>> 6] |= 1L << index;
+  }
+
+  @Test
+  public void testNeighborsWatchASpace() {
+    AdjacencyGraph graph = AdjacencyGraph.fromNeighborLists(new int[][] {
+        {1, 2}, {0}, {0}, {}});
+    VisibilityIndex index = VisibilityIndex.of(graph);
+    assertEquals(4, index.size());
+
+    long[] occupied = VisibilityIndex.newSpaceSet(4);
+    assertFalse(index.isWatched(0, occupied));
+    add(occupied, 2);
+    assertTrue(index.isWatched(0, occupied));
+    assertFalse(index.isWatched(1, occupied));
+    assertFalse(index.isWatched(2, occupied));
+    assertFalse(index.isWatched(3, occupied));
+  }
+
+  @Test
+  public void testMatchesNeighborScanAcrossWords() {
+    Random random = new Random(14);
+    int n = 300;
+    int[][] lists = new int[n][];
+    for (int node = 0; node < n; node++) {
+      lists[node] = random.ints(random.nextInt(6), 0, n).distinct().toArray();
+    }
+    AdjacencyGraph graph = AdjacencyGraph.fromNeighborLists(lists);
+    VisibilityIndex index = VisibilityIndex.of(graph);
+    for (int round = 0; round < 50; round++) {
+      boolean[] occupied = new boolean[n];
+      long[] set = VisibilityIndex.newSpaceSet(n);
+      for (int k = 0; k < 20; k++) {
+        int space = random.nextInt(n);
+        occupied[space] = true;
+        add(set, space);
+      }
+      for (int node = 0; node < n; node++) {
+        boolean expected = false;
+        for (int neighbor : lists[node]) {
+          expected |= occupied[neighbor];
+        }
+        assertEquals(expected, index.isWatched(node, set));
+      }
+    }
+  }
+
+  @Test
+  public void testNewSpaceSetSize() {
+    assertEquals(0, VisibilityIndex.newSpaceSet(0).length);
+    assertEquals(1, VisibilityIndex.newSpaceSet(64).length);
+    assertEquals(2, VisibilityIndex.newSpaceSet(65).length);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testInvalidSpace() {
+    VisibilityIndex.of(AdjacencyGraph.fromNeighborLists(new int[][] {{}}))
+        .isWatched(1, new long[1]);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testNullGraph() {
+    VisibilityIndex.of(null);
+  }
+}
@@ -0,0 +1,126 @@
+package model.viewmodel;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import constants.Constants;
+import facade.GameFacadeImpl;
+import java.io.File;
+import java.io.IOException;
+import model.item.Item;
+import model.player.HumanPlayer;
+import model.space.Space;
+import model.world.WorldFactory;
+import model.world.WorldImpl;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Test class for WorldSnapshot and the versions published by WorldImpl.
+ */
+public class WorldSnapshotTest {
+  private WorldImpl world;
+  private GameFacadeImpl facade;
+
+  @Before
+  public void setUp() throws IOException {
+    world = new WorldFactory().createWorld(new File(Constants.FILE_PATH));
+    facade = new GameFacadeImpl(world);
+    facade.setMaxTurns(20);
+  }
+
+  private int spaceWithItems() {
+    for (Space space : world.getSpaces()) {
+      if (!space.getItems().isEmpty()) {
+        return space.getSpaceIndex();
+      }
+    }
+    throw new AssertionError("The world has no items");
+  }
+
+  @Test
+  public void testSnapshotIsSharedWhileVersionIsUnchanged() {
+    WorldSnapshot first = world.getSnapshot();
+    assertSame(first, world.getSnapshot());
+    assertEquals(world.getVersion(), first.getVersion());
+    assertNull(first.getCurrentPlayer());
+    assertTrue(first.getPlayers().isEmpty());
+  }
+
+  @Test
+  public void testEveryActionChangesVersion() {
+    long version = world.getVersion();
+    facade.addHumanPlayer("Alice", world.getSpaceByIndex(0).getSpaceName(), 3);
+    assertNotEquals(version, world.getVersion());
+    version = world.getVersion();
+    facade.playerLookAround();
+    assertNotEquals(version, world.getVersion());
+    version = world.getVersion();
+    world.getCurrentTurn();
+    world.getSnapshot();
+    assertEquals(version, world.getVersion());
+  }
+
+  @Test
+  public void testSnapshotFollowsTheGame() {
+    int space = spaceWithItems();
+    facade.addHumanPlayer("Alice", world.getSpaceByIndex(space).getSpaceName(), 3);
+    WorldSnapshot before = world.getSnapshot();
+    Item item = before.getSpaces().get(space).getItems().get(0);
+    facade.playerPickUpItem(item.getItemName());
+
+    WorldSnapshot after = world.getSnapshot();
+    assertNotSame(before, after);
+    assertEquals(2, after.getCurrentTurn());
+    assertEquals("Alice", after.getCurrentPlayer().getPlayerName());
+    assertEquals(item.getItemName(), after.getPlayers().get(0).getItems().get(0)
+        .getItemName());
+    assertEquals(before.getSpaces().get(space).getItems().size() - 1,
+        after.getSpaces().get(space).getItems().size());
+    assertEquals(world.getTargetCharacter().getCurrentSpaceIndex(),
+        after.getTarget().getCurrentSpaceIndex());
+    assertEquals(world.getPet().getCurrentSpaceIndex(), after.getPet().getCurrentSpaceIndex());
+    // The snapshot taken before the action still shows the old state.
+    assertTrue(before.getPlayers().get(0).getItems().isEmpty());
+  }
+
+  @Test
+  public void testUnchangedSpacesAreShared() {
+    int space = spaceWithItems();
+    facade.addHumanPlayer("Alice", world.getSpaceByIndex(space).getSpaceName(), 3);
+    WorldSnapshot before = world.getSnapshot();
+    facade.playerPickUpItem(before.getSpaces().get(space).getItems().get(0).getItemName());
+    WorldSnapshot after = world.getSnapshot();
+    for (int i = 0; i < world.getTotalSpace(); i++) {
+      if (i == space) {
+        assertNotSame(before.getSpaces().get(i), after.getSpaces().get(i));
+      } else {
+        assertSame(before.getSpaces().get(i), after.getSpaces().get(i));
+      }
+    }
+  }
+
+  @Test
+  public void testMovingPlayerChangesVersion() {
+    HumanPlayer player = new HumanPlayer("Bob", 0, 2);
+    world.addPlayer(player);
+    long version = world.getVersion();
+    player.setCurrentSpaceIndex(1);
+    assertNotEquals(version, world.getVersion());
+    assertEquals(1, world.getSnapshot().getPlayers().get(0).getCurrentSpaceIndex());
+  }
+
+  @Test(expected = UnsupportedOperationException.class)
+  public void testSnapshotListsAreReadOnly() {
+    world.getSnapshot().getSpaces().clear();
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testCaptureNullWorld() {
+    WorldSnapshot.capture(0, null, null);
+  }
+}
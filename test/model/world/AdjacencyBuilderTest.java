@@ -0,0 +1,100 @@
+package model.world;
+
+import static org.junit.Assert.assertEquals;
+
+import constants.Constants;
+import java.io.FileReader;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import model.space.AdjacencyGraph;
+import model.space.Space;
+import model.space.SpaceImpl;
+import org.junit.Test;
+
+/**
+ * Test class for AdjacencyBuilder.
+ */
+public class AdjacencyBuilderTest {
+
+  private static Space createSpace(int index, int ulRow, int ulCol, int lrRow, int lrCol) {
+    return new SpaceImpl(index, "Room" + index, ulRow, ulCol, lrRow, lrCol,
+        new ArrayList<>(), new ArrayList<>());
+  }
+
+  private static void assertSameAsPairwise(List<Space> spaces) {
+    AdjacencyGraph expected = AdjacencyBuilder.buildPairwise(spaces);
+    AdjacencyGraph actual = AdjacencyBuilder.build(spaces);
+    assertEquals(expected.size(), actual.size());
+    for (int i = 0; i < expected.size(); i++) {
+      assertEquals("Neighbors of space " + i, expected.neighborList(i),
+          actual.neighborList(i));
+    }
+    assertEquals(expected, actual);
+  }
+
+  @Test
+  public void testSimpleLayout() {
+    List<Space> spaces = new ArrayList<>();
+    spaces.add(createSpace(0, 0, 0, 2, 2));
+    spaces.add(createSpace(1, 3, 0, 5, 2));
+    spaces.add(createSpace(2, 0, 3, 2, 5));
+    spaces.add(createSpace(3, 6, 6, 7, 7));
+
+    AdjacencyGraph neighbors = AdjacencyBuilder.build(spaces);
+    assertEquals(List.of(1, 2), neighbors.neighborList(0));
+    assertEquals(List.of(0), neighbors.neighborList(1));
+    assertEquals(List.of(0), neighbors.neighborList(2));
+    assertEquals(0, neighbors.degree(3));
+  }
+
+  @Test
+  public void testCornerTouchingIsNotNeighbor() {
+    List<Space> spaces = new ArrayList<>();
+    spaces.add(createSpace(0, 0, 0, 2, 2));
+    spaces.add(createSpace(1, 3, 3, 5, 5));
+    assertSameAsPairwise(spaces);
+    assertEquals(0, AdjacencyBuilder.build(spaces).degree(0));
+  }
+
+  @Test
+  public void testMansionMatchesPairwise() throws IOException {
+    WorldImpl world = new WorldFactory().createWorld(new FileReader(Constants.FILE_PATH));
+    assertSameAsPairwise(world.getSpaces());
+  }
+
+  @Test
+  public void testRandomLayoutsMatchPairwise() {
+    Random random = new Random(42);
+    for (int round = 0; round < 50; round++) {
+      List<Space> spaces = new ArrayList<>();
+      int count = 1 + random.nextInt(80);
+      for (int i = 0; i < count; i++) {
+        int row = random.nextInt(30);
+        int col = random.nextInt(30);
+        spaces.add(createSpace(i, row, col, row + 1 + random.nextInt(4),
+            col + 1 + random.nextInt(4)));
+      }
+      assertSameAsPairwise(spaces);
+    }
+  }
+
+  @Test
+  public void testGridLayoutMatchesPairwise() {
+    List<Space> spaces = new ArrayList<>();
+    int index = 0;
+    for (int row = 0; row < 20; row++) {
+      for (int col = 0; col < 20; col++) {
+        spaces.add(createSpace(index++, row * 3, col * 2, row * 3 + 2, col * 2 + 1));
+      }
+    }
+    assertSameAsPairwise(spaces);
+    assertEquals(4, AdjacencyBuilder.build(spaces).degree(21));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testNullSpaces() {
+    AdjacencyBuilder.build(null);
+  }
+}
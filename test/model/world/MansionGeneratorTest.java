@@ -0,0 +1,173 @@
+package model.world;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import model.space.AdjacencyGraph;
+import model.space.Space;
+import org.junit.Test;
+
+/**
+ * JUnit tests for MansionGenerator.
+ */
+public class MansionGeneratorTest {
+
+  private static String generate(int rooms, int columns, double density, double connectivity,
+      long seed) throws IOException {
+    StringWriter out = new StringWriter();
+    new MansionGenerator(rooms, columns, density, connectivity, seed).write(out);
+    return out.toString();
+  }
+
+  private static WorldImpl load(String text) {
+    return new WorldFactory().createWorld(new StringReader(text));
+  }
+
+  private static int edgeCount(AdjacencyGraph graph) {
+    int degrees = 0;
+    for (int node = 0; node < graph.size(); node++) {
+      degrees += graph.degree(node);
+    }
+    return degrees / 2;
+  }
+
+  private static boolean isConnected(AdjacencyGraph graph) {
+    boolean[] seen = new boolean[graph.size()];
+    Deque<Integer> pending = new ArrayDeque<>();
+    pending.push(0);
+    seen[0] = true;
+    int reached = 1;
+    while (!pending.isEmpty()) {
+      int node = pending.pop();
+      for (int k = 0; k < graph.degree(node); k++) {
+        int next = graph.neighbor(node, k);
+        if (!seen[next]) {
+          seen[next] = true;
+          reached++;
+          pending.push(next);
+        }
+      }
+    }
+    return reached == graph.size();
+  }
+
+  @Test
+  public void testGeneratedWorldLoads() throws IOException {
+    WorldImpl world = load(generate(57, 8, 1.0, 0.5, 1L));
+    assertEquals(57, world.getTotalSpace());
+    assertEquals(57, world.getTotalItems());
+    assertEquals("Room 56", world.getSpaceByIndex(56).getSpaceName());
+    for (Space space : world.getSpaces()) {
+      assertEquals(1, space.getItems().size());
+    }
+  }
+
+  @Test
+  public void testRoomsDoNotOverlap() throws IOException {
+    List<Space> spaces = load(generate(90, 9, 0.0, 0.7, 2L)).getSpaces();
+    for (int i = 0; i < spaces.size(); i++) {
+      Space a = spaces.get(i);
+      for (int j = i + 1; j < spaces.size(); j++) {
+        Space b = spaces.get(j);
+        boolean rowsOverlap = a.getUpperLeftRow() <= b.getLowerRightRow()
+            && b.getUpperLeftRow() <= a.getLowerRightRow();
+        boolean columnsOverlap = a.getUpperLeftColumn() <= b.getLowerRightColumn()
+            && b.getUpperLeftColumn() <= a.getLowerRightColumn();
+        assertFalse(a.getSpaceName() + " overlaps " + b.getSpaceName(),
+            rowsOverlap && columnsOverlap);
+      }
+    }
+  }
+
+  @Test
+  public void testConnectivityBounds() throws IOException {
+    AdjacencyGraph comb = load(generate(100, 10, 0.0, 0.0, 3L)).getAdjacency();
+    assertEquals(99, edgeCount(comb));
+    assertTrue(isConnected(comb));
+
+    AdjacencyGraph grid = load(generate(100, 10, 0.0, 1.0, 3L)).getAdjacency();
+    assertEquals(2 * 10 * 9, edgeCount(grid));
+
+    AdjacencyGraph partial = load(generate(103, 10, 0.0, 0.5, 3L)).getAdjacency();
+    assertTrue(isConnected(partial));
+    int edges = edgeCount(partial);
+    assertTrue(edges > 102 && edges < 2 * 10 * 9 + 3);
+  }
+
+  @Test
+  public void testItemDensity() throws IOException {
+    WorldImpl world = load(generate(2000, 40, 1.5, 1.0, 4L));
+    assertTrue(world.getTotalItems() > 2800 && world.getTotalItems() < 3200);
+    for (Space space : world.getSpaces()) {
+      int items = space.getItems().size();
+      assertTrue(items == 1 || items == 2);
+    }
+    assertEquals(0, load(generate(50, 5, 0.0, 1.0, 4L)).getTotalItems());
+  }
+
+  @Test
+  public void testSameSeedGivesSameWorld() throws IOException {
+    assertEquals(generate(300, 17, 0.8, 0.4, 5L), generate(300, 17, 0.8, 0.4, 5L));
+    assertNotEquals(generate(300, 17, 0.8, 0.4, 5L), generate(300, 17, 0.8, 0.4, 6L));
+  }
+
+  @Test
+  public void testWritesLargeWorldsAsAStream() throws IOException {
+    long[] written = new long[1];
+    Writer counter = new Writer() {
+      @Override
+      public void write(char[] chars, int offset, int length) {
+        written[0] += length;
+      }
+
+      @Override
+      public void flush() {
+        // Nothing to flush
+      }
+
+      @Override
+      public void close() {
+        // Nothing to close
+      }
+    };
+    new MansionGenerator(500_000, 700, 0.5, 0.5, 7L).write(counter);
+    assertTrue(written[0] > 500_000 * 20L);
+  }
+
+  @Test
+  public void testWriteFile() throws IOException {
+    File file = Files.createTempFile("generated", ".txt").toFile();
+    try {
+      new MansionGenerator(30, 6, 1.0, 1.0, 8L).write(file);
+      assertEquals(30, new WorldFactory().createWorld(file).getTotalSpace());
+    } finally {
+      file.delete();
+    }
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testInvalidRoomCount() {
+    new MansionGenerator(0, 4, 1.0, 1.0, 0L);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testInvalidConnectivity() {
+    new MansionGenerator(10, 4, 1.0, 1.5, 0L);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testInvalidDensity() {
+    new MansionGenerator(10, 4, Double.NaN, 1.0, 0L);
+  }
+}
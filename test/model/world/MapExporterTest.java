@@ -0,0 +1,119 @@
+package model.world;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import javax.imageio.ImageIO;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Test class for MapExporter.
+ */
+public class MapExporterTest {
+  private File directory;
+  private MapExporter exporter;
+
+  @Before
+  public void setUp() throws IOException {
+    directory = Files.createTempDirectory("map").toFile();
+    exporter = new MapExporter();
+  }
+
+  @After
+  public void tearDown() throws IOException {
+    exporter.close();
+    File[] files = directory.listFiles();
+    if (files != null) {
+      for (File file : files) {
+        file.delete();
+      }
+    }
+    directory.delete();
+  }
+
+  private static BufferedImage image(int rgb) {
+    BufferedImage image = new BufferedImage(40, 30, BufferedImage.TYPE_INT_RGB);
+    image.setRGB(5, 7, rgb);
+    return image;
+  }
+
+  @Test
+  public void testExportWritesPng() throws Exception {
+    File file = new File(directory, "map.png");
+    assertTrue(exporter.export(image(0xff0000), file).get());
+
+    BufferedImage read = ImageIO.read(file);
+    assertEquals(40, read.getWidth());
+    assertEquals(30, read.getHeight());
+    assertEquals(0xff0000, read.getRGB(5, 7) & 0xffffff);
+    assertFalse(new File(directory, "map.png.tmp").exists());
+  }
+
+  @Test
+  public void testExportCreatesDirectory() throws Exception {
+    File file = new File(new File(directory, "nested"), "map.png");
+    try {
+      assertTrue(exporter.export(image(0), file).get());
+      assertTrue(file.isFile());
+    } finally {
+      file.delete();
+      file.getParentFile().delete();
+    }
+  }
+
+  @Test
+  public void testUnchangedImageIsNotEncodedAgain() throws Exception {
+    File file = new File(directory, "map.png");
+    assertTrue(exporter.export(image(0x00ff00), file).get());
+    long modified = file.lastModified();
+
+    assertFalse(exporter.export(image(0x00ff00), file).get());
+    assertEquals(modified, file.lastModified());
+  }
+
+  @Test
+  public void testChangedImageIsEncodedAgain() throws Exception {
+    File file = new File(directory, "map.png");
+    assertTrue(exporter.export(image(0x00ff00), file).get());
+    assertTrue(exporter.export(image(0x0000ff), file).get());
+    assertEquals(0x0000ff, ImageIO.read(file).getRGB(5, 7) & 0xffffff);
+  }
+
+  @Test
+  public void testDeletedFileIsWrittenAgain() throws Exception {
+    File file = new File(directory, "map.png");
+    assertTrue(exporter.export(image(0), file).get());
+    assertTrue(file.delete());
+    assertTrue(exporter.export(image(0), file).get());
+    assertTrue(file.isFile());
+  }
+
+  @Test
+  public void testSameImageToAnotherFileIsWritten() throws Exception {
+    assertTrue(exporter.export(image(0), new File(directory, "a.png")).get());
+    assertTrue(exporter.export(image(0), new File(directory, "b.png")).get());
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testNullImage() {
+    exporter.export(null, new File(directory, "map.png"));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testNullFile() {
+    exporter.export(image(0), null);
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void testExportAfterClose() throws IOException {
+    exporter.close();
+    exporter.export(image(0), new File(directory, "map.png"));
+  }
+}
@@ -2,12 +2,18 @@ package model.world;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
 
 import constants.Constants;
 import java.io.File;
+import java.io.FileInputStream;
 import java.io.FileNotFoundException;
 import java.io.FileReader;
 import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import org.junit.Test;
 
 /**
@@ -40,4 +46,105 @@ public class WorldFactoryTest {
     WorldFactory factory = new WorldFactory();
     factory.createWorld(new FileReader(inputFile));
   }
+
+  @Test
+  public void testCreateWorldFromFileMatchesReader() throws IOException {
+    World fromReader = new WorldFactory().createWorld(new FileReader(Constants.FILE_PATH));
+    World fromFile = new WorldFactory().createWorld(new File(Constants.FILE_PATH));
+
+    assertEquals(fromReader.getWorldName(), fromFile.getWorldName());
+    assertEquals(fromReader.getTotalSpace(), fromFile.getTotalSpace());
+    assertEquals(fromReader.getTotalItems(), fromFile.getTotalItems());
+    assertEquals(fromReader.getAdjacency(), fromFile.getAdjacency());
+    for (int i = 0; i < fromReader.getTotalSpace(); i++) {
+      assertEquals(fromReader.getSpaceByIndex(i), fromFile.getSpaceByIndex(i));
+      assertEquals(fromReader.getSpaceByIndex(i).getItems(),
+          fromFile.getSpaceByIndex(i).getItems());
+    }
+  }
+
+  @Test
+  public void testCreateWorldFromNonAsciiFile() throws IOException {
+    Path file = Files.createTempFile("world", ".txt");
+    try {
+      String input = String.join("\n",
+          "3 4 Caf\u00e9 Mansion",
+          "20 Dr Lucky",
+          "Fortune",
+          "1",
+          "0 0 1 1 Salle \u00e0 manger",
+          "0");
+      Files.write(file, input.getBytes(StandardCharsets.UTF_8));
+      World fromFile = new WorldFactory().createWorld(file.toFile());
+      World fromReader = new WorldFactory().createWorld(
+          new InputStreamReader(new FileInputStream(file.toFile())));
+      assertEquals(fromReader.getWorldName(), fromFile.getWorldName());
+      assertEquals(fromReader.getSpaceByIndex(0).getSpaceName(),
+          fromFile.getSpaceByIndex(0).getSpaceName());
+    } finally {
+      Files.delete(file);
+    }
+  }
+
+  @Test(expected = FileNotFoundException.class)
+  public void testCreateWorldFromMissingFile() throws IOException {
+    new WorldFactory().createWorld(new File("res/nonExistentFile.txt"));
+  }
+
+  @Test
+  public void testFactoryCanBeReused() throws IOException {
+    WorldFactory factory = new WorldFactory();
+    factory.createWorld(new File(Constants.FILE_PATH));
+    World world = factory.createWorld(new File(Constants.FILE_PATH));
+    assertTrue(world.getSpaces().size() == world.getTotalSpace());
+  }
+
+  @Test
+  public void testCompiledWorldMatchesTextWorld() throws IOException {
+    Path compiled = Files.createTempFile("world", Constants.COMPILED_WORLD_EXTENSION);
+    try {
+      World original = new WorldFactory().compileWorld(new File(Constants.FILE_PATH),
+          compiled.toFile());
+      World loaded = new WorldFactory().createWorldFromCompiled(compiled.toFile());
+
+      assertEquals(original.getWorldName(), loaded.getWorldName());
+      assertEquals(original.getRows(), loaded.getRows());
+      assertEquals(original.getColumns(), loaded.getColumns());
+      assertEquals(original.getTotalSpace(), loaded.getTotalSpace());
+      assertEquals(original.getTotalItems(), loaded.getTotalItems());
+      assertEquals(original.getTargetCharacter(), loaded.getTargetCharacter());
+      assertEquals(original.getPet().getPetName(), loaded.getPet().getPetName());
+      assertEquals(original.getAdjacency(), loaded.getAdjacency());
+      for (int i = 0; i < original.getTotalSpace(); i++) {
+        assertEquals(original.getSpaceByIndex(i), loaded.getSpaceByIndex(i));
+        assertEquals(original.getSpaceByIndex(i).getItems(),
+            loaded.getSpaceByIndex(i).getItems());
+        assertEquals(original.getSpaceByIndex(i).getNeighborIndices(),
+            loaded.getSpaceByIndex(i).getNeighborIndices());
+      }
+    } finally {
+      Files.delete(compiled);
+    }
+  }
+
+  @Test(expected = IOException.class)
+  public void testCreateWorldFromTextFileAsCompiled() throws IOException {
+    new WorldFactory().createWorldFromCompiled(new File(Constants.FILE_PATH));
+  }
+
+  @Test(expected = IOException.class)
+  public void testCompiledNeighborOutsideWorld() throws IOException {
+    Path compiled = Files.createTempFile("world", Constants.COMPILED_WORLD_EXTENSION);
+    try {
+      new WorldFactory().compileWorld(new File(Constants.FILE_PATH), compiled.toFile());
+      // The neighbor lists come last, so the final four bytes are a neighbor index.
+      byte[] bytes = Files.readAllBytes(compiled);
+      bytes[bytes.length - 4] = 0x00;
+      bytes[bytes.length - 3] = 0x01;
+      Files.write(compiled, bytes);
+      new WorldFactory().createWorldFromCompiled(compiled.toFile());
+    } finally {
+      Files.delete(compiled);
+    }
+  }
 }
@@ -0,0 +1,127 @@
+package model.world;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.StringReader;
+import org.junit.Test;
+
+/**
+ * Test class for WorldFileTokenizer.
+ */
+public class WorldFileTokenizerTest {
+
+  /**
+   * A source that hands out one character per read, to exercise buffer refills.
+   */
+  private static Readable oneCharAtATime(String input) {
+    StringReader reader = new StringReader(input);
+    return target -> {
+      int c = reader.read();
+      if (c < 0) {
+        return -1;
+      }
+      target.put((char) c);
+      return 1;
+    };
+  }
+
+  @Test
+  public void testIntsAndLines() {
+    WorldFileTokenizer tokenizer = new WorldFileTokenizer(
+        new StringReader("36 30 Doctor Lucky's Mansion\n50 Doctor Lucky\nFortune\n"));
+    assertEquals(36, tokenizer.nextInt());
+    assertEquals(30, tokenizer.nextInt());
+    assertEquals(" Doctor Lucky's Mansion", tokenizer.nextLine());
+    assertEquals(50, tokenizer.nextInt());
+    assertEquals(" Doctor Lucky", tokenizer.nextLine());
+    assertEquals("Fortune", tokenizer.nextLine());
+  }
+
+  @Test
+  public void testSignsAndPadding() {
+    WorldFileTokenizer tokenizer = new WorldFileTokenizer(new StringReader("  -7\t+3\n\n 28  0"));
+    assertEquals(-7, tokenizer.nextInt());
+    assertEquals(3, tokenizer.nextInt());
+    assertEquals(28, tokenizer.nextInt());
+    assertEquals(0, tokenizer.nextInt());
+  }
+
+  @Test
+  public void testIntegerLimits() {
+    WorldFileTokenizer tokenizer = new WorldFileTokenizer(
+        new StringReader("2147483647 -2147483648"));
+    assertEquals(Integer.MAX_VALUE, tokenizer.nextInt());
+    assertEquals(Integer.MIN_VALUE, tokenizer.nextInt());
+  }
+
+  @Test(expected = NumberFormatException.class)
+  public void testOverflow() {
+    new WorldFileTokenizer(new StringReader("2147483648")).nextInt();
+  }
+
+  @Test
+  public void testWindowsLineEndings() {
+    WorldFileTokenizer tokenizer = new WorldFileTokenizer(new StringReader("1 A\r\n2 B\r\n"));
+    assertEquals(1, tokenizer.nextInt());
+    assertEquals(" A", tokenizer.nextLine());
+    assertEquals(2, tokenizer.nextInt());
+    assertEquals(" B", tokenizer.nextLine());
+  }
+
+  @Test
+  public void testSmallReads() {
+    WorldFileTokenizer tokenizer = new WorldFileTokenizer(oneCharAtATime("12 345 Hall\n6"));
+    assertEquals(12, tokenizer.nextInt());
+    assertEquals(345, tokenizer.nextInt());
+    assertEquals(" Hall", tokenizer.nextLine());
+    assertEquals(6, tokenizer.nextInt());
+  }
+
+  @Test
+  public void testMalformedTokenReportsPosition() {
+    WorldFileTokenizer tokenizer = new WorldFileTokenizer(new StringReader("1 2\n 3 4x5 6"));
+    tokenizer.nextInt();
+    tokenizer.nextInt();
+    tokenizer.nextInt();
+    try {
+      tokenizer.nextInt();
+      fail("Expected a NumberFormatException");
+    } catch (NumberFormatException e) {
+      assertEquals("For input string: \"4x5\"", e.getMessage());
+    }
+    assertEquals(2, tokenizer.getTokenLine());
+    assertEquals(4, tokenizer.getTokenColumn());
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testEndOfInput() {
+    WorldFileTokenizer tokenizer = new WorldFileTokenizer(new StringReader("5 "));
+    tokenizer.nextInt();
+    tokenizer.nextInt();
+  }
+
+  @Test
+  public void testFactoryErrorIncludesPosition() {
+    String input = String.join("\n",
+        "3 4 Test World",
+        "20 Dr Lucky",
+        "Fortune",
+        "1",
+        "0 zero 1 1 Living Room",
+        "0");
+    try {
+      new WorldFactory().createWorld(new StringReader(input));
+      fail("Expected an IllegalArgumentException");
+    } catch (IllegalArgumentException e) {
+      assertTrue(e.getMessage(), e.getMessage().contains("For input string: \"zero\""));
+      assertTrue(e.getMessage(), e.getMessage().endsWith("(line 5, column 3)"));
+    }
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testNullSource() {
+    new WorldFileTokenizer(null);
+  }
+}
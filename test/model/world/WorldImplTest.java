@@ -1,8 +1,11 @@
 package model.world;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotEquals;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
 import java.awt.image.BufferedImage;
@@ -98,6 +101,17 @@ public class WorldImplTest {
     new WorldImpl("Test World", 6, 6, spaces, targetCharacter, 3, -1, pet);
   }
 
+  @Test
+  public void testDistances() {
+    assertEquals(1, world.getDistances().distance(1, 0));
+    assertEquals(2, world.getDistances().distance(1, 2));
+    assertEquals(0, world.getDistances().nextHop(1, 2));
+    assertSame(world.getDistances(), world.getDistances());
+
+    world.findNeighbors();
+    assertEquals(2, world.getDistances().distance(2, 1));
+  }
+
   @Test
   public void testFindNeighbors() {
     world.findNeighbors();
@@ -152,6 +166,77 @@ public class WorldImplTest {
     assertTrue(players.contains(player2));
   }
 
+  @Test
+  public void testGetPlayerByName() {
+    Player player1 = new HumanPlayer("Alice", 0, 5);
+    Player player2 = new HumanPlayer("Bob", 1, 5);
+    world.addPlayer(player1);
+    world.addPlayer(player2);
+    assertSame(player1, world.getPlayerByName("Alice"));
+    assertSame(player2, world.getPlayerByName("Bob"));
+    assertNull(world.getPlayerByName("Carol"));
+  }
+
+  @Test
+  public void testPlayerCountInSpace() {
+    Player player1 = new HumanPlayer("Alice", 0, 5);
+    Player player2 = new HumanPlayer("Bob", 0, 5);
+    world.addPlayer(player1);
+    world.addPlayer(player2);
+    assertEquals(2, world.getPlayerCountInSpace(0));
+    assertEquals(0, world.getPlayerCountInSpace(1));
+
+    player1.setCurrentSpaceIndex(1);
+    player2.move(2);
+    assertEquals(0, world.getPlayerCountInSpace(0));
+    assertEquals(1, world.getPlayerCountInSpace(1));
+    assertEquals(1, world.getPlayerCountInSpace(2));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testPlayerCountInInvalidSpace() {
+    world.getPlayerCountInSpace(3);
+  }
+
+  @Test
+  public void testIsPlayerSeen() {
+    Player alice = new HumanPlayer("Alice", 1, 5);
+    Player bob = new HumanPlayer("Bob", 0, 5);
+    world.addPlayer(alice);
+    assertFalse(world.isPlayerSeen(1));
+
+    world.addPlayer(bob);
+    assertTrue(world.isPlayerSeen(1));
+    assertTrue(world.isPlayerSeen(2));
+    assertFalse(world.isPlayerSeen(0)); // The pet is in space 0
+
+    bob.move(2);
+    assertFalse(world.isPlayerSeen(1));
+    bob.setCurrentSpaceIndex(1);
+    assertTrue(world.isPlayerSeen(1));
+    assertFalse(world.isPlayerSeen(2));
+
+    pet.setSpaceIndex(1);
+    assertFalse(world.isPlayerSeen(1));
+  }
+
+  @Test
+  public void testIsPlayerSeenAfterNeighborsChange() {
+    world.addPlayer(new HumanPlayer("Alice", 1, 5));
+    assertFalse(world.isPlayerSeen(0));
+    spaces.set(2, new SpaceImpl(2, "Bedroom", 6, 0, 8, 2, new ArrayList<>(),
+        new ArrayList<>()));
+    world.addPlayer(new HumanPlayer("Bob", 2, 5));
+    assertFalse(world.isPlayerSeen(1));
+    world.findNeighbors();
+    assertTrue(world.isPlayerSeen(1));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testIsPlayerSeenInInvalidSpace() {
+    world.isPlayerSeen(-1);
+  }
+
   @Test
   public void testGetCurrentPlayer() {
     Player player1 = new HumanPlayer("Alice", 0, 5);
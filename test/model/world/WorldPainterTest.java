@@ -3,7 +3,9 @@ package model.world;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
 
+import constants.Constants;
 import java.awt.image.BufferedImage;
+import java.io.File;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
@@ -62,6 +64,12 @@ public class WorldPainterTest {
     assertEquals("Image width should be correct", 400, image.getWidth());
     assertEquals("Image height should be correct", 400, image.getHeight());
   }
-}
-
 
+  @Test
+  public void testCreateImageDoesNotWriteMapFile() {
+    File saved = new File(Constants.SAVE_PATH + Constants.MAP_FILE_NAME);
+    long modified = saved.lastModified();
+    worldPainter.createImage(30, 100);
+    assertEquals("Creating an image should not save it", modified, saved.lastModified());
+  }
+}
@@ -0,0 +1,130 @@
+package model.world;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+import constants.Constants;
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * JUnit tests for WorldTemplateCache.
+ */
+public class WorldTemplateCacheTest {
+  private WorldTemplateCache cache;
+  private Path worldFile;
+  private int loads;
+
+  /**
+   * Copies the mansion to a temporary file and creates an empty cache.
+   */
+  @Before
+  public void setUp() throws IOException {
+    cache = new WorldTemplateCache();
+    worldFile = Files.createTempFile("world", ".txt");
+    Files.copy(new File(Constants.FILE_PATH).toPath(), worldFile,
+        StandardCopyOption.REPLACE_EXISTING);
+    loads = 0;
+  }
+
+  /**
+   * Deletes the temporary world file.
+   */
+  @After
+  public void tearDown() throws IOException {
+    Files.deleteIfExists(worldFile);
+  }
+
+  private WorldImpl load(File file) throws IOException {
+    loads++;
+    return new WorldFactory().createWorld(file);
+  }
+
+  @Test
+  public void testUnchangedFileIsLoadedOnce() throws IOException {
+    WorldImpl first = cache.newWorld(worldFile.toFile(), this::load);
+    WorldImpl second = cache.newWorld(worldFile.toFile(), this::load);
+
+    assertEquals(1, loads);
+    assertEquals(1, cache.size());
+    assertNotSame(first, second);
+    assertNotSame(first.getTargetCharacter(), second.getTargetCharacter());
+    assertSame(first.getAdjacency(), second.getAdjacency());
+  }
+
+  @Test
+  public void testTouchedFileWithSameContentIsNotLoadedAgain() throws IOException {
+    cache.newWorld(worldFile.toFile(), this::load);
+    worldFile.toFile().setLastModified(worldFile.toFile().lastModified() - 60_000);
+    cache.newWorld(worldFile.toFile(), this::load);
+
+    assertEquals(1, loads);
+  }
+
+  @Test
+  public void testChangedFileIsLoadedAgain() throws IOException {
+    cache.newWorld(worldFile.toFile(), this::load);
+    String content = new String(Files.readAllBytes(worldFile), StandardCharsets.US_ASCII);
+    Files.write(worldFile, content.replace("Doctor Lucky's Mansion", "Other Mansion")
+        .getBytes(StandardCharsets.US_ASCII));
+    worldFile.toFile().setLastModified(worldFile.toFile().lastModified() + 60_000);
+
+    WorldImpl world = cache.newWorld(worldFile.toFile(), this::load);
+
+    assertEquals(2, loads);
+    assertEquals(1, cache.size());
+    assertEquals("Other Mansion", world.getWorldName());
+  }
+
+  @Test
+  public void testFilesWithSameContentShareTemplate() throws IOException {
+    Path copy = Files.createTempFile("world", ".txt");
+    try {
+      Files.copy(worldFile, copy, StandardCopyOption.REPLACE_EXISTING);
+      WorldImpl first = cache.newWorld(worldFile.toFile(), this::load);
+      WorldImpl second = cache.newWorld(copy.toFile(), this::load);
+
+      assertEquals(1, loads);
+      assertEquals(1, cache.size());
+      assertSame(first.getAdjacency(), second.getAdjacency());
+    } finally {
+      Files.deleteIfExists(copy);
+    }
+  }
+
+  @Test
+  public void testInvalidateAndClear() throws IOException {
+    cache.newWorld(worldFile.toFile(), this::load);
+    cache.invalidate(worldFile.toFile());
+    assertEquals(0, cache.size());
+
+    cache.newWorld(worldFile.toFile(), this::load);
+    assertEquals(2, loads);
+
+    cache.clear();
+    assertEquals(0, cache.size());
+  }
+
+  @Test(expected = FileNotFoundException.class)
+  public void testMissingFile() throws IOException {
+    cache.newWorld(new File("res/nonExistentFile.txt"), this::load);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testInvalidFileIsNotCached() throws IOException {
+    try {
+      cache.newWorld(new File("res/invalidInput.txt"), this::load);
+    } finally {
+      assertEquals(0, cache.size());
+    }
+  }
+}
@@ -0,0 +1,109 @@
+package model.world;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+import constants.Constants;
+import java.io.File;
+import java.io.IOException;
+import model.item.Item;
+import model.space.Space;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * JUnit tests for WorldTemplate.
+ */
+public class WorldTemplateTest {
+  private WorldImpl loaded;
+  private WorldTemplate template;
+
+  /**
+   * Loads the mansion and takes its template.
+   */
+  @Before
+  public void setUp() throws IOException {
+    loaded = new WorldFactory().createWorld(new File(Constants.FILE_PATH));
+    template = WorldTemplate.of(loaded);
+  }
+
+  @Test
+  public void testNewWorldMatchesLoadedWorld() {
+    WorldImpl world = template.newWorld();
+
+    assertEquals(loaded.getWorldName(), world.getWorldName());
+    assertEquals(loaded.getRows(), world.getRows());
+    assertEquals(loaded.getColumns(), world.getColumns());
+    assertEquals(loaded.getTotalSpace(), world.getTotalSpace());
+    assertEquals(loaded.getTotalItems(), world.getTotalItems());
+    assertEquals(loaded.getTargetCharacter(), world.getTargetCharacter());
+    assertEquals(loaded.getPet().getPetName(), world.getPet().getPetName());
+    assertEquals(loaded.getPet().getCurrentSpaceIndex(),
+        world.getPet().getCurrentSpaceIndex());
+    assertSame(loaded.getAdjacency(), world.getAdjacency());
+    for (int i = 0; i < loaded.getTotalSpace(); i++) {
+      Space expected = loaded.getSpaceByIndex(i);
+      Space actual = world.getSpaceByIndex(i);
+      assertEquals(expected, actual);
+      assertEquals(expected.getItems(), actual.getItems());
+      assertEquals(expected.getNeighborIndices(), actual.getNeighborIndices());
+    }
+  }
+
+  @Test
+  public void testNewWorldsHaveIndependentState() {
+    WorldImpl first = template.newWorld();
+    WorldImpl second = template.newWorld();
+    int index = firstSpaceWithItems(first);
+    Space space = first.getSpaceByIndex(index);
+    Item item = space.getItems().get(0);
+    int itemCount = space.getItems().size();
+
+    space.removeItem(item);
+    first.getTargetCharacter().takeDamage(1);
+
+    assertNotSame(first.getSpaceByIndex(index), second.getSpaceByIndex(index));
+    assertEquals(itemCount, second.getSpaceByIndex(index).getItems().size());
+    assertEquals(loaded.getTargetCharacter().getHealth(),
+        second.getTargetCharacter().getHealth());
+    assertEquals(itemCount, template.newWorld().getSpaceByIndex(index).getItems().size());
+  }
+
+  @Test
+  public void testTemplateIgnoresLaterChangesToLoadedWorld() {
+    int index = firstSpaceWithItems(loaded);
+    Space space = loaded.getSpaceByIndex(index);
+    int itemCount = space.getItems().size();
+    space.removeItem(space.getItems().get(0));
+
+    assertEquals(itemCount, template.newWorld().getSpaceByIndex(index).getItems().size());
+  }
+
+  @Test
+  public void testWorldMapIsPaintedOnce() throws IOException {
+    WorldImpl first = template.newWorld();
+    WorldImpl second = template.newWorld();
+
+    assertSame(first.createWorldMap(), second.createWorldMap());
+  }
+
+  @Test
+  public void testDistancesAreShared() {
+    assertSame(template.newWorld().getDistances(), template.newWorld().getDistances());
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testNullWorld() {
+    WorldTemplate.of(null);
+  }
+
+  private static int firstSpaceWithItems(WorldImpl world) {
+    for (int i = 0; i < world.getTotalSpace(); i++) {
+      if (!world.getSpaceByIndex(i).getItems().isEmpty()) {
+        return i;
+      }
+    }
+    throw new IllegalStateException("The world has no items.");
+  }
+}
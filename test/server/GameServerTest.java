@@ -0,0 +1,113 @@
+package server;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import constants.Constants;
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Test class for GameServer, SessionManager and LoadTestClient over the loopback
+ * interface.
+ */
+public class GameServerTest {
+  private SessionManager sessions;
+  private GameServer server;
+
+  @Before
+  public void setUp() throws IOException {
+    sessions = new SessionManager(new File(Constants.FILE_PATH), 4, 1000);
+    server = new GameServer(sessions, 0, 20);
+    server.start();
+  }
+
+  @After
+  public void tearDown() throws IOException {
+    server.close();
+    sessions.close();
+  }
+
+  @Test
+  public void testPlayOverSocket() throws IOException {
+    try (Socket socket = new Socket(InetAddress.getLoopbackAddress(), server.getPort());
+        BufferedReader in = new BufferedReader(new InputStreamReader(socket.getInputStream(),
+            StandardCharsets.UTF_8));
+        PrintWriter out = new PrintWriter(new OutputStreamWriter(socket.getOutputStream(),
+            StandardCharsets.UTF_8), true)) {
+      out.println("new 5");
+      String created = in.readLine();
+      assertTrue(created, created.matches("\\d+ ok Welcome.*"));
+      String id = created.substring(0, created.indexOf(' '));
+      assertEquals(1, sessions.size());
+
+      out.println(id + " add-human \"Alice Smith\" Library 3");
+      assertEquals(id + " ok Human player Alice Smith added successfully", in.readLine());
+      out.println(id + " start");
+      String started = in.readLine();
+      assertTrue(started, started.endsWith("\\nTurn 1, Current player: Alice Smith"));
+      out.println(id + " look");
+      assertTrue(GameServer.unescape(in.readLine()).contains("Turn 2"));
+
+      out.println("99 look");
+      assertEquals("99 error Unknown session.", in.readLine());
+      out.println("new zero");
+      assertEquals("new error Max turns must be a positive integer.", in.readLine());
+
+      out.println(id + " quit");
+      assertEquals(id + " ok Game over!", in.readLine());
+      out.println(id + " look");
+      assertEquals(id + " error Unknown session.", in.readLine());
+      assertEquals(0, sessions.size());
+    }
+  }
+
+  @Test
+  public void testSessionsAreClosedWithConnection() throws IOException,
+      InterruptedException {
+    try (Socket socket = new Socket(InetAddress.getLoopbackAddress(), server.getPort());
+        BufferedReader in = new BufferedReader(new InputStreamReader(socket.getInputStream(),
+            StandardCharsets.UTF_8));
+        PrintWriter out = new PrintWriter(new OutputStreamWriter(socket.getOutputStream(),
+            StandardCharsets.UTF_8), true)) {
+      out.println("new");
+      out.println("new");
+      in.readLine();
+      in.readLine();
+      assertEquals(2, sessions.size());
+    }
+    for (int wait = 0; wait < 100 && sessions.size() > 0; wait++) {
+      Thread.sleep(20);
+    }
+    assertEquals(0, sessions.size());
+  }
+
+  @Test
+  public void testEscape() {
+    String text = "a\\nb\nc\\";
+    assertEquals("a\\\\nb\\nc\\\\", GameServer.escape(text));
+    assertEquals(text, GameServer.unescape(GameServer.escape(text)));
+  }
+
+  @Test
+  public void testLoadTest() throws IOException, InterruptedException {
+    LoadTestClient.Report report = new LoadTestClient(server.getPort(), "Library", 3, 40, 10)
+        .run();
+    assertEquals(0, report.getErrors());
+    assertEquals(120, report.getGames());
+    // Three setup commands, the five turns of the human and the quit of every game.
+    assertEquals(120 * 9, report.getCommands());
+    assertTrue(report.getLatencyPercentile(50) <= report.getLatencyPercentile(100));
+    assertEquals(0, sessions.size());
+  }
+}
@@ -0,0 +1,80 @@
+package server;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import constants.Constants;
+import facade.GameFacadeImpl;
+import java.io.File;
+import java.io.IOException;
+import model.world.WorldFactory;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Test class for GameSession, running commands directly on the calling thread.
+ */
+public class GameSessionTest {
+  private GameSession session;
+
+  @Before
+  public void setUp() throws IOException {
+    GameFacadeImpl facade = new GameFacadeImpl(new WorldFactory().createWorld(
+        new File(Constants.FILE_PATH)));
+    facade.setMaxTurns(6);
+    session = new GameSession(3, facade, Runnable::run);
+  }
+
+  @Test
+  public void testSetupCommands() {
+    assertEquals("Please add at least one player before starting the game.",
+        session.handle("start"));
+    assertEquals("Human player Alice added successfully",
+        session.handle("add-human Alice Lib 3"));
+    assertTrue(session.handle("look").startsWith("Unknown command"));
+    assertTrue(session.handle("start").endsWith("Turn 1, Current player: Alice"));
+  }
+
+  @Test
+  public void testComputerPlayersMoveAfterHuman() {
+    session.handle("add-human Alice Library 3");
+    session.handle("add-computer Bot Library 3");
+    session.handle("start");
+    String response = session.handle("look");
+    assertTrue(response, response.contains("Computer player Bot: "));
+    assertTrue(response, response.endsWith("Turn 3, Current player: Alice"));
+  }
+
+  @Test
+  public void testGameRunsToTheEnd() {
+    session.handle("add-human Alice Library 3");
+    session.handle("start");
+    String response = "";
+    for (int turn = 0; turn < 6; turn++) {
+      response = session.handle("look");
+    }
+    assertTrue(response, response.endsWith("Game over!"));
+    assertEquals("The game is over.", session.handle("look"));
+    assertFalse(session.isClosed());
+    assertEquals("Game over!", session.handle("quit"));
+    assertTrue(session.isClosed());
+    assertEquals("The session is closed.", session.handle("look"));
+  }
+
+  @Test
+  public void testErrorsAreReported() {
+    session.handle("add-human Alice Library 3");
+    assertTrue(session.handle("add-human Bob").startsWith("Error: "));
+    session.handle("start");
+    assertTrue(session.handle("").startsWith("Unknown command"));
+    assertTrue(session.handle("pick").startsWith("Error: "));
+  }
+
+  @Test
+  public void testSubmitRunsOnMailbox() throws Exception {
+    session.handle("add-human Alice Library 3");
+    assertEquals(3, session.getId());
+    assertTrue(session.submit("help").get().startsWith("Setup Phase Commands:"));
+  }
+}
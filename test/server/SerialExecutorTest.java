@@ -0,0 +1,101 @@
+package server;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Test class for SerialExecutor.
+ */
+public class SerialExecutorTest {
+  private ExecutorService pool;
+
+  @Before
+  public void setUp() {
+    pool = Executors.newFixedThreadPool(8);
+  }
+
+  @After
+  public void tearDown() {
+    pool.shutdownNow();
+  }
+
+  @Test
+  public void testTasksRunInOrderOneAtATime() throws InterruptedException {
+    SerialExecutor mailbox = new SerialExecutor(pool);
+    List<Integer> order = Collections.synchronizedList(new ArrayList<>());
+    AtomicInteger running = new AtomicInteger();
+    AtomicInteger overlaps = new AtomicInteger();
+    int count = 5000;
+    CountDownLatch done = new CountDownLatch(count);
+    for (int k = 0; k < count; k++) {
+      int task = k;
+      mailbox.execute(() -> {
+        if (running.incrementAndGet() > 1) {
+          overlaps.incrementAndGet();
+        }
+        order.add(task);
+        running.decrementAndGet();
+        done.countDown();
+      });
+    }
+    assertTrue(done.await(10, TimeUnit.SECONDS));
+    assertEquals(0, overlaps.get());
+    for (int k = 0; k < count; k++) {
+      assertEquals(k, (int) order.get(k));
+    }
+    assertEquals(0, mailbox.getPendingCount());
+  }
+
+  @Test
+  public void testMailboxesRunConcurrently() throws InterruptedException {
+    SerialExecutor first = new SerialExecutor(pool);
+    SerialExecutor second = new SerialExecutor(pool);
+    CountDownLatch bothStarted = new CountDownLatch(2);
+    CountDownLatch done = new CountDownLatch(2);
+    Runnable task = () -> {
+      bothStarted.countDown();
+      try {
+        if (bothStarted.await(5, TimeUnit.SECONDS)) {
+          done.countDown();
+        }
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    };
+    first.execute(task);
+    second.execute(task);
+    assertTrue(done.await(10, TimeUnit.SECONDS));
+  }
+
+  @Test
+  public void testFailingTaskDoesNotStopMailbox() throws InterruptedException {
+    SerialExecutor mailbox = new SerialExecutor(Runnable::run);
+    CountDownLatch done = new CountDownLatch(1);
+    try {
+      mailbox.execute(() -> {
+        throw new IllegalStateException("boom");
+      });
+    } catch (IllegalStateException e) {
+      // Thrown by the direct backing executor.
+    }
+    mailbox.execute(done::countDown);
+    assertTrue(done.await(1, TimeUnit.SECONDS));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testNullBacking() {
+    new SerialExecutor(null);
+  }
+}
@@ -0,0 +1,77 @@
+package server;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+
+import constants.Constants;
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Test class for SessionManager.
+ */
+public class SessionManagerTest {
+  private SessionManager manager;
+
+  @Before
+  public void setUp() {
+    manager = new SessionManager(new File(Constants.FILE_PATH), 2, 3);
+  }
+
+  @After
+  public void tearDown() {
+    manager.close();
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void testTooManySessions() throws IOException {
+    for (int i = 0; i < 4; i++) {
+      manager.create(10);
+    }
+  }
+
+  @Test
+  public void testRemovedSessionFreesSlot() throws IOException {
+    GameSession first = manager.create(10);
+    manager.create(10);
+    manager.create(10);
+    manager.remove(first.getId());
+    manager.remove(first.getId());
+    assertNotNull(manager.create(10));
+    assertEquals(3, manager.size());
+  }
+
+  @Test
+  public void testConcurrentCreatesRespectLimit() throws InterruptedException {
+    ExecutorService clients = Executors.newFixedThreadPool(8);
+    try {
+      List<Callable<GameSession>> requests = new ArrayList<>();
+      for (int i = 0; i < 32; i++) {
+        requests.add(() -> manager.create(10));
+      }
+      int created = 0;
+      for (Future<GameSession> result : clients.invokeAll(requests)) {
+        try {
+          result.get();
+          created++;
+        } catch (ExecutionException e) {
+          assertEquals(IllegalStateException.class, e.getCause().getClass());
+        }
+      }
+      assertEquals(3, created);
+      assertEquals(3, manager.size());
+    } finally {
+      clients.shutdownNow();
+    }
+  }
+}
@@ -0,0 +1,109 @@
+package simulation;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import constants.Constants;
+import java.io.File;
+import java.io.IOException;
+import java.util.List;
+import model.player.RandomGenerator;
+import model.world.WorldFactory;
+import model.world.WorldTemplate;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Test class for GameSimulator.
+ */
+public class GameSimulatorTest {
+
+  private WorldTemplate template;
+  private List<ComputerPlayerSpec> players;
+
+  /**
+   * Loads the mansion and describes two computer players.
+   */
+  @Before
+  public void setUp() throws IOException {
+    template = WorldTemplate.of(new WorldFactory().createWorld(new File(Constants.FILE_PATH)));
+    players = List.of(new ComputerPlayerSpec("Ada", 0, 3), new ComputerPlayerSpec("Bea", 4, -1));
+  }
+
+  @Test
+  public void testGameResultIsConsistent() {
+    GameSimulator simulator = new GameSimulator(template, players, 500);
+    for (int i = 0; i < 50; i++) {
+      GameResult result = simulator.playGame();
+      assertTrue(result.getTurns() > 0 && result.getTurns() <= 500);
+      assertEquals(List.of("Ada", "Bea"), List.copyOf(result.getDamageByPlayer().keySet()));
+      int uses = result.getItemUses().values().stream().mapToInt(Integer::intValue).sum();
+      assertTrue(uses <= result.getTurns());
+      if (result.targetEscaped()) {
+        assertEquals(500, result.getTurns());
+        assertTrue(result.getTotalDamage() < 50);
+      } else {
+        assertTrue(players.stream().anyMatch(p -> p.getName().equals(result.getWinner())));
+        assertEquals(50, result.getTotalDamage());
+      }
+    }
+  }
+
+  @Test
+  public void testPredefinedSequencesAreReproducible() {
+    GameSimulator first = new GameSimulator(template, players, 300,
+        () -> new RandomGenerator(0, 2, 1, 3, 0, 0, 2));
+    GameSimulator second = new GameSimulator(template, players, 300,
+        () -> new RandomGenerator(0, 2, 1, 3, 0, 0, 2));
+
+    assertEquals(first.playGame().toString(), second.playGame().toString());
+  }
+
+  @Test
+  public void testOnlyLookingAroundLetsTargetEscape() {
+    GameSimulator simulator = new GameSimulator(template, players, 40,
+        () -> new RandomGenerator(1));
+    GameResult result = simulator.playGame();
+
+    assertTrue(result.targetEscaped());
+    assertEquals(40, result.getTurns());
+    assertEquals(0, result.getItemsPickedUp());
+  }
+
+  @Test
+  public void testStrategicPlayersEndGamesSooner() {
+    List<ComputerPlayerSpec> hunters = List.of(new ComputerPlayerSpec("Ada", 0, 3, true),
+        new ComputerPlayerSpec("Bea", 4, -1, true));
+    SimulationSummary random = new GameSimulator(template, players, 500).run(20);
+    SimulationSummary strategic = new GameSimulator(template, hunters, 500).run(20);
+
+    assertEquals(0, strategic.getEscapes());
+    assertTrue(strategic.getAverageTurns() < random.getAverageTurns());
+  }
+
+  @Test
+  public void testRunSumsUpGames() {
+    SimulationSummary summary = new GameSimulator(template, players, 500).run(20);
+
+    assertEquals(20, summary.getGames());
+    int wins = summary.getWinsByPlayer().values().stream().mapToInt(Integer::intValue).sum();
+    assertEquals(20, wins + summary.getEscapes());
+    assertTrue(summary.getAverageTurns() > 0);
+    assertEquals(2, summary.getDamageByPlayer().size());
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testNoPlayers() {
+    new GameSimulator(template, List.of(), 10);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testStartingSpaceOutsideWorld() {
+    new GameSimulator(template, List.of(new ComputerPlayerSpec("Ada", 99, 3)), 10);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testInvalidMaxTurns() {
+    new GameSimulator(template, players, 0);
+  }
+}
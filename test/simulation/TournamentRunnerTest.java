@@ -0,0 +1,106 @@
+package simulation;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+
+import constants.Constants;
+import java.io.File;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import model.world.WorldFactory;
+import model.world.WorldTemplate;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Test class for TournamentRunner and TournamentResult.
+ */
+public class TournamentRunnerTest {
+
+  private WorldTemplate template;
+  private List<ComputerPlayerSpec> players;
+
+  /**
+   * Loads the mansion and describes two computer players.
+   */
+  @Before
+  public void setUp() throws IOException {
+    template = WorldTemplate.of(new WorldFactory().createWorld(new File(Constants.FILE_PATH)));
+    players = List.of(new ComputerPlayerSpec("Ada", 0, 3), new ComputerPlayerSpec("Bea", 4, -1));
+  }
+
+  @Test
+  public void testSameSeedGivesSameResultOnAnyPool() {
+    ForkJoinPool single = new ForkJoinPool(1);
+    ForkJoinPool several = new ForkJoinPool(4);
+    try {
+      TournamentResult first = new TournamentRunner(template, players, 300, single).run(200, 7L);
+      TournamentResult second =
+          new TournamentRunner(template, players, 300, several).run(200, 7L);
+      assertEquals(first, second);
+      assertEquals(first.toString(), second.toString());
+    } finally {
+      single.shutdown();
+      several.shutdown();
+    }
+  }
+
+  @Test
+  public void testTournamentMatchesSeededGames() {
+    TournamentResult result = new TournamentRunner(template, players, 300).run(40, 11L);
+    GameSimulator simulator = new GameSimulator(template, players, 300);
+    long adaWins = 0;
+    long escapes = 0;
+    long turns = 0;
+    for (int game = 0; game < 40; game++) {
+      GameResult game1 = simulator.playGame(GameSimulator.deriveSeed(11L, game));
+      if (game1.targetEscaped()) {
+        escapes++;
+      } else if ("Ada".equals(game1.getWinner())) {
+        adaWins++;
+      }
+      turns += game1.getTurns();
+    }
+    assertEquals(40, result.getGames());
+    assertEquals(adaWins, (long) result.getWinsByPlayer().get("Ada"));
+    assertEquals(escapes, result.getEscapes());
+    assertEquals(turns / 40.0, result.getAverageTurns(), 1e-9);
+    assertEquals(40, result.getWinsByPlayer().values().stream().mapToLong(Long::longValue).sum()
+        + result.getEscapes());
+  }
+
+  @Test
+  public void testDifferentSeedsGiveDifferentTournaments() {
+    TournamentRunner runner = new TournamentRunner(template, players, 300);
+    assertNotEquals(runner.run(100, 1L), runner.run(100, 2L));
+  }
+
+  @Test
+  public void testTurnPercentiles() {
+    TournamentResult result = new TournamentRunner(template, players, 300).run(100, 3L);
+    int median = result.getTurnPercentile(0.5);
+    assertTrue(result.getTurnPercentile(0.1) <= median);
+    assertTrue(median <= result.getTurnPercentile(1.0));
+    assertTrue(result.getTurnPercentile(1.0) <= 300);
+  }
+
+  @Test
+  public void testNoGames() {
+    TournamentResult result = new TournamentRunner(template, players, 300).run(0, 3L);
+    assertEquals(0, result.getGames());
+    assertEquals(0, result.getEscapeRate(), 0);
+    assertEquals(0, result.getAverageTurns(), 0);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testNegativeGames() {
+    new TournamentRunner(template, players, 300).run(-1, 3L);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testNullPool() {
+    new TournamentRunner(template, players, 300, null);
+  }
+}
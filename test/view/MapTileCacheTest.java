@@ -0,0 +1,233 @@
+package view;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.awt.Color;
+import java.awt.Graphics;
+import java.awt.Rectangle;
+import java.awt.image.BufferedImage;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.Test;
+
+/**
+ * Test class for MapTileCache.
+ */
+public class MapTileCacheTest {
+
+  @Test
+  public void testLevelFor() {
+    assertEquals(0, MapTileCache.levelFor(1.0));
+    assertEquals(0, MapTileCache.levelFor(0.9));
+    assertEquals(1, MapTileCache.levelFor(0.5));
+    assertEquals(1, MapTileCache.levelFor(0.3));
+    assertEquals(2, MapTileCache.levelFor(0.25));
+    assertEquals(-1, MapTileCache.levelFor(2.0));
+    assertEquals(-2, MapTileCache.levelFor(3.0));
+    assertEquals(MapTileCache.MIN_LEVEL, MapTileCache.levelFor(100.0));
+    assertEquals(MapTileCache.MAX_LEVEL, MapTileCache.levelFor(1e-12));
+  }
+
+  @Test
+  public void testLevelNeverCoarserThanScreen() {
+    for (double scale = 0.001; scale < 20; scale *= 1.07) {
+      int level = MapTileCache.levelFor(scale);
+      double drawn = Math.scalb(1.0, level) * scale;
+      assertTrue("scale " + scale, drawn <= 1 || level == MapTileCache.MIN_LEVEL);
+      assertTrue("scale " + scale, drawn > 0.5 || level == MapTileCache.MIN_LEVEL);
+    }
+  }
+
+  @Test
+  public void testPaintsVisibleTilesOnce() {
+    List<Rectangle> regions = new ArrayList<>();
+    MapTileCache cache = new MapTileCache(1000, 600, 64,
+        (g, region, tileScale) -> regions.add(region));
+    Graphics g = new BufferedImage(400, 300, BufferedImage.TYPE_INT_RGB).getGraphics();
+
+    cache.paint(g, 1.0, 0, 0, new Rectangle(0, 0, 400, 300));
+    // Columns 0 and 1, rows 0 and 1 of 256 pixel tiles
+    assertEquals(4, cache.getRenderedCount());
+    assertEquals(4, cache.size());
+
+    cache.paint(g, 1.0, 0, 0, new Rectangle(0, 0, 400, 300));
+    assertEquals(4, cache.getRenderedCount());
+
+    for (Rectangle region : regions) {
+      assertEquals(0, region.x % MapTileCache.TILE_SIZE);
+      assertEquals(0, region.y % MapTileCache.TILE_SIZE);
+    }
+  }
+
+  @Test
+  public void testEdgeTilesStopAtMap() {
+    List<Rectangle> regions = new ArrayList<>();
+    MapTileCache cache = new MapTileCache(300, 100, 64,
+        (g, region, tileScale) -> regions.add(region));
+    Graphics g = new BufferedImage(400, 300, BufferedImage.TYPE_INT_RGB).getGraphics();
+    cache.paint(g, 1.0, 0, 0, new Rectangle(0, 0, 400, 300));
+    assertEquals(2, regions.size());
+    assertTrue(regions.contains(new Rectangle(0, 0, 256, 100)));
+    assertTrue(regions.contains(new Rectangle(256, 0, 44, 100)));
+  }
+
+  @Test
+  public void testZoomedOutUsesCoarseTiles() {
+    List<Double> scales = new ArrayList<>();
+    MapTileCache cache = new MapTileCache(100000, 80000, 64,
+        (g, region, tileScale) -> scales.add(tileScale));
+    Graphics g = new BufferedImage(1000, 800, BufferedImage.TYPE_INT_RGB).getGraphics();
+    cache.paint(g, 0.01, 0, 0, new Rectangle(0, 0, 1000, 800));
+    // At 1/64 the map is 1563 by 1250 tile pixels, 7 by 5 tiles
+    assertEquals(35, cache.getRenderedCount());
+    for (double tileScale : scales) {
+      assertEquals(1.0 / 64, tileScale, 0);
+    }
+  }
+
+  @Test
+  public void testOnlyTilesOverlappingAreaArePainted() {
+    List<Rectangle> regions = new ArrayList<>();
+    MapTileCache cache = new MapTileCache(10000, 10000, 64,
+        (g, region, tileScale) -> regions.add(region));
+    Graphics g = new BufferedImage(100, 100, BufferedImage.TYPE_INT_RGB).getGraphics();
+    cache.paint(g, 1.0, -1000, -2000, new Rectangle(0, 0, 10, 10));
+    assertEquals(List.of(new Rectangle(768, 1792, 256, 256)), regions);
+
+    cache.paint(g, 1.0, 20000, 0, new Rectangle(0, 0, 100, 100));
+    assertEquals(1, regions.size());
+  }
+
+  @Test
+  public void testCacheIsBounded() {
+    MapTileCache cache = new MapTileCache(10000, 10000, 5, (g, region, tileScale) -> { });
+    Graphics g = new BufferedImage(100, 100, BufferedImage.TYPE_INT_RGB).getGraphics();
+    cache.paint(g, 1.0, 0, 0, new Rectangle(0, 0, 2000, 2000));
+    assertEquals(64, cache.getRenderedCount());
+    assertEquals(5, cache.size());
+  }
+
+  @Test
+  public void testLeastRecentlyUsedTileIsDropped() {
+    MapTileCache cache = new MapTileCache(1024, 256, 3, (g, region, tileScale) -> { });
+    Graphics g = new BufferedImage(100, 100, BufferedImage.TYPE_INT_RGB).getGraphics();
+    Rectangle first = new Rectangle(0, 0, 10, 10);
+    cache.paint(g, 1.0, 0, 0, first);
+    cache.paint(g, 1.0, -256, 0, first);
+    cache.paint(g, 1.0, -512, 0, first);
+    cache.paint(g, 1.0, 0, 0, first);
+    cache.paint(g, 1.0, -768, 0, first);
+    assertEquals(4, cache.getRenderedCount());
+
+    // The first tile was used again, so the second one was dropped.
+    cache.paint(g, 1.0, 0, 0, first);
+    assertEquals(4, cache.getRenderedCount());
+    cache.paint(g, 1.0, -256, 0, first);
+    assertEquals(5, cache.getRenderedCount());
+  }
+
+  @Test
+  public void testTilesAreDrawnInMapCoordinates() {
+    MapTileCache cache = new MapTileCache(600, 600, 16, (g, region, tileScale) -> {
+      g.setColor(Color.BLUE);
+      g.fillRect(300, 300, 100, 100);
+    });
+    BufferedImage screen = new BufferedImage(400, 400, BufferedImage.TYPE_INT_RGB);
+    cache.paint(screen.getGraphics(), 0.5, 50, 50, new Rectangle(0, 0, 400, 400));
+    assertEquals(Color.BLUE.getRGB(), screen.getRGB(50 + 175, 50 + 175));
+    assertEquals(Color.WHITE.getRGB(), screen.getRGB(50 + 140, 50 + 140));
+    assertEquals(Color.WHITE.getRGB(), screen.getRGB(50 + 210, 50 + 210));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testNullPainter() {
+    new MapTileCache(10, 10, 1, null);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testEmptyMap() {
+    new MapTileCache(0, 10, 1, (g, region, tileScale) -> { });
+  }
+
+  @Test
+  public void testBackgroundPaintingRequestsMissingTilesOnce() {
+    List<Runnable> queue = new ArrayList<>();
+    int[] ready = new int[1];
+    MapTileCache cache = new MapTileCache(1000, 600, 64, (g, region, tileScale) -> { });
+    Graphics g = new BufferedImage(400, 300, BufferedImage.TYPE_INT_RGB).getGraphics();
+    Rectangle area = new Rectangle(0, 0, 400, 300);
+
+    cache.paint(g, 1.0, 0, 0, area, queue::add, () -> ready[0]++);
+    cache.paint(g, 1.0, 0, 0, area, queue::add, () -> ready[0]++);
+    assertEquals(0, cache.getRenderedCount());
+    assertEquals(4, queue.size());
+
+    queue.forEach(Runnable::run);
+    assertEquals(4, cache.getRenderedCount());
+    assertEquals(4, ready[0]);
+
+    queue.clear();
+    cache.paint(g, 1.0, 0, 0, area, queue::add, () -> ready[0]++);
+    assertEquals(0, queue.size());
+  }
+
+  @Test
+  public void testRequestsForAbandonedLevelAreSkipped() {
+    List<Runnable> queue = new ArrayList<>();
+    MapTileCache cache = new MapTileCache(1000, 600, 64, (g, region, tileScale) -> { });
+    Graphics g = new BufferedImage(400, 300, BufferedImage.TYPE_INT_RGB).getGraphics();
+    Rectangle area = new Rectangle(0, 0, 400, 300);
+
+    cache.paint(g, 1.0, 0, 0, area, queue::add, null);
+    int abandoned = queue.size();
+    cache.paint(g, 0.25, 0, 0, area, queue::add, null);
+    queue.forEach(Runnable::run);
+    assertEquals(queue.size() - abandoned, cache.getRenderedCount());
+
+    // The skipped tiles can be requested again.
+    queue.clear();
+    cache.paint(g, 1.0, 0, 0, area, queue::add, null);
+    assertEquals(abandoned, queue.size());
+  }
+
+  @Test
+  public void testMissingTileShowsCoarserTile() {
+    MapTileCache cache = new MapTileCache(600, 600, 16, (g, region, tileScale) -> {
+      g.setColor(Color.BLUE);
+      g.fillRect(0, 0, 600, 600);
+    });
+    BufferedImage screen = new BufferedImage(400, 400, BufferedImage.TYPE_INT_RGB);
+    cache.paint(screen.getGraphics(), 0.5, 0, 0, new Rectangle(0, 0, 400, 400));
+
+    screen = new BufferedImage(400, 400, BufferedImage.TYPE_INT_RGB);
+    List<Runnable> queue = new ArrayList<>();
+    cache.paint(screen.getGraphics(), 1.0, 0, 0, new Rectangle(0, 0, 400, 400), queue::add,
+        null);
+    assertTrue(queue.size() > 0);
+    assertEquals(Color.BLUE.getRGB(), screen.getRGB(10, 10));
+    assertEquals(Color.BLUE.getRGB(), screen.getRGB(390, 390));
+  }
+
+  @Test
+  public void testPrefetchPaintsSurroundingTiles() {
+    MapTileCache cache = new MapTileCache(10000, 10000, 64, (g, region, tileScale) -> { });
+    Graphics g = new BufferedImage(512, 512, BufferedImage.TYPE_INT_RGB).getGraphics();
+    Rectangle area = new Rectangle(0, 0, 512, 512);
+    cache.paint(g, 1.0, -256, -256, area);
+    assertEquals(4, cache.getRenderedCount());
+
+    cache.prefetch(1.0, -256, -256, area, Runnable::run);
+    assertEquals(16, cache.getRenderedCount());
+
+    cache.paint(g, 1.0, -512, -512, area);
+    assertEquals(16, cache.getRenderedCount());
+  }
+
+  @Test
+  public void testPrefetchSkippedWhenCacheTooSmall() {
+    MapTileCache cache = new MapTileCache(10000, 10000, 8, (g, region, tileScale) -> { });
+    cache.prefetch(1.0, -256, -256, new Rectangle(0, 0, 512, 512), Runnable::run);
+    assertEquals(0, cache.getRenderedCount());
+  }
+}
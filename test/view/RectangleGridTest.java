@@ -0,0 +1,129 @@
+package view;
+
+import static org.junit.Assert.assertEquals;
+
+import java.awt.Rectangle;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import org.junit.Test;
+
+/**
+ * Test class for RectangleGrid.
+ */
+public class RectangleGridTest {
+
+  private static int bruteForce(List<Rectangle> rectangles, int x, int y) {
+    for (int i = 0; i < rectangles.size(); i++) {
+      if (rectangles.get(i).contains(x, y)) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  @Test
+  public void testMatchesLinearScan() {
+    Random random = new Random(5);
+    for (int round = 0; round < 20; round++) {
+      List<Rectangle> rectangles = new ArrayList<>();
+      int count = 1 + random.nextInt(200);
+      for (int i = 0; i < count; i++) {
+        rectangles.add(new Rectangle(random.nextInt(2000) - 500, random.nextInt(2000) - 500,
+            random.nextInt(300), random.nextInt(300)));
+      }
+      RectangleGrid grid = new RectangleGrid(rectangles);
+      assertEquals(count, grid.size());
+      for (int probe = 0; probe < 2000; probe++) {
+        int x = random.nextInt(2600) - 600;
+        int y = random.nextInt(2600) - 600;
+        assertEquals(bruteForce(rectangles, x, y), grid.find(x, y));
+      }
+    }
+  }
+
+  @Test
+  public void testEdgesFollowRectangleContains() {
+    List<Rectangle> rectangles = List.of(new Rectangle(0, 0, 10, 10),
+        new Rectangle(10, 0, 10, 10));
+    RectangleGrid grid = new RectangleGrid(rectangles);
+    assertEquals(0, grid.find(0, 0));
+    assertEquals(0, grid.find(9, 9));
+    assertEquals(1, grid.find(10, 0));
+    assertEquals(-1, grid.find(20, 0));
+    assertEquals(-1, grid.find(0, 10));
+    assertEquals(-1, grid.find(-1, 5));
+  }
+
+  @Test
+  public void testFirstListedWinsOnOverlap() {
+    RectangleGrid grid = new RectangleGrid(List.of(new Rectangle(5, 5, 10, 10),
+        new Rectangle(0, 0, 30, 30)));
+    assertEquals(0, grid.find(7, 7));
+    assertEquals(1, grid.find(2, 2));
+    assertEquals(new Rectangle(5, 5, 10, 10), grid.get(0));
+  }
+
+  @Test
+  public void testEmptyRectanglesAreSkipped() {
+    RectangleGrid grid = new RectangleGrid(List.of(new Rectangle(0, 0, 0, 10),
+        new Rectangle(3, 3, -2, 5)));
+    assertEquals(-1, grid.find(0, 0));
+    assertEquals(-1, new RectangleGrid(new ArrayList<>()).find(0, 0));
+  }
+
+  @Test
+  public void testLargeGridOfRooms() {
+    List<Rectangle> rectangles = new ArrayList<>();
+    int columns = 300;
+    for (int i = 0; i < 90_000; i++) {
+      rectangles.add(new Rectangle(i % columns * 12, i / columns * 9, 11, 8));
+    }
+    RectangleGrid grid = new RectangleGrid(rectangles);
+    for (int i = 0; i < rectangles.size(); i += 997) {
+      Rectangle r = rectangles.get(i);
+      assertEquals(i, grid.find(r.x + 5, r.y + 4));
+      assertEquals(-1, grid.find(r.x + 11, r.y + 4));
+    }
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testNullList() {
+    new RectangleGrid(null);
+  }
+
+  @Test
+  public void testIntersectingMatchesLinearScan() {
+    Random random = new Random(11);
+    for (int round = 0; round < 20; round++) {
+      List<Rectangle> rectangles = new ArrayList<>();
+      int count = 1 + random.nextInt(200);
+      for (int i = 0; i < count; i++) {
+        rectangles.add(new Rectangle(random.nextInt(2000) - 500, random.nextInt(2000) - 500,
+            random.nextInt(300), random.nextInt(300)));
+      }
+      RectangleGrid grid = new RectangleGrid(rectangles);
+      for (int probe = 0; probe < 200; probe++) {
+        Rectangle area = new Rectangle(random.nextInt(2600) - 600, random.nextInt(2600) - 600,
+            random.nextInt(800), random.nextInt(800));
+        int[] visits = new int[count];
+        grid.forEachIntersecting(area, i -> visits[i]++);
+        for (int i = 0; i < count; i++) {
+          assertEquals(rectangles.get(i).intersects(area) ? 1 : 0, visits[i]);
+        }
+      }
+    }
+  }
+
+  @Test
+  public void testIntersectingOutsideVisitsNothing() {
+    RectangleGrid grid = new RectangleGrid(List.of(new Rectangle(0, 0, 10, 10)));
+    List<Integer> visited = new ArrayList<>();
+    grid.forEachIntersecting(new Rectangle(10, 0, 5, 5), visited::add);
+    grid.forEachIntersecting(new Rectangle(-5, -5, 5, 20), visited::add);
+    grid.forEachIntersecting(new Rectangle(2, 2, 0, 5), visited::add);
+    assertEquals(0, visited.size());
+    grid.forEachIntersecting(new Rectangle(9, 9, 5, 5), visited::add);
+    assertEquals(List.of(0), visited);
+  }
+}
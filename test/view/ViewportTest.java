@@ -0,0 +1,134 @@
+package view;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.awt.Point;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Test class for Viewport.
+ */
+public class ViewportTest {
+  private Viewport viewport;
+
+  /**
+   * Create a viewport showing a 2000 by 1000 map in a 1050 by 800 view.
+   */
+  @Before
+  public void setUp() {
+    viewport = new Viewport(25);
+    viewport.setMapSize(2000, 1000);
+    viewport.setViewSize(1050, 800);
+  }
+
+  private static double mapX(Viewport viewport, int screenX) {
+    return (screenX - viewport.getOrigin().x) / viewport.getScale();
+  }
+
+  private static double mapY(Viewport viewport, int screenY) {
+    return (screenY - viewport.getOrigin().y) / viewport.getScale();
+  }
+
+  @Test
+  public void testFitsMapInitially() {
+    assertTrue(viewport.isFitted());
+    assertEquals(0.5, viewport.getScale(), 1e-9);
+    assertEquals(new Point(25, 150), viewport.getOrigin());
+  }
+
+  @Test
+  public void testRefitsWhenResizedWhileFitted() {
+    viewport.setViewSize(2050, 1600);
+    assertEquals(1.0, viewport.getScale(), 1e-9);
+    assertEquals(new Point(25, 300), viewport.getOrigin());
+  }
+
+  @Test
+  public void testZoomKeepsPointUnderMouse() {
+    double beforeX = mapX(viewport, 400);
+    double beforeY = mapY(viewport, 400);
+    viewport.zoom(2.0, 400, 400);
+    assertFalse(viewport.isFitted());
+    assertEquals(1.0, viewport.getScale(), 1e-9);
+    assertEquals(beforeX, mapX(viewport, 400), 1.0);
+    assertEquals(beforeY, mapY(viewport, 400), 1.0);
+  }
+
+  @Test
+  public void testZoomIsLimited() {
+    viewport.zoom(1000.0, 500, 400);
+    assertEquals(Viewport.MAX_SCALE, viewport.getScale(), 1e-9);
+  }
+
+  @Test
+  public void testZoomingOutFitsAgain() {
+    viewport.zoom(4.0, 500, 400);
+    viewport.pan(-300, -200);
+    viewport.zoom(0.1, 500, 400);
+    assertTrue(viewport.isFitted());
+    assertEquals(0.5, viewport.getScale(), 1e-9);
+    assertEquals(new Point(25, 150), viewport.getOrigin());
+  }
+
+  @Test
+  public void testPanMovesMap() {
+    viewport.zoom(2.0, 525, 400);
+    Point before = viewport.getOrigin();
+    viewport.pan(-100, -50);
+    Point after = viewport.getOrigin();
+    assertEquals(before.x - 100, after.x);
+    assertEquals(before.y - 50, after.y);
+  }
+
+  @Test
+  public void testPanStopsAtEdges() {
+    viewport.zoom(2.0, 525, 400);
+    viewport.pan(100000, 100000);
+    assertEquals(new Point(25, 25), viewport.getOrigin());
+    viewport.pan(-100000, -100000);
+    // The right and bottom edges of the 2000 by 1000 map stay inside the padding.
+    assertEquals(new Point(1025 - 2000, 775 - 1000), viewport.getOrigin());
+  }
+
+  @Test
+  public void testPanDoesNothingWhenFitted() {
+    viewport.pan(100, 100);
+    assertEquals(new Point(25, 150), viewport.getOrigin());
+  }
+
+  @Test
+  public void testSmallMapAxisStaysCentered() {
+    // At scale 0.7 the map is 1400 by 700, wider but not taller than the view.
+    viewport.zoom(1.4, 525, 400);
+    viewport.pan(0, 200);
+    assertEquals(50, viewport.getOrigin().y);
+  }
+
+  @Test
+  public void testResizeKeepsCenterWhenZoomed() {
+    viewport.zoom(2.0, 525, 400);
+    viewport.pan(-200, -50);
+    double centerX = mapX(viewport, 525);
+    double centerY = mapY(viewport, 400);
+    viewport.setViewSize(1250, 900);
+    assertFalse(viewport.isFitted());
+    assertEquals(centerX, mapX(viewport, 625), 1.0);
+    assertEquals(centerY, mapY(viewport, 450), 1.0);
+  }
+
+  @Test
+  public void testNewMapSizeFits() {
+    viewport.zoom(2.0, 525, 400);
+    viewport.setMapSize(1000, 1000);
+    assertTrue(viewport.isFitted());
+    assertEquals(0.75, viewport.getScale(), 1e-9);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testInvalidMapSize() {
+    viewport.setMapSize(0, 10);
+  }
+}
@@ -0,0 +1,142 @@
+package view;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import constants.Constants;
+import java.awt.Graphics;
+import java.awt.Point;
+import java.awt.Rectangle;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import model.player.HumanPlayer;
+import model.player.Player;
+import model.space.Space;
+import model.viewmodel.WorldSnapshot;
+import model.world.WorldFactory;
+import model.world.WorldImpl;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Test class for WorldPanel, painting it into an offscreen image.
+ */
+public class WorldPanelTest {
+  private static final int WIDTH = 1000;
+  private static final int HEIGHT = 800;
+
+  private WorldImpl world;
+  private WorldPanel panel;
+  private BufferedImage image;
+
+  /**
+   * Builds the bundled mansion with three players, two of them sharing a room.
+   *
+   * @throws IOException if the world file cannot be read
+   */
+  @Before
+  public void setUp() throws IOException {
+    world = new WorldFactory().createWorld(new File(Constants.FILE_PATH));
+    world.addPlayer(new HumanPlayer("Alice", 0, 3));
+    world.addPlayer(new HumanPlayer("Bob", 0, 3));
+    world.addPlayer(new HumanPlayer("Carol", 5, 3));
+    panel = new WorldPanel(world);
+    panel.setSize(WIDTH, HEIGHT);
+    image = new BufferedImage(WIDTH, HEIGHT, BufferedImage.TYPE_INT_RGB);
+  }
+
+  private void paint(int x, int y, int width, int height) {
+    Graphics g = image.getGraphics();
+    g.setClip(x, y, width, height);
+    panel.paint(g);
+    g.dispose();
+  }
+
+  /**
+   * Finds a point on every player token, probing the panel on a coarse grid.
+   */
+  private Map<String, Point> playerPoints() {
+    Map<String, Point> points = new HashMap<>();
+    for (int y = 0; y < HEIGHT; y += 3) {
+      for (int x = 0; x < WIDTH; x += 3) {
+        Player player = panel.getPlayerAtPoint(new Point(x, y));
+        if (player != null) {
+          points.putIfAbsent(player.getPlayerName(), new Point(x, y));
+        }
+      }
+    }
+    return points;
+  }
+
+  @Test
+  public void testClippedPaintKeepsEveryPlayerClickable() {
+    paint(0, 0, WIDTH, HEIGHT);
+    Map<String, Point> points = playerPoints();
+    assertEquals(3, points.size());
+
+    paint(0, 0, 5, 5);
+    for (Map.Entry<String, Point> entry : points.entrySet()) {
+      Player player = panel.getPlayerAtPoint(entry.getValue());
+      assertNotNull(entry.getKey(), player);
+      assertEquals(entry.getKey(), player.getPlayerName());
+    }
+  }
+
+  private static boolean covers(List<Rectangle> regions, Point point) {
+    return regions.stream().anyMatch(region -> region.contains(point));
+  }
+
+  @Test
+  public void testPlayerMoveRedrawsBothSpaces() {
+    paint(0, 0, WIDTH, HEIGHT);
+    Map<String, Point> before = playerPoints();
+    WorldSnapshot painted = world.getSnapshot();
+    Player carol = world.getPlayerByName("Carol");
+    Space from = world.getSpaceByIndex(carol.getCurrentSpaceIndex());
+    int to = from.getNeighborIndex(0);
+    carol.move(to);
+
+    List<Rectangle> regions = panel.dirtyRegions(painted, world.getSnapshot());
+    assertEquals(2, regions.size());
+    assertTrue(covers(regions, before.get("Carol")));
+    assertFalse(covers(regions, before.get("Alice")));
+    paint(0, 0, WIDTH, HEIGHT);
+    assertTrue(covers(regions, playerPoints().get("Carol")));
+  }
+
+  @Test
+  public void testTargetHealthRedrawsTargetSpace() {
+    paint(0, 0, WIDTH, HEIGHT);
+    WorldSnapshot painted = world.getSnapshot();
+    world.getTargetCharacter().takeDamage(3);
+    world.nextTurn();
+
+    List<Rectangle> regions = panel.dirtyRegions(painted, world.getSnapshot());
+    assertEquals(1, regions.size());
+    Rectangle region = regions.get(0);
+    String target = world.getSpaceByIndex(
+        world.getTargetCharacter().getCurrentSpaceIndex()).getSpaceName();
+    assertEquals(target, panel.getSpaceAtPoint(
+        new Point((int) region.getCenterX(), (int) region.getCenterY())));
+  }
+
+  @Test
+  public void testNewPlayerRedrawsWholePanel() {
+    paint(0, 0, WIDTH, HEIGHT);
+    WorldSnapshot painted = world.getSnapshot();
+    world.addPlayer(new HumanPlayer("Dave", 2, 3));
+    assertNull(panel.dirtyRegions(painted, world.getSnapshot()));
+  }
+
+  @Test
+  public void testNothingPaintedRedrawsWholePanel() {
+    assertNull(panel.dirtyRegions(null, world.getSnapshot()));
+  }
+}